@@ -14,6 +14,8 @@ import org.nd4j.linalg.api.ops.executioner.OpExecutionerUtil;
 import org.nd4j.linalg.api.ops.impl.scalar.ScalarMultiplication;
 import org.nd4j.linalg.factory.Nd4j;
 import org.nd4j.linalg.profiler.OpProfiler;
+import org.nd4j.linalg.profiler.metrics.BlasRoutine;
+import org.nd4j.linalg.profiler.metrics.OpMetrics;
 
 /**
  * Base class for level 1 functions, abstract headers pulled from:
@@ -33,18 +35,23 @@ public abstract class BaseLevel1 extends BaseLevel implements Level1 {
      */
     @Override
     public double dot(int n, double alpha, INDArray X, INDArray Y) {
-        if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
-            OpProfiler.getInstance().processBlasCall(false, X, Y);
-
-        if (X.data().dataType() == DataBuffer.Type.DOUBLE) {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, X, Y);
-            return ddot(n, X, BlasBufferUtil.getBlasStride(X), Y, BlasBufferUtil.getBlasStride(Y));
-        } else if (X.data().dataType() == DataBuffer.Type.FLOAT) {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, X, Y);
-            return sdot(n, X, BlasBufferUtil.getBlasStride(X), Y, BlasBufferUtil.getBlasStride(Y));
-        } else {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.HALF, X, Y);
-            return hdot(n, X, BlasBufferUtil.getBlasStride(X), Y, BlasBufferUtil.getBlasStride(Y));
+        long st = OpMetrics.getInstance().start();
+        try {
+            if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
+                OpProfiler.getInstance().processBlasCall(false, X, Y);
+
+            if (X.data().dataType() == DataBuffer.Type.DOUBLE) {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, X, Y);
+                return ddot(n, X, BlasBufferUtil.getBlasStride(X), Y, BlasBufferUtil.getBlasStride(Y));
+            } else if (X.data().dataType() == DataBuffer.Type.FLOAT) {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, X, Y);
+                return sdot(n, X, BlasBufferUtil.getBlasStride(X), Y, BlasBufferUtil.getBlasStride(Y));
+            } else {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.HALF, X, Y);
+                return hdot(n, X, BlasBufferUtil.getBlasStride(X), Y, BlasBufferUtil.getBlasStride(Y));
+            }
+        } finally {
+            OpMetrics.getInstance().record(BlasRoutine.DOT, st);
         }
     }
 
@@ -91,17 +98,22 @@ public abstract class BaseLevel1 extends BaseLevel implements Level1 {
      */
     @Override
     public double nrm2(INDArray arr) {
-        if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
-            OpProfiler.getInstance().processBlasCall(false, arr);
-
-        if (arr.data().dataType() == DataBuffer.Type.DOUBLE) {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, arr);
-            return dnrm2(arr.length(), arr, BlasBufferUtil.getBlasStride(arr));
-        } else {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, arr);
-            return snrm2(arr.length(), arr, BlasBufferUtil.getBlasStride(arr));
+        long st = OpMetrics.getInstance().start();
+        try {
+            if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
+                OpProfiler.getInstance().processBlasCall(false, arr);
+
+            if (arr.data().dataType() == DataBuffer.Type.DOUBLE) {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, arr);
+                return dnrm2(arr.length(), arr, BlasBufferUtil.getBlasStride(arr));
+            } else {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, arr);
+                return snrm2(arr.length(), arr, BlasBufferUtil.getBlasStride(arr));
+            }
+            // TODO: add nrm2 for half, as call to appropriate NativeOp<HALF>
+        } finally {
+            OpMetrics.getInstance().record(BlasRoutine.NRM2, st);
         }
-        // TODO: add nrm2 for half, as call to appropriate NativeOp<HALF>
     }
 
     /**
@@ -123,18 +135,23 @@ public abstract class BaseLevel1 extends BaseLevel implements Level1 {
      */
     @Override
     public double asum(INDArray arr) {
-        if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
-            OpProfiler.getInstance().processBlasCall(false, arr);
-
-        if (arr.data().dataType() == DataBuffer.Type.DOUBLE) {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, arr);
-            return dasum(arr.length(), arr, BlasBufferUtil.getBlasStride(arr));
-        } else if (arr.data().dataType() == DataBuffer.Type.FLOAT) {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, arr);
-            return sasum(arr.length(), arr, BlasBufferUtil.getBlasStride(arr));
-        } else {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.HALF, arr);
-            return hasum(arr.length(), arr, BlasBufferUtil.getBlasStride(arr));
+        long st = OpMetrics.getInstance().start();
+        try {
+            if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
+                OpProfiler.getInstance().processBlasCall(false, arr);
+
+            if (arr.data().dataType() == DataBuffer.Type.DOUBLE) {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, arr);
+                return dasum(arr.length(), arr, BlasBufferUtil.getBlasStride(arr));
+            } else if (arr.data().dataType() == DataBuffer.Type.FLOAT) {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, arr);
+                return sasum(arr.length(), arr, BlasBufferUtil.getBlasStride(arr));
+            } else {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.HALF, arr);
+                return hasum(arr.length(), arr, BlasBufferUtil.getBlasStride(arr));
+            }
+        } finally {
+            OpMetrics.getInstance().record(BlasRoutine.ASUM, st);
         }
     }
 
@@ -172,15 +189,20 @@ public abstract class BaseLevel1 extends BaseLevel implements Level1 {
 
     @Override
     public int iamax(int n, INDArray arr, int stride) {
-        if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
-            OpProfiler.getInstance().processBlasCall(false, arr);
-
-        if (arr.data().dataType() == DataBuffer.Type.DOUBLE) {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, arr);
-            return idamax(n, arr, stride);
-        } else {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, arr);
-            return isamax(n, arr, stride);
+        long st = OpMetrics.getInstance().start();
+        try {
+            if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
+                OpProfiler.getInstance().processBlasCall(false, arr);
+
+            if (arr.data().dataType() == DataBuffer.Type.DOUBLE) {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, arr);
+                return idamax(n, arr, stride);
+            } else {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, arr);
+                return isamax(n, arr, stride);
+            }
+        } finally {
+            OpMetrics.getInstance().record(BlasRoutine.IAMAX, st);
         }
     }
 
@@ -209,15 +231,20 @@ public abstract class BaseLevel1 extends BaseLevel implements Level1 {
      */
     @Override
     public int iamax(INDArray arr) {
-        if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
-            OpProfiler.getInstance().processBlasCall(false, arr);
-
-        if (arr.data().dataType() == DataBuffer.Type.DOUBLE) {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, arr);
-            return idamax(arr.length(), arr, BlasBufferUtil.getBlasStride(arr));
-        } else {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, arr);
-            return isamax(arr.length(), arr, BlasBufferUtil.getBlasStride(arr));
+        long st = OpMetrics.getInstance().start();
+        try {
+            if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
+                OpProfiler.getInstance().processBlasCall(false, arr);
+
+            if (arr.data().dataType() == DataBuffer.Type.DOUBLE) {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, arr);
+                return idamax(arr.length(), arr, BlasBufferUtil.getBlasStride(arr));
+            } else {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, arr);
+                return isamax(arr.length(), arr, BlasBufferUtil.getBlasStride(arr));
+            }
+        } finally {
+            OpMetrics.getInstance().record(BlasRoutine.IAMAX, st);
         }
     }
 
@@ -265,15 +292,22 @@ public abstract class BaseLevel1 extends BaseLevel implements Level1 {
      */
     @Override
     public void swap(INDArray x, INDArray y) {
-        if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
-            OpProfiler.getInstance().processBlasCall(false, x, y);
-
-        if (x.data().dataType() == DataBuffer.Type.DOUBLE) {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, x, y);
-            dswap(x.length(), x, BlasBufferUtil.getBlasStride(x), y, BlasBufferUtil.getBlasStride(y));
-        } else {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, x, y);
-            sswap(x.length(), x, BlasBufferUtil.getBlasStride(x), y, BlasBufferUtil.getBlasStride(y));
+        long st = OpMetrics.getInstance().start();
+        try {
+            DefaultOpExecutioner.validateWritable(x, y);
+            DefaultOpExecutioner.validateWritable(x, y);
+            if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
+                OpProfiler.getInstance().processBlasCall(false, x, y);
+
+            if (x.data().dataType() == DataBuffer.Type.DOUBLE) {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, x, y);
+                dswap(x.length(), x, BlasBufferUtil.getBlasStride(x), y, BlasBufferUtil.getBlasStride(y));
+            } else {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, x, y);
+                sswap(x.length(), x, BlasBufferUtil.getBlasStride(x), y, BlasBufferUtil.getBlasStride(y));
+            }
+        } finally {
+            OpMetrics.getInstance().record(BlasRoutine.SWAP, st);
         }
     }
 
@@ -297,15 +331,22 @@ public abstract class BaseLevel1 extends BaseLevel implements Level1 {
      */
     @Override
     public void copy(INDArray x, INDArray y) {
-        if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
-            OpProfiler.getInstance().processBlasCall(false, x, y);
-
-        if (x.data().dataType() == DataBuffer.Type.DOUBLE) {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, x, y);
-            dcopy(x.length(), x, BlasBufferUtil.getBlasStride(x), y, BlasBufferUtil.getBlasStride(y));
-        } else {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, x, y);
-            scopy(x.length(), x, BlasBufferUtil.getBlasStride(x), y, BlasBufferUtil.getBlasStride(y));
+        long st = OpMetrics.getInstance().start();
+        try {
+            DefaultOpExecutioner.validateWritable(y);
+            DefaultOpExecutioner.validateWritable(y);
+            if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
+                OpProfiler.getInstance().processBlasCall(false, x, y);
+
+            if (x.data().dataType() == DataBuffer.Type.DOUBLE) {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, x, y);
+                dcopy(x.length(), x, BlasBufferUtil.getBlasStride(x), y, BlasBufferUtil.getBlasStride(y));
+            } else {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, x, y);
+                scopy(x.length(), x, BlasBufferUtil.getBlasStride(x), y, BlasBufferUtil.getBlasStride(y));
+            }
+        } finally {
+            OpMetrics.getInstance().record(BlasRoutine.COPY, st);
         }
     }
 
@@ -358,18 +399,25 @@ public abstract class BaseLevel1 extends BaseLevel implements Level1 {
      */
     @Override
     public void axpy(int n, double alpha, INDArray x, INDArray y) {
-        if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
-            OpProfiler.getInstance().processBlasCall(false, x, y);
-
-        if (x.data().dataType() == DataBuffer.Type.DOUBLE) {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, x, y);
-            daxpy(n, alpha, x, BlasBufferUtil.getBlasStride(x), y, BlasBufferUtil.getBlasStride(y));
-        } else if (x.data().dataType() == DataBuffer.Type.FLOAT) {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, x, y);
-            saxpy(n, (float) alpha, x, BlasBufferUtil.getBlasStride(x), y, BlasBufferUtil.getBlasStride(y));
-        } else {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.HALF, x, y);
-            haxpy(n, (float) alpha, x, BlasBufferUtil.getBlasStride(x), y, BlasBufferUtil.getBlasStride(y));
+        long st = OpMetrics.getInstance().start();
+        try {
+            DefaultOpExecutioner.validateWritable(y);
+            DefaultOpExecutioner.validateWritable(y);
+            if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
+                OpProfiler.getInstance().processBlasCall(false, x, y);
+
+            if (x.data().dataType() == DataBuffer.Type.DOUBLE) {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, x, y);
+                daxpy(n, alpha, x, BlasBufferUtil.getBlasStride(x), y, BlasBufferUtil.getBlasStride(y));
+            } else if (x.data().dataType() == DataBuffer.Type.FLOAT) {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, x, y);
+                saxpy(n, (float) alpha, x, BlasBufferUtil.getBlasStride(x), y, BlasBufferUtil.getBlasStride(y));
+            } else {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.HALF, x, y);
+                haxpy(n, (float) alpha, x, BlasBufferUtil.getBlasStride(x), y, BlasBufferUtil.getBlasStride(y));
+            }
+        } finally {
+            OpMetrics.getInstance().record(BlasRoutine.AXPY, st);
         }
     }
 
@@ -434,15 +482,22 @@ public abstract class BaseLevel1 extends BaseLevel implements Level1 {
      */
     @Override
     public void rot(int N, INDArray X, INDArray Y, double c, double s) {
-        if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
-            OpProfiler.getInstance().processBlasCall(false, X, Y);
-
-        if (X.data().dataType() == DataBuffer.Type.DOUBLE) {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, X, Y);
-            drot(N, X, BlasBufferUtil.getBlasStride(X), Y, BlasBufferUtil.getBlasStride(X), c, s);
-        } else {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, X, Y);
-            srot(N, X, BlasBufferUtil.getBlasStride(X), Y, BlasBufferUtil.getBlasStride(X), (float) c, (float) s);
+        long st = OpMetrics.getInstance().start();
+        try {
+            DefaultOpExecutioner.validateWritable(X, Y);
+            DefaultOpExecutioner.validateWritable(X, Y);
+            if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
+                OpProfiler.getInstance().processBlasCall(false, X, Y);
+
+            if (X.data().dataType() == DataBuffer.Type.DOUBLE) {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, X, Y);
+                drot(N, X, BlasBufferUtil.getBlasStride(X), Y, BlasBufferUtil.getBlasStride(X), c, s);
+            } else {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, X, Y);
+                srot(N, X, BlasBufferUtil.getBlasStride(X), Y, BlasBufferUtil.getBlasStride(X), (float) c, (float) s);
+            }
+        } finally {
+            OpMetrics.getInstance().record(BlasRoutine.ROT, st);
         }
     }
 
@@ -498,15 +553,22 @@ public abstract class BaseLevel1 extends BaseLevel implements Level1 {
      */
     @Override
     public void scal(int N, double alpha, INDArray X) {
-        if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
-            OpProfiler.getInstance().processBlasCall(false, X);
-
-        if (X.data().dataType() == DataBuffer.Type.DOUBLE)
-            dscal(N, alpha, X, BlasBufferUtil.getBlasStride(X));
-        else if (X.data().dataType() == DataBuffer.Type.FLOAT)
-            sscal(N, (float) alpha, X, BlasBufferUtil.getBlasStride(X));
-        else if (X.data().dataType() == DataBuffer.Type.HALF)
-            Nd4j.getExecutioner().exec(new ScalarMultiplication(X, alpha));
+        long st = OpMetrics.getInstance().start();
+        try {
+            DefaultOpExecutioner.validateWritable(X);
+            DefaultOpExecutioner.validateWritable(X);
+            if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
+                OpProfiler.getInstance().processBlasCall(false, X);
+
+            if (X.data().dataType() == DataBuffer.Type.DOUBLE)
+                dscal(N, alpha, X, BlasBufferUtil.getBlasStride(X));
+            else if (X.data().dataType() == DataBuffer.Type.FLOAT)
+                sscal(N, (float) alpha, X, BlasBufferUtil.getBlasStride(X));
+            else if (X.data().dataType() == DataBuffer.Type.HALF)
+                Nd4j.getExecutioner().exec(new ScalarMultiplication(X, alpha));
+        } finally {
+            OpMetrics.getInstance().record(BlasRoutine.SCAL, st);
+        }
     }
 
     /**
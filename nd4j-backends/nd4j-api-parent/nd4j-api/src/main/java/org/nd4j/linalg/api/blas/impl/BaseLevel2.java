@@ -13,6 +13,8 @@ import org.nd4j.linalg.api.ops.executioner.OpExecutioner;
 import org.nd4j.linalg.api.ops.executioner.OpExecutionerUtil;
 import org.nd4j.linalg.factory.Nd4j;
 import org.nd4j.linalg.profiler.OpProfiler;
+import org.nd4j.linalg.profiler.metrics.BlasRoutine;
+import org.nd4j.linalg.profiler.metrics.OpMetrics;
 
 /**
  * Base class for level 2 functions, abstract headers pulled from:
@@ -38,25 +40,31 @@ public abstract class BaseLevel2 extends BaseLevel implements Level2 {
      */
     @Override
     public void gemv(char order, char transA, double alpha, INDArray A, INDArray X, double beta, INDArray Y) {
-        if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
-            OpProfiler.getInstance().processBlasCall(false, A, X, Y);
-
-        GemvParameters parameters = new GemvParameters(A, X, Y);
-        if (A.data().dataType() == DataBuffer.Type.DOUBLE) {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, parameters.getA(), parameters.getX(),
-                            parameters.getY());
-            dgemv(order, parameters.getAOrdering(), parameters.getM(), parameters.getN(), alpha, parameters.getA(),
-                            parameters.getLda(), parameters.getX(), parameters.getIncx(), beta, parameters.getY(),
-                            parameters.getIncy());
-        } else {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, parameters.getA(), parameters.getX(),
-                            parameters.getY());
-            sgemv(order, parameters.getAOrdering(), parameters.getM(), parameters.getN(), (float) alpha,
-                            parameters.getA(), parameters.getLda(), parameters.getX(), parameters.getIncx(),
-                            (float) beta, parameters.getY(), parameters.getIncy());
+        long st = OpMetrics.getInstance().start();
+        try {
+            DefaultOpExecutioner.validateWritable(Y);
+            if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
+                OpProfiler.getInstance().processBlasCall(false, A, X, Y);
+
+            GemvParameters parameters = new GemvParameters(A, X, Y);
+            if (A.data().dataType() == DataBuffer.Type.DOUBLE) {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, parameters.getA(), parameters.getX(),
+                                parameters.getY());
+                dgemv(order, parameters.getAOrdering(), parameters.getM(), parameters.getN(), alpha, parameters.getA(),
+                                parameters.getLda(), parameters.getX(), parameters.getIncx(), beta, parameters.getY(),
+                                parameters.getIncy());
+            } else {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, parameters.getA(), parameters.getX(),
+                                parameters.getY());
+                sgemv(order, parameters.getAOrdering(), parameters.getM(), parameters.getN(), (float) alpha,
+                                parameters.getA(), parameters.getLda(), parameters.getX(), parameters.getIncx(),
+                                (float) beta, parameters.getY(), parameters.getIncy());
+            }
+
+            OpExecutionerUtil.checkForAny(Y);
+        } finally {
+            OpMetrics.getInstance().record(BlasRoutine.GEMV, st);
         }
-
-        OpExecutionerUtil.checkForAny(Y);
     }
 
     /**
@@ -111,20 +119,26 @@ public abstract class BaseLevel2 extends BaseLevel implements Level2 {
     @Override
     public void gbmv(char order, char TransA, int KL, int KU, double alpha, INDArray A, INDArray X, double beta,
                     INDArray Y) {
-        if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
-            OpProfiler.getInstance().processBlasCall(false, A, X, Y);
-
-        if (A.data().dataType() == DataBuffer.Type.DOUBLE) {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, A, X, Y);
-            dgbmv(order, TransA, A.rows(), A.columns(), KL, KU, alpha, A, A.size(0), X, X.majorStride(), beta, Y,
-                            Y.majorStride());
-        } else {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, A, X, Y);
-            sgbmv(order, TransA, A.rows(), A.columns(), KL, KU, (float) alpha, A, A.size(0), X, X.majorStride(),
-                            (float) beta, Y, Y.majorStride());
+        long st = OpMetrics.getInstance().start();
+        try {
+            DefaultOpExecutioner.validateWritable(Y);
+            if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
+                OpProfiler.getInstance().processBlasCall(false, A, X, Y);
+
+            if (A.data().dataType() == DataBuffer.Type.DOUBLE) {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, A, X, Y);
+                dgbmv(order, TransA, A.rows(), A.columns(), KL, KU, alpha, A, A.size(0), X, X.majorStride(), beta, Y,
+                                Y.majorStride());
+            } else {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, A, X, Y);
+                sgbmv(order, TransA, A.rows(), A.columns(), KL, KU, (float) alpha, A, A.size(0), X, X.majorStride(),
+                                (float) beta, Y, Y.majorStride());
+            }
+
+            OpExecutionerUtil.checkForAny(Y);
+        } finally {
+            OpMetrics.getInstance().record(BlasRoutine.GBMV, st);
         }
-
-        OpExecutionerUtil.checkForAny(Y);
     }
 
     /**
@@ -169,18 +183,24 @@ public abstract class BaseLevel2 extends BaseLevel implements Level2 {
      */
     @Override
     public void ger(char order, double alpha, INDArray X, INDArray Y, INDArray A) {
-        if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
-            OpProfiler.getInstance().processBlasCall(false, A, X, Y);
-
-        if (X.data().dataType() == DataBuffer.Type.DOUBLE) {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, A, X, Y);
-            dger(order, A.rows(), A.columns(), alpha, X, X.majorStride(), Y, Y.majorStride(), A, A.size(0));
-        } else {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, A, X, Y);
-            sger(order, A.rows(), A.columns(), (float) alpha, X, X.majorStride(), Y, Y.majorStride(), A, A.size(0));
+        long st = OpMetrics.getInstance().start();
+        try {
+            DefaultOpExecutioner.validateWritable(A);
+            if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
+                OpProfiler.getInstance().processBlasCall(false, A, X, Y);
+
+            if (X.data().dataType() == DataBuffer.Type.DOUBLE) {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, A, X, Y);
+                dger(order, A.rows(), A.columns(), alpha, X, X.majorStride(), Y, Y.majorStride(), A, A.size(0));
+            } else {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, A, X, Y);
+                sger(order, A.rows(), A.columns(), (float) alpha, X, X.majorStride(), Y, Y.majorStride(), A, A.size(0));
+            }
+
+            OpExecutionerUtil.checkForAny(A);
+        } finally {
+            OpMetrics.getInstance().record(BlasRoutine.GER, st);
         }
-
-        OpExecutionerUtil.checkForAny(A);
     }
 
 
@@ -337,20 +357,27 @@ public abstract class BaseLevel2 extends BaseLevel implements Level2 {
      */
     @Override
     public void sbmv(char order, char Uplo, double alpha, INDArray A, INDArray X, double beta, INDArray Y) {
-        if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
-            OpProfiler.getInstance().processBlasCall(false, A, X, Y);
-
-        if (X.data().dataType() == DataBuffer.Type.DOUBLE) {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, A, X, Y);
-            dsbmv(order, Uplo, X.length(), A.columns(), alpha, A, A.size(0), X, X.majorStride(), beta, Y,
-                            Y.majorStride());
-        } else {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, A, X, Y);
-            ssbmv(order, Uplo, X.length(), A.columns(), (float) alpha, A, A.size(0), X, X.majorStride(), (float) beta,
-                            Y, Y.majorStride());
+        long st = OpMetrics.getInstance().start();
+        try {
+            DefaultOpExecutioner.validateWritable(Y);
+            if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
+                OpProfiler.getInstance().processBlasCall(false, A, X, Y);
+
+            if (X.data().dataType() == DataBuffer.Type.DOUBLE) {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, A, X, Y);
+                dsbmv(order, Uplo, X.length(), A.columns(), alpha, A, A.size(0), X, X.majorStride(), beta, Y,
+                                Y.majorStride());
+            } else {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, A, X, Y);
+                ssbmv(order, Uplo, X.length(), A.columns(), (float) alpha, A, A.size(0), X, X.majorStride(),
+                                (float) beta,
+                                Y, Y.majorStride());
+            }
+
+            OpExecutionerUtil.checkForAny(Y);
+        } finally {
+            OpMetrics.getInstance().record(BlasRoutine.SBMV, st);
         }
-
-        OpExecutionerUtil.checkForAny(Y);
     }
 
     /**
@@ -364,18 +391,25 @@ public abstract class BaseLevel2 extends BaseLevel implements Level2 {
      */
     @Override
     public void spmv(char order, char Uplo, double alpha, INDArray Ap, INDArray X, double beta, INDArray Y) {
-        if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
-            OpProfiler.getInstance().processBlasCall(false, Ap, X, Y);
-
-        if (Ap.data().dataType() == DataBuffer.Type.DOUBLE) {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, X, Y);
-            dspmv(order, Uplo, X.length(), alpha, Ap, X, Ap.majorStride(), beta, Y, Y.majorStride());
-        } else {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, X, Y);
-            sspmv(order, Uplo, X.length(), (float) alpha, Ap, X, Ap.majorStride(), (float) beta, Y, Y.majorStride());
+        long st = OpMetrics.getInstance().start();
+        try {
+            DefaultOpExecutioner.validateWritable(Y);
+            if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
+                OpProfiler.getInstance().processBlasCall(false, Ap, X, Y);
+
+            if (Ap.data().dataType() == DataBuffer.Type.DOUBLE) {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, X, Y);
+                dspmv(order, Uplo, X.length(), alpha, Ap, X, Ap.majorStride(), beta, Y, Y.majorStride());
+            } else {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, X, Y);
+                sspmv(order, Uplo, X.length(), (float) alpha, Ap, X, Ap.majorStride(), (float) beta, Y,
+                                Y.majorStride());
+            }
+
+            OpExecutionerUtil.checkForAny(Y);
+        } finally {
+            OpMetrics.getInstance().record(BlasRoutine.SPMV, st);
         }
-
-        OpExecutionerUtil.checkForAny(Y);
     }
 
     /**
@@ -390,18 +424,24 @@ public abstract class BaseLevel2 extends BaseLevel implements Level2 {
      */
     @Override
     public void spr(char order, char Uplo, double alpha, INDArray X, INDArray Ap) {
-        if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
-            OpProfiler.getInstance().processBlasCall(false, Ap, X);
-
-        if (X.data().dataType() == DataBuffer.Type.DOUBLE) {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, X);
-            dspr(order, Uplo, X.length(), alpha, X, X.majorStride(), Ap);
-        } else {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, X);
-            sspr(order, Uplo, X.length(), (float) alpha, X, X.majorStride(), Ap);
+        long st = OpMetrics.getInstance().start();
+        try {
+            DefaultOpExecutioner.validateWritable(Ap);
+            if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
+                OpProfiler.getInstance().processBlasCall(false, Ap, X);
+
+            if (X.data().dataType() == DataBuffer.Type.DOUBLE) {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, X);
+                dspr(order, Uplo, X.length(), alpha, X, X.majorStride(), Ap);
+            } else {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, X);
+                sspr(order, Uplo, X.length(), (float) alpha, X, X.majorStride(), Ap);
+            }
+
+            OpExecutionerUtil.checkForAny(Ap);
+        } finally {
+            OpMetrics.getInstance().record(BlasRoutine.SPR, st);
         }
-
-        OpExecutionerUtil.checkForAny(Ap);
     }
 
     /**
@@ -417,18 +457,24 @@ public abstract class BaseLevel2 extends BaseLevel implements Level2 {
      */
     @Override
     public void spr2(char order, char Uplo, double alpha, INDArray X, INDArray Y, INDArray A) {
-        if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
-            OpProfiler.getInstance().processBlasCall(false, A, X, Y);
-
-        if (X.data().dataType() == DataBuffer.Type.DOUBLE) {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, A, X, Y);
-            dspr2(order, Uplo, X.length(), alpha, X, X.majorStride(), Y, Y.majorStride(), A);
-        } else {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, A, X, Y);
-            sspr2(order, Uplo, X.length(), (float) alpha, X, X.majorStride(), Y, Y.majorStride(), A);
+        long st = OpMetrics.getInstance().start();
+        try {
+            DefaultOpExecutioner.validateWritable(A);
+            if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
+                OpProfiler.getInstance().processBlasCall(false, A, X, Y);
+
+            if (X.data().dataType() == DataBuffer.Type.DOUBLE) {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, A, X, Y);
+                dspr2(order, Uplo, X.length(), alpha, X, X.majorStride(), Y, Y.majorStride(), A);
+            } else {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, A, X, Y);
+                sspr2(order, Uplo, X.length(), (float) alpha, X, X.majorStride(), Y, Y.majorStride(), A);
+            }
+
+            OpExecutionerUtil.checkForAny(A);
+        } finally {
+            OpMetrics.getInstance().record(BlasRoutine.SPR2, st);
         }
-
-        OpExecutionerUtil.checkForAny(A);
     }
 
     /**
@@ -446,19 +492,25 @@ public abstract class BaseLevel2 extends BaseLevel implements Level2 {
      */
     @Override
     public void symv(char order, char Uplo, double alpha, INDArray A, INDArray X, double beta, INDArray Y) {
-        if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
-            OpProfiler.getInstance().processBlasCall(false, A, X, Y);
-
-        if (X.data().dataType() == DataBuffer.Type.DOUBLE) {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, A, X, Y);
-            dsymv(order, Uplo, X.length(), alpha, A, A.size(0), X, X.majorStride(), beta, Y, Y.majorStride());
-        } else {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, A, X, Y);
-            ssymv(order, Uplo, X.length(), (float) alpha, A, A.size(0), X, X.majorStride(), (float) beta, Y,
-                            Y.majorStride());
+        long st = OpMetrics.getInstance().start();
+        try {
+            DefaultOpExecutioner.validateWritable(Y);
+            if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
+                OpProfiler.getInstance().processBlasCall(false, A, X, Y);
+
+            if (X.data().dataType() == DataBuffer.Type.DOUBLE) {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, A, X, Y);
+                dsymv(order, Uplo, X.length(), alpha, A, A.size(0), X, X.majorStride(), beta, Y, Y.majorStride());
+            } else {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, A, X, Y);
+                ssymv(order, Uplo, X.length(), (float) alpha, A, A.size(0), X, X.majorStride(), (float) beta, Y,
+                                Y.majorStride());
+            }
+
+            OpExecutionerUtil.checkForAny(Y);
+        } finally {
+            OpMetrics.getInstance().record(BlasRoutine.SYMV, st);
         }
-
-        OpExecutionerUtil.checkForAny(Y);
     }
 
     /**
@@ -474,18 +526,24 @@ public abstract class BaseLevel2 extends BaseLevel implements Level2 {
      */
     @Override
     public void syr(char order, char Uplo, int N, double alpha, INDArray X, INDArray A) {
-        if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
-            OpProfiler.getInstance().processBlasCall(false, A, X);
-
-        if (X.data().dataType() == DataBuffer.Type.DOUBLE) {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, A, X);
-            dsyr(order, Uplo, X.length(), alpha, X, X.majorStride(), A, A.size(0));
-        } else {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, A, X);
-            ssyr(order, Uplo, X.length(), (float) alpha, X, X.majorStride(), A, A.size(0));
+        long st = OpMetrics.getInstance().start();
+        try {
+            DefaultOpExecutioner.validateWritable(A);
+            if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
+                OpProfiler.getInstance().processBlasCall(false, A, X);
+
+            if (X.data().dataType() == DataBuffer.Type.DOUBLE) {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, A, X);
+                dsyr(order, Uplo, X.length(), alpha, X, X.majorStride(), A, A.size(0));
+            } else {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, A, X);
+                ssyr(order, Uplo, X.length(), (float) alpha, X, X.majorStride(), A, A.size(0));
+            }
+
+            OpExecutionerUtil.checkForAny(A);
+        } finally {
+            OpMetrics.getInstance().record(BlasRoutine.SYR, st);
         }
-
-        OpExecutionerUtil.checkForAny(A);
     }
 
     /**
@@ -498,18 +556,24 @@ public abstract class BaseLevel2 extends BaseLevel implements Level2 {
      */
     @Override
     public void syr2(char order, char Uplo, double alpha, INDArray X, INDArray Y, INDArray A) {
-        if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
-            OpProfiler.getInstance().processBlasCall(false, A, X, Y);
-
-        if (X.data().dataType() == DataBuffer.Type.DOUBLE) {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, A, X, Y);
-            dsyr2(order, Uplo, X.length(), alpha, X, X.majorStride(), Y, Y.majorStride(), A, A.size(0));
-        } else {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, A, X, Y);
-            ssyr2(order, Uplo, X.length(), (float) alpha, X, X.majorStride(), Y, Y.majorStride(), A, A.size(0));
+        long st = OpMetrics.getInstance().start();
+        try {
+            DefaultOpExecutioner.validateWritable(A);
+            if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
+                OpProfiler.getInstance().processBlasCall(false, A, X, Y);
+
+            if (X.data().dataType() == DataBuffer.Type.DOUBLE) {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, A, X, Y);
+                dsyr2(order, Uplo, X.length(), alpha, X, X.majorStride(), Y, Y.majorStride(), A, A.size(0));
+            } else {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, A, X, Y);
+                ssyr2(order, Uplo, X.length(), (float) alpha, X, X.majorStride(), Y, Y.majorStride(), A, A.size(0));
+            }
+
+            OpExecutionerUtil.checkForAny(A);
+        } finally {
+            OpMetrics.getInstance().record(BlasRoutine.SYR2, st);
         }
-
-        OpExecutionerUtil.checkForAny(A);
     }
 
     /**
@@ -525,15 +589,21 @@ public abstract class BaseLevel2 extends BaseLevel implements Level2 {
      */
     @Override
     public void tbmv(char order, char Uplo, char TransA, char Diag, INDArray A, INDArray X) {
-        if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
-            OpProfiler.getInstance().processBlasCall(false, A, X);
-
-        if (X.data().dataType() == DataBuffer.Type.DOUBLE) {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, A, X);
-            dtbmv(order, Uplo, TransA, Diag, X.length(), A.columns(), A, A.size(0), X, X.majorStride());
-        } else {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, A, X);
-            stbmv(order, Uplo, TransA, Diag, X.length(), A.columns(), A, A.size(0), X, X.majorStride());
+        long st = OpMetrics.getInstance().start();
+        try {
+            DefaultOpExecutioner.validateWritable(X);
+            if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
+                OpProfiler.getInstance().processBlasCall(false, A, X);
+
+            if (X.data().dataType() == DataBuffer.Type.DOUBLE) {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, A, X);
+                dtbmv(order, Uplo, TransA, Diag, X.length(), A.columns(), A, A.size(0), X, X.majorStride());
+            } else {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, A, X);
+                stbmv(order, Uplo, TransA, Diag, X.length(), A.columns(), A, A.size(0), X, X.majorStride());
+            }
+        } finally {
+            OpMetrics.getInstance().record(BlasRoutine.TBMV, st);
         }
     }
 
@@ -549,17 +619,23 @@ public abstract class BaseLevel2 extends BaseLevel implements Level2 {
      */
     @Override
     public void tbsv(char order, char Uplo, char TransA, char Diag, INDArray A, INDArray X) {
-        if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
-            OpProfiler.getInstance().processBlasCall(false, A, X);
-
-        if (X.data().dataType() == DataBuffer.Type.DOUBLE) {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, A, X);
-            dtbsv(order, Uplo, TransA, Diag, X.length(), A.columns(), A, A.size(0), X, X.majorStride());
-        } else {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, A, X);
-            stbsv(order, Uplo, TransA, Diag, X.length(), A.columns(), A, A.size(0), X, X.majorStride());
+        long st = OpMetrics.getInstance().start();
+        try {
+            DefaultOpExecutioner.validateWritable(X);
+            if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
+                OpProfiler.getInstance().processBlasCall(false, A, X);
+
+            if (X.data().dataType() == DataBuffer.Type.DOUBLE) {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, A, X);
+                dtbsv(order, Uplo, TransA, Diag, X.length(), A.columns(), A, A.size(0), X, X.majorStride());
+            } else {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, A, X);
+                stbsv(order, Uplo, TransA, Diag, X.length(), A.columns(), A, A.size(0), X, X.majorStride());
+            }
+
+        } finally {
+            OpMetrics.getInstance().record(BlasRoutine.TBSV, st);
         }
-
     }
 
     /**
@@ -574,18 +650,24 @@ public abstract class BaseLevel2 extends BaseLevel implements Level2 {
      */
     @Override
     public void tpmv(char order, char Uplo, char TransA, char Diag, INDArray Ap, INDArray X) {
-        if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
-            OpProfiler.getInstance().processBlasCall(false, Ap, X);
-
-        if (X.data().dataType() == DataBuffer.Type.DOUBLE) {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, X);
-            dtpmv(order, Uplo, TransA, Diag, Ap.length(), Ap, X, X.majorStride());
-        } else {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, X);
-            stpmv(order, Uplo, TransA, Diag, Ap.length(), Ap, X, X.majorStride());
+        long st = OpMetrics.getInstance().start();
+        try {
+            DefaultOpExecutioner.validateWritable(X);
+            if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
+                OpProfiler.getInstance().processBlasCall(false, Ap, X);
+
+            if (X.data().dataType() == DataBuffer.Type.DOUBLE) {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, X);
+                dtpmv(order, Uplo, TransA, Diag, Ap.length(), Ap, X, X.majorStride());
+            } else {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, X);
+                stpmv(order, Uplo, TransA, Diag, Ap.length(), Ap, X, X.majorStride());
+            }
+
+            OpExecutionerUtil.checkForAny(X);
+        } finally {
+            OpMetrics.getInstance().record(BlasRoutine.TPMV, st);
         }
-
-        OpExecutionerUtil.checkForAny(X);
     }
 
     /**
@@ -600,18 +682,24 @@ public abstract class BaseLevel2 extends BaseLevel implements Level2 {
      */
     @Override
     public void tpsv(char order, char Uplo, char TransA, char Diag, INDArray Ap, INDArray X) {
-        if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
-            OpProfiler.getInstance().processBlasCall(false, Ap, X);
-
-        if (X.data().dataType() == DataBuffer.Type.DOUBLE) {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, X, Ap);
-            dtpsv(order, Uplo, TransA, Diag, X.length(), Ap, X, X.majorStride());
-        } else {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, Ap, X);
-            stpsv(order, Uplo, TransA, Diag, X.length(), Ap, X, X.majorStride());
+        long st = OpMetrics.getInstance().start();
+        try {
+            DefaultOpExecutioner.validateWritable(X);
+            if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
+                OpProfiler.getInstance().processBlasCall(false, Ap, X);
+
+            if (X.data().dataType() == DataBuffer.Type.DOUBLE) {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, X, Ap);
+                dtpsv(order, Uplo, TransA, Diag, X.length(), Ap, X, X.majorStride());
+            } else {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, Ap, X);
+                stpsv(order, Uplo, TransA, Diag, X.length(), Ap, X, X.majorStride());
+            }
+
+            OpExecutionerUtil.checkForAny(X);
+        } finally {
+            OpMetrics.getInstance().record(BlasRoutine.TPSV, st);
         }
-
-        OpExecutionerUtil.checkForAny(X);
     }
 
     /**
@@ -626,18 +714,24 @@ public abstract class BaseLevel2 extends BaseLevel implements Level2 {
      */
     @Override
     public void trmv(char order, char Uplo, char TransA, char Diag, INDArray A, INDArray X) {
-        if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
-            OpProfiler.getInstance().processBlasCall(false, A, X);
-
-        if (A.data().dataType() == DataBuffer.Type.DOUBLE) {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, A, X);
-            dtrmv(order, Uplo, TransA, Diag, X.length(), A, A.size(0), X, X.majorStride());
-        } else {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, A, X);
-            strmv(order, Uplo, TransA, Diag, X.length(), A, A.size(0), X, X.majorStride());
+        long st = OpMetrics.getInstance().start();
+        try {
+            DefaultOpExecutioner.validateWritable(X);
+            if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
+                OpProfiler.getInstance().processBlasCall(false, A, X);
+
+            if (A.data().dataType() == DataBuffer.Type.DOUBLE) {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, A, X);
+                dtrmv(order, Uplo, TransA, Diag, X.length(), A, A.size(0), X, X.majorStride());
+            } else {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, A, X);
+                strmv(order, Uplo, TransA, Diag, X.length(), A, A.size(0), X, X.majorStride());
+            }
+
+            OpExecutionerUtil.checkForAny(X);
+        } finally {
+            OpMetrics.getInstance().record(BlasRoutine.TRMV, st);
         }
-
-        OpExecutionerUtil.checkForAny(X);
     }
 
     /**
@@ -652,18 +746,24 @@ public abstract class BaseLevel2 extends BaseLevel implements Level2 {
      */
     @Override
     public void trsv(char order, char Uplo, char TransA, char Diag, INDArray A, INDArray X) {
-        if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
-            OpProfiler.getInstance().processBlasCall(false, A, X);
-
-        if (X.data().dataType() == DataBuffer.Type.DOUBLE) {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, A, X);
-            dtrsv(order, Uplo, TransA, Diag, A.length(), A, A.size(0), X, X.majorStride());
-        } else {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, A, X);
-            strsv(order, Uplo, TransA, Diag, A.length(), A, A.size(0), X, X.majorStride());
+        long st = OpMetrics.getInstance().start();
+        try {
+            DefaultOpExecutioner.validateWritable(X);
+            if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
+                OpProfiler.getInstance().processBlasCall(false, A, X);
+
+            if (X.data().dataType() == DataBuffer.Type.DOUBLE) {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, A, X);
+                dtrsv(order, Uplo, TransA, Diag, A.length(), A, A.size(0), X, X.majorStride());
+            } else {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, A, X);
+                strsv(order, Uplo, TransA, Diag, A.length(), A, A.size(0), X, X.majorStride());
+            }
+
+            OpExecutionerUtil.checkForAny(X);
+        } finally {
+            OpMetrics.getInstance().record(BlasRoutine.TRSV, st);
         }
-
-        OpExecutionerUtil.checkForAny(X);
     }
 
     /*
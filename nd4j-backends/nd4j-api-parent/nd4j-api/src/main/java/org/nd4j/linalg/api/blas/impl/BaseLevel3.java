@@ -15,6 +15,8 @@ import org.nd4j.linalg.api.ops.executioner.OpExecutionerUtil;
 import org.nd4j.linalg.factory.NDArrayFactory;
 import org.nd4j.linalg.factory.Nd4j;
 import org.nd4j.linalg.profiler.OpProfiler;
+import org.nd4j.linalg.profiler.metrics.BlasRoutine;
+import org.nd4j.linalg.profiler.metrics.OpMetrics;
 
 /**
  * Base class for level 3 functions, abstract headers pulled from:
@@ -42,27 +44,36 @@ public abstract class BaseLevel3 extends BaseLevel implements Level3 {
     @Override
     public void gemm(char Order, char TransA, char TransB, double alpha, INDArray A, INDArray B, double beta,
                     INDArray C) {
-        if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
-            OpProfiler.getInstance().processBlasCall(true, A, B, C);
-
-        GemmParams params = new GemmParams(A, B, C);
-
-        int charOder = Order;
-        if (A.data().dataType() == DataBuffer.Type.DOUBLE) {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, params.getA(), params.getB(), params.getC());
-            dgemm(Order, params.getTransA(), params.getTransB(), params.getM(), params.getN(), params.getK(), 1.0,
-                            params.getA(), params.getLda(), params.getB(), params.getLdb(), 0, C, params.getLdc());
-        } else if (A.data().dataType() == DataBuffer.Type.FLOAT) {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, params.getA(), params.getB(), params.getC());
-            sgemm(Order, params.getTransA(), params.getTransB(), params.getM(), params.getN(), params.getK(), 1.0f,
-                            params.getA(), params.getLda(), params.getB(), params.getLdb(), 0, C, params.getLdc());
-        } else {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.HALF, params.getA(), params.getB(), params.getC());
-            hgemm(Order, params.getTransA(), params.getTransB(), params.getM(), params.getN(), params.getK(), 1.0f,
-                            params.getA(), params.getLda(), params.getB(), params.getLdb(), 0, C, params.getLdc());
+        long st = OpMetrics.getInstance().start();
+        try {
+            DefaultOpExecutioner.validateWritable(C);
+            if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
+                OpProfiler.getInstance().processBlasCall(true, A, B, C);
+
+            GemmParams params = new GemmParams(A, B, C);
+
+            int charOder = Order;
+            if (A.data().dataType() == DataBuffer.Type.DOUBLE) {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, params.getA(), params.getB(),
+                                params.getC());
+                dgemm(Order, params.getTransA(), params.getTransB(), params.getM(), params.getN(), params.getK(), 1.0,
+                                params.getA(), params.getLda(), params.getB(), params.getLdb(), 0, C, params.getLdc());
+            } else if (A.data().dataType() == DataBuffer.Type.FLOAT) {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, params.getA(), params.getB(),
+                                params.getC());
+                sgemm(Order, params.getTransA(), params.getTransB(), params.getM(), params.getN(), params.getK(), 1.0f,
+                                params.getA(), params.getLda(), params.getB(), params.getLdb(), 0, C, params.getLdc());
+            } else {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.HALF, params.getA(), params.getB(),
+                                params.getC());
+                hgemm(Order, params.getTransA(), params.getTransB(), params.getM(), params.getN(), params.getK(), 1.0f,
+                                params.getA(), params.getLda(), params.getB(), params.getLdb(), 0, C, params.getLdc());
+            }
+
+            OpExecutionerUtil.checkForAny(C);
+        } finally {
+            OpMetrics.getInstance().record(BlasRoutine.GEMM, st);
         }
-
-        OpExecutionerUtil.checkForAny(C);
     }
 
     /**{@inheritDoc}
@@ -70,28 +81,36 @@ public abstract class BaseLevel3 extends BaseLevel implements Level3 {
     @Override
     public void gemm(INDArray A, INDArray B, INDArray C, boolean transposeA, boolean transposeB, double alpha,
                     double beta) {
-        if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
-            OpProfiler.getInstance().processBlasCall(true, A, B, C);
-
-        GemmParams params = new GemmParams(A, B, C, transposeA, transposeB);
-        if (A.data().dataType() == DataBuffer.Type.DOUBLE) {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, params.getA(), params.getB(), C);
-            dgemm(A.ordering(), params.getTransA(), params.getTransB(), params.getM(), params.getN(), params.getK(),
-                            alpha, params.getA(), params.getLda(), params.getB(), params.getLdb(), beta, C,
-                            params.getLdc());
-        } else if (A.data().dataType() == DataBuffer.Type.FLOAT) {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, params.getA(), params.getB(), C);
-            sgemm(A.ordering(), params.getTransA(), params.getTransB(), params.getM(), params.getN(), params.getK(),
-                            (float) alpha, params.getA(), params.getLda(), params.getB(), params.getLdb(), (float) beta,
-                            C, params.getLdc());
-        } else {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.HALF, params.getA(), params.getB(), C);
-            hgemm(A.ordering(), params.getTransA(), params.getTransB(), params.getM(), params.getN(), params.getK(),
-                            (float) alpha, params.getA(), params.getLda(), params.getB(), params.getLdb(), (float) beta,
-                            C, params.getLdc());
+        long st = OpMetrics.getInstance().start();
+        try {
+            DefaultOpExecutioner.validateWritable(C);
+            if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
+                OpProfiler.getInstance().processBlasCall(true, A, B, C);
+
+            GemmParams params = new GemmParams(A, B, C, transposeA, transposeB);
+            if (A.data().dataType() == DataBuffer.Type.DOUBLE) {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, params.getA(), params.getB(), C);
+                dgemm(A.ordering(), params.getTransA(), params.getTransB(), params.getM(), params.getN(), params.getK(),
+                                alpha, params.getA(), params.getLda(), params.getB(), params.getLdb(), beta, C,
+                                params.getLdc());
+            } else if (A.data().dataType() == DataBuffer.Type.FLOAT) {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, params.getA(), params.getB(), C);
+                sgemm(A.ordering(), params.getTransA(), params.getTransB(), params.getM(), params.getN(), params.getK(),
+                                (float) alpha, params.getA(), params.getLda(), params.getB(), params.getLdb(),
+                                                (float) beta,
+                                C, params.getLdc());
+            } else {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.HALF, params.getA(), params.getB(), C);
+                hgemm(A.ordering(), params.getTransA(), params.getTransB(), params.getM(), params.getN(), params.getK(),
+                                (float) alpha, params.getA(), params.getLda(), params.getB(), params.getLdb(),
+                                                (float) beta,
+                                C, params.getLdc());
+            }
+
+            OpExecutionerUtil.checkForAny(C);
+        } finally {
+            OpMetrics.getInstance().record(BlasRoutine.GEMM, st);
         }
-
-        OpExecutionerUtil.checkForAny(C);
     }
 
 
@@ -113,19 +132,26 @@ public abstract class BaseLevel3 extends BaseLevel implements Level3 {
      */
     @Override
     public void symm(char Order, char Side, char Uplo, double alpha, INDArray A, INDArray B, double beta, INDArray C) {
-        if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
-            OpProfiler.getInstance().processBlasCall(false, A, B, C);
-
-        if (A.data().dataType() == DataBuffer.Type.DOUBLE) {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, A, B, C);
-            dsymm(Order, Side, Uplo, C.rows(), C.columns(), alpha, A, A.size(0), B, B.size(0), beta, C, C.size(0));
-        } else {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, A, B, C);
-            ssymm(Order, Side, Uplo, C.rows(), C.columns(), (float) alpha, A, A.size(0), B, B.size(0), (float) beta, C,
-                            C.size(0));
+        long st = OpMetrics.getInstance().start();
+        try {
+            DefaultOpExecutioner.validateWritable(C);
+            if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
+                OpProfiler.getInstance().processBlasCall(false, A, B, C);
+
+            if (A.data().dataType() == DataBuffer.Type.DOUBLE) {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, A, B, C);
+                dsymm(Order, Side, Uplo, C.rows(), C.columns(), alpha, A, A.size(0), B, B.size(0), beta, C, C.size(0));
+            } else {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, A, B, C);
+                ssymm(Order, Side, Uplo, C.rows(), C.columns(), (float) alpha, A, A.size(0), B, B.size(0),
+                                (float) beta, C,
+                                C.size(0));
+            }
+
+            OpExecutionerUtil.checkForAny(C);
+        } finally {
+            OpMetrics.getInstance().record(BlasRoutine.SYMM, st);
         }
-
-        OpExecutionerUtil.checkForAny(C);
     }
 
     /**
@@ -145,18 +171,24 @@ public abstract class BaseLevel3 extends BaseLevel implements Level3 {
      */
     @Override
     public void syrk(char Order, char Uplo, char Trans, double alpha, INDArray A, double beta, INDArray C) {
-        if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
-            OpProfiler.getInstance().processBlasCall(false, A, C);
-
-        if (A.data().dataType() == DataBuffer.Type.DOUBLE) {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, A, C);
-            dsyrk(Order, Uplo, Trans, C.rows(), 1, alpha, A, A.size(0), beta, C, C.size(0));
-        } else {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, A, C);
-            ssyrk(Order, Uplo, Trans, C.rows(), 1, (float) alpha, A, A.size(0), (float) beta, C, C.size(0));
+        long st = OpMetrics.getInstance().start();
+        try {
+            DefaultOpExecutioner.validateWritable(C);
+            if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
+                OpProfiler.getInstance().processBlasCall(false, A, C);
+
+            if (A.data().dataType() == DataBuffer.Type.DOUBLE) {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, A, C);
+                dsyrk(Order, Uplo, Trans, C.rows(), 1, alpha, A, A.size(0), beta, C, C.size(0));
+            } else {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, A, C);
+                ssyrk(Order, Uplo, Trans, C.rows(), 1, (float) alpha, A, A.size(0), (float) beta, C, C.size(0));
+            }
+
+            OpExecutionerUtil.checkForAny(C);
+        } finally {
+            OpMetrics.getInstance().record(BlasRoutine.SYRK, st);
         }
-
-        OpExecutionerUtil.checkForAny(C);
     }
 
     /**
@@ -178,19 +210,27 @@ public abstract class BaseLevel3 extends BaseLevel implements Level3 {
     @Override
     public void syr2k(char Order, char Uplo, char Trans, double alpha, INDArray A, INDArray B, double beta,
                     INDArray C) {
-        if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
-            OpProfiler.getInstance().processBlasCall(false, A, B, C);
-
-        if (A.data().dataType() == DataBuffer.Type.DOUBLE) {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, A, B, C);
-            dsyr2k(Order, Uplo, Trans, A.rows(), A.columns(), alpha, A, A.size(0), B, B.size(0), beta, C, C.size(0));
-        } else {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, A, B, C);
-            ssyr2k(Order, Uplo, Trans, A.rows(), A.columns(), (float) alpha, A, A.size(0), B, B.size(0), (float) beta,
-                            C, C.size(0));
+        long st = OpMetrics.getInstance().start();
+        try {
+            DefaultOpExecutioner.validateWritable(C);
+            if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
+                OpProfiler.getInstance().processBlasCall(false, A, B, C);
+
+            if (A.data().dataType() == DataBuffer.Type.DOUBLE) {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, A, B, C);
+                dsyr2k(Order, Uplo, Trans, A.rows(), A.columns(), alpha, A, A.size(0), B, B.size(0), beta, C,
+                                C.size(0));
+            } else {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, A, B, C);
+                ssyr2k(Order, Uplo, Trans, A.rows(), A.columns(), (float) alpha, A, A.size(0), B, B.size(0),
+                                (float) beta,
+                                C, C.size(0));
+            }
+
+            OpExecutionerUtil.checkForAny(C);
+        } finally {
+            OpMetrics.getInstance().record(BlasRoutine.SYR2K, st);
         }
-
-        OpExecutionerUtil.checkForAny(C);
     }
 
     /**
@@ -213,18 +253,25 @@ public abstract class BaseLevel3 extends BaseLevel implements Level3 {
     @Override
     public void trmm(char Order, char Side, char Uplo, char TransA, char Diag, double alpha, INDArray A, INDArray B,
                     INDArray C) {
-        if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
-            OpProfiler.getInstance().processBlasCall(false, A, B, C);
-
-        if (A.data().dataType() == DataBuffer.Type.DOUBLE) {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, A, B, C);
-            dtrmm(Order, Side, Uplo, TransA, Diag, A.rows(), A.columns(), alpha, A, A.size(0), B, B.size(0));
-        } else {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, A, B, C);
-            strmm(Order, Side, Uplo, TransA, Diag, A.rows(), A.columns(), (float) alpha, A, A.size(0), B, B.size(0));
+        long st = OpMetrics.getInstance().start();
+        try {
+            DefaultOpExecutioner.validateWritable(B);
+            if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
+                OpProfiler.getInstance().processBlasCall(false, A, B, C);
+
+            if (A.data().dataType() == DataBuffer.Type.DOUBLE) {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, A, B, C);
+                dtrmm(Order, Side, Uplo, TransA, Diag, A.rows(), A.columns(), alpha, A, A.size(0), B, B.size(0));
+            } else {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, A, B, C);
+                strmm(Order, Side, Uplo, TransA, Diag, A.rows(), A.columns(), (float) alpha, A, A.size(0), B,
+                                B.size(0));
+            }
+
+            OpExecutionerUtil.checkForAny(C);
+        } finally {
+            OpMetrics.getInstance().record(BlasRoutine.TRMM, st);
         }
-
-        OpExecutionerUtil.checkForAny(C);
     }
 
     /**
@@ -246,18 +293,25 @@ public abstract class BaseLevel3 extends BaseLevel implements Level3 {
      */
     @Override
     public void trsm(char Order, char Side, char Uplo, char TransA, char Diag, double alpha, INDArray A, INDArray B) {
-        if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
-            OpProfiler.getInstance().processBlasCall(false, A, B);
-
-        if (A.data().dataType() == DataBuffer.Type.DOUBLE) {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, A, B);
-            dtrsm(Order, Side, Uplo, TransA, Diag, A.rows(), A.columns(), alpha, A, A.size(0), B, B.size(0));
-        } else {
-            DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, A, B);
-            strsm(Order, Side, Uplo, TransA, Diag, A.rows(), A.columns(), (float) alpha, A, A.size(0), B, B.size(0));
+        long st = OpMetrics.getInstance().start();
+        try {
+            DefaultOpExecutioner.validateWritable(B);
+            if (Nd4j.getExecutioner().getProfilingMode() == OpExecutioner.ProfilingMode.ALL)
+                OpProfiler.getInstance().processBlasCall(false, A, B);
+
+            if (A.data().dataType() == DataBuffer.Type.DOUBLE) {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, A, B);
+                dtrsm(Order, Side, Uplo, TransA, Diag, A.rows(), A.columns(), alpha, A, A.size(0), B, B.size(0));
+            } else {
+                DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, A, B);
+                strsm(Order, Side, Uplo, TransA, Diag, A.rows(), A.columns(), (float) alpha, A, A.size(0), B,
+                                B.size(0));
+            }
+
+            OpExecutionerUtil.checkForAny(B);
+        } finally {
+            OpMetrics.getInstance().record(BlasRoutine.TRSM, st);
         }
-
-        OpExecutionerUtil.checkForAny(B);
     }
 
     /**
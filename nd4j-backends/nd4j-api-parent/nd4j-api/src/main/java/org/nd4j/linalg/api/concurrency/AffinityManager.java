@@ -109,4 +109,13 @@ public interface AffinityManager {
      * @param location
      */
     void tagLocation(DataBuffer buffer, Location location);
+
+    /**
+     * This method makes sure that contents of the given DataBuffer are actual on specified location.
+     * I.e. for Location.HOST it's safe to access buffer memory via pointer after this call
+     *
+     * @param buffer
+     * @param location
+     */
+    void ensureLocation(DataBuffer buffer, Location location);
 }
@@ -75,4 +75,9 @@ public abstract class BasicAffinityManager implements AffinityManager {
     public void tagLocation(DataBuffer buffer, Location location) {
         // no-op
     }
+
+    @Override
+    public void ensureLocation(DataBuffer buffer, Location location) {
+        // no-op
+    }
 }
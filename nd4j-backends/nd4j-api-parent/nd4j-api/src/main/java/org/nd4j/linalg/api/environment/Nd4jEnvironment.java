@@ -62,6 +62,11 @@ public class Nd4jEnvironment implements Serializable {
     public final static String OMP_THREADS_KEY = "omp.threads";
     public final static String BLAS_THREADS_KEY = "blas.threads";
 
+    /**
+     * Prefix for statistics of backend caches, i.e. cache.tad.hits
+     */
+    public final static String CACHE_KEY_PREFIX = "cache.";
+
     /**
      * Load an {@link Nd4jEnvironment} from
      * the properties returned from {@link org.nd4j.linalg.api.ops.executioner.OpExecutioner#getEnvironmentInformation()}
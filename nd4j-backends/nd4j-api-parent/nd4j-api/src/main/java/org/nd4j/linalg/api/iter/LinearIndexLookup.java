@@ -46,5 +46,15 @@ public class LinearIndexLookup implements Serializable {
         }
     }
 
+    /**
+     * Approximate memory footprint of this lookup, once all indexes are computed
+     *
+     * @return
+     */
+    public long bytes() {
+        // array header and rank ints for every coordinate, plus a reference and an existence flag
+        return (long) numIndexes * (16 + 4 * shape.length + 8 + 1);
+    }
+
 
 }
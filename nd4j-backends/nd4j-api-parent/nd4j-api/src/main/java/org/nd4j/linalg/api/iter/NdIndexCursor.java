@@ -0,0 +1,126 @@
+package org.nd4j.linalg.api.iter;
+
+import org.nd4j.linalg.util.ArrayUtil;
+
+import java.util.Arrays;
+
+/**
+ * Cursor over all coordinates of a particular shape, in c or f order.
+ *
+ * Unlike {@link NdIndexIterator}, it doesn't allocate anything per element:
+ * coordinates are kept in a single buffer, which is updated in place by {@link #advance()},
+ * so the buffer returned by {@link #coordinates()} is only valid until the next advance() call,
+ * and should be copied if it has to be retained.
+ *
+ * Typical usage:
+ * <pre>
+ * NdIndexCursor cursor = new NdIndexCursor(arr.shape());
+ * int[] coords = cursor.coordinates();
+ * while (cursor.advance())
+ *     arr.putScalar(coords, ...);
+ * </pre>
+ *
+ * PLEASE NOTE: cursor instances aren't thread-safe, use one cursor per thread
+ */
+public class NdIndexCursor {
+    private final int[] shape;
+    private final int[] coords;
+    private final char order;
+    private final long length;
+    private long index = -1;
+
+    /**
+     * Cursor over given shape in c order
+     *
+     * @param shape the shape to iterate over
+     */
+    public NdIndexCursor(int... shape) {
+        this('c', shape);
+    }
+
+    /**
+     *
+     * @param order the order to iterate in, c (last dimension changes fastest) or f (first dimension changes fastest)
+     * @param shape the shape to iterate over
+     */
+    public NdIndexCursor(char order, int... shape) {
+        if (order != 'c' && order != 'f')
+            throw new IllegalArgumentException("Illegal ordering " + order);
+
+        this.shape = ArrayUtil.copy(shape);
+        this.coords = new int[shape.length];
+        this.order = order;
+        this.length = ArrayUtil.prodLong(shape);
+    }
+
+    /**
+     * Moves cursor to the next coordinate. First call moves it to the very first coordinate.
+     *
+     * @return false if there are no more coordinates
+     */
+    public boolean advance() {
+        if (index + 1 >= length) {
+            index = length;
+            return false;
+        }
+
+        if (++index == 0)
+            return true;
+
+        if (order == 'c') {
+            for (int i = coords.length - 1; i >= 0; i--) {
+                if (++coords[i] < shape[i])
+                    break;
+                coords[i] = 0;
+            }
+        } else {
+            for (int i = 0; i < coords.length; i++) {
+                if (++coords[i] < shape[i])
+                    break;
+                coords[i] = 0;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns coordinates of the current position. The same buffer is returned for the whole life of the cursor,
+     * and it's updated in place by {@link #advance()}
+     *
+     * @return
+     */
+    public int[] coordinates() {
+        return coords;
+    }
+
+    /**
+     * Returns linear index of the current position, in cursor order
+     *
+     * @return
+     */
+    public long index() {
+        return index;
+    }
+
+    /**
+     * Total number of coordinates
+     *
+     * @return
+     */
+    public long length() {
+        return length;
+    }
+
+    public char order() {
+        return order;
+    }
+
+    /**
+     * Moves cursor back before the first coordinate
+     */
+    public void reset() {
+        index = -1;
+        Arrays.fill(coords, 0);
+    }
+}
@@ -1,12 +1,10 @@
 package org.nd4j.linalg.api.iter;
 
-import org.apache.commons.math3.util.Pair;
-import org.nd4j.linalg.api.shape.Shape;
+import org.nd4j.linalg.cache.BoundedCache;
 import org.nd4j.linalg.util.ArrayUtil;
 
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.Iterator;
-import java.util.Map;
 
 /**
  * Iterates and returns int arrays
@@ -16,16 +14,34 @@ import java.util.Map;
  * the shape until each item in the "position"
  * hits the current shape
  *
+ * Every call to next() returns a new array, so it can be retained by caller.
+ * Use {@link NdIndexCursor} for allocation-free iteration.
+ *
+ * If cache is enabled, coordinates are looked up in a {@link LinearIndexLookup}, shared between all iterators
+ * over equal shape and order. Such arrays are shared as well, and must not be modified.
+ *
  * @author Adam Gibson
  */
 public class NdIndexIterator implements Iterator<int[]> {
+    public static final String CACHE_NAME = "ndIndexLookup";
+    private static final long DEFAULT_MAX_ENTRIES = 100;
+    private static final long DEFAULT_MAX_BYTES = 64L * 1024 * 1024;
+
+    private static final BoundedCache<LookupKey, LinearIndexLookup> lookupCache = BoundedCache.configured(CACHE_NAME,
+                    DEFAULT_MAX_ENTRIES, DEFAULT_MAX_BYTES, new BoundedCache.Weigher<LinearIndexLookup>() {
+                        @Override
+                        public long weigh(LinearIndexLookup value) {
+                            return value.bytes();
+                        }
+                    });
+
     private int length = -1;
     private int i = 0;
     private int[] shape;
     private char order = 'c';
     private boolean cache = false;
-    private static Map<Pair<int[], Character>, LinearIndexLookup> lookupMap = new HashMap<>();
     private LinearIndexLookup lookup;
+    private NdIndexCursor cursor;
 
 
     /**
@@ -49,19 +65,19 @@ public class NdIndexIterator implements Iterator<int[]> {
         this.order = order;
         this.cache = cache;
         if (this.cache) {
-            LinearIndexLookup lookup = lookupMap.get(new Pair<>(shape, order));
+            LookupKey key = new LookupKey(this.shape, order);
+            LinearIndexLookup lookup = lookupCache.get(key);
             if (lookup == null) {
-                lookup = new LinearIndexLookup(shape, order);
-                //warm up the cache
+                lookup = new LinearIndexLookup(this.shape, order);
+                //warm up the cache, so lookup is read-only once shared
                 for (int i = 0; i < length; i++) {
                     lookup.lookup(i);
                 }
-                lookupMap.put(new Pair<>(shape, order), lookup);
-                this.lookup = lookup;
-            } else {
-                this.lookup = lookupMap.get(new Pair<>(shape, order));
+                lookup = lookupCache.put(key, lookup);
             }
-
+            this.lookup = lookup;
+        } else {
+            this.cursor = new NdIndexCursor(order, this.shape);
         }
     }
 
@@ -73,6 +89,15 @@ public class NdIndexIterator implements Iterator<int[]> {
         this(order, false, shape);
     }
 
+    /**
+     * This method returns the cache shared by iterators with enabled lookup caching
+     *
+     * @return
+     */
+    public static BoundedCache<LookupKey, LinearIndexLookup> getLookupCache() {
+        return lookupCache;
+    }
+
     @Override
     public boolean hasNext() {
         return i < length;
@@ -84,15 +109,12 @@ public class NdIndexIterator implements Iterator<int[]> {
     public int[] next() {
         if (lookup != null)
             return lookup.lookup(i++);
-        switch (order) {
-            case 'c':
-                return Shape.ind2subC(shape, i++);
-            case 'f':
-                return Shape.ind2sub(shape, i++);
-            default:
-                throw new IllegalArgumentException("Illegal ordering " + order);
-        }
 
+        i++;
+        if (!cursor.advance())
+            throw new IllegalStateException("No more coordinates for shape " + Arrays.toString(shape));
+
+        return ArrayUtil.copy(cursor.coordinates());
     }
 
 
@@ -102,4 +124,33 @@ public class NdIndexIterator implements Iterator<int[]> {
 
     }
 
+    /**
+     * Cache key, comparing shapes by value
+     */
+    public static final class LookupKey {
+        private final int[] shape;
+        private final char order;
+
+        public LookupKey(int[] shape, char order) {
+            this.shape = ArrayUtil.copy(shape);
+            this.order = order;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof LookupKey))
+                return false;
+
+            LookupKey other = (LookupKey) o;
+            return order == other.order && Arrays.equals(shape, other.shape);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Arrays.hashCode(shape) + order;
+        }
+    }
+
 }
@@ -141,6 +141,11 @@ public abstract class BaseNDArray implements INDArray, Iterable {
         this.compressed = reallyCompressed;
     }
 
+    @Override
+    public boolean isSparse() {
+        return false;
+    }
+
     /**
      *
      * @param buffer
@@ -1970,6 +1975,14 @@ public abstract class BaseNDArray implements INDArray, Iterable {
             }
             return this;
         } else {
+            for (INDArrayIndex index : indices) {
+                if (index instanceof SpecifiedIndex) {
+                    if (scatterSpecified(NDArrayIndex.resolve(shapeInfoDataBuffer(), indices), element))
+                        return this;
+                    break;
+                }
+            }
+
             return get(indices).assign(element);
         }
     }
@@ -3067,6 +3080,13 @@ public abstract class BaseNDArray implements INDArray, Iterable {
             return other.addi(getDouble(0), result);
         }
 
+        // only stored elements of sparse array are added
+        if (other.isSparse()) {
+            if (result != this)
+                result.assign(this);
+
+            return ((ISparseNDArray) other).addTo(result);
+        }
 
         LinAlgExceptions.assertSameShape(other, result);
 
@@ -3942,12 +3962,8 @@ public abstract class BaseNDArray implements INDArray, Iterable {
             throw new IllegalArgumentException("Unable to get columns from a non matrix or vector");
         if (isVector())
             return Nd4j.pullRows(this, 1, rindices);
-        else {
-            INDArray ret = Nd4j.create(rindices.length, columns());
-            for (int i = 0; i < rindices.length; i++)
-                ret.putRow(i, getRow(rindices[i]));
-            return ret;
-        }
+        else
+            return Nd4j.gather(this, 0, rindices);
     }
 
     /**
@@ -3983,6 +3999,10 @@ public abstract class BaseNDArray implements INDArray, Iterable {
 
 
         if (shape != null && numSpecifiedIndex > 0) {
+            INDArray gathered = gatherSpecified(indexes, shape);
+            if (gathered != null)
+                return gathered;
+
             Generator<List<List<Integer>>> gen = SpecifiedIndex.iterate(indexes);
             INDArray ret = Nd4j.create(shape, 'c');
             int count = 0;
@@ -4016,6 +4036,97 @@ public abstract class BaseNDArray implements INDArray, Iterable {
         return ret;
     }
 
+    /**
+     * Resolves specified indexes with one gather per indexed axis,
+     * instead of iterating over every combination of coordinates
+     *
+     * @param indexes resolved indexes
+     * @param shape expected result shape
+     * @return gathered array, or null if indexes can't be handled this way
+     */
+    protected INDArray gatherSpecified(INDArrayIndex[] indexes, int[] shape) {
+        if (indexes.length != rank())
+            return null;
+
+        INDArray ret = this;
+        for (int i = 0; i < indexes.length; i++) {
+            if (!(indexes[i] instanceof SpecifiedIndex))
+                return null;
+
+            int[] idx = ((SpecifiedIndex) indexes[i]).getIndexes();
+            if (idx.length == 0)
+                return null;
+
+            if (!isIdentity(idx, size(i)))
+                ret = Nd4j.gather(ret, i, idx);
+        }
+
+        if (ret.length() != ArrayUtil.prod(shape))
+            return null;
+
+        if (ret == this)
+            ret = dup('c');
+
+        if (!Arrays.equals(ret.shape(), shape))
+            ret = ret.reshape('c', shape);
+
+        return ret;
+    }
+
+    /**
+     * Inverse of {@link #gatherSpecified(INDArrayIndex[], int[])}: scatters element into this array,
+     * as long as only one axis is indexed by something other than a full range
+     *
+     * @param indexes resolved indexes
+     * @param element values to put
+     * @return false if indexes can't be handled this way
+     */
+    protected boolean scatterSpecified(INDArrayIndex[] indexes, INDArray element) {
+        if (indexes.length != rank())
+            return false;
+
+        int axis = -1;
+        int[] axisIndexes = null;
+        int[] shape = Arrays.copyOf(shape(), rank());
+        for (int i = 0; i < indexes.length; i++) {
+            if (!(indexes[i] instanceof SpecifiedIndex))
+                return false;
+
+            int[] idx = ((SpecifiedIndex) indexes[i]).getIndexes();
+            if (isIdentity(idx, size(i)))
+                continue;
+
+            if (axis >= 0 || idx.length == 0)
+                return false;
+
+            axis = i;
+            axisIndexes = idx;
+            shape[i] = idx.length;
+        }
+
+        if (element.length() != ArrayUtil.prod(shape))
+            return false;
+
+        INDArray updates = Arrays.equals(element.shape(), shape) ? element : element.reshape(shape);
+        if (axis < 0)
+            assign(updates);
+        else
+            Nd4j.scatterUpdate(this, axis, axisIndexes, updates);
+
+        return true;
+    }
+
+    private static boolean isIdentity(int[] indexes, int size) {
+        if (indexes.length != size)
+            return false;
+
+        for (int i = 0; i < indexes.length; i++)
+            if (indexes[i] != i)
+                return false;
+
+        return true;
+    }
+
 
     /**
      * Get whole columns
@@ -4030,10 +4141,7 @@ public abstract class BaseNDArray implements INDArray, Iterable {
         if (isVector()) {
             return Nd4j.pullRows(this, 0, cindices, this.ordering());
         } else {
-            INDArray ret = Nd4j.create(rows(), cindices.length);
-            for (int i = 0; i < cindices.length; i++)
-                ret.putColumn(i, getColumn(cindices[i]));
-            return ret;
+            return Nd4j.gather(this, 1, cindices);
         }
 
     }
@@ -4073,6 +4181,9 @@ public abstract class BaseNDArray implements INDArray, Iterable {
 
         INDArray n = (INDArray) o;
 
+        if (n.isSparse())
+            n = ((ISparseNDArray) n).toDense();
+
         if (this.lengthLong() != n.lengthLong())
             return false;
 
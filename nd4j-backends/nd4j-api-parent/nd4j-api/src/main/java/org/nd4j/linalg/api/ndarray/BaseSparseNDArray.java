@@ -0,0 +1,1883 @@
+package org.nd4j.linalg.api.ndarray;
+
+import org.nd4j.linalg.api.buffer.DataBuffer;
+import org.nd4j.linalg.api.complex.IComplexNDArray;
+import org.nd4j.linalg.api.complex.IComplexNumber;
+import org.nd4j.linalg.factory.Nd4j;
+import org.nd4j.linalg.indexing.INDArrayIndex;
+import org.nd4j.linalg.indexing.IntervalIndex;
+import org.nd4j.linalg.indexing.NDArrayIndexAll;
+import org.nd4j.linalg.indexing.PointIndex;
+import org.nd4j.linalg.indexing.ShapeOffsetResolution;
+import org.nd4j.linalg.indexing.SpecifiedIndex;
+import org.nd4j.linalg.indexing.conditions.Condition;
+
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Base class for sparse 2d arrays.
+ *
+ * Subclasses keep stored elements in row-major order, with ascending column indices within each row,
+ * and only have to tell where each row starts and ends. Everything else (element access, row slicing,
+ * multiplication by dense matrices, addition into dense arrays) is implemented here on top of that.
+ *
+ * Operations relying on dense memory layout (data buffer and shape information access, strides,
+ * OpExecutioner ops etc) aren't supported, and throw UnsupportedOperationException: use {@link #toDense()} for them.
+ */
+public abstract class BaseSparseNDArray implements ISparseNDArray {
+
+    protected final int rows;
+    protected final int columns;
+    protected DataBuffer values;
+    protected int nnz;
+
+    protected BaseSparseNDArray(int[] shape) {
+        if (shape == null || shape.length != 2)
+            throw new IllegalArgumentException(
+                            "Only 2d sparse arrays are supported, got shape " + Arrays.toString(shape));
+
+        if (shape[0] < 1 || shape[1] < 1)
+            throw new IllegalArgumentException("Invalid shape: " + Arrays.toString(shape));
+
+        this.rows = shape[0];
+        this.columns = shape[1];
+    }
+
+    /**
+     * Index of the first stored element of the given row
+     */
+    protected abstract int rowBegin(int row);
+
+    /**
+     * Index past the last stored element of the given row
+     */
+    protected abstract int rowEnd(int row);
+
+    /**
+     * Column index of the k-th stored element
+     */
+    protected abstract int columnOf(int k);
+
+    /**
+     * This method creates new array of the same format as this one, out of given rows
+     */
+    protected abstract BaseSparseNDArray createFromRows(Rows rows, int[] shape);
+
+    @Override
+    public DataBuffer getValues() {
+        return values;
+    }
+
+    @Override
+    public int nnz() {
+        return nnz;
+    }
+
+    @Override
+    public boolean isSparse() {
+        return true;
+    }
+
+    @Override
+    public INDArray toDense() {
+        return addTo(Nd4j.create(new int[] {rows, columns}, 'c'));
+    }
+
+    @Override
+    public INDArray addTo(INDArray target) {
+        if (target.rank() != 2 || target.rows() != rows || target.columns() != columns)
+            throw new IllegalArgumentException("Can't add sparse array of shape " + Arrays.toString(shape())
+                            + " to array of shape " + Arrays.toString(target.shape()));
+
+        // buffer is fetched once, instead of going through putScalar() with its offset math per element.
+        // view buffer already accounts for target.offset(), so positions are computed from strides only.
+        // strides of unit dimensions are ignored, same way Shape.getOffset() does
+        DataBuffer data = target.data();
+        long rowStride = rows == 1 ? 0 : target.stride(0);
+        long columnStride = columns == 1 ? 0 : target.stride(1);
+        for (int r = 0; r < rows; r++) {
+            int end = rowEnd(r);
+            long row = r * rowStride;
+            for (int k = rowBegin(r); k < end; k++) {
+                long position = row + columnOf(k) * columnStride;
+                data.put(position, data.getDouble(position) + values.getDouble(k));
+            }
+        }
+
+        return target;
+    }
+
+    /**
+     * Copies given rows of this array into heap arrays, in CSR layout
+     */
+    protected Rows copyRows(int... rowIndices) {
+        int count = 0;
+        for (int r : rowIndices) {
+            if (r < 0 || r >= rows)
+                throw new IllegalArgumentException("Row index [" + r + "] is out of range [0, " + rows + ")");
+
+            count += rowEnd(r) - rowBegin(r);
+        }
+
+        Rows result = new Rows(count, rowIndices.length);
+        int position = 0;
+        for (int i = 0; i < rowIndices.length; i++) {
+            int end = rowEnd(rowIndices[i]);
+            for (int k = rowBegin(rowIndices[i]); k < end; k++) {
+                result.values[position] = values.getDouble(k);
+                result.columns[position] = columnOf(k);
+                position++;
+            }
+            result.pointers[i + 1] = position;
+        }
+
+        return result;
+    }
+
+    protected Rows copyRows() {
+        int[] all = new int[rows];
+        for (int r = 0; r < rows; r++)
+            all[r] = r;
+
+        return copyRows(all);
+    }
+
+    /**
+     * This method creates sparse array out of the given dense 2d array, skipping zero elements
+     *
+     * @param dense dense array
+     * @param format format of the result
+     * @return
+     */
+    public static ISparseNDArray fromDense(INDArray dense, SparseFormat format) {
+        if (dense.isSparse())
+            return format == SparseFormat.CSR ? ((ISparseNDArray) dense).toCSR() : ((ISparseNDArray) dense).toCOO();
+
+        if (dense.rank() != 2)
+            throw new IllegalArgumentException("Only 2d arrays can be converted to sparse, got shape "
+                            + Arrays.toString(dense.shape()));
+
+        int rows = dense.rows();
+        int columns = dense.columns();
+        double[] data = dense.dup('c').data().asDouble();
+
+        int count = 0;
+        for (double value : data)
+            if (value != 0.0)
+                count++;
+
+        Rows result = new Rows(count, rows);
+        int position = 0;
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < columns; c++) {
+                double value = data[r * columns + c];
+                if (value != 0.0) {
+                    result.values[position] = value;
+                    result.columns[position] = c;
+                    position++;
+                }
+            }
+            result.pointers[r + 1] = position;
+        }
+
+        int[] shape = new int[] {rows, columns};
+        return format == SparseFormat.CSR ? SparseNDArrayCSR.fromRows(result, shape)
+                        : SparseNDArrayCOO.fromRows(result, shape);
+    }
+
+    /**
+     * This method stacks given sparse arrays vertically. Result has format of the first array
+     *
+     * @param arrays sparse arrays with the same number of columns
+     * @return
+     */
+    public static ISparseNDArray vstack(INDArray... arrays) {
+        if (arrays.length == 0)
+            throw new IllegalArgumentException("Nothing to stack");
+
+        int columns = arrays[0].columns();
+        int totalRows = 0;
+        int totalNnz = 0;
+        for (INDArray array : arrays) {
+            if (!array.isSparse())
+                throw new IllegalArgumentException("Dense and sparse arrays can't be stacked together");
+            if (array.columns() != columns)
+                throw new IllegalArgumentException("All arrays must have the same number of columns: expected ["
+                                + columns + "], got [" + array.columns() + "]");
+
+            totalRows += array.rows();
+            totalNnz += ((ISparseNDArray) array).nnz();
+        }
+
+        Rows result = new Rows(totalNnz, totalRows);
+        int position = 0;
+        int row = 0;
+        for (INDArray array : arrays) {
+            BaseSparseNDArray sparse = (BaseSparseNDArray) array;
+            for (int r = 0; r < sparse.rows; r++) {
+                int end = sparse.rowEnd(r);
+                for (int k = sparse.rowBegin(r); k < end; k++) {
+                    result.values[position] = sparse.values.getDouble(k);
+                    result.columns[position] = sparse.columnOf(k);
+                    position++;
+                }
+                result.pointers[++row] = position;
+            }
+        }
+
+        return ((BaseSparseNDArray) arrays[0]).createFromRows(result, new int[] {totalRows, columns});
+    }
+
+    /**
+     * Sparse x dense matrix multiplication: each stored element scales one row of the dense matrix,
+     * which is accumulated into corresponding row of the result. Rows are accumulated on heap copies,
+     * so there's no per-element view creation or BLAS call
+     *
+     * @param other the other matrix to perform matrix multiply with
+     * @return dense result
+     */
+    @Override
+    public INDArray mmul(INDArray other) {
+        return mmul(other, Nd4j.createUninitialized(new int[] {rows, other.columns()}, 'c'));
+    }
+
+    @Override
+    public INDArray mmul(INDArray other, INDArray result) {
+        if (other.isSparse())
+            other = ((ISparseNDArray) other).toDense();
+
+        if (other.rows() != columns)
+            throw new IllegalArgumentException("Can't multiply arrays of shapes " + Arrays.toString(shape()) + " and "
+                            + Arrays.toString(other.shape()));
+
+        if (result.rows() != rows || result.columns() != other.columns())
+            throw new IllegalArgumentException("Result array has wrong shape: expected [" + rows + ", "
+                            + other.columns() + "], got " + Arrays.toString(result.shape()));
+
+        int n = other.columns();
+        double[] dense = other.dup('c').data().asDouble();
+        double[] product = new double[rows * n];
+        for (int r = 0; r < rows; r++) {
+            int end = rowEnd(r);
+            int target = r * n;
+            for (int k = rowBegin(r); k < end; k++) {
+                double value = values.getDouble(k);
+                int source = columnOf(k) * n;
+                for (int j = 0; j < n; j++)
+                    product[target + j] += value * dense[source + j];
+            }
+        }
+
+        return result.assign(Nd4j.create(product, new int[] {rows, n}, 'c'));
+    }
+
+    /**
+     * Returns dense sum of this array and the given one
+     */
+    @Override
+    public INDArray add(INDArray other) {
+        return add(other, Nd4j.createUninitialized(new int[] {rows, columns}, 'c'));
+    }
+
+    @Override
+    public INDArray add(INDArray other, INDArray result) {
+        if (other.rows() != rows || other.columns() != columns)
+            throw new IllegalArgumentException("Can't add arrays of shapes " + Arrays.toString(shape()) + " and "
+                            + Arrays.toString(other.shape()));
+
+        if (other.isSparse()) {
+            result.assign(0.0);
+            ((ISparseNDArray) other).addTo(result);
+        } else {
+            result.assign(other);
+        }
+
+        return addTo(result);
+    }
+
+    @Override
+    public INDArray muli(Number n) {
+        double scalar = n.doubleValue();
+        for (int k = 0; k < nnz; k++)
+            values.put(k, values.getDouble(k) * scalar);
+
+        return this;
+    }
+
+    @Override
+    public INDArray mul(Number n) {
+        return dup().muli(n);
+    }
+
+    @Override
+    public INDArray divi(Number n) {
+        return muli(1.0 / n.doubleValue());
+    }
+
+    @Override
+    public INDArray div(Number n) {
+        return dup().divi(n);
+    }
+
+    @Override
+    public INDArray negi() {
+        return muli(-1.0);
+    }
+
+    @Override
+    public INDArray neg() {
+        return dup().negi();
+    }
+
+    @Override
+    public INDArray transpose() {
+        int[] transposedRows = new int[nnz];
+        int[] transposedColumns = new int[nnz];
+        double[] transposedValues = new double[nnz];
+        int position = 0;
+        for (int r = 0; r < rows; r++) {
+            int end = rowEnd(r);
+            for (int k = rowBegin(r); k < end; k++) {
+                transposedRows[position] = columnOf(k);
+                transposedColumns[position] = r;
+                transposedValues[position] = values.getDouble(k);
+                position++;
+            }
+        }
+
+        ISparseNDArray transposed = new SparseNDArrayCOO(Nd4j.createBuffer(transposedValues),
+                        Nd4j.createBuffer(transposedRows), Nd4j.createBuffer(transposedColumns),
+                        new int[] {columns, rows});
+        return getFormat() == SparseFormat.COO ? transposed : transposed.toCSR();
+    }
+
+    @Override
+    public INDArray dup() {
+        return createFromRows(copyRows(), shape());
+    }
+
+    @Override
+    public INDArray dup(char order) {
+        return dup();
+    }
+
+    @Override
+    public INDArray getRows(int... rows) {
+        return createFromRows(copyRows(rows), new int[] {rows.length, columns});
+    }
+
+    @Override
+    public INDArray getRow(int i) {
+        return getRows(i);
+    }
+
+    @Override
+    public INDArray slice(int i) {
+        return getRow(i);
+    }
+
+    @Override
+    public INDArray slice(int i, int dimension) {
+        if (dimension != 0)
+            throw unsupported();
+
+        return getRow(i);
+    }
+
+    /**
+     * Only row selection is supported for sparse arrays: point, interval or specified indices
+     * along first dimension, optionally followed by all() along second one
+     */
+    @Override
+    public INDArray get(INDArrayIndex... indexes) {
+        if (indexes.length == 0 || indexes.length > 2
+                        || (indexes.length == 2 && !(indexes[1] instanceof NDArrayIndexAll)))
+            throw new UnsupportedOperationException("Only row selection is supported for sparse arrays");
+
+        INDArrayIndex index = indexes[0];
+        if (index instanceof NDArrayIndexAll)
+            return this;
+
+        if (index instanceof PointIndex)
+            return getRow(index.offset());
+
+        if (index instanceof SpecifiedIndex)
+            return getRows(((SpecifiedIndex) index).getIndexes());
+
+        if (index instanceof IntervalIndex) {
+            int stride = Math.max(1, index.stride());
+            int[] selected = new int[(Math.max(0, index.end() - index.offset()) + stride - 1) / stride];
+            for (int i = 0; i < selected.length; i++)
+                selected[i] = index.offset() + i * stride;
+
+            return getRows(selected);
+        }
+
+        throw new UnsupportedOperationException(
+                        "Index of type [" + index.getClass().getSimpleName() + "] isn't supported for sparse arrays");
+    }
+
+    @Override
+    public double getDouble(int row, int column) {
+        if (row < 0 || row >= rows || column < 0 || column >= columns)
+            throw new IllegalArgumentException("Index [" + row + ", " + column + "] is out of bounds for shape "
+                            + Arrays.toString(shape()));
+
+        int low = rowBegin(row);
+        int high = rowEnd(row) - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int c = columnOf(middle);
+            if (c < column)
+                low = middle + 1;
+            else if (c > column)
+                high = middle - 1;
+            else
+                return values.getDouble(middle);
+        }
+
+        return 0.0;
+    }
+
+    @Override
+    public double getDouble(int i) {
+        return getDouble(i / columns, i % columns);
+    }
+
+    @Override
+    public double getDouble(int... indices) {
+        if (indices.length == 1)
+            return getDouble(indices[0]);
+
+        if (indices.length != 2)
+            throw new IllegalArgumentException("Sparse arrays are 2d, got indices " + Arrays.toString(indices));
+
+        return getDouble(indices[0], indices[1]);
+    }
+
+    @Override
+    public float getFloat(int i, int j) {
+        return (float) getDouble(i, j);
+    }
+
+    @Override
+    public float getFloat(int i) {
+        return (float) getDouble(i);
+    }
+
+    @Override
+    public float getFloat(int[] indices) {
+        return (float) getDouble(indices);
+    }
+
+    @Override
+    public int getInt(int... indices) {
+        return (int) getDouble(indices);
+    }
+
+    @Override
+    public INDArray getScalar(int row, int column) {
+        return Nd4j.scalar(getDouble(row, column));
+    }
+
+    @Override
+    public INDArray getScalar(int i) {
+        return Nd4j.scalar(getDouble(i));
+    }
+
+    @Override
+    public INDArray getScalar(int... indices) {
+        return Nd4j.scalar(getDouble(indices));
+    }
+
+    @Override
+    public int rows() {
+        return rows;
+    }
+
+    @Override
+    public int columns() {
+        return columns;
+    }
+
+    @Override
+    public int[] shape() {
+        return new int[] {rows, columns};
+    }
+
+    @Override
+    public int size(int dimension) {
+        if (dimension < 0)
+            dimension += 2;
+
+        if (dimension == 0)
+            return rows;
+        if (dimension == 1)
+            return columns;
+
+        throw new IllegalArgumentException("Invalid dimension [" + dimension + "] for 2d array");
+    }
+
+    @Override
+    public int rank() {
+        return 2;
+    }
+
+    @Override
+    public int length() {
+        long length = lengthLong();
+        if (length >= Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Length is >= Integer.MAX_VALUE: lengthLong() must be called instead");
+        return (int) length;
+    }
+
+    @Override
+    public long lengthLong() {
+        return (long) rows * columns;
+    }
+
+    @Override
+    public char ordering() {
+        return 'c';
+    }
+
+    @Override
+    public boolean isMatrix() {
+        return true;
+    }
+
+    @Override
+    public boolean isVector() {
+        return rows == 1 || columns == 1;
+    }
+
+    @Override
+    public boolean isRowVector() {
+        return rows == 1;
+    }
+
+    @Override
+    public boolean isColumnVector() {
+        return columns == 1;
+    }
+
+    @Override
+    public boolean isScalar() {
+        return rows == 1 && columns == 1;
+    }
+
+    @Override
+    public boolean isSquare() {
+        return rows == columns;
+    }
+
+    @Override
+    public boolean isView() {
+        return false;
+    }
+
+    @Override
+    public boolean isCompressed() {
+        return false;
+    }
+
+    @Override
+    public void markAsCompressed(boolean reallyCompressed) {
+        if (reallyCompressed)
+            throw unsupported();
+    }
+
+    @Override
+    public boolean isCleanedUp() {
+        return false;
+    }
+
+    @Override
+    public boolean equalsWithEps(Object o, double eps) {
+        if (this == o)
+            return true;
+
+        if (!(o instanceof INDArray))
+            return false;
+
+        INDArray other = (INDArray) o;
+        if (other.rank() != 2 || other.rows() != rows || other.columns() != columns)
+            return false;
+
+        if (other.isSparse())
+            other = ((ISparseNDArray) other).toDense();
+
+        return toDense().equalsWithEps(other, eps);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return equalsWithEps(o, Nd4j.EPS_THRESHOLD);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * rows + columns;
+    }
+
+    @Override
+    public String toString() {
+        return "Sparse " + getFormat() + " array, shape: " + Arrays.toString(shape()) + ", nnz: " + nnz;
+    }
+
+    @Override
+    public String shapeInfoToString() {
+        throw unsupported();
+    }
+
+    @Override
+    public DataBuffer shapeInfoDataBuffer() {
+        throw unsupported();
+    }
+
+    @Override
+    public IntBuffer shapeInfo() {
+        throw unsupported();
+    }
+
+    @Override
+    public void setWrapAround(boolean wrapAround) {
+        throw unsupported();
+    }
+
+    @Override
+    public boolean isWrapAround() {
+        throw unsupported();
+    }
+
+    @Override
+    public int stride(int dimension) {
+        throw unsupported();
+    }
+
+    @Override
+    public int elementStride() {
+        throw unsupported();
+    }
+
+    @Override
+    public int elementWiseStride() {
+        throw unsupported();
+    }
+
+    @Override
+    public void cleanup() {
+        throw unsupported();
+    }
+
+    @Override
+    public void resetLinearView() {
+        throw unsupported();
+    }
+
+    @Override
+    public int secondaryStride() {
+        throw unsupported();
+    }
+
+    @Override
+    public double getDoubleUnsafe(int offset) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray putScalarUnsafe(int offset, double value) {
+        throw unsupported();
+    }
+
+    @Override
+    public int majorStride() {
+        throw unsupported();
+    }
+
+    @Override
+    public int innerMostStride() {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray linearView() {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray linearViewColumnOrder() {
+        throw unsupported();
+    }
+
+    @Override
+    public int vectorsAlongDimension(int dimension) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray vectorAlongDimension(int index, int dimension) {
+        throw unsupported();
+    }
+
+    @Override
+    public int tensorssAlongDimension(int... dimension) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray tensorAlongDimension(int index, int... dimension) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray javaTensorAlongDimension(int index, int... dimension) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray cumsumi(int dimension) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray cumsum(int dimension) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray assign(INDArray arr) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray assignIf(INDArray arr, Condition condition) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray replaceWhere(INDArray arr, Condition condition) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray putScalar(int i, double value) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray putScalar(int i, float value) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray putScalar(int i, int value) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray putScalar(int[] i, double value) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray putScalar(int row, int col, double value) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray putScalar(int dim0, int dim1, int dim2, double value) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray putScalar(int dim0, int dim1, int dim2, int dim3, double value) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray lt(Number other) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray lti(Number other) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray putScalar(int[] indexes, float value) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray putScalar(int[] indexes, int value) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray eps(Number other) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray epsi(Number other) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray eq(Number other) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray eqi(Number other) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray gt(Number other) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray gte(Number other) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray lte(Number other) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray gtei(Number other) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray ltei(Number other) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray gti(Number other) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray lt(INDArray other) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray lti(INDArray other) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray eps(INDArray other) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray epsi(INDArray other) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray neq(Number other) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray neqi(Number other) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray neq(INDArray other) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray neqi(INDArray other) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray eq(INDArray other) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray eqi(INDArray other) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray gt(INDArray other) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray gti(INDArray other) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray rdiv(Number n) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray rdivi(Number n) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray rsub(Number n) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray rsubi(Number n) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray sub(Number n) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray subi(Number n) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray add(Number n) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray addi(Number n) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray rdiv(Number n, INDArray result) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray rdivi(Number n, INDArray result) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray rsub(Number n, INDArray result) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray rsubi(Number n, INDArray result) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray div(Number n, INDArray result) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray divi(Number n, INDArray result) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray mul(Number n, INDArray result) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray muli(Number n, INDArray result) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray sub(Number n, INDArray result) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray subi(Number n, INDArray result) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray add(Number n, INDArray result) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray addi(Number n, INDArray result) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray getColumns(int... columns) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray rdiv(INDArray other) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray rdivi(INDArray other) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray rdiv(INDArray other, INDArray result) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray rdivi(INDArray other, INDArray result) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray rsub(INDArray other, INDArray result) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray rsub(INDArray other) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray rsubi(INDArray other) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray rsubi(INDArray other, INDArray result) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray assign(Number value) {
+        throw unsupported();
+    }
+
+    @Override
+    public int linearIndex(int i) {
+        throw unsupported();
+    }
+
+    @Override
+    public void checkDimensions(INDArray other) {
+        throw unsupported();
+    }
+
+    @Override
+    public void sliceVectors(List<INDArray> list) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray putSlice(int slice, INDArray put) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray cond(Condition condition) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray condi(Condition condition) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray repmat(int... shape) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray repeat(int dimension, int... repeats) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray putRow(int row, INDArray toPut) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray putColumn(int column, INDArray toPut) {
+        throw unsupported();
+    }
+
+    @Override
+    public int index(int row, int column) {
+        throw unsupported();
+    }
+
+    @Override
+    public double squaredDistance(INDArray other) {
+        throw unsupported();
+    }
+
+    @Override
+    public double distance2(INDArray other) {
+        throw unsupported();
+    }
+
+    @Override
+    public double distance1(INDArray other) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray put(INDArrayIndex[] indices, INDArray element) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray put(INDArrayIndex[] indices, Number element) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray put(int[] indices, INDArray element) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray put(int i, int j, INDArray element) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray put(int i, int j, Number element) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray put(int i, INDArray element) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray diviColumnVector(INDArray columnVector) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray divColumnVector(INDArray columnVector) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray diviRowVector(INDArray rowVector) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray divRowVector(INDArray rowVector) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray rdiviColumnVector(INDArray columnVector) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray rdivColumnVector(INDArray columnVector) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray rdiviRowVector(INDArray rowVector) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray rdivRowVector(INDArray rowVector) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray muliColumnVector(INDArray columnVector) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray mulColumnVector(INDArray columnVector) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray muliRowVector(INDArray rowVector) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray mulRowVector(INDArray rowVector) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray rsubiColumnVector(INDArray columnVector) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray rsubColumnVector(INDArray columnVector) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray rsubiRowVector(INDArray rowVector) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray rsubRowVector(INDArray rowVector) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray subiColumnVector(INDArray columnVector) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray subColumnVector(INDArray columnVector) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray subiRowVector(INDArray rowVector) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray subRowVector(INDArray rowVector) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray addiColumnVector(INDArray columnVector) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray addColumnVector(INDArray columnVector) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray addiRowVector(INDArray rowVector) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray addRowVector(INDArray rowVector) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray div(INDArray other) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray div(INDArray other, INDArray result) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray mul(INDArray other) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray mul(INDArray other, INDArray result) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray sub(INDArray other) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray sub(INDArray other, INDArray result) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray mmuli(INDArray other) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray mmuli(INDArray other, INDArray result) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray divi(INDArray other) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray divi(INDArray other, INDArray result) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray muli(INDArray other) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray muli(INDArray other, INDArray result) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray subi(INDArray other) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray subi(INDArray other, INDArray result) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray addi(INDArray other) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray addi(INDArray other, INDArray result) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray normmax(int... dimension) {
+        throw unsupported();
+    }
+
+    @Override
+    public Number normmaxNumber() {
+        throw unsupported();
+    }
+
+    @Override
+    public IComplexNumber normmaxComplex() {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray norm2(int... dimension) {
+        throw unsupported();
+    }
+
+    @Override
+    public Number norm2Number() {
+        throw unsupported();
+    }
+
+    @Override
+    public IComplexNumber norm2Complex() {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray norm1(int... dimension) {
+        throw unsupported();
+    }
+
+    @Override
+    public Number norm1Number() {
+        throw unsupported();
+    }
+
+    @Override
+    public IComplexNumber norm1Complex() {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray std(int... dimension) {
+        throw unsupported();
+    }
+
+    @Override
+    public Number stdNumber() {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray std(boolean biasCorrected, int... dimension) {
+        throw unsupported();
+    }
+
+    @Override
+    public Number stdNumber(boolean biasCorrected) {
+        throw unsupported();
+    }
+
+    @Override
+    public IComplexNumber stdComplex() {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray prod(int... dimension) {
+        throw unsupported();
+    }
+
+    @Override
+    public Number prodNumber() {
+        throw unsupported();
+    }
+
+    @Override
+    public IComplexNumber prodComplex() {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray mean(int... dimension) {
+        throw unsupported();
+    }
+
+    @Override
+    public Number meanNumber() {
+        throw unsupported();
+    }
+
+    @Override
+    public IComplexNumber meanComplex() {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray var(int... dimension) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray var(boolean biasCorrected, int... dimension) {
+        throw unsupported();
+    }
+
+    @Override
+    public Number varNumber() {
+        throw unsupported();
+    }
+
+    @Override
+    public IComplexNumber varComplex() {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray max(int... dimension) {
+        throw unsupported();
+    }
+
+    @Override
+    public Number maxNumber() {
+        throw unsupported();
+    }
+
+    @Override
+    public IComplexNumber maxComplex() {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray min(int... dimension) {
+        throw unsupported();
+    }
+
+    @Override
+    public Number minNumber() {
+        throw unsupported();
+    }
+
+    @Override
+    public IComplexNumber minComplex() {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray sum(int... dimension) {
+        throw unsupported();
+    }
+
+    @Override
+    public Number sumNumber() {
+        throw unsupported();
+    }
+
+    @Override
+    public IComplexNumber sumComplex() {
+        throw unsupported();
+    }
+
+    @Override
+    public void setStride(int... stride) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setShape(int... shape) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setOrder(char order) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray subArray(ShapeOffsetResolution resolution) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray subArray(int[] offsets, int[] shape, int[] stride) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray ravel() {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray ravel(char order) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setData(DataBuffer data) {
+        throw unsupported();
+    }
+
+    @Override
+    public int slices() {
+        throw unsupported();
+    }
+
+    @Override
+    public int getTrailingOnes() {
+        throw unsupported();
+    }
+
+    @Override
+    public int getLeadingOnes() {
+        throw unsupported();
+    }
+
+    @Override
+    public int offset() {
+        throw unsupported();
+    }
+
+    @Override
+    public int originalOffset() {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray reshape(char order, int... newShape) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray reshape(char order, int rows, int columns) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray reshape(int... newShape) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray reshape(int rows, int columns) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray transposei() {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray swapAxes(int dimension, int with) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray permute(int... rearrange) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray permutei(int... rearrange) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray dimShuffle(Object[] rearrange, int[] newOrder, boolean[] broadCastable) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray getColumn(int i) {
+        throw unsupported();
+    }
+
+    @Override
+    public int[] stride() {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray broadcast(int... shape) {
+        throw unsupported();
+    }
+
+    @Override
+    public Object element() {
+        throw unsupported();
+    }
+
+    @Override
+    public DataBuffer data() {
+        throw unsupported();
+    }
+
+    @Override
+    public IComplexNDArray rdiv(IComplexNumber n) {
+        throw unsupported();
+    }
+
+    @Override
+    public IComplexNDArray rdivi(IComplexNumber n) {
+        throw unsupported();
+    }
+
+    @Override
+    public IComplexNDArray rsub(IComplexNumber n) {
+        throw unsupported();
+    }
+
+    @Override
+    public IComplexNDArray rsubi(IComplexNumber n) {
+        throw unsupported();
+    }
+
+    @Override
+    public IComplexNDArray div(IComplexNumber n) {
+        throw unsupported();
+    }
+
+    @Override
+    public IComplexNDArray divi(IComplexNumber n) {
+        throw unsupported();
+    }
+
+    @Override
+    public IComplexNDArray mul(IComplexNumber n) {
+        throw unsupported();
+    }
+
+    @Override
+    public IComplexNDArray muli(IComplexNumber n) {
+        throw unsupported();
+    }
+
+    @Override
+    public IComplexNDArray sub(IComplexNumber n) {
+        throw unsupported();
+    }
+
+    @Override
+    public IComplexNDArray subi(IComplexNumber n) {
+        throw unsupported();
+    }
+
+    @Override
+    public IComplexNDArray add(IComplexNumber n) {
+        throw unsupported();
+    }
+
+    @Override
+    public IComplexNDArray addi(IComplexNumber n) {
+        throw unsupported();
+    }
+
+    @Override
+    public IComplexNDArray rdiv(IComplexNumber n, IComplexNDArray result) {
+        throw unsupported();
+    }
+
+    @Override
+    public IComplexNDArray rdivi(IComplexNumber n, IComplexNDArray result) {
+        throw unsupported();
+    }
+
+    @Override
+    public IComplexNDArray rsub(IComplexNumber n, IComplexNDArray result) {
+        throw unsupported();
+    }
+
+    @Override
+    public IComplexNDArray rsubi(IComplexNumber n, IComplexNDArray result) {
+        throw unsupported();
+    }
+
+    @Override
+    public IComplexNDArray div(IComplexNumber n, IComplexNDArray result) {
+        throw unsupported();
+    }
+
+    @Override
+    public IComplexNDArray divi(IComplexNumber n, IComplexNDArray result) {
+        throw unsupported();
+    }
+
+    @Override
+    public IComplexNDArray mul(IComplexNumber n, IComplexNDArray result) {
+        throw unsupported();
+    }
+
+    @Override
+    public IComplexNDArray muli(IComplexNumber n, IComplexNDArray result) {
+        throw unsupported();
+    }
+
+    @Override
+    public IComplexNDArray sub(IComplexNumber n, IComplexNDArray result) {
+        throw unsupported();
+    }
+
+    @Override
+    public IComplexNDArray subi(IComplexNumber n, IComplexNDArray result) {
+        throw unsupported();
+    }
+
+    @Override
+    public IComplexNDArray add(IComplexNumber n, IComplexNDArray result) {
+        throw unsupported();
+    }
+
+    @Override
+    public IComplexNDArray addi(IComplexNumber n, IComplexNDArray result) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray unsafeDuplication() {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray remainder(INDArray denominator) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray remainder(INDArray denominator, INDArray result) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray remainder(Number denominator) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray remainder(Number denominator, INDArray result) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray remainderi(INDArray denominator) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray remainderi(Number denominator) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray fmod(INDArray denominator) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray fmod(INDArray denominator, INDArray result) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray fmod(Number denominator) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray fmod(Number denominator, INDArray result) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray fmodi(INDArray denominator) {
+        throw unsupported();
+    }
+
+    @Override
+    public INDArray fmodi(Number denominator) {
+        throw unsupported();
+    }
+
+    protected UnsupportedOperationException unsupported() {
+        return new UnsupportedOperationException("Operation isn't supported for sparse arrays, use toDense() instead");
+    }
+
+    /**
+     * Rows copied into heap arrays, in CSR layout
+     */
+    protected static class Rows {
+        protected final double[] values;
+        protected final int[] columns;
+        protected final int[] pointers;
+
+        protected Rows(int nnz, int rows) {
+            this.values = new double[nnz];
+            this.columns = new int[nnz];
+            this.pointers = new int[rows + 1];
+        }
+    }
+}
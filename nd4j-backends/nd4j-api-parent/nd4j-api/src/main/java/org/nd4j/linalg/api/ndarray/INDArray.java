@@ -75,6 +75,12 @@ public interface INDArray extends Serializable {
      */
     void markAsCompressed(boolean reallyCompressed);
 
+    /**
+     * Returns true if this array is sparse, see {@link ISparseNDArray}
+     * @return
+     */
+    boolean isSparse();
+
     /**
      * Set the ndarray to wrap around
      * @param wrapAround thewrap around
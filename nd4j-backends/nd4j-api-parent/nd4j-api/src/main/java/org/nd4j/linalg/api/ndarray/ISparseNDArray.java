@@ -0,0 +1,64 @@
+package org.nd4j.linalg.api.ndarray;
+
+import org.nd4j.linalg.api.buffer.DataBuffer;
+
+/**
+ * Sparse 2d array: only nonzero elements are stored.
+ *
+ * Elements are always kept in row-major order, so slicing by rows
+ * and multiplication by dense matrices don't depend on storage format.
+ */
+public interface ISparseNDArray extends INDArray {
+
+    /**
+     * This method returns storage format of this array
+     *
+     * @return
+     */
+    SparseFormat getFormat();
+
+    /**
+     * This method returns number of stored (nonzero) elements
+     *
+     * @return
+     */
+    int nnz();
+
+    /**
+     * This method returns buffer holding values of stored elements, in row-major order.
+     * PLEASE NOTE: buffer might be larger than nnz()
+     *
+     * @return
+     */
+    DataBuffer getValues();
+
+    /**
+     * This method returns dense copy of this array
+     *
+     * @return
+     */
+    INDArray toDense();
+
+    /**
+     * This method returns this array in CSR format. If it's already in CSR format, it's returned as is
+     *
+     * @return
+     */
+    ISparseNDArray toCSR();
+
+    /**
+     * This method returns this array in COO format. If it's already in COO format, it's returned as is
+     *
+     * @return
+     */
+    ISparseNDArray toCOO();
+
+    /**
+     * This method adds this array to the given dense array of the same shape, in place.
+     * Only stored elements are touched, so cost is proportional to nnz()
+     *
+     * @param target dense array to add to
+     * @return target
+     */
+    INDArray addTo(INDArray target);
+}
@@ -0,0 +1,16 @@
+package org.nd4j.linalg.api.ndarray;
+
+/**
+ * Storage layouts available for sparse arrays
+ */
+public enum SparseFormat {
+    /**
+     * Compressed sparse rows: values and column indices of nonzero elements, plus offset of each row within them
+     */
+    CSR,
+
+    /**
+     * Coordinate list: values of nonzero elements, along with row and column index of each one
+     */
+    COO
+}
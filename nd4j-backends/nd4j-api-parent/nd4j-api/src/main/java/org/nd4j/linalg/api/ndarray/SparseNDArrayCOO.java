@@ -0,0 +1,171 @@
+package org.nd4j.linalg.api.ndarray;
+
+import org.nd4j.linalg.api.buffer.DataBuffer;
+import org.nd4j.linalg.factory.Nd4j;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Sparse 2d array in COO (coordinate list) format.
+ *
+ * Storage consists of 3 buffers of nnz elements each: values, row indices and column indices.
+ * Elements are kept sorted in row-major order, so row boundaries are found with binary search.
+ * Elements passed in arbitrary order are sorted upon creation, and duplicate coordinates are summed up.
+ */
+public class SparseNDArrayCOO extends BaseSparseNDArray {
+
+    protected DataBuffer rowIndices;
+    protected DataBuffer columnIndices;
+
+    /**
+     * @param values values of nonzero elements
+     * @param rowIndices row index of each value
+     * @param columnIndices column index of each value
+     * @param shape [rows, columns]
+     */
+    public SparseNDArrayCOO(DataBuffer values, DataBuffer rowIndices, DataBuffer columnIndices, int[] shape) {
+        super(shape);
+
+        if (rowIndices.length() >= Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Number of nonzero elements is >= Integer.MAX_VALUE");
+
+        int nnz = (int) rowIndices.length();
+        if (values.length() < nnz || columnIndices.length() < nnz)
+            throw new IllegalArgumentException("Values and column indices buffers must hold [" + nnz
+                            + "] elements, got [" + values.length() + "] and [" + columnIndices.length() + "]");
+
+        boolean ordered = true;
+        long previous = -1;
+        for (int k = 0; k < nnz; k++) {
+            int r = rowIndices.getInt(k);
+            int c = columnIndices.getInt(k);
+            if (r < 0 || r >= rows || c < 0 || c >= columns)
+                throw new IllegalArgumentException("Element [" + r + ", " + c + "] is out of bounds for shape "
+                                + Arrays.toString(shape));
+
+            long key = (long) r * columns + c;
+            if (key <= previous)
+                ordered = false;
+            previous = key;
+        }
+
+        if (ordered) {
+            this.values = values;
+            this.rowIndices = rowIndices;
+            this.columnIndices = columnIndices;
+            this.nnz = nnz;
+        } else {
+            sortAndMerge(values, rowIndices, columnIndices, nnz);
+        }
+    }
+
+    /**
+     * Sorts given elements in row-major order, summing up elements with the same coordinates
+     */
+    private void sortAndMerge(final DataBuffer values, final DataBuffer rowIndices, final DataBuffer columnIndices,
+                    int length) {
+        Integer[] order = new Integer[length];
+        for (int k = 0; k < length; k++)
+            order[k] = k;
+
+        Arrays.sort(order, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer a, Integer b) {
+                int r = Integer.compare(rowIndices.getInt(a), rowIndices.getInt(b));
+                return r != 0 ? r : Integer.compare(columnIndices.getInt(a), columnIndices.getInt(b));
+            }
+        });
+
+        double[] sortedValues = new double[length];
+        int[] sortedRows = new int[length];
+        int[] sortedColumns = new int[length];
+        int count = 0;
+        for (int k = 0; k < length; k++) {
+            int i = order[k];
+            int r = rowIndices.getInt(i);
+            int c = columnIndices.getInt(i);
+            if (count > 0 && sortedRows[count - 1] == r && sortedColumns[count - 1] == c) {
+                sortedValues[count - 1] += values.getDouble(i);
+            } else {
+                sortedValues[count] = values.getDouble(i);
+                sortedRows[count] = r;
+                sortedColumns[count] = c;
+                count++;
+            }
+        }
+
+        this.values = Nd4j.createBuffer(Arrays.copyOf(sortedValues, count));
+        this.rowIndices = Nd4j.createBuffer(Arrays.copyOf(sortedRows, count));
+        this.columnIndices = Nd4j.createBuffer(Arrays.copyOf(sortedColumns, count));
+        this.nnz = count;
+    }
+
+    protected static SparseNDArrayCOO fromRows(Rows rows, int[] shape) {
+        int[] rowIndices = new int[rows.values.length];
+        for (int r = 0; r < rows.pointers.length - 1; r++)
+            Arrays.fill(rowIndices, rows.pointers[r], rows.pointers[r + 1], r);
+
+        return new SparseNDArrayCOO(Nd4j.createBuffer(rows.values), Nd4j.createBuffer(rowIndices),
+                        Nd4j.createBuffer(rows.columns), shape);
+    }
+
+    @Override
+    protected BaseSparseNDArray createFromRows(Rows rows, int[] shape) {
+        return fromRows(rows, shape);
+    }
+
+    /**
+     * Index of the first element with row index >= given one
+     */
+    private int lowerBound(int row) {
+        int low = 0;
+        int high = nnz;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (rowIndices.getInt(middle) < row)
+                low = middle + 1;
+            else
+                high = middle;
+        }
+        return low;
+    }
+
+    @Override
+    protected int rowBegin(int row) {
+        return lowerBound(row);
+    }
+
+    @Override
+    protected int rowEnd(int row) {
+        return lowerBound(row + 1);
+    }
+
+    @Override
+    protected int columnOf(int k) {
+        return columnIndices.getInt(k);
+    }
+
+    public DataBuffer getRowIndices() {
+        return rowIndices;
+    }
+
+    public DataBuffer getColumnIndices() {
+        return columnIndices;
+    }
+
+    @Override
+    public SparseFormat getFormat() {
+        return SparseFormat.COO;
+    }
+
+    @Override
+    public ISparseNDArray toCSR() {
+        return SparseNDArrayCSR.fromRows(copyRows(), shape());
+    }
+
+    @Override
+    public ISparseNDArray toCOO() {
+        return this;
+    }
+}
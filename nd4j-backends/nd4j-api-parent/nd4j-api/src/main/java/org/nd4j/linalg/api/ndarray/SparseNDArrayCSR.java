@@ -0,0 +1,109 @@
+package org.nd4j.linalg.api.ndarray;
+
+import org.nd4j.linalg.api.buffer.DataBuffer;
+import org.nd4j.linalg.factory.Nd4j;
+
+/**
+ * Sparse 2d array in CSR (compressed sparse rows) format.
+ *
+ * Storage consists of 3 buffers:
+ * values - values of nonzero elements, row by row
+ * columnIndices - column index of each value, ascending within each row
+ * rowPointers - rows + 1 offsets: row i occupies [rowPointers[i], rowPointers[i + 1]) range of two buffers above
+ */
+public class SparseNDArrayCSR extends BaseSparseNDArray {
+
+    protected DataBuffer columnIndices;
+    protected DataBuffer rowPointers;
+
+    /**
+     * @param values values of nonzero elements, row by row
+     * @param columnIndices column index of each value, ascending within each row
+     * @param rowPointers offset of each row within values, followed by total number of values
+     * @param shape [rows, columns]
+     */
+    public SparseNDArrayCSR(DataBuffer values, DataBuffer columnIndices, DataBuffer rowPointers, int[] shape) {
+        super(shape);
+
+        if (rowPointers.length() < rows + 1)
+            throw new IllegalArgumentException("Row pointers buffer must hold [" + (rows + 1) + "] elements, got ["
+                            + rowPointers.length() + "]");
+
+        if (rowPointers.getInt(0) != 0)
+            throw new IllegalArgumentException("First row pointer must be 0");
+
+        this.values = values;
+        this.columnIndices = columnIndices;
+        this.rowPointers = rowPointers;
+        this.nnz = rowPointers.getInt(rows);
+
+        if (values.length() < nnz || columnIndices.length() < nnz)
+            throw new IllegalArgumentException("Values and column indices buffers must hold [" + nnz
+                            + "] elements, got [" + values.length() + "] and [" + columnIndices.length() + "]");
+
+        for (int r = 0; r < rows; r++) {
+            int begin = rowPointers.getInt(r);
+            int end = rowPointers.getInt(r + 1);
+            if (end < begin)
+                throw new IllegalArgumentException("Row pointers must be non-decreasing, got [" + begin + ", " + end
+                                + "] for row [" + r + "]");
+
+            int previous = -1;
+            for (int k = begin; k < end; k++) {
+                int c = columnIndices.getInt(k);
+                if (c <= previous || c >= columns)
+                    throw new IllegalArgumentException("Column indices must be ascending within each row and less than"
+                                    + " [" + columns + "], got [" + c + "] in row [" + r + "]");
+                previous = c;
+            }
+        }
+    }
+
+    protected static SparseNDArrayCSR fromRows(Rows rows, int[] shape) {
+        return new SparseNDArrayCSR(Nd4j.createBuffer(rows.values), Nd4j.createBuffer(rows.columns),
+                        Nd4j.createBuffer(rows.pointers), shape);
+    }
+
+    @Override
+    protected BaseSparseNDArray createFromRows(Rows rows, int[] shape) {
+        return fromRows(rows, shape);
+    }
+
+    @Override
+    protected int rowBegin(int row) {
+        return rowPointers.getInt(row);
+    }
+
+    @Override
+    protected int rowEnd(int row) {
+        return rowPointers.getInt(row + 1);
+    }
+
+    @Override
+    protected int columnOf(int k) {
+        return columnIndices.getInt(k);
+    }
+
+    public DataBuffer getColumnIndices() {
+        return columnIndices;
+    }
+
+    public DataBuffer getRowPointers() {
+        return rowPointers;
+    }
+
+    @Override
+    public SparseFormat getFormat() {
+        return SparseFormat.CSR;
+    }
+
+    @Override
+    public ISparseNDArray toCSR() {
+        return this;
+    }
+
+    @Override
+    public ISparseNDArray toCOO() {
+        return SparseNDArrayCOO.fromRows(copyRows(), shape());
+    }
+}
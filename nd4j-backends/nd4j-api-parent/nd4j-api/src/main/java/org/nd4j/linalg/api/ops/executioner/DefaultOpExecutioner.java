@@ -20,10 +20,12 @@
 package org.nd4j.linalg.api.ops.executioner;
 
 import lombok.extern.slf4j.Slf4j;
+import org.nd4j.linalg.api.buffer.BaseDataBuffer;
 import org.nd4j.linalg.api.buffer.DataBuffer;
 import org.nd4j.linalg.api.complex.IComplexNDArray;
 import org.nd4j.linalg.api.complex.IComplexNumber;
 import org.nd4j.linalg.api.environment.Nd4jEnvironment;
+import org.nd4j.linalg.api.iter.NdIndexIterator;
 import org.nd4j.linalg.api.ndarray.INDArray;
 import org.nd4j.linalg.api.ops.*;
 import org.nd4j.linalg.api.ops.aggregates.Aggregate;
@@ -34,6 +36,7 @@ import org.nd4j.linalg.cache.TADManager;
 import org.nd4j.linalg.exception.ND4JIllegalStateException;
 import org.nd4j.linalg.factory.Nd4j;
 import org.nd4j.linalg.profiler.OpProfiler;
+import org.nd4j.linalg.profiler.metrics.OpMetrics;
 import org.nd4j.linalg.util.ArrayUtil;
 import java.util.List;
 import java.util.Properties;
@@ -65,6 +68,8 @@ public class DefaultOpExecutioner implements OpExecutioner {
 
         if (op.z() != null && op.z().isCompressed())
             Nd4j.getCompressor().decompressi(op.z());
+
+        validateWritable(op);
     }
 
     /**
@@ -95,6 +100,14 @@ public class DefaultOpExecutioner implements OpExecutioner {
             return op;
         }
 
+        if (executionMode == ExecutionMode.JAVA) {
+            checkForCompression(op);
+            if (StridedKernelRunner.canExecute(op)) {
+                StridedKernelRunner.exec(op);
+                return op;
+            }
+        }
+
         throw new IllegalStateException("Java computation no longer supported");
     }
 
@@ -262,7 +275,7 @@ public class DefaultOpExecutioner implements OpExecutioner {
         }
         if (op instanceof ScalarOp) {
             //Scalar op along dimension should be same as on the entire NDArray
-            throw new IllegalStateException("Java computation no longer supported");
+            return exec(op);
         }
         if (op instanceof TransformOp) {
             throw new UnsupportedOperationException(
@@ -426,7 +439,7 @@ public class DefaultOpExecutioner implements OpExecutioner {
                 break;
             case DISABLED:
             default:
-                return 0L;
+                return OpMetrics.getInstance().start();
         }
 
         return System.nanoTime();
@@ -444,13 +457,15 @@ public class DefaultOpExecutioner implements OpExecutioner {
                 break;
             case DISABLED:
             default:
-                return 0L;
+                return OpMetrics.getInstance().start();
         }
 
         return System.nanoTime();
     }
 
     public void profilingHookOut(Op op, long timeStart) {
+        OpMetrics.getInstance().record(op, timeStart);
+
         switch (profilingMode) {
             case ALL:
                 OpProfiler.getInstance().processStackCall(op, timeStart);
@@ -479,7 +494,56 @@ public class DefaultOpExecutioner implements OpExecutioner {
     }
 
 
+    /**
+     * This method checks that op result doesn't point to read-only memory, i.e. read-only file mapping:
+     * native code writing there would crash the JVM instead of throwing
+     *
+     * @param op
+     */
+    public static void validateWritable(Op op) {
+        // reductions keep z pointing to x until their result array is allocated
+        if (op.z() == null || op instanceof Accumulation || op instanceof IndexAccumulation)
+            return;
+
+        if (isReadOnly(op.z().data()))
+            throw new ND4JIllegalStateException("op.Z of [" + op.name() + "] is read-only, can't write results there");
+    }
+
+    /**
+     * This method checks that arrays written by BLAS calls or other native routines don't point to read-only memory
+     *
+     * @param arrays
+     */
+    public static void validateWritable(INDArray... arrays) {
+        for (INDArray array : arrays) {
+            if (array != null && isReadOnly(array.data()))
+                throw new ND4JIllegalStateException("Target array is read-only, can't write results there");
+        }
+    }
+
+    /**
+     * This method checks that buffer written by native code doesn't point to read-only memory
+     *
+     * @param buffer
+     */
+    public static void validateWritable(DataBuffer buffer) {
+        if (isReadOnly(buffer))
+            throw new ND4JIllegalStateException("Target buffer is read-only, can't write there");
+    }
+
+    private static boolean isReadOnly(DataBuffer buffer) {
+        // views inherit the flag, but buffers created by other backends might not
+        DataBuffer original = buffer.originalDataBuffer();
+        return isReadOnlyBuffer(buffer) || (original != null && isReadOnlyBuffer(original));
+    }
+
+    private static boolean isReadOnlyBuffer(DataBuffer buffer) {
+        return buffer instanceof BaseDataBuffer && ((BaseDataBuffer) buffer).isReadOnly();
+    }
+
     public static void validateDataType(DataBuffer.Type expectedType, Op op) {
+        validateWritable(op);
+
         if (op.x() != null && op.x().data().dataType() != expectedType)
             throw new ND4JIllegalStateException("op.X dataType is [" + op.x().data().dataType()
                             + "] instead of expected [" + expectedType + "]");
@@ -530,6 +594,7 @@ public class DefaultOpExecutioner implements OpExecutioner {
         environment.put(Nd4jEnvironment.CPU_CORES_KEY, Runtime.getRuntime().availableProcessors());
         environment.put(Nd4jEnvironment.HOST_TOTAL_MEMORY_KEY, Runtime.getRuntime().maxMemory());
         environment.put(Nd4jEnvironment.OS_KEY, System.getProperty("os.name"));
+        NdIndexIterator.getLookupCache().exportStatistics(environment);
         return environment;
     }
 
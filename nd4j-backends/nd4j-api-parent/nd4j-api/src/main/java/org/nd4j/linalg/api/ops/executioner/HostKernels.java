@@ -0,0 +1,288 @@
+package org.nd4j.linalg.api.ops.executioner;
+
+import org.bytedeco.javacpp.BytePointer;
+import org.nd4j.linalg.api.buffer.DataBuffer;
+import org.nd4j.linalg.api.concurrency.AffinityManager;
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.executors.ExecutorServiceProvider;
+import org.nd4j.linalg.factory.Nd4j;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Building blocks for kernels running on JVM side, directly over host memory of FLOAT/DOUBLE arrays:
+ * strided operands, layout checks, and splitting of work into chunks.
+ *
+ * Chunks run on the shared {@link ExecutorServiceProvider#getExecutorService()} pool, and the calling thread
+ * takes part in processing: it runs every chunk the pool hasn't picked up yet, so kernels never wait
+ * for pool threads which are busy with something else.
+ */
+public final class HostKernels {
+
+    private HostKernels() {}
+
+    /**
+     * Strided view of array memory, addressed by linear index
+     */
+    public abstract static class Operand {
+        public abstract double get(int i);
+
+        public abstract void put(int i, double value);
+
+        /**
+         * Copies length elements starting at from into block, scratch is used for FLOAT conversion
+         */
+        public abstract void read(int from, double[] block, float[] scratch, int length);
+
+        /**
+         * Copies length elements of block into memory starting at from, scratch is used for FLOAT conversion
+         */
+        public abstract void write(int from, double[] block, float[] scratch, int length);
+    }
+
+    private static class FloatOperand extends Operand {
+        private final FloatBuffer buffer;
+        private final int stride;
+
+        private FloatOperand(FloatBuffer buffer, int stride) {
+            this.buffer = buffer;
+            this.stride = stride;
+        }
+
+        @Override
+        public double get(int i) {
+            return buffer.get(i * stride);
+        }
+
+        @Override
+        public void put(int i, double value) {
+            buffer.put(i * stride, (float) value);
+        }
+
+        @Override
+        public void read(int from, double[] block, float[] scratch, int length) {
+            if (stride == 1) {
+                FloatBuffer view = buffer.duplicate();
+                view.position(from);
+                view.get(scratch, 0, length);
+                for (int i = 0; i < length; i++)
+                    block[i] = scratch[i];
+            } else {
+                for (int i = 0; i < length; i++)
+                    block[i] = buffer.get((from + i) * stride);
+            }
+        }
+
+        @Override
+        public void write(int from, double[] block, float[] scratch, int length) {
+            if (stride == 1) {
+                for (int i = 0; i < length; i++)
+                    scratch[i] = (float) block[i];
+                FloatBuffer view = buffer.duplicate();
+                view.position(from);
+                view.put(scratch, 0, length);
+            } else {
+                for (int i = 0; i < length; i++)
+                    buffer.put((from + i) * stride, (float) block[i]);
+            }
+        }
+    }
+
+    private static class DoubleOperand extends Operand {
+        private final DoubleBuffer buffer;
+        private final int stride;
+
+        private DoubleOperand(DoubleBuffer buffer, int stride) {
+            this.buffer = buffer;
+            this.stride = stride;
+        }
+
+        @Override
+        public double get(int i) {
+            return buffer.get(i * stride);
+        }
+
+        @Override
+        public void put(int i, double value) {
+            buffer.put(i * stride, value);
+        }
+
+        @Override
+        public void read(int from, double[] block, float[] scratch, int length) {
+            if (stride == 1) {
+                DoubleBuffer view = buffer.duplicate();
+                view.position(from);
+                view.get(block, 0, length);
+            } else {
+                for (int i = 0; i < length; i++)
+                    block[i] = buffer.get((from + i) * stride);
+            }
+        }
+
+        @Override
+        public void write(int from, double[] block, float[] scratch, int length) {
+            if (stride == 1) {
+                DoubleBuffer view = buffer.duplicate();
+                view.position(from);
+                view.put(block, 0, length);
+            } else {
+                for (int i = 0; i < length; i++)
+                    buffer.put((from + i) * stride, block[i]);
+            }
+        }
+    }
+
+    /**
+     * Part of the work covering linear indices [from, to), returns per-chunk result (i.e. partial reduction)
+     */
+    public abstract static class Chunk {
+        public abstract double run(int from, int to);
+    }
+
+    /**
+     * This method checks, if array can be traversed with the same linear index as reference array.
+     * Null arrays are considered compatible
+     *
+     * @param reference the array defining traversal order
+     * @param array the array to check
+     * @return
+     */
+    public static boolean isCompatible(INDArray reference, INDArray array) {
+        if (array == null)
+            return true;
+
+        DataBuffer data = array.data();
+        DataBuffer.Type type = data.dataType();
+        if (type != DataBuffer.Type.FLOAT && type != DataBuffer.Type.DOUBLE)
+            return false;
+
+        if (array.isCompressed() || type != reference.data().dataType() || array.length() != reference.length())
+            return false;
+
+        int stride = array.elementWiseStride();
+        if (stride < 1 || (array.length() - 1) * (long) stride >= Integer.MAX_VALUE)
+            return false;
+
+        if (data.addressPointer() == null)
+            return false;
+
+        if (array.isVector() && reference.isVector())
+            return true;
+
+        return array.ordering() == reference.ordering() && Arrays.equals(array.shape(), reference.shape());
+    }
+
+    /**
+     * This method returns operand over host memory of the given array, or null for null array.
+     * Array should be checked with {@link #isCompatible(INDArray, INDArray)} first
+     *
+     * @param array the array
+     * @return
+     */
+    public static Operand operand(INDArray array) {
+        if (array == null)
+            return null;
+
+        DataBuffer data = array.data();
+        Nd4j.getAffinityManager().ensureLocation(data, AffinityManager.Location.HOST);
+
+        int stride = array.elementWiseStride();
+        long bytes = ((array.length() - 1) * (long) stride + 1) * data.getElementSize();
+
+        BytePointer pointer = new BytePointer(data.addressPointer());
+        pointer.position(0).limit(bytes).capacity(bytes);
+        ByteBuffer buffer = pointer.asByteBuffer().order(ByteOrder.nativeOrder());
+
+        if (data.dataType() == DataBuffer.Type.DOUBLE)
+            return new DoubleOperand(buffer.asDoubleBuffer(), stride);
+        else
+            return new FloatOperand(buffer.asFloatBuffer(), stride);
+    }
+
+    /**
+     * This method splits [0, length) into chunks of at least threshold elements, up to
+     * {@link ExecutorServiceProvider#getNumThreads()} of them, and runs them in parallel
+     *
+     * @param length total number of elements
+     * @param threshold minimal number of elements per chunk
+     * @param chunk the work to do
+     * @return per-chunk results, in chunk order
+     */
+    public static double[] forEachChunk(final int length, int threshold, final Chunk chunk) {
+        int numChunks = Math.min(ExecutorServiceProvider.getNumThreads(), length / threshold);
+        if (numChunks < 2)
+            return new double[] {chunk.run(0, length)};
+
+        final int chunkSize = (length + numChunks - 1) / numChunks;
+        final double[] result = new double[numChunks];
+        final AtomicBoolean[] claimed = new AtomicBoolean[numChunks];
+        for (int c = 0; c < numChunks; c++)
+            claimed[c] = new AtomicBoolean(c == 0);
+
+        ExecutorService executor = ExecutorServiceProvider.getExecutorService();
+        List<Future<?>> futures = new ArrayList<>(numChunks - 1);
+        for (int c = 1; c < numChunks; c++) {
+            final int index = c;
+            futures.add(executor.submit(new Runnable() {
+                @Override
+                public void run() {
+                    if (claimed[index].compareAndSet(false, true))
+                        result[index] = runChunk(chunk, index, chunkSize, length);
+                }
+            }));
+        }
+
+        RuntimeException failure = null;
+        try {
+            result[0] = runChunk(chunk, 0, chunkSize, length);
+            for (int c = 1; c < numChunks; c++)
+                if (claimed[c].compareAndSet(false, true))
+                    result[c] = runChunk(chunk, c, chunkSize, length);
+        } catch (RuntimeException e) {
+            failure = e;
+            // chunks which weren't started yet are skipped
+            for (int c = 1; c < numChunks; c++)
+                claimed[c].set(true);
+        }
+
+        // chunks taken by the pool have to be done before memory is released to the caller
+        boolean interrupted = false;
+        for (Future<?> future : futures) {
+            while (true) {
+                try {
+                    future.get();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    if (failure == null)
+                        failure = e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause()
+                                        : new RuntimeException(e.getCause());
+                    break;
+                }
+            }
+        }
+
+        if (interrupted)
+            Thread.currentThread().interrupt();
+        if (failure != null)
+            throw failure;
+
+        return result;
+    }
+
+    private static double runChunk(Chunk chunk, int index, int chunkSize, int length) {
+        int from = index * chunkSize;
+        return chunk.run(from, Math.min(length, from + chunkSize));
+    }
+}
@@ -0,0 +1,128 @@
+package org.nd4j.linalg.api.ops.executioner;
+
+import org.nd4j.bytebuddy.loop.KernelSignature;
+import org.nd4j.bytebuddy.loop.StridedKernel;
+import org.nd4j.bytebuddy.loop.StridedKernelGenerator;
+import org.nd4j.linalg.api.buffer.DataBuffer;
+import org.nd4j.linalg.api.complex.IComplexNDArray;
+import org.nd4j.linalg.api.concurrency.AffinityManager;
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.api.ops.Op;
+import org.nd4j.linalg.api.ops.ScalarOp;
+import org.nd4j.linalg.api.ops.TransformOp;
+import org.nd4j.linalg.factory.Nd4j;
+
+import java.lang.reflect.Modifier;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * Executes elementwise ops in {@link OpExecutioner.ExecutionMode#JAVA} via generated strided loop kernels:
+ * the op's own double op(double) or double op(double, double) method is applied to every element,
+ * walking x, y and z with their own offsets and strides.
+ *
+ * Kernels are specialised per op class, arity, data type, rank and ordering (see {@link StridedKernelGenerator}).
+ * When all operands have an elementwise stride and the same ordering, the loop nest collapses
+ * to a single rank 1 loop with elementwise strides.
+ *
+ * Only TransformOp (unary or pairwise) and ScalarOp on dense DOUBLE/FLOAT arrays of equal shapes are supported,
+ * ops with special execution (softmax, im2col and such) are not.
+ */
+public class StridedKernelRunner {
+
+    private StridedKernelRunner() {}
+
+    /**
+     * Returns true if given op can be executed by {@link #exec(Op)}
+     * @param op the op to check
+     * @return
+     */
+    public static boolean canExecute(Op op) {
+        if (!(op instanceof TransformOp) && !(op instanceof ScalarOp))
+            return false;
+
+        if (op.isExecSpecial() || op.x() == null || op.z() == null
+                        || !Modifier.isPublic(op.getClass().getModifiers()))
+            return false;
+
+        if (op instanceof ScalarOp && op.y() != null)
+            return false;
+
+        DataBuffer.Type type = op.x().data().dataType();
+        if (type != DataBuffer.Type.DOUBLE && type != DataBuffer.Type.FLOAT)
+            return false;
+
+        return isSupported(op.x(), op.x(), type) && isSupported(op.z(), op.x(), type)
+                        && (op.y() == null || isSupported(op.y(), op.x(), type));
+    }
+
+    private static boolean isSupported(INDArray array, INDArray x, DataBuffer.Type type) {
+        if (array instanceof IComplexNDArray || array.isSparse() || array.isCompressed())
+            return false;
+
+        // kernels address nio buffers over the whole underlying memory, so positions have to fit into int
+        DataBuffer data = array.data();
+        return data.dataType() == type && data.underlyingLength() < Integer.MAX_VALUE / data.getElementSize()
+                        && Arrays.equals(array.shape(), x.shape());
+    }
+
+    /**
+     * Execute given op. Caller is expected to check {@link #canExecute(Op)} first
+     * @param op the op to execute
+     */
+    public static void exec(Op op) {
+        INDArray x = op.x();
+        INDArray y = op instanceof TransformOp ? op.y() : null;
+        INDArray z = op.z();
+        int arity = y == null ? 1 : 2;
+
+        AffinityManager affinityManager = Nd4j.getAffinityManager();
+        affinityManager.ensureLocation(x.data(), AffinityManager.Location.HOST);
+        if (y != null)
+            affinityManager.ensureLocation(y.data(), AffinityManager.Location.HOST);
+        affinityManager.ensureLocation(z.data(), AffinityManager.Location.HOST);
+
+        KernelSignature.DataType dataType = x.data().dataType() == DataBuffer.Type.DOUBLE
+                        ? KernelSignature.DataType.DOUBLE : KernelSignature.DataType.FLOAT;
+
+        int[] shape;
+        int[] xStride;
+        int[] yStride = null;
+        int[] zStride;
+        char ordering = x.ordering();
+        if (x.elementWiseStride() > 0 && z.elementWiseStride() > 0 && z.ordering() == ordering
+                        && (y == null || (y.elementWiseStride() > 0 && y.ordering() == ordering))) {
+            shape = new int[] {x.length()};
+            xStride = new int[] {x.elementWiseStride()};
+            zStride = new int[] {z.elementWiseStride()};
+            if (y != null)
+                yStride = new int[] {y.elementWiseStride()};
+        } else {
+            shape = x.shape();
+            xStride = x.stride();
+            zStride = z.stride();
+            if (y != null)
+                yStride = y.stride();
+        }
+
+        StridedKernel kernel = StridedKernelGenerator
+                        .getInstance(new KernelSignature(op.getClass(), "op", arity, dataType, shape.length, ordering));
+        kernel.exec(op, buffer(x.data()), x.offset(), xStride, y == null ? null : buffer(y.data()),
+                        y == null ? 0 : y.offset(), yStride, buffer(z.data()), z.offset(), zStride, shape);
+
+        affinityManager.tagLocation(z, AffinityManager.Location.HOST);
+    }
+
+    /**
+     * View buffers share the pointer of the original one, and array offset is relative to it,
+     * so positions are addressed from the very beginning of the memory, same as DataBuffer.getDouble() does
+     */
+    private static Buffer buffer(DataBuffer data) {
+        ByteBuffer bytes = data.asNio().duplicate();
+        bytes.clear();
+        bytes.order(ByteOrder.nativeOrder());
+        return data.dataType() == DataBuffer.Type.DOUBLE ? bytes.asDoubleBuffer() : bytes.asFloatBuffer();
+    }
+}
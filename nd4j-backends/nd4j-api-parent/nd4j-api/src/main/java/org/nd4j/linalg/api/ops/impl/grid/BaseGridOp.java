@@ -53,6 +53,15 @@ public abstract class BaseGridOp extends BaseOp implements GridOp {
     }
 
 
+    /**
+     * This method returns ops of this grid, in execution order
+     *
+     * @return
+     */
+    public List<OpDescriptor> getQueuedOps() {
+        return queuedOps;
+    }
+
     @Override
     public GridDescriptor getGridDescriptor() {
         GridDescriptor descriptor = new GridDescriptor();
@@ -19,19 +19,15 @@
 
 package org.nd4j.linalg.api.ops.impl.transforms;
 
-
-import org.apache.commons.math3.util.FastMath;
 import org.nd4j.linalg.api.complex.IComplexNDArray;
 import org.nd4j.linalg.api.complex.IComplexNumber;
 import org.nd4j.linalg.api.ndarray.INDArray;
 import org.nd4j.linalg.api.ops.BaseTransformOp;
 import org.nd4j.linalg.api.ops.Op;
 import org.nd4j.linalg.factory.Nd4j;
+import org.nd4j.linalg.fft.FFTPlan;
 import org.nd4j.linalg.util.ComplexNDArrayUtil;
 
-import static org.nd4j.linalg.ops.transforms.Transforms.exp;
-
-
 /**
  * Encapsulated vector operation
  *
@@ -160,32 +156,8 @@ public class VectorFFT extends BaseTransformOp {
 
         executed = true;
 
-        double len = fftLength;
         IComplexNDArray ret = x instanceof IComplexNDArray ? (IComplexNDArray) x : Nd4j.createComplex(x);
-        int desiredElementsAlongDimension = ret.length();
-
-        if (len > desiredElementsAlongDimension) {
-            ret = ComplexNDArrayUtil.padWithZeros(ret, new int[] {fftLength});
-        } else if (len < desiredElementsAlongDimension) {
-            ret = ComplexNDArrayUtil.truncate(ret, fftLength, 0);
-        }
-
-
-        IComplexNumber c2 = Nd4j.createDouble(0, -2).muli(FastMath.PI);
-        //row vector
-        INDArray n2 = Nd4j.arange(0, this.fftLength).reshape(1, this.fftLength);
-
-        //column vector
-        INDArray k = n2.reshape(n2.length(), 1);
-        INDArray kTimesN = k.mmul(n2);
-        //here
-        IComplexNDArray c1 = kTimesN.muli(c2);
-        c1.divi(len);
-        IComplexNDArray M = (IComplexNDArray) exp(c1);
-
-
-        IComplexNDArray reshaped = ret.reshape(new int[] {1, ret.length()});
-        IComplexNDArray matrix = reshaped.mmul(M);
+        IComplexNDArray matrix = transform(ret, fftLength, false);
         if (originalN > 0)
             matrix = ComplexNDArrayUtil.truncate(matrix, originalN, 0);
 
@@ -195,6 +167,34 @@ public class VectorFFT extends BaseTransformOp {
         this.z = matrix;
     }
 
+    /**
+     * Transforms given vector with cached {@link FFTPlan}, padding or truncating it to fftLength first
+     *
+     * @param vector the vector to transform
+     * @param fftLength the desired number of elements
+     * @param inverse TRUE for normalized inverse transform
+     * @return the transformed vector, with shape [1, fftLength]
+     */
+    static IComplexNDArray transform(IComplexNDArray vector, int fftLength, boolean inverse) {
+        int length = vector.length();
+        if (fftLength > length) {
+            vector = ComplexNDArrayUtil.padWithZeros(vector, new int[] {fftLength});
+        } else if (fftLength < length) {
+            vector = ComplexNDArrayUtil.truncate(vector, fftLength, 0);
+        }
+
+        double[] data = new double[2 * fftLength];
+        for (int i = 0; i < fftLength; i++) {
+            IComplexNumber c = vector.getComplex(i);
+            data[2 * i] = c.realComponent().doubleValue();
+            data[2 * i + 1] = c.imaginaryComponent().doubleValue();
+        }
+
+        FFTPlan.forLength(fftLength).transform(data, 0, 1, inverse);
+
+        return Nd4j.createComplex(data, new int[] {1, fftLength});
+    }
+
     @Override
     public boolean isPassThrough() {
         return true;
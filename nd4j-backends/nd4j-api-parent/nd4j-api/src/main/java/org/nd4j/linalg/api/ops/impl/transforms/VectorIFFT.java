@@ -178,11 +178,8 @@ public class VectorIFFT extends BaseTransformOp {
 
 
 
-        //ifft(x) = conj(fft(conj(x)) / length(x)
         IComplexNDArray ndArray = x instanceof IComplexNDArray ? (IComplexNDArray) x : Nd4j.createComplex(x);
-        IComplexNDArray fft = (IComplexNDArray) Nd4j.getExecutioner()
-                        .execAndReturn(new VectorFFT(ndArray.conj(), y, z, x.lengthLong(), fftLength));
-        IComplexNDArray ret = fft.conj().divi(Nd4j.complexScalar(fftLength));
+        IComplexNDArray ret = VectorFFT.transform(ndArray, fftLength, true);
         //completely pass through
         this.z = originalN > 0 ? ComplexNDArrayUtil.truncate(ret, originalN, 0) : ret;
         this.x = this.z;
@@ -22,6 +22,7 @@ package org.nd4j.linalg.api.shape;
 
 import org.nd4j.linalg.api.buffer.DataBuffer;
 import org.nd4j.linalg.api.complex.IComplexNDArray;
+import org.nd4j.linalg.api.iter.NdIndexCursor;
 import org.nd4j.linalg.api.ndarray.INDArray;
 import org.nd4j.linalg.api.shape.loop.coordinatefunction.CoordinateFunction;
 import org.nd4j.linalg.api.shape.loop.one.RawArrayIterationInformation1;
@@ -171,7 +172,11 @@ public class Shape {
      *
      */
     public static void iterate(INDArray arr, CoordinateFunction coordinateFunction) {
-        Shape.iterate(0, arr.rank(), arr.shape(), new int[arr.rank()], coordinateFunction);
+        NdIndexCursor cursor = new NdIndexCursor(arr.shape());
+        // coordinates buffer is updated in place, so varargs array is allocated once
+        int[][] coords = new int[][] {cursor.coordinates()};
+        while (cursor.advance())
+            coordinateFunction.process(coords);
     }
 
     /**
@@ -183,8 +188,31 @@ public class Shape {
      *
      */
     public static void iterate(INDArray arr, INDArray arr2, CoordinateFunction coordinateFunction) {
-        Shape.iterate(0, arr.rank(), arr.shape(), new int[arr.rank()], 0, arr2.rank(), arr2.shape(),
-                        new int[arr2.rank()], coordinateFunction);
+        int[] shape = arr.shape();
+        int[] shape2 = arr2.shape();
+
+        // pairs of coordinates are visited in the same order as recursive iterate() does:
+        // dimensions of both arrays interleaved, up to the lower rank
+        int rank = Math.min(shape.length, shape2.length);
+        int[] interleaved = new int[2 * rank];
+        for (int i = 0; i < rank; i++) {
+            interleaved[2 * i] = shape[i];
+            interleaved[2 * i + 1] = shape2[i];
+        }
+
+        int[] res = new int[shape.length];
+        int[] res2 = new int[shape2.length];
+        int[][] coords = new int[][] {res, res2};
+
+        NdIndexCursor cursor = new NdIndexCursor(interleaved);
+        int[] position = cursor.coordinates();
+        while (cursor.advance()) {
+            for (int i = 0; i < rank; i++) {
+                res[i] = position[2 * i];
+                res2[i] = position[2 * i + 1];
+            }
+            coordinateFunction.process(coords);
+        }
     }
 
     /**
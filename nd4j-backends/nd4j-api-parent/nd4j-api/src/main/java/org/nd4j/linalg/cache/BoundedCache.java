@@ -0,0 +1,288 @@
+package org.nd4j.linalg.cache;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.nd4j.linalg.api.environment.Nd4jEnvironment;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Concurrent cache with approximate LRU eviction, bounded by number of entries and by total weight (i.e. bytes).
+ *
+ * Lookups are lock-free: every entry carries its last access timestamp, updated with millisecond resolution.
+ * Once any of bounds is exceeded, least recently used entries are evicted in a batch,
+ * down to {@link #EVICTION_TARGET} of the bound, so eviction cost is amortized over many insertions.
+ *
+ * Bounds can be tuned with system properties: org.nd4j.cache.[name].entries and org.nd4j.cache.[name].bytes,
+ * and hit/miss/eviction counters are available via getters or {@link #exportStatistics(Properties)}
+ *
+ * PLEASE NOTE: eviction only drops cache reference, values still in use stay valid.
+ */
+@Slf4j
+public class BoundedCache<K, V> {
+    public static final String PROPERTY_PREFIX = "org.nd4j.cache.";
+    public static final String ENTRIES_SUFFIX = ".entries";
+    public static final String BYTES_SUFFIX = ".bytes";
+
+    /**
+     * Fraction of bounds cache is shrunk to, once eviction is triggered
+     */
+    public static final double EVICTION_TARGET = 0.9;
+
+    private static final long ACCESS_RESOLUTION = TimeUnit.MILLISECONDS.toNanos(1);
+
+    /**
+     * This interface describes weight of cached values, used for size-aware bounds
+     */
+    public interface Weigher<V> {
+        long weigh(V value);
+    }
+
+    protected static class Entry<V> {
+        protected final V value;
+        protected final long weight;
+        protected volatile long lastAccess;
+
+        protected Entry(V value, long weight) {
+            this.value = value;
+            this.weight = weight;
+            this.lastAccess = System.nanoTime();
+        }
+    }
+
+    // immutable snapshot of entry access time, used for sorting during eviction
+    private static class Candidate<K, V> {
+        private final K key;
+        private final Entry<V> entry;
+        private final long lastAccess;
+
+        private Candidate(K key, Entry<V> entry) {
+            this.key = key;
+            this.entry = entry;
+            this.lastAccess = entry.lastAccess;
+        }
+    }
+
+    private final String name;
+    private final long maxEntries;
+    private final long maxBytes;
+    private final Weigher<V> weigher;
+
+    private final ConcurrentHashMap<K, Entry<V>> map = new ConcurrentHashMap<>();
+    private final Object evictionLock = new Object();
+
+    private final AtomicLong bytes = new AtomicLong(0);
+    private final AtomicLong hits = new AtomicLong(0);
+    private final AtomicLong misses = new AtomicLong(0);
+    private final AtomicLong evictions = new AtomicLong(0);
+
+    /**
+     *
+     * @param name name of this cache, used for configuration and statistics
+     * @param maxEntries maximum number of cached entries
+     * @param maxBytes maximum total weight of cached entries
+     * @param weigher weigher for cached values
+     */
+    public BoundedCache(@NonNull String name, long maxEntries, long maxBytes, @NonNull Weigher<V> weigher) {
+        if (maxEntries < 0 || maxBytes < 0)
+            throw new IllegalArgumentException("Cache bounds can't be negative");
+
+        this.name = name;
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+        this.weigher = weigher;
+    }
+
+    /**
+     * This method creates cache with bounds taken from system properties, if they are set, or defaults otherwise
+     *
+     * @param name name of this cache, used for configuration and statistics
+     * @param defaultEntries number of entries, used if org.nd4j.cache.[name].entries isn't set
+     * @param defaultBytes total weight, used if org.nd4j.cache.[name].bytes isn't set
+     * @param weigher weigher for cached values
+     * @return
+     */
+    public static <K, V> BoundedCache<K, V> configured(@NonNull String name, long defaultEntries, long defaultBytes,
+                    @NonNull Weigher<V> weigher) {
+        long entries = getLongProperty(PROPERTY_PREFIX + name + ENTRIES_SUFFIX, defaultEntries);
+        long bytes = getLongProperty(PROPERTY_PREFIX + name + BYTES_SUFFIX, defaultBytes);
+
+        return new BoundedCache<>(name, entries, bytes, weigher);
+    }
+
+    private static long getLongProperty(String key, long defaultValue) {
+        String value = System.getProperty(key);
+        if (value == null)
+            return defaultValue;
+
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            log.warn("Unable to parse [{}] value [{}], using default: [{}]", key, value, defaultValue);
+            return defaultValue;
+        }
+    }
+
+    /**
+     * This method returns cached value for the given key, or null if there's none
+     *
+     * @param key
+     * @return
+     */
+    public V get(K key) {
+        Entry<V> entry = map.get(key);
+        if (entry == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+
+        hits.incrementAndGet();
+
+        // we don't need exact order, so shared entries aren't written on every single hit
+        long time = System.nanoTime();
+        if (time - entry.lastAccess > ACCESS_RESOLUTION)
+            entry.lastAccess = time;
+
+        return entry.value;
+    }
+
+    /**
+     * This method stores value for the given key, unless some value is already cached for it.
+     * Values heavier than the whole cache bound aren't cached at all.
+     *
+     * @param key
+     * @param value
+     * @return value cached for the key after this call, i.e. either previously cached one, or the given one
+     */
+    public V put(K key, V value) {
+        long weight = weigher.weigh(value);
+        if (maxEntries == 0 || weight > maxBytes)
+            return value;
+
+        Entry<V> entry = new Entry<>(value, weight);
+        Entry<V> existing = map.putIfAbsent(key, entry);
+        if (existing != null)
+            return existing.value;
+
+        bytes.addAndGet(weight);
+
+        if (map.size() > maxEntries || bytes.get() > maxBytes)
+            evict();
+
+        return value;
+    }
+
+    /**
+     * This method evicts least recently used entries, until cache size is within EVICTION_TARGET of bounds
+     */
+    protected void evict() {
+        synchronized (evictionLock) {
+            if (map.size() <= maxEntries && bytes.get() <= maxBytes)
+                return;
+
+            List<Candidate<K, V>> candidates = new ArrayList<>(map.size());
+            for (Map.Entry<K, Entry<V>> e : map.entrySet())
+                candidates.add(new Candidate<>(e.getKey(), e.getValue()));
+
+            Collections.sort(candidates, new Comparator<Candidate<K, V>>() {
+                @Override
+                public int compare(Candidate<K, V> o1, Candidate<K, V> o2) {
+                    return Long.compare(o1.lastAccess, o2.lastAccess);
+                }
+            });
+
+            long targetEntries = (long) (maxEntries * EVICTION_TARGET);
+            long targetBytes = (long) (maxBytes * EVICTION_TARGET);
+            for (Candidate<K, V> candidate : candidates) {
+                if (map.size() <= targetEntries && bytes.get() <= targetBytes)
+                    break;
+
+                if (map.remove(candidate.key, candidate.entry)) {
+                    bytes.addAndGet(-candidate.entry.weight);
+                    evictions.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    /**
+     * This method removes all cached entries. Statistics counters aren't reset.
+     */
+    public void clear() {
+        synchronized (evictionLock) {
+            for (K key : new ArrayList<>(map.keySet())) {
+                Entry<V> entry = map.remove(key);
+                if (entry != null)
+                    bytes.addAndGet(-entry.weight);
+            }
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getMaxEntries() {
+        return maxEntries;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * Number of entries currently cached
+     */
+    public long size() {
+        return map.size();
+    }
+
+    /**
+     * Total weight of entries currently cached
+     */
+    public long bytes() {
+        return bytes.get();
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    /**
+     * This method puts statistics of this cache into given properties,
+     * under cache.[name].* keys, as used by {@link Nd4jEnvironment}
+     *
+     * @param properties
+     */
+    public void exportStatistics(@NonNull Properties properties) {
+        String prefix = Nd4jEnvironment.CACHE_KEY_PREFIX + name + ".";
+        properties.put(prefix + "entries", size());
+        properties.put(prefix + "bytes", bytes());
+        properties.put(prefix + "hits", getHits());
+        properties.put(prefix + "misses", getMisses());
+        properties.put(prefix + "evictions", getEvictions());
+    }
+
+    @Override
+    public String toString() {
+        return "BoundedCache[" + name + "]: entries: " + size() + "/" + maxEntries + "; bytes: " + bytes() + "/"
+                        + maxBytes + "; hits: " + getHits() + "; misses: " + getMisses() + "; evictions: "
+                        + getEvictions();
+    }
+}
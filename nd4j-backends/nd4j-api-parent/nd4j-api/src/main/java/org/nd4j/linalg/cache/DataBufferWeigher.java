@@ -0,0 +1,14 @@
+package org.nd4j.linalg.cache;
+
+import org.nd4j.linalg.api.buffer.DataBuffer;
+
+/**
+ * Weighs DataBuffers by the number of bytes they hold
+ */
+public class DataBufferWeigher implements BoundedCache.Weigher<DataBuffer> {
+
+    @Override
+    public long weigh(DataBuffer value) {
+        return value == null ? 0 : value.length() * value.getElementSize();
+    }
+}
@@ -26,6 +26,9 @@ public class BasicNDArrayCompressor {
 
     protected String defaultCompression = "FP16";
 
+    // buffers longer than this are compressed as independent chunks, in parallel
+    protected long chunkSize = ChunkedCompressor.DEFAULT_CHUNK_SIZE;
+
     private BasicNDArrayCompressor() {
         loadCompressors();
     }
@@ -117,6 +120,59 @@ public class BasicNDArrayCompressor {
         }
     }
 
+    /**
+     * Set the number of elements per chunk.
+     * Buffers longer than this are split into chunks,
+     * compressed independently in parallel.
+     * Values below 1 disable chunking
+     * @param chunkSize the number of elements per chunk
+     * @return
+     */
+    public BasicNDArrayCompressor setChunkSize(long chunkSize) {
+        synchronized (this) {
+            this.chunkSize = chunkSize;
+        }
+
+        return this;
+    }
+
+    /**
+     * Get the number of elements per chunk,
+     * or value below 1 if chunking is disabled
+     * @return
+     */
+    public long getChunkSize() {
+        synchronized (this) {
+            return chunkSize;
+        }
+    }
+
+    /**
+     * Get the compressor for the given algorithm
+     * @param algorithm the algorithm to get compressor for
+     * @return the compressor
+     */
+    public NDArrayCompressor getCompressor(@NonNull String algorithm) {
+        algorithm = algorithm.toUpperCase();
+        if (!codecs.containsKey(algorithm))
+            throw new RuntimeException("Non-existent compression algorithm requested: [" + algorithm + "]");
+
+        return codecs.get(algorithm);
+    }
+
+    /**
+     * Returns the compressor to be used for the given number of elements:
+     * the compressor for the algorithm, wrapped into ChunkedCompressor if there's more than one chunk
+     */
+    protected NDArrayCompressor getCompressor(String algorithm, long length) {
+        NDArrayCompressor codec = getCompressor(algorithm);
+        long chunk = getChunkSize();
+        if (chunk > 0 && length > chunk && ChunkedCompressor.isChunkable(codec))
+            return new ChunkedCompressor(codec, chunk);
+
+        return codec;
+    }
+
     /**
      * Compress the given data buffer
      * given the default compression algorithm
@@ -136,11 +192,7 @@ public class BasicNDArrayCompressor {
      * @return the compressed data buffer
      */
     public DataBuffer compress(DataBuffer buffer, String algorithm) {
-        algorithm = algorithm.toUpperCase();
-        if (!codecs.containsKey(algorithm))
-            throw new RuntimeException("Non-existent compression algorithm requested: [" + algorithm + "]");
-
-        return codecs.get(algorithm).compress(buffer);
+        return getCompressor(algorithm, buffer.length()).compress(buffer);
     }
 
     public INDArray compress(INDArray array) {
@@ -169,11 +221,7 @@ public class BasicNDArrayCompressor {
      * @return a compressed copy of this ndarray
      */
     public INDArray compress(INDArray array, String algorithm) {
-        algorithm = algorithm.toUpperCase();
-        if (!codecs.containsKey(algorithm))
-            throw new RuntimeException("Non-existent compression algorithm requested: [" + algorithm + "]");
-
-        return codecs.get(algorithm).compress(array);
+        return getCompressor(algorithm, array.length()).compress(array);
     }
 
     /**
@@ -183,11 +231,7 @@ public class BasicNDArrayCompressor {
      * @param algorithm
      */
     public void compressi(INDArray array, String algorithm) {
-        algorithm = algorithm.toUpperCase();
-        if (!codecs.containsKey(algorithm))
-            throw new RuntimeException("Non-existent compression algorithm requested: [" + algorithm + "]");
-
-        codecs.get(algorithm).compressi(array);
+        getCompressor(algorithm, array.length()).compressi(array);
     }
 
     /**
@@ -228,6 +272,23 @@ public class BasicNDArrayCompressor {
         return codecs.get(descriptor.getCompressionAlgorithm()).decompress(array);
     }
 
+    /**
+     * Decompress rows [fromRow, toRow) along the first dimension
+     * of the given array. For chunked c ordered arrays
+     * only the chunks containing these rows are decompressed
+     * @param array the array to decompress
+     * @param fromRow the first row, inclusive
+     * @param toRow the last row, exclusive
+     * @return the decompressed rows
+     */
+    public INDArray decompressRows(INDArray array, int fromRow, int toRow) {
+        ChunkedCompressor chunked = (ChunkedCompressor) getCompressor(ChunkedCompressor.DESCRIPTOR);
+        if (!array.isCompressed())
+            return ChunkedCompressor.sliceRows(array, fromRow, toRow);
+
+        return chunked.decompressRows(array, fromRow, toRow);
+    }
+
     /**
      * in place decompression of the given
      * ndarray. If the ndarray isn't compressed
@@ -275,7 +336,7 @@ public class BasicNDArrayCompressor {
      * @return
      */
     public INDArray compress(float[] array) {
-        return codecs.get(defaultCompression).compress(array);
+        return getCompressor(getDefaultCompression(), array.length).compress(array);
     }
 
     /**
@@ -285,6 +346,6 @@ public class BasicNDArrayCompressor {
      * @return
      */
     public INDArray compress(double[] array) {
-        return codecs.get(defaultCompression).compress(array);
+        return getCompressor(getDefaultCompression(), array.length).compress(array);
     }
 }
@@ -0,0 +1,429 @@
+package org.nd4j.linalg.compression;
+
+import lombok.NonNull;
+import org.bytedeco.javacpp.BytePointer;
+import org.bytedeco.javacpp.Pointer;
+import org.nd4j.linalg.api.buffer.DataBuffer;
+import org.nd4j.linalg.api.concurrency.AffinityManager;
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.api.ops.executioner.GridExecutioner;
+import org.nd4j.linalg.executors.ExecutorServiceProvider;
+import org.nd4j.linalg.factory.Nd4j;
+import org.nd4j.linalg.indexing.NDArrayIndex;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * Container compressor, splitting buffers into chunks of fixed number of elements.
+ * Each chunk is compressed independently by the wrapped compressor, and chunks are
+ * compressed/decompressed in parallel on ExecutorServiceProvider fork-join pool.
+ *
+ * Since chunks are independent, any range of elements can be restored without decompressing the whole buffer,
+ * see {@link #decompress(DataBuffer, long, long)} and {@link #decompressRows(INDArray, int, int)}.
+ *
+ * Compressed layout, native byte order:
+ * int: number of chunks
+ * int: CompressionType ordinal of the chunks
+ * long: chunk size, in elements
+ * long: original element size
+ * int: length of the wrapped compressor descriptor, followed by its ASCII bytes
+ * long[number of chunks]: compressed length of each chunk
+ * chunks data
+ */
+public class ChunkedCompressor implements NDArrayCompressor {
+    public static final String DESCRIPTOR = "CHUNKED";
+    public static final long DEFAULT_CHUNK_SIZE = 1024 * 1024;
+
+    private static final Charset ASCII = Charset.forName("US-ASCII");
+
+    // compressors working element-wise, so that any part of a buffer can be compressed on its own
+    private static final Set<String> CHUNKABLE = new HashSet<>(
+                    Arrays.asList("FLOAT8", "FLOAT16", "GZIP", "INT8", "INT16", "NOOP", "UINT8", "LZ4"));
+
+    private final NDArrayCompressor compressor;
+    private final long chunkSize;
+
+    /**
+     * Chunked compressor using default compression of BasicNDArrayCompressor for chunks.
+     * Can decompress chunked data produced by any compressor
+     */
+    public ChunkedCompressor() {
+        this(null, DEFAULT_CHUNK_SIZE);
+    }
+
+    public ChunkedCompressor(@NonNull NDArrayCompressor compressor) {
+        this(compressor, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * @param compressor compressor to be used for chunks
+     * @param chunkSize number of elements per chunk
+     */
+    public ChunkedCompressor(NDArrayCompressor compressor, long chunkSize) {
+        if (chunkSize < 1)
+            throw new IllegalArgumentException("Chunk size should be positive, got " + chunkSize);
+
+        if (compressor != null && !isChunkable(compressor))
+            throw new IllegalArgumentException(
+                            "Compressor [" + compressor.getDescriptor() + "] can't be applied to chunks");
+
+        this.compressor = compressor;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * This method checks, if given compressor can be applied to parts of a buffer independently
+     *
+     * @param compressor
+     * @return
+     */
+    public static boolean isChunkable(NDArrayCompressor compressor) {
+        return !(compressor instanceof ChunkedCompressor)
+                        && CHUNKABLE.contains(compressor.getDescriptor().toUpperCase());
+    }
+
+    /**
+     * This method checks, if given array was compressed by ChunkedCompressor
+     *
+     * @param array
+     * @return
+     */
+    public static boolean isChunked(INDArray array) {
+        if (!array.isCompressed() || !(array.data() instanceof CompressedDataBuffer))
+            return false;
+
+        CompressionDescriptor descriptor = ((CompressedDataBuffer) array.data()).getCompressionDescriptor();
+        return DESCRIPTOR.equals(descriptor.getCompressionAlgorithm());
+    }
+
+    public long getChunkSize() {
+        return chunkSize;
+    }
+
+    @Override
+    public String getDescriptor() {
+        return DESCRIPTOR;
+    }
+
+    @Override
+    public CompressionType getCompressionType() {
+        return getCompressor().getCompressionType();
+    }
+
+    @Override
+    public INDArray compress(INDArray array) {
+        INDArray dup = array.dup(array.ordering());
+
+        if (Nd4j.getExecutioner() instanceof GridExecutioner)
+            ((GridExecutioner) Nd4j.getExecutioner()).flushQueueBlocking();
+
+        dup.setData(compress(dup.data()));
+        dup.markAsCompressed(true);
+
+        return dup;
+    }
+
+    @Override
+    public void compressi(INDArray array) {
+        if (array.isView())
+            throw new UnsupportedOperationException("Impossible to apply inplace compression on View");
+
+        if (Nd4j.getExecutioner() instanceof GridExecutioner)
+            ((GridExecutioner) Nd4j.getExecutioner()).flushQueueBlocking();
+
+        array.setData(compress(array.data()));
+        array.markAsCompressed(true);
+    }
+
+    @Override
+    public DataBuffer compress(final DataBuffer buffer) {
+        final NDArrayCompressor codec = getCompressor();
+        Nd4j.getAffinityManager().ensureLocation(buffer, AffinityManager.Location.HOST);
+
+        final long length = buffer.length();
+        int numChunks = (int) ((length + chunkSize - 1) / chunkSize);
+
+        List<Callable<DataBuffer>> tasks = new ArrayList<>(numChunks);
+        for (int c = 0; c < numChunks; c++) {
+            final long chunkStart = c * chunkSize;
+            tasks.add(new Callable<DataBuffer>() {
+                @Override
+                public DataBuffer call() throws Exception {
+                    long chunkLength = Math.min(chunkSize, length - chunkStart);
+                    return codec.compress(Nd4j.createBuffer(buffer, buffer.offset() + chunkStart, chunkLength));
+                }
+            });
+        }
+
+        List<DataBuffer> chunks = invokeAll(tasks);
+
+        byte[] name = codec.getDescriptor().getBytes(ASCII);
+        long headerLength = 28 + name.length + 8L * numChunks;
+        long totalLength = headerLength;
+        for (DataBuffer chunk : chunks)
+            totalLength += ((CompressedDataBuffer) chunk).getCompressionDescriptor().getCompressedLength();
+
+        BytePointer pointer = new BytePointer(totalLength);
+        ByteBuffer header = asByteBuffer(pointer, 0, headerLength);
+        header.putInt(numChunks);
+        header.putInt(codec.getCompressionType().ordinal());
+        header.putLong(chunkSize);
+        header.putLong(buffer.getElementSize());
+        header.putInt(name.length);
+        header.put(name);
+
+        long position = headerLength;
+        for (DataBuffer chunk : chunks) {
+            long compressedLength = ((CompressedDataBuffer) chunk).getCompressionDescriptor().getCompressedLength();
+            header.putLong(compressedLength);
+            Pointer.memcpy(offsetPointer(pointer, position, compressedLength), chunk.addressPointer(),
+                            compressedLength);
+            position += compressedLength;
+        }
+
+        CompressionDescriptor descriptor = new CompressionDescriptor(buffer, this);
+        descriptor.setCompressedLength(totalLength);
+
+        return new CompressedDataBuffer(pointer, descriptor);
+    }
+
+    @Override
+    public INDArray decompress(INDArray array) {
+        if (!array.isCompressed())
+            return array;
+
+        DataBuffer buffer = decompress(array.data());
+        return Nd4j.createArrayFromShapeBuffer(buffer, array.shapeInfoDataBuffer());
+    }
+
+    @Override
+    public void decompressi(INDArray array) {
+        if (!array.isCompressed())
+            return;
+
+        array.markAsCompressed(false);
+        array.setData(decompress(array.data()));
+    }
+
+    @Override
+    public DataBuffer decompress(DataBuffer buffer) {
+        CompressionDescriptor descriptor = ((CompressedDataBuffer) buffer).getCompressionDescriptor();
+        if (!DESCRIPTOR.equals(descriptor.getCompressionAlgorithm()))
+            return getCompressor(descriptor.getCompressionAlgorithm()).decompress(buffer);
+
+        return decompress(buffer, 0, buffer.length());
+    }
+
+    /**
+     * This method decompresses specified range of elements only.
+     * Only chunks overlapping with this range are decompressed.
+     *
+     * @param buffer chunked compressed buffer
+     * @param offset index of the first element to decompress
+     * @param length number of elements to decompress
+     * @return
+     */
+    public DataBuffer decompress(DataBuffer buffer, final long offset, final long length) {
+        CompressionDescriptor descriptor = ((CompressedDataBuffer) buffer).getCompressionDescriptor();
+        if (!DESCRIPTOR.equals(descriptor.getCompressionAlgorithm()))
+            throw new IllegalArgumentException("Buffer wasn't compressed by ChunkedCompressor: ["
+                            + descriptor.getCompressionAlgorithm() + "]");
+
+        if (offset < 0 || length < 1 || offset + length > buffer.length())
+            throw new IllegalArgumentException("Requested range [" + offset + ", " + (offset + length)
+                            + ") is out of buffer bounds [0, " + buffer.length() + ")");
+
+        final BytePointer pointer = new BytePointer(buffer.addressPointer());
+        ByteBuffer header = asByteBuffer(pointer, 0, descriptor.getCompressedLength());
+        int numChunks = header.getInt();
+        final CompressionType compressionType = CompressionType.values()[header.getInt()];
+        final long chunkSize = header.getLong();
+        final long elementSize = header.getLong();
+        byte[] name = new byte[header.getInt()];
+        header.get(name);
+        final NDArrayCompressor codec = getCompressor(new String(name, ASCII));
+
+        long[] positions = new long[numChunks + 1];
+        positions[0] = header.position() + 8L * numChunks;
+        for (int c = 0; c < numChunks; c++)
+            positions[c + 1] = positions[c] + header.getLong();
+
+        final long total = buffer.length();
+        final DataBuffer result = Nd4j.createBuffer(length, false);
+
+        int firstChunk = (int) (offset / chunkSize);
+        int lastChunk = (int) ((offset + length - 1) / chunkSize);
+        List<Callable<DataBuffer>> tasks = new ArrayList<>(lastChunk - firstChunk + 1);
+        for (int c = firstChunk; c <= lastChunk; c++) {
+            final long chunkStart = c * chunkSize;
+            final long position = positions[c];
+            final long compressedLength = positions[c + 1] - positions[c];
+            tasks.add(new Callable<DataBuffer>() {
+                @Override
+                public DataBuffer call() throws Exception {
+                    long chunkLength = Math.min(chunkSize, total - chunkStart);
+
+                    CompressionDescriptor chunkDescriptor = new CompressionDescriptor();
+                    chunkDescriptor.setCompressionAlgorithm(codec.getDescriptor());
+                    chunkDescriptor.setCompressionType(compressionType);
+                    chunkDescriptor.setCompressedLength(compressedLength);
+                    chunkDescriptor.setOriginalLength(chunkLength * elementSize);
+                    chunkDescriptor.setNumberOfElements(chunkLength);
+                    chunkDescriptor.setOriginalElementSize(elementSize);
+
+                    DataBuffer chunk = codec.decompress(new CompressedDataBuffer(
+                                    offsetPointer(pointer, position, compressedLength), chunkDescriptor));
+
+                    // only part of the chunk might be requested
+                    long from = Math.max(offset, chunkStart);
+                    long to = Math.min(offset + length, chunkStart + chunkLength);
+                    Nd4j.getMemoryManager().memcpy(Nd4j.createBuffer(result, from - offset, to - from),
+                                    Nd4j.createBuffer(chunk, from - chunkStart, to - from));
+                    return chunk;
+                }
+            });
+        }
+
+        invokeAll(tasks);
+
+        return result;
+    }
+
+    /**
+     * This method returns decompressed rows of the compressed array, i.e. [fromRow, toRow) along first dimension.
+     * For c ordered chunked arrays only chunks containing these rows are decompressed,
+     * everything else is decompressed as whole.
+     *
+     * @param array compressed array
+     * @param fromRow first row, inclusive
+     * @param toRow last row, exclusive
+     * @return
+     */
+    public INDArray decompressRows(@NonNull INDArray array, int fromRow, int toRow) {
+        int rows = array.size(0);
+        if (fromRow < 0 || fromRow >= toRow || toRow > rows)
+            throw new IllegalArgumentException(
+                            "Requested rows [" + fromRow + ", " + toRow + ") are out of bounds [0, " + rows + ")");
+
+        if (!isChunked(array) || array.ordering() != 'c')
+            return sliceRows(decompress(array), fromRow, toRow);
+
+        long rowLength = array.length() / rows;
+        int[] shape = array.shape().clone();
+        shape[0] = toRow - fromRow;
+
+        DataBuffer buffer = decompress(array.data(), fromRow * rowLength, (toRow - fromRow) * rowLength);
+        DataBuffer shapeInfo = Nd4j.getShapeInfoProvider().createShapeInformation(shape, 'c');
+        return Nd4j.createArrayFromShapeBuffer(buffer, shapeInfo);
+    }
+
+    /**
+     * This method returns c ordered copy of rows [fromRow, toRow) along first dimension of the given array
+     *
+     * @param array
+     * @param fromRow first row, inclusive
+     * @param toRow last row, exclusive
+     * @return
+     */
+    public static INDArray sliceRows(@NonNull INDArray array, int fromRow, int toRow) {
+        int rows = array.size(0);
+        int[] shape = array.shape().clone();
+        shape[0] = toRow - fromRow;
+
+        INDArray matrix = array.reshape('c', rows, (int) (array.length() / rows));
+        return matrix.get(NDArrayIndex.interval(fromRow, toRow), NDArrayIndex.all()).dup('c').reshape('c', shape);
+    }
+
+    @Override
+    public INDArray compress(float[] data) {
+        return compress(data, new int[] {1, data.length}, Nd4j.order());
+    }
+
+    @Override
+    public INDArray compress(double[] data) {
+        return compress(data, new int[] {1, data.length}, Nd4j.order());
+    }
+
+    @Override
+    public INDArray compress(float[] data, int[] shape, char order) {
+        INDArray array = Nd4j.create(data, shape, order);
+        array.setData(compress(array.data()));
+        array.markAsCompressed(true);
+        return array;
+    }
+
+    @Override
+    public INDArray compress(double[] data, int[] shape, char order) {
+        INDArray array = Nd4j.create(data, shape, order);
+        array.setData(compress(array.data()));
+        array.markAsCompressed(true);
+        return array;
+    }
+
+    protected NDArrayCompressor getCompressor() {
+        if (compressor != null)
+            return compressor;
+
+        NDArrayCompressor codec = getCompressor(BasicNDArrayCompressor.getInstance().getDefaultCompression());
+        if (!isChunkable(codec))
+            throw new IllegalStateException("Compressor [" + codec.getDescriptor() + "] can't be applied to chunks");
+
+        return codec;
+    }
+
+    protected NDArrayCompressor getCompressor(String algorithm) {
+        if (compressor != null && compressor.getDescriptor().equalsIgnoreCase(algorithm))
+            return compressor;
+
+        return BasicNDArrayCompressor.getInstance().getCompressor(algorithm);
+    }
+
+    private static List<DataBuffer> invokeAll(List<Callable<DataBuffer>> tasks) {
+        try {
+            List<DataBuffer> results = new ArrayList<>(tasks.size());
+            if (tasks.size() == 1) {
+                results.add(tasks.get(0).call());
+                return results;
+            }
+
+            for (Future<DataBuffer> future : ExecutorServiceProvider.getForkJoinPool().invokeAll(tasks))
+                results.add(future.get());
+
+            return results;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException)
+                throw (RuntimeException) e.getCause();
+            throw new RuntimeException(e.getCause());
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static ByteBuffer asByteBuffer(BytePointer pointer, long offset, long length) {
+        return offsetPointer(pointer, offset, length).asByteBuffer().order(ByteOrder.nativeOrder());
+    }
+
+    private static BytePointer offsetPointer(final BytePointer pointer, final long offset, long length) {
+        Pointer shifted = new Pointer(pointer) {
+            {
+                address = pointer.address() + offset;
+            }
+        };
+        // anonymous subclass isn't known to JavaCPP natives, so plain BytePointer is used as result
+        BytePointer result = new BytePointer(shifted);
+        result.position(0).limit(length).capacity(length);
+        return result;
+    }
+}
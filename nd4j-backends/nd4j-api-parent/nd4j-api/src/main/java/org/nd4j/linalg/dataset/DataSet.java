@@ -259,6 +259,8 @@ public class DataSet implements org.nd4j.linalg.dataset.api.DataSet {
     private static INDArray merge2d(INDArray[] data) {
         if (data.length == 0)
             return data[0];
+        if (data[0].isSparse())
+            return Nd4j.vstack(data);
         int totalRows = 0;
         for (INDArray arr : data)
             totalRows += arr.rows();
@@ -402,6 +404,16 @@ public class DataSet implements org.nd4j.linalg.dataset.api.DataSet {
     }
 
 
+    /**
+     * Sparse features only support row selection, merging and serialization,
+     * so other operations are rejected before anything gets modified
+     */
+    private void assertDenseFeatures(String operation) {
+        if (features != null && features.isSparse())
+            throw new UnsupportedOperationException("DataSet." + operation
+                            + "() isn't supported for sparse features, convert them with toDense() first");
+    }
+
     @Override
     public void load(InputStream from) {
         try {
@@ -538,6 +550,7 @@ public class DataSet implements org.nd4j.linalg.dataset.api.DataSet {
 
     @Override
     public void apply(Condition condition, Function<Number, Number> function) {
+        assertDenseFeatures("apply");
         BooleanIndexing.applyWhere(getFeatureMatrix(), condition, function);
     }
 
@@ -567,6 +580,7 @@ public class DataSet implements org.nd4j.linalg.dataset.api.DataSet {
      */
     @Override
     public DataSet reshape(int rows, int cols) {
+        assertDenseFeatures("reshape");
         DataSet ret = new DataSet(getFeatures().reshape(new int[] {rows, cols}), getLabels());
         return ret;
     }
@@ -574,12 +588,12 @@ public class DataSet implements org.nd4j.linalg.dataset.api.DataSet {
 
     @Override
     public void multiplyBy(double num) {
-        getFeatures().muli(Nd4j.scalar(num));
+        getFeatures().muli(num);
     }
 
     @Override
     public void divideBy(int num) {
-        getFeatures().divi(Nd4j.scalar(num));
+        getFeatures().divi(num);
     }
 
     @Override
@@ -595,6 +609,7 @@ public class DataSet implements org.nd4j.linalg.dataset.api.DataSet {
      * @param seed Seed to use for the random Number Generator
      */
     public void shuffle(long seed) {
+        assertDenseFeatures("shuffle");
         //note here we use the same seed with different random objects guaranteeing same order
 
         List<INDArray> arrays = new ArrayList<>();
@@ -634,6 +649,7 @@ public class DataSet implements org.nd4j.linalg.dataset.api.DataSet {
      */
     @Override
     public void squishToRange(double min, double max) {
+        assertDenseFeatures("squishToRange");
         for (int i = 0; i < getFeatures().length(); i++) {
             double curr = (double) getFeatures().getScalar(i).element();
             if (curr < min)
@@ -645,6 +661,7 @@ public class DataSet implements org.nd4j.linalg.dataset.api.DataSet {
 
     @Override
     public void scaleMinAndMax(double min, double max) {
+        assertDenseFeatures("scaleMinAndMax");
         FeatureUtil.scaleMinMax(min, max, getFeatureMatrix());
     }
 
@@ -654,6 +671,7 @@ public class DataSet implements org.nd4j.linalg.dataset.api.DataSet {
      */
     @Override
     public void scale() {
+        assertDenseFeatures("scale");
         FeatureUtil.scaleByMax(getFeatures());
     }
 
@@ -664,6 +682,7 @@ public class DataSet implements org.nd4j.linalg.dataset.api.DataSet {
      */
     @Override
     public void addFeatureVector(INDArray toAdd) {
+        assertDenseFeatures("addFeatureVector");
         setFeatures(Nd4j.hstack(getFeatureMatrix(), toAdd));
     }
 
@@ -676,11 +695,13 @@ public class DataSet implements org.nd4j.linalg.dataset.api.DataSet {
      */
     @Override
     public void addFeatureVector(INDArray feature, int example) {
+        assertDenseFeatures("addFeatureVector");
         getFeatures().putRow(example, feature);
     }
 
     @Override
     public void normalize() {
+        assertDenseFeatures("normalize");
         //FeatureUtil.normalizeMatrix(getFeatures());
         NormalizerStandardize inClassPreProcessor = new NormalizerStandardize();
         inClassPreProcessor.fit(this);
@@ -703,6 +724,7 @@ public class DataSet implements org.nd4j.linalg.dataset.api.DataSet {
      */
     @Override
     public void binarize(double cutoff) {
+        assertDenseFeatures("binarize");
         INDArray linear = getFeatureMatrix().linearView();
         for (int i = 0; i < getFeatures().length(); i++) {
             double curr = linear.getDouble(i);
@@ -721,6 +743,7 @@ public class DataSet implements org.nd4j.linalg.dataset.api.DataSet {
     @Deprecated
     @Override
     public void normalizeZeroMeanZeroUnitVariance() {
+        assertDenseFeatures("normalizeZeroMeanZeroUnitVariance");
         INDArray columnMeans = getFeatures().mean(0);
         INDArray columnStds = getFeatureMatrix().std(0);
 
@@ -1144,6 +1167,7 @@ public class DataSet implements org.nd4j.linalg.dataset.api.DataSet {
      */
     @Override
     public void sortByLabel() {
+        assertDenseFeatures("sortByLabel");
         Map<Integer, Queue<DataSet>> map = new HashMap<>();
         List<DataSet> data = asList();
         int numLabels = numOutcomes();
@@ -1205,6 +1229,7 @@ public class DataSet implements org.nd4j.linalg.dataset.api.DataSet {
 
     @Override
     public void addRow(DataSet d, int i) {
+        assertDenseFeatures("addRow");
         if (i > numExamples() || d == null)
             throw new IllegalArgumentException("Invalid index for adding a row");
         getFeatures().putRow(i, d.getFeatures());
@@ -1220,16 +1245,19 @@ public class DataSet implements org.nd4j.linalg.dataset.api.DataSet {
 
     @Override
     public INDArray exampleSums() {
+        assertDenseFeatures("exampleSums");
         return getFeatures().sum(1);
     }
 
     @Override
     public INDArray exampleMaxs() {
+        assertDenseFeatures("exampleMaxs");
         return getFeatures().max(1);
     }
 
     @Override
     public INDArray exampleMeans() {
+        assertDenseFeatures("exampleMeans");
         return getFeatures().mean(1);
     }
 
@@ -1279,6 +1307,7 @@ public class DataSet implements org.nd4j.linalg.dataset.api.DataSet {
      */
     @Override
     public DataSet sample(int numSamples, org.nd4j.linalg.api.rng.Random rng, boolean withReplacement) {
+        assertDenseFeatures("sample");
         INDArray examples = Nd4j.create(numSamples, getFeatures().columns());
         INDArray outcomes = Nd4j.create(numSamples, numOutcomes());
         Set<Integer> added = new HashSet<>();
@@ -1299,6 +1328,7 @@ public class DataSet implements org.nd4j.linalg.dataset.api.DataSet {
 
     @Override
     public void roundToTheNearest(int roundTo) {
+        assertDenseFeatures("roundToTheNearest");
         for (int i = 0; i < getFeatures().length(); i++) {
             double curr = (double) getFeatures().getScalar(i).element();
             getFeatures().put(i, Nd4j.scalar(MathUtils.roundDouble(curr, roundTo)));
@@ -0,0 +1,157 @@
+package org.nd4j.linalg.dataset.api.iterator;
+
+import lombok.NonNull;
+import org.nd4j.linalg.dataset.DataSet;
+import org.nd4j.linalg.dataset.api.DataSetPreProcessor;
+
+import java.util.List;
+
+/**
+ * DataSetIterator wrapper, which fetches DataSets from the underlying iterator in background,
+ * so I/O, deserialization and preprocessing don't happen on the consumer thread.
+ *
+ * DataSetPreProcessor set on this iterator is applied by worker threads,
+ * and DataSets are returned in the same order the underlying iterator provides them.
+ *
+ * PLEASE NOTE: underlying iterator shouldn't be used directly while this iterator is in use.
+ * Call {@link #shutdown()} once iterator isn't needed anymore, to stop background threads.
+ */
+public class AsyncDataSetIterator implements DataSetIterator {
+    public static final int DEFAULT_QUEUE_SIZE = 8;
+
+    private final DataSetIterator backedIterator;
+    private final transient AsyncPrefetcher<DataSet> prefetcher;
+    private volatile DataSetPreProcessor preProcessor;
+
+    public AsyncDataSetIterator(@NonNull DataSetIterator iterator) {
+        this(iterator, DEFAULT_QUEUE_SIZE);
+    }
+
+    public AsyncDataSetIterator(@NonNull DataSetIterator iterator, int queueSize) {
+        this(iterator, queueSize, 1, false);
+    }
+
+    /**
+     * @param iterator underlying iterator
+     * @param queueSize number of DataSets prefetched in advance
+     * @param numWorkers number of threads applying DataSetPreProcessor
+     * @param attachToDevice if TRUE, background threads will use the same device as the thread creating this iterator
+     */
+    public AsyncDataSetIterator(@NonNull DataSetIterator iterator, int queueSize, int numWorkers,
+                    boolean attachToDevice) {
+        this.backedIterator = iterator;
+        this.prefetcher = new AsyncPrefetcher<DataSet>(iterator, queueSize, numWorkers, attachToDevice) {
+            @Override
+            protected void preProcess(DataSet element) {
+                DataSetPreProcessor p = preProcessor;
+                if (p != null)
+                    p.preProcess(element);
+            }
+        };
+    }
+
+    @Override
+    public boolean hasNext() {
+        // prefetching starts lazily, so preprocessor set after construction is applied to all DataSets
+        prefetcher.start();
+        return prefetcher.hasNext();
+    }
+
+    @Override
+    public DataSet next() {
+        prefetcher.start();
+        return prefetcher.next();
+    }
+
+    @Override
+    public DataSet next(int num) {
+        throw new UnsupportedOperationException("Unable to load custom number of examples");
+    }
+
+    /**
+     * This method stops prefetching, discards prefetched DataSets and resets underlying iterator
+     */
+    @Override
+    public void reset() {
+        if (!resetSupported())
+            throw new UnsupportedOperationException("Underlying iterator doesn't support reset");
+
+        prefetcher.stop();
+        backedIterator.reset();
+    }
+
+    /**
+     * This method stops background threads. Iterator can't be used after that
+     */
+    public void shutdown() {
+        prefetcher.shutdown();
+    }
+
+    @Override
+    public boolean resetSupported() {
+        return backedIterator.resetSupported();
+    }
+
+    @Override
+    public boolean asyncSupported() {
+        // this iterator is async already
+        return false;
+    }
+
+    @Override
+    public int totalExamples() {
+        return backedIterator.totalExamples();
+    }
+
+    @Override
+    public int inputColumns() {
+        return backedIterator.inputColumns();
+    }
+
+    @Override
+    public int totalOutcomes() {
+        return backedIterator.totalOutcomes();
+    }
+
+    @Override
+    public int batch() {
+        return backedIterator.batch();
+    }
+
+    /**
+     * PLEASE NOTE: underlying iterator is ahead of consumer, so its cursor is returned here
+     */
+    @Override
+    public int cursor() {
+        return backedIterator.cursor();
+    }
+
+    @Override
+    public int numExamples() {
+        return backedIterator.numExamples();
+    }
+
+    /**
+     * PLEASE NOTE: preprocessor is applied by worker threads, so it should be thread-safe if numWorkers > 1.
+     * If it's changed during iteration, DataSets prefetched already aren't affected
+     */
+    @Override
+    public void setPreProcessor(DataSetPreProcessor preProcessor) {
+        this.preProcessor = preProcessor;
+    }
+
+    @Override
+    public DataSetPreProcessor getPreProcessor() {
+        return preProcessor;
+    }
+
+    @Override
+    public List<String> getLabels() {
+        return backedIterator.getLabels();
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,111 @@
+package org.nd4j.linalg.dataset.api.iterator;
+
+import lombok.NonNull;
+import org.nd4j.linalg.dataset.api.MultiDataSet;
+import org.nd4j.linalg.dataset.api.MultiDataSetPreProcessor;
+
+/**
+ * MultiDataSetIterator wrapper, which fetches MultiDataSets from the underlying iterator in background,
+ * so I/O, deserialization and preprocessing don't happen on the consumer thread.
+ *
+ * MultiDataSetPreProcessor set on this iterator is applied by worker threads,
+ * and MultiDataSets are returned in the same order the underlying iterator provides them.
+ *
+ * PLEASE NOTE: underlying iterator shouldn't be used directly while this iterator is in use.
+ * Call {@link #shutdown()} once iterator isn't needed anymore, to stop background threads.
+ */
+public class AsyncMultiDataSetIterator implements MultiDataSetIterator {
+    public static final int DEFAULT_QUEUE_SIZE = 8;
+
+    private final MultiDataSetIterator backedIterator;
+    private final transient AsyncPrefetcher<MultiDataSet> prefetcher;
+    private volatile MultiDataSetPreProcessor preProcessor;
+
+    public AsyncMultiDataSetIterator(@NonNull MultiDataSetIterator iterator) {
+        this(iterator, DEFAULT_QUEUE_SIZE);
+    }
+
+    public AsyncMultiDataSetIterator(@NonNull MultiDataSetIterator iterator, int queueSize) {
+        this(iterator, queueSize, 1, false);
+    }
+
+    /**
+     * @param iterator underlying iterator
+     * @param queueSize number of MultiDataSets prefetched in advance
+     * @param numWorkers number of threads applying MultiDataSetPreProcessor
+     * @param attachToDevice if TRUE, background threads will use the same device as the thread creating this iterator
+     */
+    public AsyncMultiDataSetIterator(@NonNull MultiDataSetIterator iterator, int queueSize, int numWorkers,
+                    boolean attachToDevice) {
+        this.backedIterator = iterator;
+        this.prefetcher = new AsyncPrefetcher<MultiDataSet>(iterator, queueSize, numWorkers, attachToDevice) {
+            @Override
+            protected void preProcess(MultiDataSet element) {
+                MultiDataSetPreProcessor p = preProcessor;
+                if (p != null)
+                    p.preProcess(element);
+            }
+        };
+    }
+
+    @Override
+    public boolean hasNext() {
+        prefetcher.start();
+        return prefetcher.hasNext();
+    }
+
+    @Override
+    public MultiDataSet next() {
+        prefetcher.start();
+        return prefetcher.next();
+    }
+
+    @Override
+    public MultiDataSet next(int num) {
+        throw new UnsupportedOperationException("Unable to load custom number of examples");
+    }
+
+    /**
+     * This method stops prefetching, discards prefetched MultiDataSets and resets underlying iterator
+     */
+    @Override
+    public void reset() {
+        if (!resetSupported())
+            throw new UnsupportedOperationException("Underlying iterator doesn't support reset");
+
+        prefetcher.stop();
+        backedIterator.reset();
+    }
+
+    /**
+     * This method stops background threads. Iterator can't be used after that
+     */
+    public void shutdown() {
+        prefetcher.shutdown();
+    }
+
+    /**
+     * PLEASE NOTE: preprocessor is applied by worker threads, so it should be thread-safe if numWorkers > 1.
+     * If it's changed during iteration, MultiDataSets prefetched already aren't affected
+     */
+    @Override
+    public void setPreProcessor(MultiDataSetPreProcessor preProcessor) {
+        this.preProcessor = preProcessor;
+    }
+
+    @Override
+    public boolean resetSupported() {
+        return backedIterator.resetSupported();
+    }
+
+    @Override
+    public boolean asyncSupported() {
+        // this iterator is async already
+        return false;
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+}
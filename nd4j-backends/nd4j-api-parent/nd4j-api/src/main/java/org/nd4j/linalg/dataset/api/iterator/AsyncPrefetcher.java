@@ -0,0 +1,225 @@
+package org.nd4j.linalg.dataset.api.iterator;
+
+import org.nd4j.linalg.factory.Nd4j;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Background prefetcher shared by {@link AsyncDataSetIterator} and {@link AsyncMultiDataSetIterator}.
+ *
+ * Underlying iterators aren't thread-safe, so a single producer thread pulls elements from the source,
+ * and hands them over to worker threads for preprocessing. Results are put into a bounded queue in source order,
+ * so the consumer gets exactly the same sequence it would get from the source iterator.
+ *
+ * @param <T> DataSet or MultiDataSet
+ */
+abstract class AsyncPrefetcher<T> {
+    private static final AtomicInteger threadCounter = new AtomicInteger(0);
+
+    // marks end of the source
+    private final Future<T> terminator = new FutureTask<>(new Callable<T>() {
+        @Override
+        public T call() throws Exception {
+            return null;
+        }
+    });
+
+    private final Iterator<T> source;
+    private final BlockingQueue<Future<T>> queue;
+    private final ExecutorService workers;
+    private final Integer deviceId;
+
+    private volatile boolean running;
+    private volatile boolean terminated;
+    private Thread producer;
+    private Future<T> next;
+
+    /**
+     * @param source iterator to prefetch from
+     * @param queueSize number of elements prefetched in advance
+     * @param numWorkers number of threads doing preprocessing
+     * @param attachToDevice if TRUE, background threads will be attached to the device of the calling thread
+     */
+    protected AsyncPrefetcher(Iterator<T> source, int queueSize, int numWorkers, boolean attachToDevice) {
+        if (queueSize < 1)
+            throw new IllegalArgumentException("Queue size should be positive");
+        if (numWorkers < 1)
+            throw new IllegalArgumentException("Number of workers should be positive");
+
+        this.source = source;
+        this.queue = new LinkedBlockingQueue<>(queueSize);
+        this.deviceId = attachToDevice ? Nd4j.getAffinityManager().getDeviceForCurrentThread() : null;
+        this.workers = Executors.newFixedThreadPool(numWorkers, new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                return createThread(r, "AsyncPrefetcher worker thread " + threadCounter.incrementAndGet());
+            }
+        });
+        ((FutureTask<T>) terminator).run();
+    }
+
+    /**
+     * This method is called on worker threads, for each element fetched from the source
+     */
+    protected abstract void preProcess(T element);
+
+    private Thread createThread(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        if (deviceId != null)
+            Nd4j.getAffinityManager().attachThreadToDevice(thread, deviceId);
+        return thread;
+    }
+
+    /**
+     * This method starts producer thread, unless it's running already
+     */
+    protected synchronized void start() {
+        if (running)
+            return;
+
+        if (terminated)
+            throw new IllegalStateException("Prefetcher was shut down already");
+
+        running = true;
+        next = null;
+        producer = createThread(new Runnable() {
+            @Override
+            public void run() {
+                produce();
+            }
+        }, "AsyncPrefetcher producer thread " + threadCounter.incrementAndGet());
+        producer.start();
+    }
+
+    private void produce() {
+        try {
+            while (running && source.hasNext()) {
+                final T element = source.next();
+                Future<T> future;
+                try {
+                    future = workers.submit(new Callable<T>() {
+                        @Override
+                        public T call() throws Exception {
+                            preProcess(element);
+                            return element;
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    // we're shutting down
+                    return;
+                }
+
+                if (!put(future)) {
+                    future.cancel(false);
+                    return;
+                }
+            }
+        } catch (final Exception e) {
+            // consumer should know something went wrong, and then see the end of the source
+            FutureTask<T> failure = new FutureTask<>(new Callable<T>() {
+                @Override
+                public T call() throws Exception {
+                    throw e;
+                }
+            });
+            failure.run();
+            if (!put(failure))
+                return;
+        }
+
+        put(terminator);
+    }
+
+    // blocking put, which gives up once prefetcher is stopped
+    private boolean put(Future<T> future) {
+        try {
+            while (running) {
+                if (queue.offer(future, 10, TimeUnit.MILLISECONDS))
+                    return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+
+    public boolean hasNext() {
+        try {
+            while (next == null) {
+                next = queue.poll(10, TimeUnit.MILLISECONDS);
+
+                // prefetcher was stopped, so nothing will arrive
+                if (next == null && !running)
+                    return false;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+
+        return next != terminator;
+    }
+
+    public T next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+
+        Future<T> future = next;
+        next = null;
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException)
+                throw (RuntimeException) e.getCause();
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    /**
+     * This method stops producer thread, and discards everything prefetched so far.
+     * Once it returns, the source iterator isn't used by background threads, so it can be safely reset
+     */
+    protected synchronized void stop() {
+        running = false;
+        if (producer != null) {
+            while (producer.isAlive()) {
+                discardQueued();
+                try {
+                    producer.join(10);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException(e);
+                }
+            }
+            producer = null;
+        }
+
+        discardQueued();
+        if (next != null)
+            next.cancel(false);
+        next = null;
+    }
+
+    // elements which weren't preprocessed yet are skipped by workers
+    private void discardQueued() {
+        Future<T> future;
+        while ((future = queue.poll()) != null)
+            future.cancel(false);
+    }
+
+    /**
+     * This method stops all background threads. Prefetcher can't be used after that
+     */
+    protected void shutdown() {
+        terminated = true;
+        stop();
+        workers.shutdownNow();
+    }
+}
@@ -1,6 +1,7 @@
 package org.nd4j.linalg.dataset.api.iterator.cache;
 
 import org.nd4j.linalg.dataset.DataSet;
+import org.nd4j.linalg.dataset.shard.ShardedDataSetStore;
 
 import java.io.File;
 import java.io.IOException;
@@ -11,13 +12,24 @@ import java.nio.file.Path;
  */
 public class InFileDataSetCache implements DataSetCache {
     private File cacheDirectory;
+    private ShardedDataSetStore store;
 
     public InFileDataSetCache(File cacheDirectory) {
+        this(cacheDirectory, false);
+    }
+
+    /**
+     * @param cacheDirectory directory to keep cached DataSets in
+     * @param sharded if TRUE, DataSets will be appended to large shard files, instead of using one file per DataSet
+     */
+    public InFileDataSetCache(File cacheDirectory, boolean sharded) {
         if (cacheDirectory.exists() && !cacheDirectory.isDirectory()) {
             throw new IllegalArgumentException("can't use path " + cacheDirectory + " as file cache directory "
                             + "because it already exists, but is not a directory");
         }
         this.cacheDirectory = cacheDirectory;
+        if (sharded)
+            this.store = new ShardedDataSetStore(cacheDirectory);
     }
 
     public InFileDataSetCache(Path cacheDirectory) {
@@ -47,6 +59,10 @@ public class InFileDataSetCache implements DataSetCache {
     public void setComplete(String namespace, boolean value) {
         File file = namespaceFile(namespace);
         if (value) {
+            // index of the active shard should be on disk, before namespace is marked as complete
+            if (store != null)
+                store.seal();
+
             if (!file.exists()) {
                 File parentFile = file.getParentFile();
                 parentFile.mkdirs();
@@ -65,6 +81,9 @@ public class InFileDataSetCache implements DataSetCache {
 
     @Override
     public DataSet get(String key) {
+        if (store != null)
+            return store.get(key);
+
         File file = resolveKey(key);
 
         if (!file.exists()) {
@@ -80,6 +99,11 @@ public class InFileDataSetCache implements DataSetCache {
 
     @Override
     public void put(String key, DataSet dataSet) {
+        if (store != null) {
+            store.put(key, dataSet);
+            return;
+        }
+
         File file = resolveKey(key);
 
         File parentDir = file.getParentFile();
@@ -98,6 +122,9 @@ public class InFileDataSetCache implements DataSetCache {
 
     @Override
     public boolean contains(String key) {
+        if (store != null)
+            return store.contains(key);
+
         File file = resolveKey(key);
 
         Boolean exists = file.exists();
@@ -0,0 +1,424 @@
+package org.nd4j.linalg.dataset.api.iterator.cache;
+
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.compression.BasicNDArrayCompressor;
+import org.nd4j.linalg.compression.CompressedDataBuffer;
+import org.nd4j.linalg.dataset.DataSet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * DataSetCache with memory budget.
+ *
+ * Serialized DataSets are kept off-heap, optionally compressed with one of {@link BasicNDArrayCompressor} algorithms
+ * (i.e. "FLOAT16" or "GZIP"). Once memory budget is exceeded, least recently used DataSets are moved to the file tier.
+ * DataSets read from the file tier are moved back to memory only if they fit into the budget without evicting anything,
+ * so sequential multi-epoch iteration over data set larger than the budget doesn't thrash memory tier.
+ *
+ * If there's no file tier, DataSets exceeding the budget are just dropped.
+ *
+ * Eviction victims are picked under the lock, but written to the file tier after it's released,
+ * so readers never wait for disk I/O of other threads. Until written, they're still served from memory.
+ */
+public class TieredDataSetCache implements DataSetCache {
+
+    private static final Logger log = LoggerFactory.getLogger(TieredDataSetCache.class);
+
+    private final long memoryBudget;
+    private final DataSetCache fileTier;
+    private final String compression;
+
+    // access-ordered, so iteration starts from the least recently used entry
+    private final Map<String, ByteBuffer> memoryTier = new LinkedHashMap<>(16, 0.75f, true);
+    // evicted from memory tier, but not yet written to the file tier
+    private final Map<String, ByteBuffer> spilling = new HashMap<>();
+    // spills are written one at a time, so a stale value never overwrites a newer one
+    private final Object spillLock = new Object();
+    private final Set<String> completeNamespaces = new HashSet<>();
+    private long bytesResident = 0;
+
+    private final AtomicLong hits = new AtomicLong(0);
+    private final AtomicLong fileHits = new AtomicLong(0);
+    private final AtomicLong misses = new AtomicLong(0);
+    private final AtomicLong spills = new AtomicLong(0);
+    private final AtomicLong evictions = new AtomicLong(0);
+
+    /**
+     * Memory-only cache, DataSets exceeding the budget are dropped
+     *
+     * @param memoryBudget max number of bytes kept in memory
+     */
+    public TieredDataSetCache(long memoryBudget) {
+        this(memoryBudget, (DataSetCache) null, null);
+    }
+
+    /**
+     * @param memoryBudget max number of bytes kept in memory
+     * @param spillDirectory directory DataSets exceeding the budget are moved to
+     */
+    public TieredDataSetCache(long memoryBudget, File spillDirectory) {
+        this(memoryBudget, spillDirectory, null);
+    }
+
+    /**
+     * @param memoryBudget max number of bytes kept in memory
+     * @param spillDirectory directory DataSets exceeding the budget are moved to
+     * @param compression compression algorithm, or null for no compression
+     */
+    public TieredDataSetCache(long memoryBudget, File spillDirectory, String compression) {
+        this(memoryBudget, new InFileDataSetCache(spillDirectory, true), compression);
+    }
+
+    /**
+     * @param memoryBudget max number of bytes kept in memory
+     * @param fileTier cache DataSets exceeding the budget are moved to, or null to drop them
+     * @param compression compression algorithm, or null for no compression
+     */
+    public TieredDataSetCache(long memoryBudget, DataSetCache fileTier, String compression) {
+        if (memoryBudget <= 0)
+            throw new IllegalArgumentException("Memory budget should be positive");
+
+        if (compression != null && !BasicNDArrayCompressor.getInstance().getAvailableCompressors()
+                        .contains(compression.toUpperCase()))
+            throw new IllegalArgumentException("Non-existent compression algorithm requested: [" + compression + "]");
+
+        this.memoryBudget = memoryBudget;
+        this.fileTier = fileTier;
+        this.compression = compression;
+    }
+
+    @Override
+    public synchronized boolean isComplete(String namespace) {
+        return completeNamespaces.contains(namespace) || (fileTier != null && fileTier.isComplete(namespace));
+    }
+
+    @Override
+    public synchronized void setComplete(String namespace, boolean value) {
+        if (value) {
+            completeNamespaces.add(namespace);
+        } else {
+            completeNamespaces.remove(namespace);
+        }
+
+        // namespace is complete only if DataSets spilled later will be available too
+        if (fileTier != null)
+            fileTier.setComplete(namespace, value);
+    }
+
+    @Override
+    public DataSet get(String key) {
+        ByteBuffer buffer;
+        synchronized (this) {
+            buffer = memoryTier.get(key);
+            if (buffer == null)
+                buffer = spilling.get(key);
+        }
+
+        if (buffer != null) {
+            hits.incrementAndGet();
+            return decompress(deserialize(buffer));
+        }
+
+        DataSet dataSet = fileTier == null ? null : fileTier.get(key);
+        if (dataSet == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+
+        fileHits.incrementAndGet();
+        promote(key, dataSet);
+
+        return decompress(dataSet);
+    }
+
+    @Override
+    public void put(String key, DataSet dataSet) {
+        ByteBuffer buffer = serialize(compress(dataSet));
+
+        Map<String, ByteBuffer> victims = new LinkedHashMap<>();
+        synchronized (this) {
+            remove(key);
+            // older value might be on its way to the file tier
+            spilling.remove(key);
+
+            if (buffer.capacity() > memoryBudget) {
+                // there's no way to keep it in memory
+                victims.put(key, buffer);
+            } else {
+                memoryTier.put(key, buffer);
+                bytesResident += buffer.capacity();
+                pickVictims(victims);
+            }
+
+            if (fileTier != null)
+                spilling.putAll(victims);
+        }
+
+        for (Map.Entry<String, ByteBuffer> victim : victims.entrySet())
+            spill(victim.getKey(), victim.getValue());
+    }
+
+    @Override
+    public synchronized boolean contains(String key) {
+        return memoryTier.containsKey(key) || spilling.containsKey(key)
+                        || (fileTier != null && fileTier.contains(key));
+    }
+
+    // DataSet read from the file tier goes back to memory, only if it doesn't push anything else out
+    private void promote(String key, DataSet dataSet) {
+        ByteBuffer buffer = serialize(dataSet);
+
+        synchronized (this) {
+            if (!memoryTier.containsKey(key) && bytesResident + buffer.capacity() <= memoryBudget) {
+                memoryTier.put(key, buffer);
+                bytesResident += buffer.capacity();
+            }
+        }
+    }
+
+    private void remove(String key) {
+        ByteBuffer previous = memoryTier.remove(key);
+        if (previous != null) {
+            log.debug("evicting key {} from data set cache", key);
+            bytesResident -= previous.capacity();
+        }
+    }
+
+    // should be called with lock held, victims are removed from memory tier but not spilled yet
+    private void pickVictims(Map<String, ByteBuffer> victims) {
+        Iterator<Map.Entry<String, ByteBuffer>> iterator = memoryTier.entrySet().iterator();
+        while (bytesResident > memoryBudget && iterator.hasNext()) {
+            Map.Entry<String, ByteBuffer> entry = iterator.next();
+            iterator.remove();
+            bytesResident -= entry.getValue().capacity();
+            victims.put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    // should be called without lock held
+    private void spill(String key, ByteBuffer buffer) {
+        if (fileTier == null) {
+            evictions.incrementAndGet();
+            return;
+        }
+
+        synchronized (spillLock) {
+            synchronized (this) {
+                // newer value was put meanwhile
+                if (spilling.get(key) != buffer)
+                    return;
+            }
+
+            // arrays stay compressed on disk as well
+            fileTier.put(key, deserialize(buffer));
+            spills.incrementAndGet();
+
+            synchronized (this) {
+                if (spilling.get(key) == buffer)
+                    spilling.remove(key);
+            }
+        }
+    }
+
+    private DataSet compress(DataSet dataSet) {
+        if (compression == null)
+            return dataSet;
+
+        return new DataSet(compress(dataSet.getFeatures()), compress(dataSet.getLabels()),
+                        compress(dataSet.getFeaturesMaskArray()), compress(dataSet.getLabelsMaskArray()));
+    }
+
+    private INDArray compress(INDArray array) {
+        if (array == null || array.isCompressed())
+            return array;
+
+        return BasicNDArrayCompressor.getInstance().compress(array, compression);
+    }
+
+    private static DataSet decompress(DataSet dataSet) {
+        BasicNDArrayCompressor compressor = BasicNDArrayCompressor.getInstance();
+        for (INDArray array : new INDArray[] {dataSet.getFeatures(), dataSet.getLabels(),
+                        dataSet.getFeaturesMaskArray(), dataSet.getLabelsMaskArray()})
+            if (array != null)
+                compressor.autoDecompress(array);
+
+        return dataSet;
+    }
+
+    private static ByteBuffer serialize(DataSet dataSet) {
+        // serialized DataSet takes about as much as its arrays, plus headers
+        long estimate = 1024;
+        for (INDArray array : new INDArray[] {dataSet.getFeatures(), dataSet.getLabels(),
+                        dataSet.getFeaturesMaskArray(), dataSet.getLabelsMaskArray()})
+            if (array != null)
+                estimate += 512 + (array.isCompressed()
+                                ? ((CompressedDataBuffer) array.data()).getCompressionDescriptor().getCompressedLength()
+                                : array.data().length() * (long) array.data().getElementSize());
+
+        ByteBufferOutputStream os = new ByteBufferOutputStream((int) Math.min(estimate, Integer.MAX_VALUE - 8));
+        dataSet.save(os);
+        return os.toByteBuffer();
+    }
+
+    private static DataSet deserialize(ByteBuffer buffer) {
+        DataSet dataSet = new DataSet();
+        // duplicate has its own position, so concurrent reads don't interfere
+        dataSet.load(new ByteBufferInputStream(buffer.duplicate()));
+        return dataSet;
+    }
+
+    /**
+     * @return memory budget, in bytes
+     */
+    public long getMemoryBudget() {
+        return memoryBudget;
+    }
+
+    /**
+     * @return number of bytes currently kept in memory
+     */
+    public synchronized long getBytesResident() {
+        return bytesResident;
+    }
+
+    /**
+     * @return number of DataSets currently kept in memory
+     */
+    public synchronized int numResident() {
+        return memoryTier.size();
+    }
+
+    /**
+     * @return number of get() calls served from memory
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * @return number of get() calls served from the file tier
+     */
+    public long getFileHits() {
+        return fileHits.get();
+    }
+
+    /**
+     * @return number of get() calls for keys that weren't cached
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * @return number of DataSets moved from memory to the file tier
+     */
+    public long getSpills() {
+        return spills.get();
+    }
+
+    /**
+     * @return number of DataSets dropped, because there's no file tier
+     */
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    /**
+     * @return fraction of get() calls served from memory
+     */
+    public double getHitRate() {
+        long h = hits.get();
+        long total = h + fileHits.get() + misses.get();
+        return total == 0 ? 0.0 : (double) h / total;
+    }
+
+    /**
+     * OutputStream writing into direct ByteBuffer, which grows as needed
+     */
+    private static class ByteBufferOutputStream extends OutputStream {
+        private ByteBuffer buffer;
+
+        private ByteBufferOutputStream(int capacity) {
+            this.buffer = ByteBuffer.allocateDirect(capacity);
+        }
+
+        private void ensureRemaining(int length) {
+            if (buffer.remaining() >= length)
+                return;
+
+            long capacity = Math.max(buffer.capacity() * 2L, (long) buffer.position() + length);
+            ByteBuffer grown = ByteBuffer.allocateDirect((int) Math.min(capacity, Integer.MAX_VALUE - 8));
+            buffer.flip();
+            grown.put(buffer);
+            buffer = grown;
+        }
+
+        @Override
+        public void write(int b) {
+            ensureRemaining(1);
+            buffer.put((byte) b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            ensureRemaining(len);
+            buffer.put(b, off, len);
+        }
+
+        /**
+         * Returns written bytes. Buffer is trimmed if estimate was too far off, since capacity counts towards budget
+         */
+        private ByteBuffer toByteBuffer() {
+            buffer.flip();
+            if (buffer.capacity() - buffer.limit() <= buffer.limit() / 8)
+                return buffer.slice();
+
+            ByteBuffer trimmed = ByteBuffer.allocateDirect(buffer.limit());
+            trimmed.put(buffer);
+            trimmed.flip();
+            return trimmed;
+        }
+    }
+
+    private static class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0)
+                return 0;
+            if (!buffer.hasRemaining())
+                return -1;
+
+            len = Math.min(len, buffer.remaining());
+            buffer.get(b, off, len);
+            return len;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
@@ -80,26 +80,40 @@ public abstract class AbstractDataSetNormalizer<S extends NormalizerStats> exten
     }
 
     /**
-     * Fit the given model
+     * Fit the given model. Batches are consumed in a single pass, by multiple threads
+     * (see {@link ParallelStatsFitter}), each one keeping its own statistics merged at the end
      *
      * @param iterator for the data to iterate over
      */
     @Override
     public void fit(DataSetIterator iterator) {
-        S.Builder featureNormBuilder = newBuilder();
-        S.Builder labelNormBuilder = newBuilder();
-
         iterator.reset();
-        while (iterator.hasNext()) {
-            DataSet next = iterator.next();
-            featureNormBuilder.addFeatures(next);
-            if (fitLabels) {
-                labelNormBuilder.addLabels(next);
-            }
-        }
-        featureStats = (S) featureNormBuilder.build();
+        ParallelStatsFitter.Builders<S.Builder> builders =
+                        new ParallelStatsFitter<DataSet, ParallelStatsFitter.Builders<S.Builder>>() {
+                            @Override
+                            protected ParallelStatsFitter.Builders<S.Builder> newPartial() {
+                                return new ParallelStatsFitter.Builders<>(newBuilder(), newBuilder());
+                            }
+
+                            @Override
+                            protected void fitPartial(ParallelStatsFitter.Builders<S.Builder> partial, DataSet batch) {
+                                partial.features.addFeatures(batch);
+                                if (fitLabels) {
+                                    partial.labels.addLabels(batch);
+                                }
+                            }
+
+                            @Override
+                            protected void merge(ParallelStatsFitter.Builders<S.Builder> target,
+                                            ParallelStatsFitter.Builders<S.Builder> other) {
+                                target.features.merge(other.features);
+                                target.labels.merge(other.labels);
+                            }
+                        }.fit(iterator);
+
+        featureStats = (S) builders.features.build();
         if (fitLabels) {
-            labelStats = (S) labelNormBuilder.build();
+            labelStats = (S) builders.labels.build();
         }
         iterator.reset();
     }
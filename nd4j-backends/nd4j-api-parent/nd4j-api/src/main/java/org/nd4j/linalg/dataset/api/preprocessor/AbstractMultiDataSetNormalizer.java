@@ -94,23 +94,50 @@ public abstract class AbstractMultiDataSetNormalizer<S extends NormalizerStats>
     }
 
     /**
-     * Fit an iterator
+     * Fit an iterator. Batches are consumed in a single pass, by multiple threads
+     * (see {@link ParallelStatsFitter}), each one keeping its own statistics merged at the end
      *
      * @param iterator for the data to iterate over
      */
     public void fit(@NonNull MultiDataSetIterator iterator) {
-        List<S.Builder> featureNormBuilders = new ArrayList<>();
-        List<S.Builder> labelNormBuilders = new ArrayList<>();
-
         iterator.reset();
-        while (iterator.hasNext()) {
-            MultiDataSet next = iterator.next();
-            fitPartial(next, featureNormBuilders, labelNormBuilders);
+        ParallelStatsFitter.Builders<List<S.Builder>> builders =
+                        new ParallelStatsFitter<MultiDataSet, ParallelStatsFitter.Builders<List<S.Builder>>>() {
+                            @Override
+                            protected ParallelStatsFitter.Builders<List<S.Builder>> newPartial() {
+                                return new ParallelStatsFitter.Builders<List<S.Builder>>(new ArrayList<S.Builder>(),
+                                                new ArrayList<S.Builder>());
+                            }
+
+                            @Override
+                            protected void fitPartial(ParallelStatsFitter.Builders<List<S.Builder>> partial,
+                                            MultiDataSet batch) {
+                                AbstractMultiDataSetNormalizer.this.fitPartial(batch, partial.features,
+                                                partial.labels);
+                            }
+
+                            @Override
+                            protected void merge(ParallelStatsFitter.Builders<List<S.Builder>> target,
+                                            ParallelStatsFitter.Builders<List<S.Builder>> other) {
+                                mergeList(target.features, other.features);
+                                mergeList(target.labels, other.labels);
+                            }
+                        }.fit(iterator);
+
+        featureStats = buildList(builders.features);
+        if (isFitLabel()) {
+            labelStats = buildList(builders.labels);
         }
+    }
 
-        featureStats = buildList(featureNormBuilders);
-        if (isFitLabel()) {
-            labelStats = buildList(labelNormBuilders);
+    private void mergeList(List<S.Builder> target, List<S.Builder> other) {
+        if (target.isEmpty()) {
+            // partial state which hasn't seen any data yet
+            target.addAll(other);
+        } else if (!other.isEmpty()) {
+            for (int i = 0; i < target.size(); i++) {
+                target.get(i).merge(other.get(i));
+            }
         }
     }
 
@@ -238,16 +238,48 @@ public class MultiNormalizerHybrid extends AbstractNormalizer implements MultiDa
      */
     @Override
     public void fit(@NonNull MultiDataSetIterator iterator) {
-        Map<Integer, NormalizerStats.Builder> inputStatsBuilders = new HashMap<>();
-        Map<Integer, NormalizerStats.Builder> outputStatsBuilders = new HashMap<>();
-
         iterator.reset();
-        while (iterator.hasNext()) {
-            fitPartial(iterator.next(), inputStatsBuilders, outputStatsBuilders);
+        StatsBuilders builders = new ParallelStatsFitter<MultiDataSet, StatsBuilders>() {
+            @Override
+            protected StatsBuilders newPartial() {
+                return new StatsBuilders();
+            }
+
+            @Override
+            protected void fitPartial(StatsBuilders partial, MultiDataSet batch) {
+                MultiNormalizerHybrid.this.fitPartial(batch, partial.features, partial.labels);
+            }
+
+            @Override
+            protected void merge(StatsBuilders target, StatsBuilders other) {
+                mergeAllStats(target.features, other.features);
+                mergeAllStats(target.labels, other.labels);
+            }
+        }.fit(iterator);
+
+        inputStats = buildAllStats(builders.features);
+        outputStats = buildAllStats(builders.labels);
+    }
+
+    /**
+     * Input and output stats builders, keyed by array index
+     */
+    private static class StatsBuilders extends ParallelStatsFitter.Builders<Map<Integer, NormalizerStats.Builder>> {
+        StatsBuilders() {
+            super(new HashMap<Integer, NormalizerStats.Builder>(), new HashMap<Integer, NormalizerStats.Builder>());
         }
+    }
 
-        inputStats = buildAllStats(inputStatsBuilders);
-        outputStats = buildAllStats(outputStatsBuilders);
+    private void mergeAllStats(Map<Integer, NormalizerStats.Builder> target,
+                    Map<Integer, NormalizerStats.Builder> other) {
+        for (Map.Entry<Integer, NormalizerStats.Builder> entry : other.entrySet()) {
+            NormalizerStats.Builder builder = target.get(entry.getKey());
+            if (builder == null) {
+                target.put(entry.getKey(), entry.getValue());
+            } else {
+                builder.merge(entry.getValue());
+            }
+        }
     }
 
     private void fitPartial(MultiDataSet dataSet, Map<Integer, NormalizerStats.Builder> inputStatsBuilders,
@@ -0,0 +1,180 @@
+package org.nd4j.linalg.dataset.api.preprocessor;
+
+import org.nd4j.linalg.api.ops.executioner.GridExecutioner;
+import org.nd4j.linalg.executors.ExecutorServiceProvider;
+import org.nd4j.linalg.factory.Nd4j;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Fits normalizer statistics over an iterator using multiple worker threads.
+ *
+ * The iterator itself is only touched by the calling thread, which hands batches over to workers through a small
+ * bounded queue. Each worker adds batches to its own partial state (i.e. its own stats builders), and partial states
+ * are merged once the iterator is exhausted, so statistics are computed in a single pass over the data.
+ *
+ * Workers run on the shared {@link ExecutorServiceProvider#getExecutorService()} pool, and their number defaults to
+ * {@link ExecutorServiceProvider#getNumThreads()}. The calling thread keeps a partial state of its own, and fits
+ * batches itself whenever the queue is full, so fitting makes progress even if the pool is busy with other work.
+ * With a single worker batches are added on the calling thread only.
+ *
+ * @param <T> batch type, DataSet or MultiDataSet
+ * @param <P> partial state type
+ */
+abstract class ParallelStatsFitter<T, P> {
+    private static final int NEW = 0;
+    private static final int RUNNING = 1;
+    private static final int SKIPPED = 2;
+
+    /**
+     * Partial state holding separate builders (or collections of builders) for features and labels
+     */
+    static class Builders<B> {
+        final B features;
+        final B labels;
+
+        Builders(B features, B labels) {
+            this.features = features;
+            this.labels = labels;
+        }
+    }
+
+    /**
+     * Create empty partial state for a worker
+     */
+    protected abstract P newPartial();
+
+    /**
+     * Add a batch to the partial state of a worker
+     */
+    protected abstract void fitPartial(P partial, T batch);
+
+    /**
+     * Merge other partial state into the target one
+     */
+    protected abstract void merge(P target, P other);
+
+    public P fit(Iterator<? extends T> iterator) {
+        return fit(iterator, ExecutorServiceProvider.getNumThreads());
+    }
+
+    /**
+     * Fit all batches of the iterator
+     *
+     * @param iterator the iterator to consume
+     * @param workers the number of threads to fit on, including the calling one
+     * @return merged partial state
+     */
+    public P fit(Iterator<? extends T> iterator, int workers) {
+        P result = newPartial();
+        if (workers <= 1) {
+            while (iterator.hasNext()) {
+                fitPartial(result, iterator.next());
+            }
+            return result;
+        }
+
+        final BlockingQueue<T> queue = new ArrayBlockingQueue<>(workers * 2);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final AtomicBoolean done = new AtomicBoolean(false);
+
+        ExecutorService executor = ExecutorServiceProvider.getExecutorService();
+        List<Future<P>> futures = new ArrayList<>(workers - 1);
+        List<AtomicInteger> states = new ArrayList<>(workers - 1);
+        try {
+            for (int i = 0; i < workers - 1; i++) {
+                // NEW -> RUNNING when worker starts, NEW -> SKIPPED when caller gives up waiting for it to start
+                final AtomicInteger state = new AtomicInteger(NEW);
+                states.add(state);
+                futures.add(executor.submit(new Callable<P>() {
+                    @Override
+                    public P call() throws Exception {
+                        if (!state.compareAndSet(NEW, RUNNING))
+                            return null;
+
+                        P partial = newPartial();
+                        try {
+                            while (true) {
+                                T batch = queue.poll(10, TimeUnit.MILLISECONDS);
+                                if (batch == null) {
+                                    if (done.get())
+                                        return partial;
+                                    continue;
+                                }
+
+                                // after a failure batches are only drained
+                                if (failure.get() == null) {
+                                    try {
+                                        fitPartial(partial, batch);
+                                    } catch (Throwable t) {
+                                        failure.compareAndSet(null, t);
+                                    }
+                                }
+                            }
+                        } finally {
+                            // ops held back by grid executioner on this thread must land before partial is merged
+                            if (Nd4j.getExecutioner() instanceof GridExecutioner)
+                                ((GridExecutioner) Nd4j.getExecutioner()).flushQueueBlocking();
+                        }
+                    }
+                }));
+            }
+
+            while (iterator.hasNext() && failure.get() == null) {
+                T batch = iterator.next();
+                if (!queue.offer(batch)) {
+                    fitPartial(result, batch);
+                }
+            }
+
+            // leftovers are fitted here, so workers which never got scheduled don't have to be waited for
+            done.set(true);
+            T batch;
+            while ((batch = queue.poll()) != null) {
+                if (failure.get() == null)
+                    fitPartial(result, batch);
+            }
+
+            List<P> partials = new ArrayList<>(futures.size());
+            for (int i = 0; i < futures.size(); i++) {
+                if (!states.get(i).compareAndSet(NEW, SKIPPED))
+                    partials.add(futures.get(i).get());
+            }
+
+            rethrow(failure.get());
+
+            for (P partial : partials) {
+                merge(result, partial);
+            }
+            return result;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            rethrow(e.getCause());
+            throw new RuntimeException(e.getCause());
+        } finally {
+            // on failure of the calling thread workers stop as soon as they finish their current batch
+            done.set(true);
+            queue.clear();
+            for (AtomicInteger state : states)
+                state.compareAndSet(NEW, SKIPPED);
+        }
+    }
+
+    private static void rethrow(Throwable t) {
+        if (t instanceof RuntimeException) {
+            throw (RuntimeException) t;
+        } else if (t instanceof Error) {
+            throw (Error) t;
+        } else if (t != null) {
+            throw new RuntimeException(t);
+        }
+    }
+}
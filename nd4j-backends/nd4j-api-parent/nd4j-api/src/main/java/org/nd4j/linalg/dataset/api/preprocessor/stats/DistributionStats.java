@@ -66,12 +66,16 @@ public class DistributionStats implements NormalizerStats {
 
     /**
      * Builder class that can incrementally update a running mean and variance in order to create statistics for a
-     * large set of data
+     * large set of data.
+     *
+     * Keeps count, mean and sum of squared differences from the mean (M2), which are combined with each batch
+     * (or another builder) using the parallel algorithm by Chan et al., see
+     * https://en.wikipedia.org/wiki/Algorithms_for_calculating_variance#Parallel_algorithm
      */
     public static class Builder implements NormalizerStats.Builder<DistributionStats> {
-        private int runningCount = 0;
+        private long runningCount = 0;
         private INDArray runningMean;
-        private INDArray runningVariance;
+        private INDArray runningM2;
 
         /**
          * Add the features of a DataSet to the statistics
@@ -96,39 +100,50 @@ public class DistributionStats implements NormalizerStats {
         public Builder add(@NonNull INDArray data, INDArray mask) {
             data = DataSetUtil.tailor2d(data, mask);
 
-            // Using https://en.wikipedia.org/wiki/Algorithms_for_calculating_variance#Parallel_algorithm
             if (data == null) {
                 // Nothing to add. Either data is empty or completely masked. Just skip it, otherwise we will get
                 // null pointer exceptions.
                 return this;
             }
-            INDArray mean = data.mean(0);
-            INDArray variance = data.var(false, 0);
             int count = data.size(0);
+            INDArray mean = data.mean(0);
+            INDArray m2 = data.var(false, 0).muli(count);
+
+            combine(count, mean, m2);
+            return this;
+        }
+
+        /**
+         * Merge statistics collected by another DistributionStats builder into this one
+         *
+         * @param other the builder to merge
+         */
+        @Override
+        public Builder merge(@NonNull NormalizerStats.Builder<DistributionStats> other) {
+            Builder that = (Builder) other;
+            if (that.runningMean != null) {
+                combine(that.runningCount, that.runningMean.dup(), that.runningM2.dup());
+            }
+            return this;
+        }
 
+        /**
+         * Combine running statistics with the statistics of another part of data. Given arrays are taken over.
+         */
+        private void combine(long count, INDArray mean, INDArray m2) {
             if (runningMean == null) {
                 // First batch
-                runningMean = mean;
-                runningVariance = variance;
                 runningCount = count;
-            } else {
-                // Update running variance
-                INDArray deltaSquared = Transforms.pow(mean.subRowVector(runningMean), 2);
-                INDArray mB = variance.muli(count);
-                runningVariance.muli(runningCount).addiRowVector(mB)
-                                .addiRowVector(deltaSquared
-                                                .muli((float) (runningCount * count) / (runningCount + count)))
-                                .divi(runningCount + count);
-
-                // Update running count
-                runningCount += count;
-
-                // Update running mean
-                INDArray xMinusMean = data.subRowVector(runningMean);
-                runningMean.addi(xMinusMean.sum(0).divi(runningCount));
+                runningMean = mean;
+                runningM2 = m2;
+                return;
             }
 
-            return this;
+            double total = runningCount + count;
+            INDArray delta = mean.subi(runningMean);
+            runningM2.addi(m2).addi(delta.mul(delta).muli(runningCount * (count / total)));
+            runningMean.addi(delta.muli(count / total));
+            runningCount += count;
         }
 
         /**
@@ -139,7 +154,7 @@ public class DistributionStats implements NormalizerStats {
             if (runningMean == null) {
                 throw new RuntimeException("No data was added, statistics cannot be determined");
             }
-            return new DistributionStats(runningMean.dup(), Transforms.sqrt(runningVariance, true));
+            return new DistributionStats(runningMean.dup(), Transforms.sqrt(runningM2.div(runningCount), false));
         }
     }
 }
@@ -100,7 +100,6 @@ public class MinMaxStats implements NormalizerStats {
                 return this;
             }
 
-            INDArray tad = data.javaTensorAlongDimension(0, 0);
             INDArray batchMin = data.min(0);
             INDArray batchMax = data.max(0);
             if (!Arrays.equals(batchMin.shape(), batchMax.shape()))
@@ -121,6 +120,28 @@ public class MinMaxStats implements NormalizerStats {
             return this;
         }
 
+        /**
+         * Merge bounds collected by another MinMaxStats builder into this one
+         *
+         * @param other the builder to merge
+         */
+        @Override
+        public MinMaxStats.Builder merge(@NonNull NormalizerStats.Builder<MinMaxStats> other) {
+            MinMaxStats.Builder that = (MinMaxStats.Builder) other;
+            if (that.runningLower == null) {
+                return this;
+            }
+
+            if (runningLower == null) {
+                runningLower = that.runningLower.dup();
+                runningUpper = that.runningUpper.dup();
+            } else {
+                Transforms.min(runningLower, that.runningLower, false);
+                Transforms.max(runningUpper, that.runningUpper, false);
+            }
+            return this;
+        }
+
         /**
          * Create a DistributionStats object from the data ingested so far. Can be used multiple times when updating
          * online.
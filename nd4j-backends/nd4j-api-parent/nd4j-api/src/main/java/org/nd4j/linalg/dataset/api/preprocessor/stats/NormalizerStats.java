@@ -28,6 +28,16 @@ public interface NormalizerStats extends Serializable {
          */
         Builder<S> add(INDArray data, INDArray mask);
 
+        /**
+         * Merge statistics collected by another builder of the same type into this one, as if all the data added to
+         * the other builder was added to this one. The other builder isn't modified.
+         * Builders aren't thread safe, so the usual way of fitting on multiple threads is one builder per thread,
+         * merged once all data is added.
+         *
+         * @param other the builder to merge
+         */
+        Builder<S> merge(Builder<S> other);
+
         /**
          * Builder pattern
          * @return
@@ -0,0 +1,227 @@
+package org.nd4j.linalg.dataset.shard;
+
+import lombok.NonNull;
+import org.nd4j.linalg.dataset.DataSet;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.*;
+
+/**
+ * Read-only view of a single DataSet shard file, written by {@link DataSetShardWriter}.
+ *
+ * Shard file layout:
+ * header: int MAGIC, int VERSION
+ * records: DataSets, as written by {@link DataSet#save(OutputStream)}, one after another
+ * index: for each record: long offset, int length, int numExamples, boolean hasKey, [UTF key]
+ * trailer: long index offset, int number of records, int MAGIC
+ *
+ * Since the index is read once on open, any record can be read with a single positional read,
+ * so random access (i.e. shuffled epochs) costs as much as sequential access.
+ * Reads don't change channel position, so single shard can be used from multiple threads.
+ */
+public class DataSetShard implements Closeable {
+    public static final int MAGIC = 0x4E445348;
+    public static final int VERSION = 1;
+    public static final int HEADER_LENGTH = 8;
+    public static final int TRAILER_LENGTH = 16;
+
+    /**
+     * Location of a single DataSet within a shard
+     */
+    public static class Entry {
+        private final String key;
+        private final long offset;
+        private final int length;
+        private final int numExamples;
+
+        public Entry(String key, long offset, int length, int numExamples) {
+            this.key = key;
+            this.offset = offset;
+            this.length = length;
+            this.numExamples = numExamples;
+        }
+
+        /**
+         * @return key of this record, or null if it was written without a key
+         */
+        public String getKey() {
+            return key;
+        }
+
+        public long getOffset() {
+            return offset;
+        }
+
+        public int getLength() {
+            return length;
+        }
+
+        public int getNumExamples() {
+            return numExamples;
+        }
+    }
+
+    private final File file;
+    private final RandomAccessFile raf;
+    private final FileChannel channel;
+    private final List<Entry> entries;
+    private final Map<String, Integer> keys = new HashMap<>();
+
+    /**
+     * Opens shard file, and reads its index
+     *
+     * @param file shard file
+     * @throws IOException if file can't be read, or isn't a complete shard
+     */
+    public DataSetShard(@NonNull File file) throws IOException {
+        this.file = file;
+        this.raf = new RandomAccessFile(file, "r");
+        this.channel = raf.getChannel();
+
+        try {
+            this.entries = Collections.unmodifiableList(readIndex());
+        } catch (IOException | RuntimeException e) {
+            raf.close();
+            throw e;
+        }
+
+        for (int i = 0; i < entries.size(); i++)
+            if (entries.get(i).getKey() != null)
+                keys.put(entries.get(i).getKey(), i);
+    }
+
+    private List<Entry> readIndex() throws IOException {
+        long fileLength = channel.size();
+        if (fileLength < HEADER_LENGTH + TRAILER_LENGTH)
+            throw new IOException("File " + file + " is too short to be a DataSet shard");
+
+        ByteBuffer header = readFully(channel, 0, HEADER_LENGTH);
+        if (header.getInt() != MAGIC)
+            throw new IOException("File " + file + " isn't a DataSet shard");
+        int version = header.getInt();
+        if (version != VERSION)
+            throw new IOException("Unsupported DataSet shard version: " + version);
+
+        ByteBuffer trailer = readFully(channel, fileLength - TRAILER_LENGTH, TRAILER_LENGTH);
+        long indexOffset = trailer.getLong();
+        int numRecords = trailer.getInt();
+        if (trailer.getInt() != MAGIC || indexOffset < HEADER_LENGTH || indexOffset > fileLength - TRAILER_LENGTH)
+            throw new IOException("DataSet shard " + file + " has no valid index, probably it wasn't closed properly");
+
+        ByteBuffer index = readFully(channel, indexOffset, (int) (fileLength - TRAILER_LENGTH - indexOffset));
+        DataInputStream dis = new DataInputStream(
+                        new ByteArrayInputStream(index.array(), index.arrayOffset(), index.remaining()));
+        List<Entry> list = new ArrayList<>(numRecords);
+        for (int i = 0; i < numRecords; i++) {
+            long offset = dis.readLong();
+            int length = dis.readInt();
+            int numExamples = dis.readInt();
+            String key = dis.readBoolean() ? dis.readUTF() : null;
+            list.add(new Entry(key, offset, length, numExamples));
+        }
+
+        return list;
+    }
+
+    /**
+     * This method checks, if given file is a complete DataSet shard
+     *
+     * @param file
+     * @return
+     */
+    public static boolean isShard(@NonNull File file) {
+        if (!file.isFile())
+            return false;
+
+        try (DataSetShard shard = new DataSetShard(file)) {
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * @return number of DataSets stored in this shard
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    public Entry getEntry(int index) {
+        return entries.get(index);
+    }
+
+    /**
+     * @return index of the record with the given key, or -1 if there's no such key
+     */
+    public int indexOf(String key) {
+        Integer index = keys.get(key);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * This method reads DataSet with the given index
+     *
+     * @param index
+     * @return
+     */
+    public DataSet get(int index) {
+        Entry entry = entries.get(index);
+        return read(channel, entry.getOffset(), entry.getLength());
+    }
+
+    /**
+     * This method reads DataSet with the given key, or returns null if there's no such key
+     *
+     * @param key
+     * @return
+     */
+    public DataSet get(String key) {
+        int index = indexOf(key);
+        return index < 0 ? null : get(index);
+    }
+
+    protected FileChannel getChannel() {
+        return channel;
+    }
+
+    /**
+     * This method reads single DataSet record from the channel, without changing channel position
+     */
+    protected static DataSet read(FileChannel channel, long offset, int length) {
+        try {
+            ByteBuffer buffer = readFully(channel, offset, length);
+            DataSet ds = new DataSet();
+            ds.load(new ByteArrayInputStream(buffer.array(), buffer.arrayOffset(), buffer.remaining()));
+            return ds;
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    protected static ByteBuffer readFully(FileChannel channel, long offset, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, offset + buffer.position());
+            if (read < 0)
+                throw new EOFException("Unexpected end of DataSet shard");
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    @Override
+    public void close() throws IOException {
+        raf.close();
+    }
+}
@@ -0,0 +1,125 @@
+package org.nd4j.linalg.dataset.shard;
+
+import lombok.NonNull;
+import org.apache.commons.io.output.CloseShieldOutputStream;
+import org.apache.commons.io.output.CountingOutputStream;
+import org.nd4j.linalg.dataset.DataSet;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming writer of DataSet shard files, see {@link DataSetShard} for the layout.
+ *
+ * DataSets are written straight to the file as they are appended, and only their offsets are kept in memory,
+ * so shard size isn't limited by available memory. Index is written on {@link #close()},
+ * and shard can't be read before that.
+ */
+public class DataSetShardWriter implements Closeable {
+    private final File file;
+    private final CountingOutputStream out;
+    private final DataOutputStream dos;
+    private final List<DataSetShard.Entry> entries = new ArrayList<>();
+    private boolean closed = false;
+
+    public DataSetShardWriter(@NonNull File file) throws IOException {
+        this.file = file;
+        this.out = new CountingOutputStream(new BufferedOutputStream(new FileOutputStream(file, false)));
+        this.dos = new DataOutputStream(out);
+
+        dos.writeInt(DataSetShard.MAGIC);
+        dos.writeInt(DataSetShard.VERSION);
+    }
+
+    /**
+     * This method appends DataSet to the shard
+     *
+     * @param dataSet
+     * @return index of the DataSet within this shard
+     */
+    public int write(@NonNull DataSet dataSet) throws IOException {
+        return write(null, dataSet);
+    }
+
+    /**
+     * This method appends DataSet to the shard, under the given key
+     *
+     * @param key key of the DataSet, or null
+     * @param dataSet
+     * @return index of the DataSet within this shard
+     */
+    public synchronized int write(String key, @NonNull DataSet dataSet) throws IOException {
+        if (closed)
+            throw new IllegalStateException("DataSet shard " + file + " is already closed");
+
+        long offset = out.getByteCount();
+        // DataSet.save() closes the stream it's given
+        dataSet.save(new CloseShieldOutputStream(out));
+        long length = out.getByteCount() - offset;
+        if (length > Integer.MAX_VALUE)
+            throw new IOException("DataSet is too large to be stored in a shard: " + length + " bytes");
+
+        int numExamples = dataSet.getFeatures() == null ? 0 : dataSet.numExamples();
+        entries.add(new DataSetShard.Entry(key, offset, (int) length, numExamples));
+        return entries.size() - 1;
+    }
+
+    /**
+     * This method flushes DataSets written so far to the file, so they can be read with positional reads
+     */
+    public synchronized void flush() throws IOException {
+        dos.flush();
+    }
+
+    /**
+     * @return number of DataSets written so far
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return number of bytes written so far
+     */
+    public synchronized long bytesWritten() {
+        return out.getByteCount();
+    }
+
+    public synchronized DataSetShard.Entry getEntry(int index) {
+        return entries.get(index);
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * This method writes index, and closes the file
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed)
+            return;
+        closed = true;
+
+        try {
+            long indexOffset = out.getByteCount();
+            for (DataSetShard.Entry entry : entries) {
+                dos.writeLong(entry.getOffset());
+                dos.writeInt(entry.getLength());
+                dos.writeInt(entry.getNumExamples());
+                dos.writeBoolean(entry.getKey() != null);
+                if (entry.getKey() != null)
+                    dos.writeUTF(entry.getKey());
+            }
+
+            dos.writeLong(indexOffset);
+            dos.writeInt(entries.size());
+            dos.writeInt(DataSetShard.MAGIC);
+            dos.flush();
+        } finally {
+            dos.close();
+        }
+    }
+}
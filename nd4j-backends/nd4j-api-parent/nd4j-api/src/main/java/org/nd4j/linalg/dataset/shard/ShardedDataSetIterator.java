@@ -0,0 +1,287 @@
+package org.nd4j.linalg.dataset.shard;
+
+import lombok.NonNull;
+import org.nd4j.linalg.dataset.DataSet;
+import org.nd4j.linalg.dataset.api.DataSetPreProcessor;
+import org.nd4j.linalg.dataset.api.iterator.DataSetIterator;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * DataSetIterator over DataSet shard files, written by {@link DataSetShardWriter}.
+ *
+ * Since shard indexes give location of every DataSet, any DataSet can be read in O(1), see {@link #get(int)},
+ * so iteration order can be shuffled on every epoch without any extra cost.
+ * DataSets are read ahead in background threads, up to prefetch DataSets in advance.
+ *
+ * PLEASE NOTE: this iterator holds open files, so it should be closed once it's not needed anymore
+ */
+public class ShardedDataSetIterator implements DataSetIterator, Closeable {
+    public static final int DEFAULT_PREFETCH = 4;
+
+    private final transient List<DataSetShard> shards = new ArrayList<>();
+    // global index -> shard & record within shard
+    private final int[] shardIndex;
+    private final int[] recordIndex;
+    private final int[] order;
+
+    private final boolean shuffle;
+    private final Random random;
+    private final int prefetch;
+    private final int totalExamples;
+
+    private transient ExecutorService executor;
+    private final transient Deque<Future<DataSet>> queue = new ArrayDeque<>();
+    private int cursor = 0;
+    private int submitted = 0;
+
+    private DataSetPreProcessor preProcessor;
+    private DataSet first;
+
+    /**
+     * Iterates over shards in their natural order, with default read-ahead
+     *
+     * @param files shard files
+     */
+    public ShardedDataSetIterator(@NonNull List<File> files) throws IOException {
+        this(files, false, 0L, DEFAULT_PREFETCH);
+    }
+
+    /**
+     *
+     * @param files shard files
+     * @param shuffle if TRUE, iteration order will be shuffled on every reset
+     * @param seed seed used for shuffling
+     * @param prefetch number of DataSets read ahead in background, 0 disables read-ahead
+     */
+    public ShardedDataSetIterator(@NonNull List<File> files, boolean shuffle, long seed, int prefetch)
+                    throws IOException {
+        if (prefetch < 0)
+            throw new IllegalArgumentException("Prefetch can't be negative");
+
+        try {
+            for (File file : files)
+                shards.add(new DataSetShard(file));
+        } catch (IOException e) {
+            for (DataSetShard shard : shards)
+                shard.close();
+            throw e;
+        }
+
+        int total = 0;
+        int examples = 0;
+        for (DataSetShard shard : shards) {
+            total += shard.size();
+            for (DataSetShard.Entry entry : shard.getEntries())
+                examples += entry.getNumExamples();
+        }
+
+        this.shardIndex = new int[total];
+        this.recordIndex = new int[total];
+        this.order = new int[total];
+        int position = 0;
+        for (int s = 0; s < shards.size(); s++) {
+            for (int r = 0; r < shards.get(s).size(); r++) {
+                shardIndex[position] = s;
+                recordIndex[position] = r;
+                order[position] = position;
+                position++;
+            }
+        }
+
+        this.totalExamples = examples;
+        this.shuffle = shuffle;
+        this.random = new Random(seed);
+        this.prefetch = prefetch;
+
+        if (prefetch > 0)
+            executor = Executors.newFixedThreadPool(Math.min(prefetch, 2), new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread thread = new Thread(r, "ShardedDataSetIterator prefetch thread");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+
+        reset();
+    }
+
+    /**
+     * @return number of DataSets available
+     */
+    public int size() {
+        return order.length;
+    }
+
+    /**
+     * This method reads DataSet with the given global index, regardless of the iteration order.
+     * PreProcessor isn't applied here.
+     *
+     * @param index index of the DataSet, in [0, size())
+     * @return
+     */
+    public DataSet get(int index) {
+        return shards.get(shardIndex[index]).get(recordIndex[index]);
+    }
+
+    private void fill() {
+        if (executor == null)
+            return;
+
+        while (queue.size() < prefetch && submitted < order.length) {
+            final int index = order[submitted++];
+            queue.add(executor.submit(new Callable<DataSet>() {
+                @Override
+                public DataSet call() throws Exception {
+                    return get(index);
+                }
+            }));
+        }
+    }
+
+    private void cancelPrefetch() {
+        for (Future<DataSet> future : queue)
+            future.cancel(false);
+        queue.clear();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return cursor < order.length;
+    }
+
+    @Override
+    public DataSet next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+
+        DataSet ds;
+        if (executor == null) {
+            ds = get(order[cursor]);
+        } else {
+            fill();
+            try {
+                ds = queue.poll().get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            } catch (ExecutionException e) {
+                throw new RuntimeException(e.getCause());
+            }
+        }
+        cursor++;
+        fill();
+
+        if (preProcessor != null)
+            preProcessor.preProcess(ds);
+
+        return ds;
+    }
+
+    @Override
+    public DataSet next(int num) {
+        throw new UnsupportedOperationException("Unable to load custom number of examples");
+    }
+
+    @Override
+    public void reset() {
+        cancelPrefetch();
+        cursor = 0;
+        submitted = 0;
+
+        if (shuffle) {
+            for (int i = order.length - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int tmp = order[i];
+                order[i] = order[j];
+                order[j] = tmp;
+            }
+        }
+
+        fill();
+    }
+
+    private DataSet first() {
+        if (first == null && order.length > 0)
+            first = get(0);
+        return first;
+    }
+
+    @Override
+    public int totalExamples() {
+        return totalExamples;
+    }
+
+    @Override
+    public int inputColumns() {
+        DataSet ds = first();
+        return ds == null || ds.getFeatures() == null ? 0 : ds.getFeatures().columns();
+    }
+
+    @Override
+    public int totalOutcomes() {
+        DataSet ds = first();
+        return ds == null || ds.getLabels() == null ? 0 : ds.getLabels().columns();
+    }
+
+    @Override
+    public boolean resetSupported() {
+        return true;
+    }
+
+    @Override
+    public boolean asyncSupported() {
+        // we do our own read-ahead
+        return false;
+    }
+
+    @Override
+    public int batch() {
+        return order.length == 0 ? 0 : shards.get(shardIndex[0]).getEntry(recordIndex[0]).getNumExamples();
+    }
+
+    @Override
+    public int cursor() {
+        return cursor;
+    }
+
+    @Override
+    public int numExamples() {
+        return totalExamples;
+    }
+
+    @Override
+    public void setPreProcessor(DataSetPreProcessor preProcessor) {
+        this.preProcessor = preProcessor;
+    }
+
+    @Override
+    public DataSetPreProcessor getPreProcessor() {
+        return preProcessor;
+    }
+
+    @Override
+    public List<String> getLabels() {
+        return null;
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void close() throws IOException {
+        cancelPrefetch();
+        if (executor != null)
+            executor.shutdownNow();
+
+        for (DataSetShard shard : shards)
+            shard.close();
+    }
+}
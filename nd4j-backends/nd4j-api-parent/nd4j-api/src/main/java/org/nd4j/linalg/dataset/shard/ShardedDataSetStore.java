@@ -0,0 +1,217 @@
+package org.nd4j.linalg.dataset.shard;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.nd4j.linalg.dataset.DataSet;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileFilter;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Keyed DataSet storage on top of shard files, used as a backend for
+ * {@link org.nd4j.linalg.dataset.api.iterator.cache.InFileDataSetCache}.
+ *
+ * DataSets are appended to the active shard, which is sealed (i.e. gets its index written)
+ * once it grows over maxShardBytes, or on {@link #seal()}. Sealed shards found in the directory are picked up on start,
+ * shards that weren't sealed (i.e. process was killed) are ignored.
+ *
+ * If the same key is stored more than once, the latest DataSet wins.
+ */
+@Slf4j
+public class ShardedDataSetStore implements Closeable {
+    public static final long DEFAULT_MAX_SHARD_BYTES = 512L * 1024 * 1024;
+
+    private static final Pattern SHARD_NAME = Pattern.compile("shard-(\\d+)\\.bin");
+
+    private static class Location {
+        private final FileChannel channel;
+        private final long offset;
+        private final int length;
+
+        private Location(FileChannel channel, long offset, int length) {
+            this.channel = channel;
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+
+    private final File directory;
+    private final long maxShardBytes;
+
+    private final Map<String, Location> locations = new ConcurrentHashMap<>();
+    private final List<DataSetShard> shards = new ArrayList<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private int nextShard = 0;
+    private DataSetShardWriter writer;
+    private RandomAccessFile activeFile;
+
+    public ShardedDataSetStore(@NonNull File directory) {
+        this(directory, DEFAULT_MAX_SHARD_BYTES);
+    }
+
+    /**
+     * @param directory directory shard files are stored in
+     * @param maxShardBytes size active shard is sealed at
+     */
+    public ShardedDataSetStore(@NonNull File directory, long maxShardBytes) {
+        if (maxShardBytes <= 0)
+            throw new IllegalArgumentException("Max shard size should be positive");
+
+        this.directory = directory;
+        this.maxShardBytes = maxShardBytes;
+
+        File[] files = directory.listFiles(new FileFilter() {
+            @Override
+            public boolean accept(File file) {
+                return file.isFile() && SHARD_NAME.matcher(file.getName()).matches();
+            }
+        });
+
+        if (files != null) {
+            Arrays.sort(files, new Comparator<File>() {
+                @Override
+                public int compare(File o1, File o2) {
+                    return Integer.compare(shardNumber(o1), shardNumber(o2));
+                }
+            });
+
+            for (File file : files) {
+                nextShard = Math.max(nextShard, shardNumber(file) + 1);
+                try {
+                    addShard(new DataSetShard(file));
+                } catch (IOException e) {
+                    log.warn("Skipping DataSet shard [{}]: {}", file, e.getMessage());
+                }
+            }
+        }
+    }
+
+    private static int shardNumber(File file) {
+        Matcher matcher = SHARD_NAME.matcher(file.getName());
+        return matcher.matches() ? Integer.parseInt(matcher.group(1)) : -1;
+    }
+
+    private void addShard(DataSetShard shard) {
+        shards.add(shard);
+        for (DataSetShard.Entry entry : shard.getEntries())
+            if (entry.getKey() != null)
+                locations.put(entry.getKey(),
+                                new Location(shard.getChannel(), entry.getOffset(), entry.getLength()));
+    }
+
+    /**
+     * This method stores DataSet under the given key
+     *
+     * @param key
+     * @param dataSet
+     */
+    public void put(@NonNull String key, @NonNull DataSet dataSet) {
+        lock.writeLock().lock();
+        try {
+            if (writer == null) {
+                if (!directory.exists() && !directory.mkdirs())
+                    throw new IllegalStateException("ERROR: cannot create directory: " + directory);
+
+                File file = new File(directory, String.format("shard-%05d.bin", nextShard++));
+                writer = new DataSetShardWriter(file);
+                activeFile = new RandomAccessFile(file, "r");
+            }
+
+            int index = writer.write(key, dataSet);
+            // DataSet should be readable right away
+            writer.flush();
+
+            DataSetShard.Entry entry = writer.getEntry(index);
+            locations.put(key, new Location(activeFile.getChannel(), entry.getOffset(), entry.getLength()));
+
+            if (writer.bytesWritten() >= maxShardBytes)
+                seal();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * This method returns DataSet stored under the given key, or null if there's none
+     *
+     * @param key
+     * @return
+     */
+    public DataSet get(@NonNull String key) {
+        lock.readLock().lock();
+        try {
+            Location location = locations.get(key);
+            if (location == null)
+                return null;
+
+            return DataSetShard.read(location.channel, location.offset, location.length);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean contains(@NonNull String key) {
+        return locations.containsKey(key);
+    }
+
+    /**
+     * @return number of keys stored
+     */
+    public int size() {
+        return locations.size();
+    }
+
+    /**
+     * This method writes index of the active shard, so it'll be available after restart
+     */
+    public void seal() {
+        lock.writeLock().lock();
+        try {
+            if (writer == null)
+                return;
+
+            writer.close();
+            activeFile.close();
+
+            // locations of active shard DataSets are replaced with sealed shard ones
+            addShard(new DataSetShard(writer.getFile()));
+            writer = null;
+            activeFile = null;
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public File getDirectory() {
+        return directory;
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.writeLock().lock();
+        try {
+            seal();
+            for (DataSetShard shard : shards)
+                shard.close();
+            shards.clear();
+            locations.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
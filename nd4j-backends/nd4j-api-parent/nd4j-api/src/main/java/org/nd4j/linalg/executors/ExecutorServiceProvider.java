@@ -20,6 +20,13 @@ public class ExecutorServiceProvider {
             nThreads = Integer.parseInt(System.getProperty(EXEC_THREADS, String.valueOf(defaultThreads)));
     }
 
+    /**
+     * Number of threads used for parallel work, see {@link #EXEC_THREADS} and {@link #ENABLED}
+     */
+    public static int getNumThreads() {
+        return nThreads;
+    }
+
     public static synchronized ExecutorService getExecutorService() {
         if (executorService != null)
             return executorService;
@@ -27,6 +27,9 @@ import org.nd4j.linalg.api.complex.IComplexFloat;
 import org.nd4j.linalg.api.complex.IComplexNDArray;
 import org.nd4j.linalg.api.complex.IComplexNumber;
 import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.api.ndarray.ISparseNDArray;
+import org.nd4j.linalg.api.ndarray.SparseNDArrayCOO;
+import org.nd4j.linalg.api.ndarray.SparseNDArrayCSR;
 import org.nd4j.linalg.api.rng.distribution.Distribution;
 import org.nd4j.linalg.indexing.INDArrayIndex;
 import org.nd4j.linalg.indexing.NDArrayIndex;
@@ -836,6 +839,80 @@ public abstract class BaseNDArrayFactory implements NDArrayFactory {
         return pullRows(source, sourceDimension, indexes, Nd4j.order());
     }
 
+    /**
+     * Gathers slices along given axis. Rows of a matrix are pulled with pullRows(), which is a single native op
+     * on backends that override it, vector elements are copied directly, and everything else is copied
+     * slice by slice, so the number of ops is indexes.length rather than number of elements
+     *
+     * @param source source array
+     * @param axis axis to gather along
+     * @param indexes indexes of slices along axis
+     * @return
+     */
+    @Override
+    public INDArray gather(INDArray source, int axis, int[] indexes) {
+        if (source.rank() == 2 && axis == 0 && source.rows() > 1 && source.columns() > 1)
+            return pullRows(source, 1, indexes, 'c');
+
+        int[] shape = Arrays.copyOf(source.shape(), source.rank());
+        shape[axis] = indexes.length;
+        INDArray ret = Nd4j.createUninitialized(shape, 'c');
+
+        if (isVectorAlong(source, axis)) {
+            for (int i = 0; i < indexes.length; i++)
+                ret.putScalar(i, source.getDouble(indexes[i]));
+        } else {
+            for (int i = 0; i < indexes.length; i++)
+                along(ret, axis, i).assign(along(source, axis, indexes[i]));
+        }
+
+        return ret;
+    }
+
+    @Override
+    public INDArray scatterUpdate(INDArray target, int axis, int[] indexes, INDArray updates) {
+        if (isVectorAlong(target, axis)) {
+            for (int i = 0; i < indexes.length; i++)
+                target.putScalar(indexes[i], updates.getDouble(i));
+        } else {
+            for (int i = 0; i < indexes.length; i++)
+                along(target, axis, indexes[i]).assign(along(updates, axis, i));
+        }
+
+        return target;
+    }
+
+    @Override
+    public INDArray scatterAdd(INDArray target, int axis, int[] indexes, INDArray updates) {
+        if (isVectorAlong(target, axis)) {
+            for (int i = 0; i < indexes.length; i++)
+                target.putScalar(indexes[i], target.getDouble(indexes[i]) + updates.getDouble(i));
+        } else {
+            for (int i = 0; i < indexes.length; i++)
+                along(target, axis, indexes[i]).addi(along(updates, axis, i));
+        }
+
+        return target;
+    }
+
+    /**
+     * Returns true if slices of given array along axis are single elements, so linear indexing can be used
+     */
+    protected static boolean isVectorAlong(INDArray array, int axis) {
+        return array.isVector() && array.size(axis) == array.length();
+    }
+
+    /**
+     * Returns view of slice index of given array along axis
+     */
+    protected static INDArray along(INDArray array, int axis, int index) {
+        INDArrayIndex[] indexes = new INDArrayIndex[array.rank()];
+        for (int i = 0; i < indexes.length; i++)
+            indexes[i] = i == axis ? NDArrayIndex.point(index) : NDArrayIndex.all();
+
+        return array.get(indexes);
+    }
+
     /**
      * Creates a matrix of zeros
      *
@@ -1990,4 +2067,16 @@ public abstract class BaseNDArrayFactory implements NDArrayFactory {
         }
         return create(Nd4j.createBuffer(data), shape, stride, order, offset);
     }
+
+    @Override
+    public ISparseNDArray createSparseCSR(DataBuffer values, DataBuffer columnIndices, DataBuffer rowPointers,
+                    int[] shape) {
+        return new SparseNDArrayCSR(values, columnIndices, rowPointers, shape);
+    }
+
+    @Override
+    public ISparseNDArray createSparseCOO(DataBuffer values, DataBuffer rowIndices, DataBuffer columnIndices,
+                    int[] shape) {
+        return new SparseNDArrayCOO(values, rowIndices, columnIndices, shape);
+    }
 }
@@ -28,6 +28,7 @@ import org.nd4j.linalg.api.complex.IComplexFloat;
 import org.nd4j.linalg.api.complex.IComplexNDArray;
 import org.nd4j.linalg.api.complex.IComplexNumber;
 import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.api.ndarray.ISparseNDArray;
 import org.nd4j.linalg.api.rng.distribution.Distribution;
 
 import java.util.Collection;
@@ -414,6 +415,42 @@ public interface NDArrayFactory {
      */
     INDArray pullRows(INDArray source, int sourceDimension, int[] indexes, char order);
 
+    /**
+     * This method gathers slices of source array along given axis.
+     * Result has the same shape as source, except for axis dimension, which becomes indexes.length,
+     * and its i-th slice along axis is a copy of source slice indexes[i].
+     *
+     * @param source source array
+     * @param axis axis to gather along
+     * @param indexes indexes of slices along axis, may contain duplicates
+     * @return
+     */
+    INDArray gather(INDArray source, int axis, int[] indexes);
+
+    /**
+     * This method is inverse of gather: i-th slice of updates along axis is assigned to slice indexes[i] of target.
+     * If indexes contain duplicates, the last update wins.
+     *
+     * @param target array to update in place
+     * @param axis axis to scatter along
+     * @param indexes target slice for each slice of updates
+     * @param updates updates, same shape as target except for axis dimension, which should be indexes.length
+     * @return target
+     */
+    INDArray scatterUpdate(INDArray target, int axis, int[] indexes, INDArray updates);
+
+    /**
+     * This method works as scatterUpdate, but adds updates to target slices instead of assigning them.
+     * If indexes contain duplicates, all corresponding updates are accumulated.
+     *
+     * @param target array to update in place
+     * @param axis axis to scatter along
+     * @param indexes target slice for each slice of updates
+     * @param updates updates, same shape as target except for axis dimension, which should be indexes.length
+     * @return target
+     */
+    INDArray scatterAdd(INDArray target, int axis, int[] indexes, INDArray updates);
+
 
     /**
      * In place shuffle of an ndarray
@@ -1769,4 +1806,28 @@ public interface NDArrayFactory {
 
     void convertDataEx(DataBuffer.TypeEx typeSrc, Pointer source, DataBuffer.TypeEx typeDst, Pointer target,
                     long length);
+
+    /**
+     * Create sparse matrix in CSR format
+     *
+     * @param values values of nonzero elements, row by row
+     * @param columnIndices column index of each value, ascending within each row
+     * @param rowPointers offset of each row within values, followed by total number of values
+     * @param shape shape of the matrix
+     * @return
+     */
+    ISparseNDArray createSparseCSR(DataBuffer values, DataBuffer columnIndices, DataBuffer rowPointers,
+                    int[] shape);
+
+    /**
+     * Create sparse matrix in COO format. Elements may come in any order
+     *
+     * @param values values of nonzero elements
+     * @param rowIndices row index of each value
+     * @param columnIndices column index of each value
+     * @param shape shape of the matrix
+     * @return
+     */
+    ISparseNDArray createSparseCOO(DataBuffer values, DataBuffer rowIndices, DataBuffer columnIndices,
+                    int[] shape);
 }
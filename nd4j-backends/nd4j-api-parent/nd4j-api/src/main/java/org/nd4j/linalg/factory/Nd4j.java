@@ -41,8 +41,11 @@ import org.nd4j.linalg.api.concurrency.BasicAffinityManager;
 import org.nd4j.linalg.api.instrumentation.InMemoryInstrumentation;
 import org.nd4j.linalg.api.instrumentation.Instrumentation;
 import org.nd4j.linalg.api.ndarray.BaseShapeInfoProvider;
+import org.nd4j.linalg.api.ndarray.BaseSparseNDArray;
 import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.api.ndarray.ISparseNDArray;
 import org.nd4j.linalg.api.ndarray.ShapeInfoProvider;
+import org.nd4j.linalg.api.ndarray.SparseFormat;
 import org.nd4j.linalg.api.ops.executioner.DefaultOpExecutioner;
 import org.nd4j.linalg.api.ops.executioner.OpExecutioner;
 import org.nd4j.linalg.api.ops.factory.DefaultOpFactory;
@@ -72,12 +75,18 @@ import org.nd4j.linalg.memory.BasicMemoryManager;
 import org.nd4j.linalg.memory.MemoryManager;
 import org.nd4j.linalg.string.NDArrayStrings;
 import org.nd4j.linalg.util.ArrayUtil;
+import org.nd4j.serde.binary.BinarySerde;
+import org.nd4j.serde.binary.SparseBinarySerde;
 
 import java.io.*;
 import java.lang.ref.ReferenceQueue;
 import java.lang.reflect.Constructor;
 import java.math.BigDecimal;
 import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.text.DecimalFormat;
 import java.text.NumberFormat;
 import java.text.ParseException;
@@ -2309,17 +2318,35 @@ public class Nd4j {
 
 
     /**
-     * Read in an ndarray from a data input stream
+     * Read in an ndarray from a data input stream.
+     * Both versioned binary format (see {@link BinarySerde}) and legacy {@link #write(INDArray, DataOutputStream)} format are supported
      *
      * @param dis the data input stream to read from
      * @return the ndarray
      * @throws IOException
      */
     public static INDArray read(DataInputStream dis) throws IOException {
+        // versioned binary format starts with magic, while legacy one starts with length of allocation mode string
+        int head = dis.readUnsignedShort();
+        if (head == BinarySerde.MAGIC >>> 16) {
+            int tail = dis.readUnsignedShort();
+            if (tail == (SparseBinarySerde.MAGIC & 0xFFFF))
+                return SparseBinarySerde.readAfterMagic(dis);
+
+            if (tail != (BinarySerde.MAGIC & 0xFFFF))
+                throw new IOException("Unknown INDArray serialization format");
+
+            return BinarySerde.readAfterMagic(Channels.newChannel(dis));
+        }
+
+        // we've already consumed first 2 bytes, so they are put back in front of the stream
+        DataInputStream legacy = new DataInputStream(new SequenceInputStream(
+                        new ByteArrayInputStream(new byte[] {(byte) (head >>> 8), (byte) head}), dis));
+
         DataBuffer shapeInformation = Nd4j.createBuffer(new int[1], DataBuffer.Type.INT);
-        shapeInformation.read(dis);
+        shapeInformation.read(legacy);
         int length = Shape.length(shapeInformation);
-        DataBuffer data = CompressedDataBuffer.readUnknown(dis, length);
+        DataBuffer data = CompressedDataBuffer.readUnknown(legacy, length);
         return createArrayFromShapeBuffer(data, shapeInformation);
     }
 
@@ -2332,6 +2359,11 @@ public class Nd4j {
      * @throws IOException
      */
     public static void write(INDArray arr, DataOutputStream dataOutputStream) throws IOException {
+        if (arr.isSparse()) {
+            SparseBinarySerde.write((ISparseNDArray) arr, dataOutputStream);
+            return;
+        }
+
         //BaseDataBuffer.write(...) doesn't know about strides etc, so dup (or equiv. strategy) is necessary here
         //Furthermore, because we only want to save the *actual* data for a view (not the full data), the shape info
         // (mainly strides, offset, element-wise stride) may be different in the duped array vs. the view array
@@ -2343,12 +2375,24 @@ public class Nd4j {
     }
 
     /**
-     * Save an ndarray to the given file
+     * Save an ndarray to the given file.
+     *
+     * Uncompressed arrays are written in versioned binary format, see {@link BinarySerde}:
+     * header goes first, and then array memory is written to the file in bulk.
+     * Compressed and sparse arrays are written in the same format as {@link #write(INDArray, DataOutputStream)}
+     *
      * @param arr the array to save
      * @param saveTo the file to save to
      * @throws IOException
      */
     public static void saveBinary(INDArray arr, File saveTo) throws IOException {
+        if (!arr.isCompressed() && !arr.isSparse()) {
+            try (FileOutputStream fos = new FileOutputStream(saveTo); FileChannel channel = fos.getChannel()) {
+                writeBinary(arr, channel);
+            }
+            return;
+        }
+
         BufferedOutputStream bos = new BufferedOutputStream(new FileOutputStream(saveTo));
         DataOutputStream dos = new DataOutputStream(bos);
         Nd4j.write(arr, dos);
@@ -2357,14 +2401,43 @@ public class Nd4j {
         bos.close();
     }
 
+    /**
+     * Write an ndarray to the given channel in versioned binary format, see {@link BinarySerde}
+     *
+     * @param arr the array to write
+     * @param channel the channel to write to
+     * @throws IOException
+     */
+    public static void writeBinary(INDArray arr, WritableByteChannel channel) throws IOException {
+        BinarySerde.write(arr, channel);
+    }
+
+    /**
+     * Read an ndarray in versioned binary format from the given channel, see {@link BinarySerde}
+     *
+     * @param channel the channel to read from
+     * @return the loaded ndarray
+     * @throws IOException
+     */
+    public static INDArray readBinary(ReadableByteChannel channel) throws IOException {
+        return BinarySerde.read(channel);
+    }
+
 
     /**
-     * Read a binary ndarray from the given file
+     * Read a binary ndarray from the given file.
+     * Both versioned binary format and legacy {@link #write(INDArray, DataOutputStream)} format are supported
+     *
      * @param read the nd array to read
      * @return the loaded ndarray
      * @throws IOException
      */
     public static INDArray readBinary(File read) throws IOException {
+        try (FileInputStream fis = new FileInputStream(read); FileChannel channel = fis.getChannel()) {
+            if (BinarySerde.isBinaryFormat(channel))
+                return readBinary(channel);
+        }
+
         BufferedInputStream bis = new BufferedInputStream(new FileInputStream(read));
         DataInputStream dis = new DataInputStream(bis);
         INDArray ret = Nd4j.read(dis);
@@ -2372,6 +2445,35 @@ public class Nd4j {
         return ret;
     }
 
+    /**
+     * Map a binary ndarray from the given file into memory, as copy-on-write.
+     * Contents aren't copied, so opening is O(1) regardless of array size.
+     * Modifications of the returned array stay private to this process and never reach the file
+     *
+     * PLEASE NOTE: files we can't write to are mapped as read-only, in-place modifications of such arrays
+     * throw exceptions
+     *
+     * @param file the file, previously written with {@link #saveBinary(INDArray, File)}
+     * @return the mapped ndarray
+     * @throws IOException
+     */
+    public static INDArray mmapBinary(File file) throws IOException {
+        return mmapBinary(file, file.canWrite());
+    }
+
+    /**
+     * Map a binary ndarray from the given file into memory.
+     * See {@link BinarySerde#mmap(File, boolean)} for details
+     *
+     * @param file the file, previously written with {@link #saveBinary(INDArray, File)}
+     * @param copyOnWrite if true, array can be modified, and changes won't be propagated to the file
+     * @return the mapped ndarray
+     * @throws IOException
+     */
+    public static INDArray mmapBinary(File file, boolean copyOnWrite) throws IOException {
+        return BinarySerde.mmap(file, copyOnWrite);
+    }
+
 
     /**
      * Clear nans from an ndarray
@@ -5188,6 +5290,9 @@ public class Nd4j {
      * @param arrs
      */
     public static INDArray vstack(INDArray... arrs) {
+        if (arrs.length > 0 && arrs[0].isSparse())
+            return BaseSparseNDArray.vstack(arrs);
+
         INDArray ret = INSTANCE.vstack(arrs);
         logCreationIfNecessary(ret);
         return ret;
@@ -5202,9 +5307,76 @@ public class Nd4j {
      */
     public static INDArray vstack(Collection<INDArray> arrs) {
         INDArray[] arrays = arrs.toArray(new INDArray[0]);
-        INDArray ret = INSTANCE.vstack(arrays);
-        logCreationIfNecessary(ret);
-        return ret;
+        return vstack(arrays);
+    }
+
+    /**
+     * Create sparse matrix in CSR format
+     *
+     * @param values values of nonzero elements, row by row
+     * @param columnIndices column index of each value, ascending within each row
+     * @param rowPointers offset of each row within values, followed by total number of values (rows + 1 elements)
+     * @param shape shape of the matrix
+     * @return the created sparse matrix
+     */
+    public static ISparseNDArray createSparseCSR(double[] values, int[] columnIndices, int[] rowPointers,
+                    int[] shape) {
+        return createSparseCSR(createBuffer(values), createBuffer(columnIndices), createBuffer(rowPointers), shape);
+    }
+
+    /**
+     * Create sparse matrix in CSR format
+     *
+     * @param values values of nonzero elements, row by row
+     * @param columnIndices column index of each value, ascending within each row
+     * @param rowPointers offset of each row within values, followed by total number of values (rows + 1 elements)
+     * @param shape shape of the matrix
+     * @return the created sparse matrix
+     */
+    public static ISparseNDArray createSparseCSR(DataBuffer values, DataBuffer columnIndices, DataBuffer rowPointers,
+                    int[] shape) {
+        return INSTANCE.createSparseCSR(values, columnIndices, rowPointers, shape);
+    }
+
+    /**
+     * Create sparse matrix in COO format.
+     * Elements may come in any order, elements with the same coordinates are summed up
+     *
+     * @param values values of nonzero elements
+     * @param rowIndices row index of each value
+     * @param columnIndices column index of each value
+     * @param shape shape of the matrix
+     * @return the created sparse matrix
+     */
+    public static ISparseNDArray createSparseCOO(double[] values, int[] rowIndices, int[] columnIndices,
+                    int[] shape) {
+        return createSparseCOO(createBuffer(values), createBuffer(rowIndices), createBuffer(columnIndices), shape);
+    }
+
+    /**
+     * Create sparse matrix in COO format.
+     * Elements may come in any order, elements with the same coordinates are summed up
+     *
+     * @param values values of nonzero elements
+     * @param rowIndices row index of each value
+     * @param columnIndices column index of each value
+     * @param shape shape of the matrix
+     * @return the created sparse matrix
+     */
+    public static ISparseNDArray createSparseCOO(DataBuffer values, DataBuffer rowIndices, DataBuffer columnIndices,
+                    int[] shape) {
+        return INSTANCE.createSparseCOO(values, rowIndices, columnIndices, shape);
+    }
+
+    /**
+     * Convert given 2d array to sparse matrix of the given format, skipping zero elements
+     *
+     * @param array the array to convert
+     * @param format format of the result
+     * @return the sparse matrix
+     */
+    public static ISparseNDArray toSparse(INDArray array, SparseFormat format) {
+        return BaseSparseNDArray.fromDense(array, format);
     }
 
     /**
@@ -5321,6 +5493,83 @@ public class Nd4j {
         return ret;
     }
 
+    /**
+     * This method gathers slices of source array along given axis, i.e. for a matrix and axis 0
+     * it returns rows with given indexes, in given order.
+     *
+     * Result is a new 'c' ordered array with the same shape as source,
+     * except for axis dimension, which becomes indexes.length
+     *
+     * @param source source array
+     * @param axis axis to gather along
+     * @param indexes indexes of slices along axis, may contain duplicates
+     * @return
+     */
+    public static INDArray gather(INDArray source, int axis, int... indexes) {
+        validateScatterIndexes(source, axis, indexes);
+
+        INDArray ret = INSTANCE.gather(source, axis, indexes);
+        logCreationIfNecessary(ret);
+        return ret;
+    }
+
+    /**
+     * This method assigns i-th slice of updates along axis to slice indexes[i] of target, in place.
+     * If indexes contain duplicates, the last update wins.
+     *
+     * @param target array to update
+     * @param axis axis to scatter along
+     * @param indexes target slice for each slice of updates
+     * @param updates updates, same shape as target except for axis dimension, which should be indexes.length
+     * @return target
+     */
+    public static INDArray scatterUpdate(INDArray target, int axis, int[] indexes, INDArray updates) {
+        validateScatterIndexes(target, axis, indexes);
+        validateScatterUpdates(target, axis, indexes, updates);
+
+        return INSTANCE.scatterUpdate(target, axis, indexes, updates);
+    }
+
+    /**
+     * This method adds i-th slice of updates along axis to slice indexes[i] of target, in place.
+     * If indexes contain duplicates, all corresponding updates are accumulated,
+     * so this is the reverse of {@link #gather(INDArray, int, int...)} for gradients.
+     *
+     * @param target array to update
+     * @param axis axis to scatter along
+     * @param indexes target slice for each slice of updates
+     * @param updates updates, same shape as target except for axis dimension, which should be indexes.length
+     * @return target
+     */
+    public static INDArray scatterAdd(INDArray target, int axis, int[] indexes, INDArray updates) {
+        validateScatterIndexes(target, axis, indexes);
+        validateScatterUpdates(target, axis, indexes, updates);
+
+        return INSTANCE.scatterAdd(target, axis, indexes, updates);
+    }
+
+    private static void validateScatterIndexes(INDArray array, int axis, int[] indexes) {
+        if (axis < 0 || axis >= array.rank())
+            throw new IllegalStateException("Axis [" + axis + "] is out of range for array of rank " + array.rank());
+
+        if (indexes == null || indexes.length == 0)
+            throw new IllegalStateException("Indexes shouldn't be empty");
+
+        int size = array.size(axis);
+        for (int idx : indexes) {
+            if (idx < 0 || idx >= size)
+                throw new IllegalStateException("Index can't be < 0 and >= " + size + ", got [" + idx + "]");
+        }
+    }
+
+    private static void validateScatterUpdates(INDArray target, int axis, int[] indexes, INDArray updates) {
+        int[] expected = Arrays.copyOf(target.shape(), target.rank());
+        expected[axis] = indexes.length;
+        if (!Arrays.equals(expected, updates.shape()))
+            throw new IllegalStateException("Updates shape should be " + Arrays.toString(expected) + ", got "
+                            + Arrays.toString(updates.shape()));
+    }
+
     /**
      * Concatneate ndarrays along a dimension
      *
@@ -5776,7 +6025,8 @@ public class Nd4j {
             shapeInfoProvider = shapeInfoProviderClazz.newInstance();
 
             opExecutionerClazz = (Class<? extends OpExecutioner>) Class
-                            .forName(props.getProperty(OP_EXECUTIONER, DefaultOpExecutioner.class.getName()));
+                            .forName(System.getProperty(OP_EXECUTIONER,
+                                            props.getProperty(OP_EXECUTIONER, DefaultOpExecutioner.class.getName())));
 
             instrumentation = instrumentationClazz.newInstance();
             OP_EXECUTIONER_INSTANCE = opExecutionerClazz.newInstance();
@@ -26,6 +26,8 @@ import org.nd4j.linalg.factory.Nd4j;
 import org.nd4j.linalg.util.ArrayUtil;
 import org.nd4j.linalg.util.ComplexNDArrayUtil;
 
+import java.util.Arrays;
+
 /**
  * Abstract FFT Instance mostly handling basic things that shouldn't change
  * such as method overloading.
@@ -70,6 +72,83 @@ public abstract class BaseFFTInstance implements FFTInstance {
         }
     }
 
+    @Override
+    public INDArray[] fft(INDArray real, INDArray imag, int dimension) {
+        return transform(real, imag, dimension, false);
+    }
+
+    @Override
+    public INDArray[] ifft(INDArray real, INDArray imag, int dimension) {
+        return transform(real, imag, dimension, true);
+    }
+
+    /**
+     * Transforms all vectors along the given dimension with a single cached {@link FFTPlan}.
+     * Real-valued input uses half-length complex transform.
+     *
+     * @param real      real part of the input
+     * @param imag      imaginary part of the input, or null
+     * @param dimension the dimension to transform along
+     * @param inverse   TRUE for inverse transform
+     * @return real and imaginary parts of the result
+     */
+    protected INDArray[] transform(INDArray real, INDArray imag, int dimension, boolean inverse) {
+        if (imag != null && !Arrays.equals(real.shape(), imag.shape()))
+            throw new IllegalArgumentException("Real and imaginary parts should have the same shape: "
+                            + Arrays.toString(real.shape()) + " vs " + Arrays.toString(imag.shape()));
+
+        int last = real.rank() - 1;
+        if (dimension < 0)
+            dimension += real.rank();
+        if (dimension < 0 || dimension > last)
+            throw new IllegalArgumentException("Invalid dimension " + dimension + " for array of rank " + real.rank());
+
+        // vectors along the transform dimension become contiguous
+        double[] reData = toContiguous(real, dimension);
+        int[] shape = real.shape().clone();
+        shape[dimension] = shape[last];
+        shape[last] = real.size(dimension);
+
+        int n = shape[last];
+        int length = reData.length;
+        int count = length / n;
+
+        FFTPlan plan = FFTPlan.forLength(n);
+        double[] data = new double[2 * length];
+        if (imag == null && !inverse) {
+            plan.transformReal(reData, 0, data, 0, count);
+        } else {
+            double[] imData = imag == null ? null : toContiguous(imag, dimension);
+            for (int i = 0; i < length; i++) {
+                data[2 * i] = reData[i];
+                data[2 * i + 1] = imData == null ? 0.0 : imData[i];
+            }
+            plan.transform(data, 0, count, inverse);
+        }
+
+        double[] outRe = new double[length];
+        double[] outIm = new double[length];
+        for (int i = 0; i < length; i++) {
+            outRe[i] = data[2 * i];
+            outIm[i] = data[2 * i + 1];
+        }
+
+        INDArray resultRe = Nd4j.create(outRe, shape, 'c');
+        INDArray resultIm = Nd4j.create(outIm, shape, 'c');
+        if (dimension != last) {
+            resultRe = resultRe.swapAxes(last, dimension);
+            resultIm = resultIm.swapAxes(last, dimension);
+        }
+
+        return new INDArray[] {resultRe, resultIm};
+    }
+
+    private static double[] toContiguous(INDArray array, int dimension) {
+        int last = array.rank() - 1;
+        INDArray swapped = dimension == last ? array : array.swapAxes(last, dimension);
+        return swapped.dup('c').data().asDouble();
+    }
+
     /**
      * 1d discrete fourier op, note that this will
      * throw an exception if the passed in input
@@ -69,6 +69,30 @@ public class FFT {
         return Nd4j.getFFt().fft(input);
     }
 
+    /**
+     * Batched FFT along a particular dimension, for complex data stored as separate real and imaginary parts
+     *
+     * @param real      real part of the input
+     * @param imag      imaginary part of the input, or null for real-valued signal
+     * @param dimension the dimension to do fft along
+     * @return real and imaginary parts of the result
+     */
+    public static INDArray[] fft(INDArray real, INDArray imag, int dimension) {
+        return Nd4j.getFFt().fft(real, imag, dimension);
+    }
+
+    /**
+     * Batched IFFT along a particular dimension, for complex data stored as separate real and imaginary parts
+     *
+     * @param real      real part of the input
+     * @param imag      imaginary part of the input, or null
+     * @param dimension the dimension to do ifft along
+     * @return real and imaginary parts of the result
+     */
+    public static INDArray[] ifft(INDArray real, INDArray imag, int dimension) {
+        return Nd4j.getFFt().ifft(real, imag, dimension);
+    }
+
 
     /**
      * FFT along a particular dimension
@@ -51,6 +51,27 @@ public interface FFTInstance {
      */
     IComplexNDArray fft(IComplexNDArray inputC);
 
+    /**
+     * Batched FFT along a particular dimension, for complex data stored as separate real and imaginary parts.
+     * If imaginary part is null, input is treated as real-valued signal.
+     *
+     * @param real      real part of the input
+     * @param imag      imaginary part of the input, or null
+     * @param dimension the dimension to do fft along
+     * @return real and imaginary parts of the result, with the same shape as input
+     */
+    INDArray[] fft(INDArray real, INDArray imag, int dimension);
+
+    /**
+     * Batched IFFT along a particular dimension, for complex data stored as separate real and imaginary parts.
+     *
+     * @param real      real part of the input
+     * @param imag      imaginary part of the input, or null
+     * @param dimension the dimension to do ifft along
+     * @return real and imaginary parts of the result, with the same shape as input
+     */
+    INDArray[] ifft(INDArray real, INDArray imag, int dimension);
+
     /**
      * 1d discrete fourier op, note that this will
      * throw an exception if the passed in input
@@ -0,0 +1,454 @@
+package org.nd4j.linalg.fft;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Precomputed FFT plan for the given transform length.
+ *
+ * Lengths with small prime factors are handled by mixed-radix Cooley-Tukey (radix 4 and 2, plus generic odd radix).
+ * Lengths with large prime factors are handled by Bluestein's algorithm, which reduces transform to a circular
+ * convolution of power-of-2 length. Either way transform is O(n log n).
+ *
+ * Plans are immutable, so the same plan can be shared by multiple threads.
+ * Use {@link #forLength(int)} to get a cached plan instead of building twiddle factors on each call.
+ *
+ * Complex data is stored interleaved: real part followed by imaginary part.
+ */
+public class FFTPlan {
+    // generic butterfly is O(p^2), so lengths with prime factors above this go through Bluestein's algorithm
+    private static final int MAX_RADIX = 31;
+    private static final int CACHE_SIZE = 32;
+
+    private static final Map<Integer, FFTPlan> cache = new LinkedHashMap<Integer, FFTPlan>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, FFTPlan> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    private final int n;
+
+    // twiddle factors, exp(-2 * pi * i * k / n)
+    private final double[] cos;
+    private final double[] sin;
+
+    // pairs of radix and remaining length, or null if Bluestein's algorithm is used
+    private final int[] factors;
+    private final int maxRadix;
+
+    // Bluestein's algorithm: chirp exp(-pi * i * k^2 / n), and normalized spectrum of its conjugate
+    private final FFTPlan convolutionPlan;
+    private final double[] chirpRe;
+    private final double[] chirpIm;
+    private final double[] kernelRe;
+    private final double[] kernelIm;
+
+    private FFTPlan(int n) {
+        this.n = n;
+
+        cos = new double[n];
+        sin = new double[n];
+        for (int k = 0; k < n; k++) {
+            double phase = -2 * Math.PI * k / n;
+            cos[k] = Math.cos(phase);
+            sin[k] = Math.sin(phase);
+        }
+
+        factors = factorize(n);
+        if (factors != null) {
+            int max = 0;
+            for (int i = 0; i < factors.length; i += 2)
+                max = Math.max(max, factors[i]);
+            maxRadix = max;
+
+            convolutionPlan = null;
+            chirpRe = chirpIm = kernelRe = kernelIm = null;
+            return;
+        }
+
+        maxRadix = 0;
+
+        int m = Integer.highestOneBit(2 * n - 1);
+        if (m < 2 * n - 1)
+            m <<= 1;
+        convolutionPlan = forLength(m);
+
+        chirpRe = new double[n];
+        chirpIm = new double[n];
+        for (int k = 0; k < n; k++) {
+            // k^2 is taken modulo 2n, to keep the phase accurate for large k
+            long k2 = ((long) k * k) % (2L * n);
+            double phase = -Math.PI * k2 / n;
+            chirpRe[k] = Math.cos(phase);
+            chirpIm[k] = Math.sin(phase);
+        }
+
+        double[] re = new double[m];
+        double[] im = new double[m];
+        re[0] = chirpRe[0];
+        im[0] = -chirpIm[0];
+        for (int k = 1; k < n; k++) {
+            re[k] = re[m - k] = chirpRe[k];
+            im[k] = im[m - k] = -chirpIm[k];
+        }
+
+        kernelRe = new double[m];
+        kernelIm = new double[m];
+        convolutionPlan.forward(re, im, kernelRe, kernelIm);
+
+        // inverse transform of the convolution is unnormalized, so 1/m goes here
+        for (int k = 0; k < m; k++) {
+            kernelRe[k] /= m;
+            kernelIm[k] /= m;
+        }
+    }
+
+    /**
+     * This method returns plan for the given length, building it only if it isn't cached yet
+     *
+     * @param n transform length
+     * @return
+     */
+    public static FFTPlan forLength(int n) {
+        if (n < 1)
+            throw new IllegalArgumentException("FFT length should be positive, got " + n);
+
+        synchronized (cache) {
+            FFTPlan plan = cache.get(n);
+            if (plan != null)
+                return plan;
+        }
+
+        // plans are built outside of the lock, worst case the same plan gets built twice
+        FFTPlan plan = new FFTPlan(n);
+        synchronized (cache) {
+            FFTPlan existing = cache.get(n);
+            if (existing != null)
+                return existing;
+
+            cache.put(n, plan);
+            return plan;
+        }
+    }
+
+    /**
+     * @return transform length
+     */
+    public int length() {
+        return n;
+    }
+
+    /**
+     * @return TRUE if this plan uses Bluestein's algorithm
+     */
+    public boolean isBluestein() {
+        return factors == null;
+    }
+
+    /**
+     * This method transforms count consecutive complex vectors of this plan's length, in place.
+     * Inverse transform is normalized, so inverse(forward(x)) == x
+     *
+     * @param data interleaved complex data, 2 * length() values per vector
+     * @param offset offset of the first vector within data
+     * @param count number of vectors
+     * @param inverse TRUE for inverse transform
+     */
+    public void transform(double[] data, int offset, int count, boolean inverse) {
+        checkBounds(data, offset, 2L * n * count);
+
+        double[] re = new double[n];
+        double[] im = new double[n];
+        double[] outRe = new double[n];
+        double[] outIm = new double[n];
+
+        // inverse transform is done as conj(forward(conj(x))) / n
+        double sign = inverse ? -1.0 : 1.0;
+        double scale = inverse ? 1.0 / n : 1.0;
+
+        for (int v = 0; v < count; v++) {
+            int base = offset + 2 * n * v;
+            for (int k = 0; k < n; k++) {
+                re[k] = data[base + 2 * k];
+                im[k] = sign * data[base + 2 * k + 1];
+            }
+
+            forward(re, im, outRe, outIm);
+
+            for (int k = 0; k < n; k++) {
+                data[base + 2 * k] = outRe[k] * scale;
+                data[base + 2 * k + 1] = sign * outIm[k] * scale;
+            }
+        }
+    }
+
+    /**
+     * This method does forward transform of count consecutive real vectors of this plan's length.
+     * For even lengths, each vector is transformed as complex vector of half length.
+     *
+     * @param input real data, length() values per vector
+     * @param inputOffset offset of the first vector within input
+     * @param output interleaved complex result, 2 * length() values per vector
+     * @param outputOffset offset of the first vector within output
+     * @param count number of vectors
+     */
+    public void transformReal(double[] input, int inputOffset, double[] output, int outputOffset, int count) {
+        checkBounds(input, inputOffset, (long) n * count);
+        checkBounds(output, outputOffset, 2L * n * count);
+
+        if (n % 2 != 0) {
+            for (int v = 0; v < count; v++) {
+                int in = inputOffset + n * v;
+                int out = outputOffset + 2 * n * v;
+                for (int k = 0; k < n; k++) {
+                    output[out + 2 * k] = input[in + k];
+                    output[out + 2 * k + 1] = 0.0;
+                }
+            }
+
+            transform(output, outputOffset, count, false);
+            return;
+        }
+
+        int h = n / 2;
+        FFTPlan half = forLength(h);
+
+        double[] re = new double[h];
+        double[] im = new double[h];
+        double[] outRe = new double[h];
+        double[] outIm = new double[h];
+
+        for (int v = 0; v < count; v++) {
+            int in = inputOffset + n * v;
+            int out = outputOffset + 2 * n * v;
+
+            // even samples go to real part, odd samples go to imaginary part
+            for (int k = 0; k < h; k++) {
+                re[k] = input[in + 2 * k];
+                im[k] = input[in + 2 * k + 1];
+            }
+
+            half.forward(re, im, outRe, outIm);
+
+            for (int k = 0; k <= h; k++) {
+                int a = k % h;
+                int b = (h - k) % h;
+
+                // spectra of even and odd samples
+                double eRe = (outRe[a] + outRe[b]) / 2;
+                double eIm = (outIm[a] - outIm[b]) / 2;
+                double oRe = (outIm[a] + outIm[b]) / 2;
+                double oIm = -(outRe[a] - outRe[b]) / 2;
+
+                double xRe = eRe + oRe * cos[k] - oIm * sin[k];
+                double xIm = eIm + oRe * sin[k] + oIm * cos[k];
+
+                output[out + 2 * k] = xRe;
+                output[out + 2 * k + 1] = xIm;
+
+                // spectrum of real input is conjugate-symmetric
+                if (k > 0 && k < h) {
+                    output[out + 2 * (n - k)] = xRe;
+                    output[out + 2 * (n - k) + 1] = -xIm;
+                }
+            }
+        }
+    }
+
+    // unnormalized forward transform of a single vector, input is left intact
+    private void forward(double[] inRe, double[] inIm, double[] outRe, double[] outIm) {
+        if (n == 1) {
+            outRe[0] = inRe[0];
+            outIm[0] = inIm[0];
+        } else if (factors != null) {
+            work(outRe, outIm, 0, inRe, inIm, 0, 1, 0, new double[2 * maxRadix]);
+        } else {
+            bluestein(inRe, inIm, outRe, outIm);
+        }
+    }
+
+    private void bluestein(double[] inRe, double[] inIm, double[] outRe, double[] outIm) {
+        int m = convolutionPlan.n;
+
+        double[] aRe = new double[m];
+        double[] aIm = new double[m];
+        for (int k = 0; k < n; k++) {
+            aRe[k] = inRe[k] * chirpRe[k] - inIm[k] * chirpIm[k];
+            aIm[k] = inRe[k] * chirpIm[k] + inIm[k] * chirpRe[k];
+        }
+
+        double[] fRe = new double[m];
+        double[] fIm = new double[m];
+        convolutionPlan.forward(aRe, aIm, fRe, fIm);
+
+        // pointwise product with the kernel spectrum, conjugated for the inverse transform
+        for (int k = 0; k < m; k++) {
+            double re = fRe[k] * kernelRe[k] - fIm[k] * kernelIm[k];
+            double im = fRe[k] * kernelIm[k] + fIm[k] * kernelRe[k];
+            fRe[k] = re;
+            fIm[k] = -im;
+        }
+
+        convolutionPlan.forward(fRe, fIm, aRe, aIm);
+
+        for (int k = 0; k < n; k++) {
+            double re = aRe[k];
+            double im = -aIm[k];
+            outRe[k] = re * chirpRe[k] - im * chirpIm[k];
+            outIm[k] = re * chirpIm[k] + im * chirpRe[k];
+        }
+    }
+
+    // recursive decimation in time, output of each stage is computed in place
+    private void work(double[] outRe, double[] outIm, int out, double[] inRe, double[] inIm, int in, int fstride,
+                    int stage, double[] scratch) {
+        int p = factors[stage];
+        int m = factors[stage + 1];
+        int end = out + p * m;
+
+        if (m == 1) {
+            for (int o = out; o < end; o++, in += fstride) {
+                outRe[o] = inRe[in];
+                outIm[o] = inIm[in];
+            }
+        } else {
+            for (int o = out; o < end; o += m, in += fstride)
+                work(outRe, outIm, o, inRe, inIm, in, fstride * p, stage + 2, scratch);
+        }
+
+        switch (p) {
+            case 2:
+                butterfly2(outRe, outIm, out, fstride, m);
+                break;
+            case 4:
+                butterfly4(outRe, outIm, out, fstride, m);
+                break;
+            default:
+                butterfly(outRe, outIm, out, fstride, m, p, scratch);
+                break;
+        }
+    }
+
+    private void butterfly2(double[] re, double[] im, int out, int fstride, int m) {
+        for (int k = 0; k < m; k++) {
+            int a = out + k;
+            int b = a + m;
+            int t = k * fstride;
+
+            double tRe = re[b] * cos[t] - im[b] * sin[t];
+            double tIm = re[b] * sin[t] + im[b] * cos[t];
+
+            re[b] = re[a] - tRe;
+            im[b] = im[a] - tIm;
+            re[a] += tRe;
+            im[a] += tIm;
+        }
+    }
+
+    private void butterfly4(double[] re, double[] im, int out, int fstride, int m) {
+        for (int k = 0; k < m; k++) {
+            int i0 = out + k;
+            int i1 = i0 + m;
+            int i2 = i1 + m;
+            int i3 = i2 + m;
+            int t1 = k * fstride;
+            int t2 = 2 * t1;
+            int t3 = 3 * t1;
+
+            double s0Re = re[i1] * cos[t1] - im[i1] * sin[t1];
+            double s0Im = re[i1] * sin[t1] + im[i1] * cos[t1];
+            double s1Re = re[i2] * cos[t2] - im[i2] * sin[t2];
+            double s1Im = re[i2] * sin[t2] + im[i2] * cos[t2];
+            double s2Re = re[i3] * cos[t3] - im[i3] * sin[t3];
+            double s2Im = re[i3] * sin[t3] + im[i3] * cos[t3];
+
+            double s5Re = re[i0] - s1Re;
+            double s5Im = im[i0] - s1Im;
+            double x0Re = re[i0] + s1Re;
+            double x0Im = im[i0] + s1Im;
+            double s3Re = s0Re + s2Re;
+            double s3Im = s0Im + s2Im;
+            double s4Re = s0Re - s2Re;
+            double s4Im = s0Im - s2Im;
+
+            re[i0] = x0Re + s3Re;
+            im[i0] = x0Im + s3Im;
+            re[i2] = x0Re - s3Re;
+            im[i2] = x0Im - s3Im;
+            re[i1] = s5Re + s4Im;
+            im[i1] = s5Im - s4Re;
+            re[i3] = s5Re - s4Im;
+            im[i3] = s5Im + s4Re;
+        }
+    }
+
+    private void butterfly(double[] re, double[] im, int out, int fstride, int m, int p, double[] scratch) {
+        for (int u = 0; u < m; u++) {
+            for (int q = 0, k = out + u; q < p; q++, k += m) {
+                scratch[2 * q] = re[k];
+                scratch[2 * q + 1] = im[k];
+            }
+
+            for (int q1 = 0, k = u; q1 < p; q1++, k += m) {
+                double sumRe = scratch[0];
+                double sumIm = scratch[1];
+                int t = 0;
+                for (int q = 1; q < p; q++) {
+                    t += fstride * k;
+                    if (t >= n)
+                        t -= n;
+
+                    sumRe += scratch[2 * q] * cos[t] - scratch[2 * q + 1] * sin[t];
+                    sumIm += scratch[2 * q] * sin[t] + scratch[2 * q + 1] * cos[t];
+                }
+
+                re[out + k] = sumRe;
+                im[out + k] = sumIm;
+            }
+        }
+    }
+
+    // radix 4 goes first, then 2, then odd factors. Returns null if there's a factor above MAX_RADIX
+    private static int[] factorize(int n) {
+        int[] buffer = new int[64];
+        int count = 0;
+        int p = 4;
+        int floorSqrt = (int) Math.floor(Math.sqrt(n));
+
+        while (n > 1) {
+            while (n % p != 0) {
+                switch (p) {
+                    case 4:
+                        p = 2;
+                        break;
+                    case 2:
+                        p = 3;
+                        break;
+                    default:
+                        p += 2;
+                        break;
+                }
+
+                if (p > floorSqrt)
+                    p = n;
+            }
+
+            if (p > MAX_RADIX)
+                return null;
+
+            n /= p;
+            buffer[count++] = p;
+            buffer[count++] = n;
+        }
+
+        return Arrays.copyOf(buffer, count);
+    }
+
+    private static void checkBounds(double[] data, int offset, long length) {
+        if (offset < 0 || offset + length > data.length)
+            throw new IllegalArgumentException("Buffer of length " + data.length + " is too small: " + length
+                            + " values requested at offset " + offset);
+    }
+}
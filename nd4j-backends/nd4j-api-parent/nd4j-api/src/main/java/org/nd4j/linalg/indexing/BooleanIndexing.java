@@ -23,6 +23,7 @@ import com.google.common.base.Function;
 import lombok.NonNull;
 import org.nd4j.linalg.api.complex.IComplexNDArray;
 import org.nd4j.linalg.api.complex.IComplexNumber;
+import org.nd4j.linalg.api.iter.NdIndexCursor;
 import org.nd4j.linalg.api.ndarray.INDArray;
 import org.nd4j.linalg.api.ops.impl.accum.MatchCondition;
 import org.nd4j.linalg.api.ops.impl.indexaccum.FirstIndex;
@@ -30,13 +31,10 @@ import org.nd4j.linalg.api.ops.impl.indexaccum.LastIndex;
 import org.nd4j.linalg.api.ops.impl.transforms.comparison.CompareAndReplace;
 import org.nd4j.linalg.api.ops.impl.transforms.comparison.CompareAndSet;
 import org.nd4j.linalg.api.shape.Shape;
-import org.nd4j.linalg.api.shape.loop.coordinatefunction.CoordinateFunction;
 import org.nd4j.linalg.factory.Nd4j;
 import org.nd4j.linalg.indexing.conditions.BaseCondition;
 import org.nd4j.linalg.indexing.conditions.Condition;
 
-import java.util.concurrent.atomic.AtomicBoolean;
-
 /**
  * Boolean indexing
  *
@@ -96,17 +94,14 @@ public class BooleanIndexing {
                 return false;
 
         } else {
-            boolean ret = true;
-            final AtomicBoolean a = new AtomicBoolean(ret);
-            Shape.iterate(n, new CoordinateFunction() {
-                @Override
-                public void process(int[]... coord) {
-                    if (a.get())
-                        a.compareAndSet(true, a.get() && cond.apply(n.getDouble(coord[0])));
-                }
-            });
-
-            return a.get();
+            NdIndexCursor cursor = new NdIndexCursor(n.shape());
+            int[] coords = cursor.coordinates();
+            while (cursor.advance()) {
+                if (!cond.apply(n.getDouble(coords)))
+                    return false;
+            }
+
+            return true;
         }
     }
 
@@ -182,17 +177,14 @@ public class BooleanIndexing {
                 return false;
 
         } else {
-            boolean ret = false;
-            final AtomicBoolean a = new AtomicBoolean(ret);
-            Shape.iterate(n, new CoordinateFunction() {
-                @Override
-                public void process(int[]... coord) {
-                    if (!a.get())
-                        a.compareAndSet(false, a.get() || cond.apply(n.getDouble(coord[0])));
-                }
-            });
-
-            return a.get();
+            NdIndexCursor cursor = new NdIndexCursor(n.shape());
+            int[] coords = cursor.coordinates();
+            while (cursor.advance()) {
+                if (cond.apply(n.getDouble(coords)))
+                    return true;
+            }
+
+            return false;
         }
     }
 
@@ -208,14 +200,13 @@ public class BooleanIndexing {
                     final Function<Number, Number> function) {
         // keep original java implementation for dynamic
 
-        Shape.iterate(to, new CoordinateFunction() {
-            @Override
-            public void process(int[]... coord) {
-                if (condition.apply(to.getDouble(coord[0])))
-                    to.putScalar(coord[0], function.apply(to.getDouble(coord[0])).doubleValue());
-
-            }
-        });
+        NdIndexCursor cursor = new NdIndexCursor(to.shape());
+        int[] coords = cursor.coordinates();
+        while (cursor.advance()) {
+            double value = to.getDouble(coords);
+            if (condition.apply(value))
+                to.putScalar(coords, function.apply(value).doubleValue());
+        }
     }
 
     /**
@@ -232,23 +223,14 @@ public class BooleanIndexing {
             Nd4j.getExecutioner().exec(new CompareAndSet(to, number.doubleValue(), condition));
 
         } else {
-            final double value = number.doubleValue();
-
-            final Function<Number, Number> dynamic = new Function<Number, Number>() {
-                @Override
-                public Number apply(Number number) {
-                    return value;
-                }
-            };
-
-            Shape.iterate(to, new CoordinateFunction() {
-                @Override
-                public void process(int[]... coord) {
-                    if (condition.apply(to.getDouble(coord[0])))
-                        to.putScalar(coord[0], dynamic.apply(to.getDouble(coord[0])).doubleValue());
-
-                }
-            });
+            double value = number.doubleValue();
+
+            NdIndexCursor cursor = new NdIndexCursor(to.shape());
+            int[] coords = cursor.coordinates();
+            while (cursor.advance()) {
+                if (condition.apply(to.getDouble(coords)))
+                    to.putScalar(coords, value);
+            }
         }
     }
 
@@ -312,16 +294,16 @@ public class BooleanIndexing {
      */
     public static void applyWhere(final INDArray to, final Condition condition, final Function<Number, Number> function,
                     final Function<Number, Number> alternativeFunction) {
-        Shape.iterate(to, new CoordinateFunction() {
-            @Override
-            public void process(int[]... coord) {
-                if (condition.apply(to.getDouble(coord[0]))) {
-                    to.putScalar(coord[0], function.apply(to.getDouble(coord[0])).doubleValue());
-                } else {
-                    to.putScalar(coord[0], alternativeFunction.apply(to.getDouble(coord[0])).doubleValue());
-                }
+        NdIndexCursor cursor = new NdIndexCursor(to.shape());
+        int[] coords = cursor.coordinates();
+        while (cursor.advance()) {
+            double value = to.getDouble(coords);
+            if (condition.apply(value)) {
+                to.putScalar(coords, function.apply(value).doubleValue());
+            } else {
+                to.putScalar(coords, alternativeFunction.apply(value).doubleValue());
             }
-        });
+        }
 
     }
 
@@ -81,6 +81,11 @@ public class AdaDelta implements Serializable, GradientUpdater {
         if (msg == null || msdx == null)
             throw new IllegalStateException("Updater has not been initialized with view state");
 
+        if (UpdaterKernels.canExecute(gradient, msg, msdx)) {
+            UpdaterKernels.adaDelta(gradient, msg, msdx, rho, epsilon);
+            return gradient;
+        }
+
         //Line 4 of Algorithm 1: https://arxiv.org/pdf/1212.5701v1.pdf
         //E[g^2]_t = rho * E[g^2]_{t−1} + (1-rho)*g^2_t
         msg.muli(rho).addi(gradient.mul(gradient).muli(1 - rho));
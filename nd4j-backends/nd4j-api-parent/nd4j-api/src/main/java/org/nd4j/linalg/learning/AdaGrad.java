@@ -119,6 +119,12 @@ public class AdaGrad implements Serializable, GradientUpdater {
         if (historicalGradient == null)
             throw new IllegalStateException("Updater has not been initialized with view state");
 
+        if (UpdaterKernels.canExecute(gradient, historicalGradient)) {
+            UpdaterKernels.adaGrad(gradient, historicalGradient, learningRate, epsilon);
+            numIterations++;
+            return gradient;
+        }
+
         historicalGradient.addi(gradient.mul(gradient));
 
         INDArray sqrtHistory = sqrt(historicalGradient, true).addi(epsilon);
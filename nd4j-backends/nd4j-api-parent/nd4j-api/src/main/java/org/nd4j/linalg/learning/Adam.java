@@ -88,18 +88,23 @@ public class Adam implements Serializable, GradientUpdater {
         if (m == null || v == null)
             throw new IllegalStateException("Updater has not been initialized with view state");
 
-        INDArray oneMinusBeta1Grad = gradient.mul(1.0 - beta1);
-        m.muli(beta1).addi(oneMinusBeta1Grad);
-
-        INDArray oneMinusBeta2GradSquared = gradient.mul(gradient).muli(1 - beta2);
-        v.muli(beta2).addi(oneMinusBeta2GradSquared);
-
         double beta1t = FastMath.pow(beta1, iteration + 1);
         double beta2t = FastMath.pow(beta2, iteration + 1);
 
         double alphat = learningRate * FastMath.sqrt(1 - beta2t) / (1 - beta1t);
         if (Double.isNaN(alphat) || alphat == 0.0)
             alphat = epsilon;
+
+        if (UpdaterKernels.canExecute(gradient, m, v)) {
+            UpdaterKernels.adam(gradient, m, v, beta1, beta2, alphat, epsilon);
+            return gradient;
+        }
+
+        INDArray oneMinusBeta1Grad = gradient.mul(1.0 - beta1);
+        m.muli(beta1).addi(oneMinusBeta1Grad);
+
+        INDArray oneMinusBeta2GradSquared = gradient.mul(gradient).muli(1 - beta2);
+        v.muli(beta2).addi(oneMinusBeta2GradSquared);
         INDArray sqrtV = Transforms.sqrt(v, true).addi(epsilon);
         INDArray ret = m.mul(alphat).divi(sqrtV);
         gradient.assign(ret);
@@ -81,6 +81,11 @@ public class Nesterovs implements Serializable, GradientUpdater {
         // x += mu * v_prev + (-1 - mu) * v
         //i.e., we do params -= updatedGradient, not params += updatedGradient
 
+        if (UpdaterKernels.canExecute(gradient, v)) {
+            UpdaterKernels.nesterovs(gradient, v, momentum, learningRate);
+            return gradient;
+        }
+
         //v = mu * v - lr * gradient
         INDArray vPrev = v.dup();
         v.muli(momentum).subi(gradient.mul(learningRate));              //Modify state array in-place
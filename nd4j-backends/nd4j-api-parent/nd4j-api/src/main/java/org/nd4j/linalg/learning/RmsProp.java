@@ -66,6 +66,11 @@ public class RmsProp implements GradientUpdater {
         if (lastGradient == null)
             throw new IllegalStateException("Updater has not been initialized with view state");
 
+        if (UpdaterKernels.canExecute(gradient, lastGradient)) {
+            UpdaterKernels.rmsProp(gradient, lastGradient, rmsDecay, learningRate, epsilon);
+            return gradient;
+        }
+
         lastGradient.muli(rmsDecay).addi(gradient.mul(gradient).muli(1 - rmsDecay));
         // lr * gradient / (sqrt(cache) + 1e-8)
         return gradient.muli(learningRate).divi(Transforms.sqrt(lastGradient, true).addi(epsilon));
@@ -0,0 +1,202 @@
+package org.nd4j.linalg.learning;
+
+import org.nd4j.linalg.api.concurrency.AffinityManager;
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.api.ops.executioner.GridExecutioner;
+import org.nd4j.linalg.api.ops.executioner.HostKernels;
+import org.nd4j.linalg.factory.Nd4j;
+
+/**
+ * Fused updater kernels.
+ *
+ * Each kernel does a single pass over host memory: reads gradient and updater state, writes updated state back,
+ * and replaces gradient with the update. Memory is processed in small blocks, so no temporary arrays proportional
+ * to the number of parameters are allocated. Large arrays are split into chunks processed in parallel,
+ * see {@link HostKernels#forEachChunk(int, int, HostKernels.Chunk)}.
+ *
+ * Kernels work with contiguous FLOAT/DOUBLE arrays only, so updaters should check {@link #canExecute(INDArray, INDArray...)}
+ * first, and fall back to regular ops otherwise.
+ */
+final class UpdaterKernels {
+    // arrays shorter than that are processed in the calling thread
+    private static final int PARALLEL_THRESHOLD = 65536;
+    // number of elements transferred between array memory and java heap at once
+    private static final int BLOCK_SIZE = 2048;
+
+    private UpdaterKernels() {}
+
+    /**
+     * Elementwise update of the given blocks: blocks[0] is gradient, followed by updater state
+     */
+    private abstract static class Kernel {
+        abstract void apply(double[][] blocks, int length);
+    }
+
+    /**
+     * This method checks, if state arrays can be traversed with the same linear index as gradient
+     *
+     * @param gradient the gradient
+     * @param state    updater state arrays
+     * @return TRUE if fused kernels can be used
+     */
+    static boolean canExecute(INDArray gradient, INDArray... state) {
+        if (!HostKernels.isCompatible(gradient, gradient))
+            return false;
+
+        for (INDArray array : state)
+            if (array == null || !HostKernels.isCompatible(gradient, array))
+                return false;
+
+        return true;
+    }
+
+    /**
+     * m = beta1 * m + (1 - beta1) * g
+     * v = beta2 * v + (1 - beta2) * g^2
+     * g = alphat * m / (sqrt(v) + epsilon)
+     */
+    static void adam(INDArray gradient, INDArray m, INDArray v, final double beta1, final double beta2,
+                    final double alphat, final double epsilon) {
+        execute(new Kernel() {
+            @Override
+            void apply(double[][] blocks, int length) {
+                double[] g = blocks[0];
+                double[] mb = blocks[1];
+                double[] vb = blocks[2];
+                for (int i = 0; i < length; i++) {
+                    double grad = g[i];
+                    double mi = beta1 * mb[i] + (1 - beta1) * grad;
+                    double vi = beta2 * vb[i] + (1 - beta2) * grad * grad;
+                    mb[i] = mi;
+                    vb[i] = vi;
+                    g[i] = alphat * mi / (Math.sqrt(vi) + epsilon);
+                }
+            }
+        }, gradient, m, v);
+    }
+
+    /**
+     * cache = decay * cache + (1 - decay) * g^2
+     * g = lr * g / (sqrt(cache) + epsilon)
+     */
+    static void rmsProp(INDArray gradient, INDArray cache, final double rmsDecay, final double learningRate,
+                    final double epsilon) {
+        execute(new Kernel() {
+            @Override
+            void apply(double[][] blocks, int length) {
+                double[] g = blocks[0];
+                double[] c = blocks[1];
+                for (int i = 0; i < length; i++) {
+                    double grad = g[i];
+                    double ci = rmsDecay * c[i] + (1 - rmsDecay) * grad * grad;
+                    c[i] = ci;
+                    g[i] = learningRate * grad / (Math.sqrt(ci) + epsilon);
+                }
+            }
+        }, gradient, cache);
+    }
+
+    /**
+     * history = history + g^2
+     * g = lr * g / (sqrt(history) + epsilon)
+     */
+    static void adaGrad(INDArray gradient, INDArray history, final double learningRate, final double epsilon) {
+        execute(new Kernel() {
+            @Override
+            void apply(double[][] blocks, int length) {
+                double[] g = blocks[0];
+                double[] h = blocks[1];
+                for (int i = 0; i < length; i++) {
+                    double grad = g[i];
+                    double hi = h[i] + grad * grad;
+                    h[i] = hi;
+                    g[i] = grad * (learningRate / (Math.sqrt(hi) + epsilon));
+                }
+            }
+        }, gradient, history);
+    }
+
+    /**
+     * v = mu * vPrev - lr * g
+     * g = mu * vPrev - (1 + mu) * v
+     */
+    static void nesterovs(INDArray gradient, INDArray v, final double momentum, final double learningRate) {
+        execute(new Kernel() {
+            @Override
+            void apply(double[][] blocks, int length) {
+                double[] g = blocks[0];
+                double[] vb = blocks[1];
+                for (int i = 0; i < length; i++) {
+                    double vPrev = vb[i];
+                    double vi = momentum * vPrev - learningRate * g[i];
+                    vb[i] = vi;
+                    g[i] = momentum * vPrev + (-momentum - 1) * vi;
+                }
+            }
+        }, gradient, v);
+    }
+
+    /**
+     * msg = rho * msg + (1 - rho) * g^2
+     * g = g * sqrt(msdx + epsilon) / sqrt(msg + epsilon)
+     * msdx = rho * msdx + (1 - rho) * g^2
+     */
+    static void adaDelta(INDArray gradient, INDArray msg, INDArray msdx, final double rho, final double epsilon) {
+        execute(new Kernel() {
+            @Override
+            void apply(double[][] blocks, int length) {
+                double[] g = blocks[0];
+                double[] msgb = blocks[1];
+                double[] msdxb = blocks[2];
+                for (int i = 0; i < length; i++) {
+                    double grad = g[i];
+                    double msgi = rho * msgb[i] + (1 - rho) * grad * grad;
+                    double msdxi = msdxb[i];
+                    double update = grad * Math.sqrt(msdxi + epsilon) / Math.sqrt(msgi + epsilon);
+                    msgb[i] = msgi;
+                    msdxb[i] = rho * msdxi + (1 - rho) * update * update;
+                    g[i] = update;
+                }
+            }
+        }, gradient, msg, msdx);
+    }
+
+    // all arrays are read and written back block by block, so memory is traversed once
+    private static void execute(final Kernel kernel, INDArray... arrays) {
+        // pending ops should be done before we touch memory directly
+        if (Nd4j.getExecutioner() instanceof GridExecutioner)
+            ((GridExecutioner) Nd4j.getExecutioner()).flushQueueBlocking();
+
+        final HostKernels.Operand[] operands = new HostKernels.Operand[arrays.length];
+        for (int i = 0; i < arrays.length; i++)
+            operands[i] = HostKernels.operand(arrays[i]);
+
+        HostKernels.forEachChunk(arrays[0].length(), PARALLEL_THRESHOLD, new HostKernels.Chunk() {
+            @Override
+            public double run(int from, int to) {
+                UpdaterKernels.run(kernel, operands, from, to);
+                return 0.0;
+            }
+        });
+
+        for (INDArray array : arrays)
+            Nd4j.getAffinityManager().tagLocation(array, AffinityManager.Location.HOST);
+    }
+
+    private static void run(Kernel kernel, HostKernels.Operand[] operands, int from, int to) {
+        int blockSize = Math.min(BLOCK_SIZE, to - from);
+        double[][] blocks = new double[operands.length][blockSize];
+        float[] scratch = new float[blockSize];
+
+        for (int start = from; start < to; start += blockSize) {
+            int length = Math.min(blockSize, to - start);
+            for (int i = 0; i < operands.length; i++)
+                operands[i].read(start, blocks[i], scratch, length);
+
+            kernel.apply(blocks, length);
+
+            for (int i = 0; i < operands.length; i++)
+                operands[i].write(start, blocks[i], scratch, length);
+        }
+    }
+}
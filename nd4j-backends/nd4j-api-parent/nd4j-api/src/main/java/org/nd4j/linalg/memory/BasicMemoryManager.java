@@ -3,6 +3,7 @@ package org.nd4j.linalg.memory;
 import org.bytedeco.javacpp.Pointer;
 import org.nd4j.linalg.api.buffer.DataBuffer;
 import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.api.ops.executioner.DefaultOpExecutioner;
 
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
@@ -72,6 +73,7 @@ public class BasicMemoryManager implements MemoryManager {
 
     @Override
     public void memcpy(DataBuffer dstBuffer, DataBuffer srcBuffer) {
+        DefaultOpExecutioner.validateWritable(dstBuffer);
         Pointer.memcpy(dstBuffer.addressPointer(), srcBuffer.addressPointer(),
                         srcBuffer.length() * srcBuffer.getElementSize());
     }
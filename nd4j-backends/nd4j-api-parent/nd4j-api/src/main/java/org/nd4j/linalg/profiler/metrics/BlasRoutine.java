@@ -0,0 +1,30 @@
+package org.nd4j.linalg.profiler.metrics;
+
+/**
+ * BLAS routines tracked by {@link OpMetrics}, reported with {@link OpType#BLAS} type and ordinal as opNum
+ */
+public enum BlasRoutine {
+    // level 1
+    DOT(1), NRM2(1), ASUM(1), IAMAX(1), SWAP(1), COPY(1), AXPY(1), ROT(1), SCAL(1),
+    // level 2
+    GEMV(2), GBMV(2), GER(2), SBMV(2), SPMV(2), SPR(2), SPR2(2), SYMV(2), SYR(2), SYR2(2),
+    TBMV(2), TBSV(2), TPMV(2), TPSV(2), TRMV(2), TRSV(2),
+    // level 3
+    GEMM(3), SYMM(3), SYRK(3), SYR2K(3), TRMM(3), TRSM(3);
+
+    private final int level;
+    private final String routineName;
+
+    BlasRoutine(int level) {
+        this.level = level;
+        this.routineName = name().toLowerCase();
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public String getRoutineName() {
+        return routineName;
+    }
+}
@@ -0,0 +1,74 @@
+package org.nd4j.linalg.profiler.metrics;
+
+/**
+ * Log-linear latency buckets, in the spirit of HdrHistogram:
+ * every power of two range is split into SUB_BUCKETS equal buckets,
+ * so any recorded value is known within 1/SUB_BUCKETS relative error.
+ * Values below SUB_BUCKETS nanoseconds get exact buckets,
+ * values above MAX_NANOS go to the last bucket.
+ */
+public class LatencyBuckets {
+    private static final int SUB_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    private static final int MAX_MAGNITUDE = 40;
+
+    /**
+     * Largest value with own bucket, ~18 minutes
+     */
+    public static final long MAX_NANOS = (1L << (MAX_MAGNITUDE + 1)) - 1;
+
+    /**
+     * Total number of buckets
+     */
+    public static final int BUCKETS = (MAX_MAGNITUDE - SUB_BITS + 2) * SUB_BUCKETS;
+
+    private LatencyBuckets() {
+        //
+    }
+
+    /**
+     * This method returns bucket index for the given value
+     *
+     * @param nanos
+     * @return
+     */
+    public static int bucketOf(long nanos) {
+        if (nanos < SUB_BUCKETS)
+            return nanos < 0 ? 0 : (int) nanos;
+
+        if (nanos > MAX_NANOS)
+            return BUCKETS - 1;
+
+        int magnitude = 63 - Long.numberOfLeadingZeros(nanos);
+        int sub = (int) (nanos >>> (magnitude - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return (magnitude - SUB_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    /**
+     * This method returns smallest value falling into the given bucket
+     *
+     * @param bucket
+     * @return
+     */
+    public static long lowerBound(int bucket) {
+        if (bucket < SUB_BUCKETS)
+            return bucket;
+
+        int magnitude = bucket / SUB_BUCKETS + SUB_BITS - 1;
+        long sub = bucket % SUB_BUCKETS;
+        return (SUB_BUCKETS + sub) << (magnitude - SUB_BITS);
+    }
+
+    /**
+     * This method returns largest value falling into the given bucket
+     *
+     * @param bucket
+     * @return
+     */
+    public static long upperBound(int bucket) {
+        if (bucket >= BUCKETS - 1)
+            return MAX_NANOS;
+
+        return lowerBound(bucket + 1) - 1;
+    }
+}
@@ -0,0 +1,307 @@
+package org.nd4j.linalg.profiler.metrics;
+
+import org.nd4j.linalg.api.ops.Op;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Always-on registry of op invocation counts and latencies, per op type and opNum.
+ *
+ * Each thread records into its own slots, so recording takes no locks and builds no strings:
+ * just few array lookups and ordered writes of single-writer counters.
+ * Latencies are kept in log-linear histogram buckets (see {@link LatencyBuckets}),
+ * so percentiles are available with bounded relative error.
+ * {@link #snapshot()} merges slots of all threads. Slots of threads which are gone are folded
+ * into a shared aggregate, so threads coming and going don't make the registry grow.
+ *
+ * Recording can be disabled with "org.nd4j.metrics.enabled" system property or {@link #setEnabled(boolean)}.
+ *
+ * Usage:
+ * long start = OpMetrics.getInstance().start();
+ * ... op execution ...
+ * OpMetrics.getInstance().record(op, start);
+ */
+public class OpMetrics {
+    public static final String ENABLED = "org.nd4j.metrics.enabled";
+
+    private static final OpMetrics INSTANCE = new OpMetrics();
+
+    private static final int COUNT = 0;
+    private static final int TOTAL = 1;
+    private static final int MAX = 2;
+    private static final int FIRST_BUCKET = 3;
+
+    private volatile boolean enabled = Boolean.parseBoolean(System.getProperty(ENABLED, "true"));
+
+    private final Object lock = new Object();
+    // recorders of threads, which might be still alive, guarded by lock
+    private final List<Recorder> recorders = new ArrayList<>();
+    // counts recorded by threads which are gone, guarded by lock
+    private Slot[][] retired = new Slot[OpType.values().length][];
+    // incremented on reset, each recorder drops its slots once it sees new value
+    private volatile int epoch;
+
+    private final ThreadLocal<Recorder> localRecorder = new ThreadLocal<Recorder>() {
+        @Override
+        protected Recorder initialValue() {
+            Recorder recorder = new Recorder(Thread.currentThread());
+            synchronized (lock) {
+                retireDeadRecorders();
+                recorders.add(recorder);
+            }
+            return recorder;
+        }
+    };
+
+    protected OpMetrics() {
+        //
+    }
+
+    public static OpMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * This method returns timestamp to be passed to record() methods, or 0 if metrics are disabled
+     *
+     * @return
+     */
+    public long start() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * This method records single invocation of the given op
+     *
+     * @param op executed op
+     * @param start value returned by start() before op execution
+     */
+    public void record(Op op, long start) {
+        if (start == 0L || !enabled)
+            return;
+
+        long time = System.nanoTime() - start;
+        OpType type = OpType.of(op);
+        Slot slot = localRecorder.get().slot(type, op.opNum(), epoch);
+        if (slot.name == null)
+            slot.name = op.name();
+
+        slot.record(time);
+    }
+
+    /**
+     * This method records single invocation of the given BLAS routine
+     *
+     * @param routine executed routine
+     * @param start value returned by start() before routine execution
+     */
+    public void record(BlasRoutine routine, long start) {
+        if (start == 0L || !enabled)
+            return;
+
+        long time = System.nanoTime() - start;
+        Slot slot = localRecorder.get().slot(OpType.BLAS, routine.ordinal(), epoch);
+        if (slot.name == null)
+            slot.name = routine.getRoutineName();
+
+        slot.record(time);
+    }
+
+    /**
+     * This method drops everything recorded so far.
+     * Each thread drops its own slots on its next record, so counts recorded after reset() returns are kept,
+     * while records racing with reset() may end up on either side of it
+     */
+    public void reset() {
+        synchronized (lock) {
+            epoch++;
+            retired = new Slot[OpType.values().length][];
+            retireDeadRecorders();
+        }
+    }
+
+    /**
+     * This method returns number of threads which have their own slots at the moment
+     *
+     * @return
+     */
+    public int getNumRecorders() {
+        synchronized (lock) {
+            retireDeadRecorders();
+            return recorders.size();
+        }
+    }
+
+    /**
+     * This method returns metrics recorded by all threads so far
+     *
+     * @return
+     */
+    public OpMetricsSnapshot snapshot() {
+        Slot[][] merged = new Slot[OpType.values().length][];
+        synchronized (lock) {
+            retireDeadRecorders();
+            merge(merged, retired);
+            int current = epoch;
+            for (Recorder recorder : recorders) {
+                // recorder which didn't record anything since reset
+                if (recorder.epoch == current)
+                    merge(merged, recorder.slots);
+            }
+        }
+
+        List<OpMetricsSnapshot.Entry> entries = new ArrayList<>();
+        for (OpType type : OpType.values()) {
+            Slot[] row = merged[type.ordinal()];
+            if (row == null)
+                continue;
+
+            for (int opNum = 0; opNum < row.length; opNum++) {
+                Slot slot = row[opNum];
+                if (slot == null || slot.values.get(COUNT) == 0)
+                    continue;
+
+                long[] buckets = new long[LatencyBuckets.BUCKETS];
+                for (int b = 0; b < buckets.length; b++)
+                    buckets[b] = slot.values.get(FIRST_BUCKET + b);
+
+                entries.add(new OpMetricsSnapshot.Entry(type, opNum, slot.name, slot.values.get(COUNT),
+                                slot.values.get(TOTAL), slot.values.get(MAX), buckets));
+            }
+        }
+
+        return new OpMetricsSnapshot(entries);
+    }
+
+    // should be called with lock held
+    private void retireDeadRecorders() {
+        Iterator<Recorder> iterator = recorders.iterator();
+        while (iterator.hasNext()) {
+            Recorder recorder = iterator.next();
+            if (recorder.isAlive())
+                continue;
+
+            // thread termination makes all its writes visible here
+            if (recorder.epoch == epoch)
+                merge(retired, recorder.slots);
+            iterator.remove();
+        }
+    }
+
+    // adds counts of source slots to target ones, target slots are created as needed
+    private static void merge(Slot[][] target, Slot[][] source) {
+        for (int t = 0; t < source.length; t++) {
+            Slot[] row = source[t];
+            if (row == null)
+                continue;
+
+            Slot[] targetRow = target[t];
+            if (targetRow == null || targetRow.length < row.length) {
+                Slot[] grown = new Slot[row.length];
+                if (targetRow != null)
+                    System.arraycopy(targetRow, 0, grown, 0, targetRow.length);
+                target[t] = grown;
+                targetRow = grown;
+            }
+
+            for (int opNum = 0; opNum < row.length; opNum++) {
+                Slot slot = row[opNum];
+                if (slot == null)
+                    continue;
+
+                if (targetRow[opNum] == null)
+                    targetRow[opNum] = new Slot();
+                targetRow[opNum].add(slot);
+            }
+        }
+    }
+
+    /**
+     * Per-thread slots, indexed by op type and opNum. Written by owning thread only.
+     */
+    private static class Recorder {
+        // weak, so registry doesn't keep threads which are gone
+        private final WeakReference<Thread> owner;
+        private volatile int epoch;
+        private volatile Slot[][] slots = new Slot[OpType.values().length][];
+
+        private Recorder(Thread owner) {
+            this.owner = new WeakReference<>(owner);
+        }
+
+        private boolean isAlive() {
+            Thread thread = owner.get();
+            return thread != null && thread.isAlive();
+        }
+
+        private Slot slot(OpType type, int opNum, int currentEpoch) {
+            if (epoch != currentEpoch) {
+                // reset happened: slots are dropped before epoch is updated, so snapshots skip them meanwhile
+                slots = new Slot[OpType.values().length][];
+                epoch = currentEpoch;
+            }
+
+            Slot[][] current = slots;
+            Slot[] row = current[type.ordinal()];
+            if (row == null || opNum >= row.length) {
+                Slot[] grown = new Slot[Math.max(opNum + 1, row == null ? 16 : row.length * 2)];
+                if (row != null)
+                    System.arraycopy(row, 0, grown, 0, row.length);
+                current[type.ordinal()] = grown;
+                row = grown;
+            }
+
+            Slot slot = row[opNum];
+            if (slot == null) {
+                slot = new Slot();
+                row[opNum] = slot;
+            }
+            return slot;
+        }
+    }
+
+    private static class Slot {
+        private volatile String name;
+        private final AtomicLongArray values = new AtomicLongArray(FIRST_BUCKET + LatencyBuckets.BUCKETS);
+
+        /**
+         * Single writer: plain read followed by ordered write, no CAS needed
+         */
+        private void record(long time) {
+            values.lazySet(COUNT, values.get(COUNT) + 1);
+            values.lazySet(TOTAL, values.get(TOTAL) + time);
+            if (time > values.get(MAX))
+                values.lazySet(MAX, time);
+
+            int bucket = FIRST_BUCKET + LatencyBuckets.bucketOf(time);
+            values.lazySet(bucket, values.get(bucket) + 1);
+        }
+
+        /**
+         * Adds counts of the other slot, used for aggregates only
+         */
+        private void add(Slot other) {
+            if (name == null)
+                name = other.name;
+
+            for (int i = 0; i < values.length(); i++) {
+                if (i == MAX)
+                    values.set(MAX, Math.max(values.get(MAX), other.values.get(MAX)));
+                else
+                    values.set(i, values.get(i) + other.values.get(i));
+            }
+        }
+    }
+}
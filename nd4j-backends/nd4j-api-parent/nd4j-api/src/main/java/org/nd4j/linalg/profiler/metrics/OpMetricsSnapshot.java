@@ -0,0 +1,217 @@
+package org.nd4j.linalg.profiler.metrics;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Immutable state of {@link OpMetrics} at some point in time,
+ * exportable as JSON or Prometheus text exposition format.
+ */
+public class OpMetricsSnapshot {
+    private static final double[] QUANTILES = new double[] {0.5, 0.9, 0.99, 0.999};
+    private static final String[] QUANTILE_NAMES = new String[] {"p50", "p90", "p99", "p999"};
+
+    private final List<Entry> entries;
+
+    public OpMetricsSnapshot(List<Entry> entries) {
+        this.entries = Collections.unmodifiableList(entries);
+    }
+
+    /**
+     * This method returns metrics of all ops invoked at least once, ordered by type and opNum
+     *
+     * @return
+     */
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * This method returns metrics for specific op, or null if it wasn't invoked
+     *
+     * @param type
+     * @param opNum
+     * @return
+     */
+    public Entry getEntry(OpType type, int opNum) {
+        for (Entry entry : entries)
+            if (entry.getType() == type && entry.getOpNum() == opNum)
+                return entry;
+
+        return null;
+    }
+
+    /**
+     * This method returns metrics for specific BLAS routine, or null if it wasn't invoked
+     *
+     * @param routine
+     * @return
+     */
+    public Entry getEntry(BlasRoutine routine) {
+        return getEntry(OpType.BLAS, routine.ordinal());
+    }
+
+    /**
+     * This method returns total number of invocations over all ops
+     *
+     * @return
+     */
+    public long getTotalCount() {
+        long count = 0;
+        for (Entry entry : entries)
+            count += entry.getCount();
+
+        return count;
+    }
+
+    /**
+     * This method returns snapshot as JSON array of per-op objects, with latencies in nanoseconds
+     *
+     * @return
+     */
+    public String toJson() {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < entries.size(); i++) {
+            Entry entry = entries.get(i);
+            if (i > 0)
+                builder.append(',');
+
+            builder.append("{\"type\":\"").append(entry.getType().name()).append('"');
+            builder.append(",\"opNum\":").append(entry.getOpNum());
+            builder.append(",\"name\":\"").append(escape(entry.getName())).append('"');
+            builder.append(",\"count\":").append(entry.getCount());
+            builder.append(",\"totalNanos\":").append(entry.getTotalNanos());
+            builder.append(",\"maxNanos\":").append(entry.getMaxNanos());
+            builder.append(",\"meanNanos\":").append(entry.getMeanNanos());
+            for (int q = 0; q < QUANTILES.length; q++)
+                builder.append(",\"").append(QUANTILE_NAMES[q]).append("Nanos\":")
+                                .append(entry.getPercentileNanos(QUANTILES[q]));
+            builder.append('}');
+        }
+
+        return builder.append(']').toString();
+    }
+
+    /**
+     * This method returns snapshot in Prometheus text exposition format:
+     * invocation counters, and latency summaries in seconds
+     *
+     * @return
+     */
+    public String toPrometheus() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("# HELP nd4j_op_invocations_total Number of op invocations\n");
+        builder.append("# TYPE nd4j_op_invocations_total counter\n");
+        for (Entry entry : entries)
+            builder.append("nd4j_op_invocations_total{").append(labels(entry)).append("} ").append(entry.getCount())
+                            .append('\n');
+
+        builder.append("# HELP nd4j_op_duration_seconds Op execution time\n");
+        builder.append("# TYPE nd4j_op_duration_seconds summary\n");
+        for (Entry entry : entries) {
+            String labels = labels(entry);
+            for (double quantile : QUANTILES)
+                builder.append("nd4j_op_duration_seconds{").append(labels).append(",quantile=\"")
+                                .append(quantile).append("\"} ").append(seconds(entry.getPercentileNanos(quantile)))
+                                .append('\n');
+
+            builder.append("nd4j_op_duration_seconds_sum{").append(labels).append("} ")
+                            .append(seconds(entry.getTotalNanos())).append('\n');
+            builder.append("nd4j_op_duration_seconds_count{").append(labels).append("} ").append(entry.getCount())
+                            .append('\n');
+        }
+
+        return builder.toString();
+    }
+
+    private static String labels(Entry entry) {
+        return "type=\"" + entry.getType().name() + "\",op=\"" + escape(entry.getName()) + "\",opnum=\""
+                        + entry.getOpNum() + "\"";
+    }
+
+    private static String seconds(long nanos) {
+        return String.format(Locale.ROOT, "%.9f", nanos / 1e9);
+    }
+
+    private static String escape(String value) {
+        if (value == null)
+            return "";
+
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    /**
+     * Metrics of single op
+     */
+    public static class Entry {
+        private final OpType type;
+        private final int opNum;
+        private final String name;
+        private final long count;
+        private final long totalNanos;
+        private final long maxNanos;
+        private final long[] buckets;
+
+        public Entry(OpType type, int opNum, String name, long count, long totalNanos, long maxNanos,
+                        long[] buckets) {
+            this.type = type;
+            this.opNum = opNum;
+            this.name = name;
+            this.count = count;
+            this.totalNanos = totalNanos;
+            this.maxNanos = maxNanos;
+            this.buckets = buckets;
+        }
+
+        public OpType getType() {
+            return type;
+        }
+
+        public int getOpNum() {
+            return opNum;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        public long getMaxNanos() {
+            return maxNanos;
+        }
+
+        public long getMeanNanos() {
+            return count == 0 ? 0 : totalNanos / count;
+        }
+
+        /**
+         * This method returns upper bound of the latency bucket containing given quantile,
+         * so the result is within bucket precision of the exact value, and never above max
+         *
+         * @param quantile quantile, in range [0, 1]
+         * @return
+         */
+        public long getPercentileNanos(double quantile) {
+            if (count == 0)
+                return 0;
+
+            long rank = Math.max(1, (long) Math.ceil(quantile * count));
+            long seen = 0;
+            for (int b = 0; b < buckets.length; b++) {
+                seen += buckets[b];
+                if (seen >= rank)
+                    return Math.min(LatencyBuckets.upperBound(b), maxNanos);
+            }
+
+            return maxNanos;
+        }
+    }
+}
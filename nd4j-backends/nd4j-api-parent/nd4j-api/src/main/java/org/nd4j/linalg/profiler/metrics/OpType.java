@@ -0,0 +1,39 @@
+package org.nd4j.linalg.profiler.metrics;
+
+import org.nd4j.linalg.api.ops.*;
+
+/**
+ * Op families tracked by {@link OpMetrics}. Together with opNum, these identify individual ops.
+ */
+public enum OpType {
+    SCALAR, TRANSFORM, PAIRWISE_TRANSFORM, BROADCAST, ACCUMULATION, INDEX_ACCUMULATION, RANDOM, META, GRID, BLAS,
+    UNKNOWN;
+
+    /**
+     * This method returns type of the given op
+     *
+     * @param op
+     * @return
+     */
+    public static OpType of(Op op) {
+        // order matters here: i.e. MetaOp and GridOp are TransformOps as well
+        if (op instanceof ScalarOp) {
+            return SCALAR;
+        } else if (op instanceof MetaOp) {
+            return META;
+        } else if (op instanceof GridOp) {
+            return GRID;
+        } else if (op instanceof BroadcastOp) {
+            return BROADCAST;
+        } else if (op instanceof RandomOp) {
+            return RANDOM;
+        } else if (op instanceof Accumulation) {
+            return ACCUMULATION;
+        } else if (op instanceof TransformOp) {
+            return op.y() == null ? TRANSFORM : PAIRWISE_TRANSFORM;
+        } else if (op instanceof IndexAccumulation) {
+            return INDEX_ACCUMULATION;
+        } else
+            return UNKNOWN;
+    }
+}
@@ -0,0 +1,462 @@
+package org.nd4j.serde.binary;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.bytedeco.javacpp.*;
+import org.nd4j.linalg.api.buffer.DataBuffer;
+import org.nd4j.linalg.api.buffer.factory.DataBufferFactory;
+import org.nd4j.linalg.api.concurrency.AffinityManager;
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.api.ops.executioner.GridExecutioner;
+import org.nd4j.linalg.api.shape.Shape;
+import org.nd4j.linalg.factory.Nd4j;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.ByteChannel;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Versioned binary format for INDArrays, meant for bulk I/O.
+ *
+ * Unlike {@link Nd4j#write(INDArray, java.io.DataOutputStream)}, contents of the data buffer aren't converted element by element:
+ * header is written once, and then memory backing the array goes to the channel as is,
+ * in the byte order recorded within the header.
+ *
+ * Layout (header is always big-endian):
+ * 4 bytes magic
+ * 4 bytes format version
+ * 4 bytes data type ordinal
+ * 1 byte payload byte order (0 for big-endian, 1 for little-endian)
+ * 4 bytes rank
+ * shape information (Shape.shapeInfoLength(rank) ints)
+ * 8 bytes number of elements
+ * zero padding up to the next multiple of 64 bytes
+ * payload
+ *
+ * Magic is chosen so that the first byte is never 0,
+ * which tells this format apart from the legacy one (starts with writeUTF() length)
+ */
+@Slf4j
+public class BinarySerde {
+    public static final int MAGIC = 0x4E44344A; // "ND4J"
+    public static final int VERSION = 1;
+
+    private static final int PREAMBLE_LENGTH = 4 + 4 + 4 + 1 + 4;
+
+    // payload offset is aligned, so mapped payload is properly aligned for native SIMD code
+    private static final int PAYLOAD_ALIGNMENT = 64;
+
+    // ByteBuffer can't address more than 2GB, so payload is transferred in windows of this size
+    private static final long WINDOW_BYTES = 1L << 30;
+
+    // size of intermediate buffer used when payload byte order doesn't match native one
+    private static final int SWAP_CHUNK_BYTES = 1024 * 1024;
+
+    private BinarySerde() {}
+
+    /**
+     * This method writes given INDArray to the channel
+     *
+     * PLEASE NOTE: compressed and sparse arrays aren't supported here, use Nd4j.write() for them
+     *
+     * @param arr array to write
+     * @param channel channel to write to
+     * @throws IOException
+     */
+    public static void write(@NonNull INDArray arr, @NonNull WritableByteChannel channel) throws IOException {
+        if (arr.isCompressed())
+            throw new UnsupportedOperationException("Compressed arrays can't be written with BinarySerde");
+
+        if (arr.isSparse())
+            throw new UnsupportedOperationException(
+                            "Sparse arrays can't be written with BinarySerde, use Nd4j.write() for them");
+
+        // same as Nd4j.write(): we only want to save actual data of the view, so dup is required
+        if (arr.isView())
+            arr = arr.dup();
+
+        if (Nd4j.getExecutioner() instanceof GridExecutioner)
+            ((GridExecutioner) Nd4j.getExecutioner()).flushQueueBlocking();
+        Nd4j.getAffinityManager().ensureLocation(arr.data(), AffinityManager.Location.HOST);
+
+        DataBuffer data = arr.data();
+        DataBuffer shapeInfo = arr.shapeInfoDataBuffer();
+        int shapeInfoLength = Shape.shapeInfoLength(arr.rank());
+
+        ByteBuffer header = ByteBuffer.allocate(headerLength(arr.rank())).order(ByteOrder.BIG_ENDIAN);
+        header.putInt(MAGIC);
+        header.putInt(VERSION);
+        header.putInt(data.dataType().ordinal());
+        header.put((byte) (ByteOrder.nativeOrder() == ByteOrder.BIG_ENDIAN ? 0 : 1));
+        header.putInt(arr.rank());
+        for (int i = 0; i < shapeInfoLength; i++)
+            header.putInt(shapeInfo.getInt(i));
+        header.putLong(arr.length());
+        header.position(header.limit());
+        header.flip();
+        writeFully(channel, header);
+
+        long windowLength = WINDOW_BYTES / data.getElementSize();
+        for (long e = 0; e < arr.length(); e += windowLength)
+            writeFully(channel, window(data, e, Math.min(windowLength, arr.length() - e)));
+    }
+
+    /**
+     * This method returns number of bytes {@link #write(INDArray, WritableByteChannel)} will produce for given array
+     *
+     * @param arr
+     * @return
+     */
+    public static long byteLength(@NonNull INDArray arr) {
+        return headerLength(arr.rank()) + arr.length() * (long) arr.data().getElementSize();
+    }
+
+    /**
+     * This method writes given INDArray into exactly sized byte array
+     *
+     * @param arr array to write
+     * @return
+     */
+    public static byte[] toByteArray(@NonNull INDArray arr) {
+        long length = byteLength(arr);
+        if (length > Integer.MAX_VALUE)
+            throw new UnsupportedOperationException("Array is too large to be serialized into byte[]");
+
+        byte[] bytes = new byte[(int) length];
+        try {
+            write(arr, new ByteBufferChannel(ByteBuffer.wrap(bytes)));
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return bytes;
+    }
+
+    /**
+     * This method reads INDArray from byte array, previously produced by {@link #toByteArray(INDArray)}
+     *
+     * @param bytes
+     * @return
+     * @throws IOException
+     */
+    public static INDArray fromByteArray(@NonNull byte[] bytes) throws IOException {
+        return read(new ByteBufferChannel(ByteBuffer.wrap(bytes)));
+    }
+
+    /**
+     * This method reads INDArray from the channel, previously written with {@link #write(INDArray, WritableByteChannel)}
+     *
+     * Contents are read straight into freshly allocated DataBuffer, without intermediate copies
+     *
+     * @param channel channel to read from
+     * @return
+     * @throws IOException
+     */
+    public static INDArray read(@NonNull ReadableByteChannel channel) throws IOException {
+        ByteBuffer magic = readFully(channel, ByteBuffer.allocate(4));
+        if (magic.getInt() != MAGIC)
+            throw new IOException("Stream doesn't contain INDArray in binary format");
+
+        return readAfterMagic(channel);
+    }
+
+    /**
+     * This method reads INDArray from the channel, assuming that magic was already consumed by caller
+     *
+     * @param channel channel to read from
+     * @return
+     * @throws IOException
+     */
+    public static INDArray readAfterMagic(@NonNull ReadableByteChannel channel) throws IOException {
+        Header header = readHeader(channel);
+        DataBuffer.Type type = header.type;
+        long length = header.length;
+
+        DataBuffer data = createBuffer(type, length);
+        long windowLength = WINDOW_BYTES / data.getElementSize();
+        for (long e = 0; e < length; e += windowLength) {
+            ByteBuffer payload = window(data, e, Math.min(windowLength, length - e));
+            if (header.order == ByteOrder.nativeOrder()) {
+                readFully(channel, payload);
+            } else {
+                ByteBuffer foreign = ByteBuffer.allocate(Math.min(SWAP_CHUNK_BYTES, payload.remaining()))
+                                .order(header.order);
+                while (payload.hasRemaining()) {
+                    foreign.clear();
+                    foreign.limit(Math.min(foreign.capacity(), payload.remaining()));
+                    readFully(channel, foreign);
+                    swapInto(foreign, payload, type);
+                }
+            }
+        }
+        Nd4j.getAffinityManager().tagLocation(data, AffinityManager.Location.HOST);
+
+        return createArray(convert(data), header.shapeInfo);
+    }
+
+    /**
+     * This method maps INDArray stored in the given file into memory, instead of reading it.
+     *
+     * Payload isn't copied: pages are loaded lazily by the OS upon access, and processes mapping the same file
+     * share the page cache. With copyOnWrite = false, array is read-only: modifications and in-place ops over it
+     * throw exceptions. With copyOnWrite = true, array can be modified, but changes stay private to this process
+     * and never reach the file.
+     *
+     * PLEASE NOTE: arrays that can't be mapped as is will be read into regular memory instead. That's the case
+     * for legacy format files, payloads in foreign byte order or of type different from global one,
+     * and payloads larger than 2GB. Half-precision arrays can't be mapped at all.
+     *
+     * @param file file, previously written with {@link #write(INDArray, WritableByteChannel)}
+     * @param copyOnWrite whether mapping should be private copy-on-write, or read-only
+     * @return
+     * @throws IOException
+     */
+    public static INDArray mmap(@NonNull File file, boolean copyOnWrite) throws IOException {
+        if (!file.isFile())
+            throw new FileNotFoundException("File [" + file + "] doesn't exist");
+
+        if (Nd4j.dataType() == DataBuffer.Type.HALF)
+            throw new UnsupportedOperationException(
+                            "Half-precision arrays can't be mapped, use Nd4j.readBinary() to read them instead");
+
+        // copy-on-write mapping requires channel opened for writing, even though file itself is never modified
+        try (RandomAccessFile raf = new RandomAccessFile(file, copyOnWrite ? "rw" : "r");
+                        FileChannel channel = raf.getChannel()) {
+            if (!isBinaryFormat(channel)) {
+                log.warn("File [{}] isn't stored in binary format, it will be read instead of mapping", file);
+                return Nd4j.readBinary(file);
+            }
+
+            channel.position(4);
+            Header header = readHeader(channel);
+            long payloadBytes = header.length * elementSize(header.type);
+
+            if (header.order != ByteOrder.nativeOrder() || payloadBytes > Integer.MAX_VALUE
+                            || (header.type != DataBuffer.Type.INT && header.type != Nd4j.dataType())) {
+                log.warn("Array stored in [{}] can't be mapped as is, it will be read instead", file);
+                channel.position(4);
+                return readAfterMagic(channel);
+            }
+
+            MappedByteBuffer mapped = channel.map(copyOnWrite ? FileChannel.MapMode.PRIVATE
+                            : FileChannel.MapMode.READ_ONLY, channel.position(), payloadBytes);
+
+            DataBuffer data = Nd4j.getDataBufferFactory().createMapped(mapped, header.type, header.length,
+                            !copyOnWrite);
+            Nd4j.getAffinityManager().tagLocation(data, AffinityManager.Location.HOST);
+
+            return createArray(data, header.shapeInfo);
+        }
+    }
+
+    /**
+     * Reads everything between magic and payload
+     */
+    protected static Header readHeader(ReadableByteChannel channel) throws IOException {
+        ByteBuffer preamble = readFully(channel, ByteBuffer.allocate(PREAMBLE_LENGTH - 4));
+
+        int version = preamble.getInt();
+        if (version != VERSION)
+            throw new IOException("Unsupported binary format version: [" + version + "]");
+
+        Header header = new Header();
+        header.type = DataBuffer.Type.values()[preamble.getInt()];
+        header.order = preamble.get() == 0 ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN;
+        int rank = preamble.getInt();
+        if (rank < 0)
+            throw new IOException("Found negative rank. Corrupt serialization?");
+
+        int shapeInfoLength = Shape.shapeInfoLength(rank);
+        ByteBuffer shape = readFully(channel, ByteBuffer.allocate(shapeInfoLength * 4 + 8));
+        header.shapeInfo = new int[shapeInfoLength];
+        for (int i = 0; i < shapeInfoLength; i++)
+            header.shapeInfo[i] = shape.getInt();
+        header.length = shape.getLong();
+
+        int padding = headerLength(rank) - PREAMBLE_LENGTH - shapeInfoLength * 4 - 8;
+        if (padding > 0)
+            readFully(channel, ByteBuffer.allocate(padding));
+
+        return header;
+    }
+
+    protected static DataBuffer convert(DataBuffer data) {
+        DataBuffer.Type type = data.dataType();
+        if (type == DataBuffer.Type.INT || type == Nd4j.dataType())
+            return data;
+
+        log.warn("Loading an array with type different from what is set globally. Expect precision loss");
+        DataBuffer converted = Nd4j.createBuffer(data.length(), false);
+        for (long i = 0; i < data.length(); i++)
+            converted.put(i, type == DataBuffer.Type.HALF ? data.getFloat(i) : data.getDouble(i));
+        return converted;
+    }
+
+    protected static INDArray createArray(DataBuffer data, int[] shapeInfo) {
+        return Nd4j.createArrayFromShapeBuffer(data, Nd4j.createBuffer(shapeInfo));
+    }
+
+    /**
+     * This method checks, if channel starts with binary format magic, without changing channel position
+     *
+     * @param channel
+     * @return
+     * @throws IOException
+     */
+    public static boolean isBinaryFormat(@NonNull FileChannel channel) throws IOException {
+        ByteBuffer magic = ByteBuffer.allocate(4);
+        long position = channel.position();
+        while (magic.hasRemaining()) {
+            if (channel.read(magic, position + magic.position()) < 0)
+                return false;
+        }
+        magic.flip();
+        return magic.getInt() == MAGIC;
+    }
+
+    protected static int headerLength(int rank) {
+        int length = PREAMBLE_LENGTH + Shape.shapeInfoLength(rank) * 4 + 8;
+        return (length + PAYLOAD_ALIGNMENT - 1) / PAYLOAD_ALIGNMENT * PAYLOAD_ALIGNMENT;
+    }
+
+    protected static int elementSize(DataBuffer.Type type) {
+        switch (type) {
+            case DOUBLE:
+                return 8;
+            case HALF:
+                return 2;
+            default:
+                return 4;
+        }
+    }
+
+    protected static DataBuffer createBuffer(DataBuffer.Type type, long length) {
+        DataBufferFactory factory = Nd4j.getDataBufferFactory();
+        switch (type) {
+            case DOUBLE:
+                return factory.createDouble(length, false);
+            case FLOAT:
+                return factory.createFloat(length, false);
+            case HALF:
+                return factory.createHalf(length, false);
+            case INT:
+                return factory.createInt(length, false);
+            default:
+                throw new IllegalArgumentException("Unsupported data type: [" + type + "]");
+        }
+    }
+
+    /**
+     * Returns native ordered view over the memory holding elements [first, first + count) of the given buffer
+     */
+    protected static ByteBuffer window(DataBuffer data, long first, long count) {
+        Pointer pointer = data.pointer();
+        Pointer window;
+        if (pointer instanceof DoublePointer)
+            window = new DoublePointer(pointer);
+        else if (pointer instanceof FloatPointer)
+            window = new FloatPointer(pointer);
+        else if (pointer instanceof IntPointer)
+            window = new IntPointer(pointer);
+        else if (pointer instanceof ShortPointer)
+            window = new ShortPointer(pointer);
+        else
+            throw new UnsupportedOperationException("Unsupported pointer type: [" + pointer.getClass().getSimpleName() + "]");
+
+        long position = data.offset() + first;
+        window.position(position).limit(position + count);
+        return window.asByteBuffer().order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Copies all remaining elements from source to target, converting byte order. Both buffers are advanced
+     */
+    protected static void swapInto(ByteBuffer source, ByteBuffer target, DataBuffer.Type type) {
+        switch (type) {
+            case DOUBLE:
+                target.asDoubleBuffer().put(source.asDoubleBuffer());
+                break;
+            case HALF:
+                target.asShortBuffer().put(source.asShortBuffer());
+                break;
+            case FLOAT:
+                target.asFloatBuffer().put(source.asFloatBuffer());
+                break;
+            default:
+                target.asIntBuffer().put(source.asIntBuffer());
+        }
+        target.position(target.position() + source.remaining());
+        source.position(source.limit());
+    }
+
+    protected static void writeFully(WritableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining())
+            channel.write(buffer);
+    }
+
+    protected static class Header {
+        DataBuffer.Type type;
+        ByteOrder order;
+        int[] shapeInfo;
+        long length;
+    }
+
+    /**
+     * Channel reading from, or writing into, given heap buffer
+     */
+    protected static class ByteBufferChannel implements ByteChannel {
+        private final ByteBuffer buffer;
+
+        protected ByteBufferChannel(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read(ByteBuffer dst) {
+            if (!buffer.hasRemaining())
+                return -1;
+
+            int count = Math.min(dst.remaining(), buffer.remaining());
+            ByteBuffer chunk = buffer.duplicate();
+            chunk.limit(chunk.position() + count);
+            dst.put(chunk);
+            buffer.position(buffer.position() + count);
+            return count;
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            if (src.remaining() > buffer.remaining())
+                throw new EOFException("Not enough space in target buffer");
+
+            int count = src.remaining();
+            buffer.put(src);
+            return count;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {}
+    }
+
+    protected static ByteBuffer readFully(ReadableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0)
+                throw new EOFException("Unexpected end of stream");
+        }
+        buffer.flip();
+        return buffer;
+    }
+}
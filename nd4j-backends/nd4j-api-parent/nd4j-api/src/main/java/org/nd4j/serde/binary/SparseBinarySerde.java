@@ -0,0 +1,175 @@
+package org.nd4j.serde.binary;
+
+import lombok.NonNull;
+import org.nd4j.linalg.api.buffer.DataBuffer;
+import org.nd4j.linalg.api.ndarray.ISparseNDArray;
+import org.nd4j.linalg.api.ndarray.SparseFormat;
+import org.nd4j.linalg.api.ndarray.SparseNDArrayCSR;
+import org.nd4j.linalg.factory.Nd4j;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Compact binary format for sparse arrays, used by Nd4j.write() and {@link Nd4j#read(DataInputStream)},
+ * and thus by DataSet.save()/load().
+ *
+ * Elements are written in row-major order regardless of storage format, and indices are delta-encoded as varints:
+ * for typical bag-of-words or one-hot data most indices take 1-2 bytes instead of 4.
+ *
+ * Layout (big-endian):
+ * 4 bytes magic
+ * 4 bytes format version
+ * 4 bytes sparse format ordinal
+ * 4 bytes data type ordinal of values (DOUBLE or FLOAT)
+ * 4 bytes rows
+ * 4 bytes columns
+ * 4 bytes nnz
+ * varint number of elements in each row, rows times
+ * varint column gap of each element: column index for the first element of the row,
+ * distance to the previous element minus 1 otherwise
+ * values, nnz times
+ *
+ * Magic shares first 2 bytes with {@link BinarySerde#MAGIC}, so both are told apart from legacy format the same way
+ */
+public class SparseBinarySerde {
+    public static final int MAGIC = 0x4E445350; // "NDSP"
+    public static final int VERSION = 1;
+
+    private SparseBinarySerde() {}
+
+    /**
+     * This method writes given sparse array to the stream
+     *
+     * @param array array to write
+     * @param dos stream to write to
+     * @throws IOException
+     */
+    public static void write(@NonNull ISparseNDArray array, @NonNull DataOutputStream dos) throws IOException {
+        // row extents and column order are taken from CSR buffers, whatever the storage format is
+        SparseNDArrayCSR csr = (SparseNDArrayCSR) array.toCSR();
+        DataBuffer values = csr.getValues();
+        int rows = csr.rows();
+        int nnz = csr.nnz();
+        boolean doubles = values.dataType() == DataBuffer.Type.DOUBLE;
+
+        dos.writeInt(MAGIC);
+        dos.writeInt(VERSION);
+        dos.writeInt(array.getFormat().ordinal());
+        dos.writeInt(doubles ? DataBuffer.Type.DOUBLE.ordinal() : DataBuffer.Type.FLOAT.ordinal());
+        dos.writeInt(rows);
+        dos.writeInt(csr.columns());
+        dos.writeInt(nnz);
+
+        DataBuffer pointers = csr.getRowPointers();
+        DataBuffer columns = csr.getColumnIndices();
+
+        for (int r = 0; r < rows; r++)
+            writeVarInt(dos, pointers.getInt(r + 1) - pointers.getInt(r));
+
+        for (int r = 0; r < rows; r++) {
+            int previous = -1;
+            int end = pointers.getInt(r + 1);
+            for (int k = pointers.getInt(r); k < end; k++) {
+                int column = columns.getInt(k);
+                writeVarInt(dos, column - previous - 1);
+                previous = column;
+            }
+        }
+
+        for (int k = 0; k < nnz; k++) {
+            if (doubles)
+                dos.writeDouble(values.getDouble(k));
+            else
+                dos.writeFloat(values.getFloat(k));
+        }
+    }
+
+    /**
+     * This method reads sparse array from the stream,
+     * previously written with {@link #write(ISparseNDArray, DataOutputStream)}
+     *
+     * @param dis stream to read from
+     * @return
+     * @throws IOException
+     */
+    public static ISparseNDArray read(@NonNull DataInputStream dis) throws IOException {
+        if (dis.readInt() != MAGIC)
+            throw new IOException("Stream doesn't contain sparse array");
+
+        return readAfterMagic(dis);
+    }
+
+    /**
+     * This method reads sparse array from the stream, assuming that magic was already consumed by caller
+     *
+     * @param dis stream to read from
+     * @return
+     * @throws IOException
+     */
+    public static ISparseNDArray readAfterMagic(@NonNull DataInputStream dis) throws IOException {
+        int version = dis.readInt();
+        if (version > VERSION)
+            throw new IOException("Unsupported sparse format version: [" + version + "]");
+
+        SparseFormat format = SparseFormat.values()[dis.readInt()];
+        boolean doubles = DataBuffer.Type.values()[dis.readInt()] == DataBuffer.Type.DOUBLE;
+        int rows = dis.readInt();
+        int columns = dis.readInt();
+        int nnz = dis.readInt();
+        if (rows < 1 || columns < 1 || nnz < 0)
+            throw new IOException("Corrupt sparse array header: shape [" + rows + ", " + columns + "], nnz [" + nnz
+                            + "]");
+
+        int[] pointers = new int[rows + 1];
+        for (int r = 0; r < rows; r++)
+            pointers[r + 1] = pointers[r] + readVarInt(dis);
+
+        if (pointers[rows] != nnz)
+            throw new IOException("Corrupt sparse array: row lengths don't sum up to nnz");
+
+        int[] columnIndices = new int[nnz];
+        for (int r = 0; r < rows; r++) {
+            int previous = -1;
+            for (int k = pointers[r]; k < pointers[r + 1]; k++) {
+                previous += readVarInt(dis) + 1;
+                columnIndices[k] = previous;
+            }
+        }
+
+        double[] values = new double[nnz];
+        for (int k = 0; k < nnz; k++)
+            values[k] = doubles ? dis.readDouble() : dis.readFloat();
+
+        int[] shape = new int[] {rows, columns};
+        if (format == SparseFormat.CSR)
+            return Nd4j.createSparseCSR(values, columnIndices, pointers, shape);
+
+        int[] rowIndices = new int[nnz];
+        for (int r = 0; r < rows; r++)
+            for (int k = pointers[r]; k < pointers[r + 1]; k++)
+                rowIndices[k] = r;
+
+        return Nd4j.createSparseCOO(values, rowIndices, columnIndices, shape);
+    }
+
+    protected static void writeVarInt(DataOutputStream dos, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            dos.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        dos.writeByte(value);
+    }
+
+    protected static int readVarInt(DataInputStream dis) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = dis.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0)
+                return value;
+        }
+        throw new IOException("Malformed varint");
+    }
+}
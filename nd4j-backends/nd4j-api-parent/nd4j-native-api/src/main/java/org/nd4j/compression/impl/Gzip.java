@@ -1,24 +1,33 @@
 package org.nd4j.compression.impl;
 
-import org.apache.commons.io.output.ByteArrayOutputStream;
 import org.bytedeco.javacpp.BytePointer;
 import org.bytedeco.javacpp.Pointer;
 import org.nd4j.linalg.api.buffer.DataBuffer;
+import org.nd4j.linalg.api.concurrency.AffinityManager;
 import org.nd4j.linalg.compression.CompressedDataBuffer;
 import org.nd4j.linalg.compression.CompressionDescriptor;
 import org.nd4j.linalg.compression.CompressionType;
 import org.nd4j.linalg.factory.Nd4j;
 
-import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 
 /**
+ * Compressed data is a gzip stream of DataBuffer.write() output.
+ * Use LZ4 compressor where speed matters more than compression ratio.
+ *
  * @author raver119@gmail.com
  */
 public class Gzip extends AbstractCompressor {
+    private static final int CHUNK_SIZE = 64 * 1024;
+
     /**
      * This method returns compression descriptor. It should be unique for any compressor implementation
      *
@@ -46,9 +55,8 @@ public class Gzip extends AbstractCompressor {
             CompressedDataBuffer compressed = (CompressedDataBuffer) buffer;
             CompressionDescriptor descriptor = compressed.getCompressionDescriptor();
 
-            BytePointer pointer = (BytePointer) compressed.addressPointer();
-            ByteArrayInputStream bis = new ByteArrayInputStream(pointer.getStringBytes());
-            GZIPInputStream gzip = new GZIPInputStream(bis);
+            ByteBuffer source = Lz4.asByteBuffer(compressed.addressPointer(), descriptor.getCompressedLength());
+            GZIPInputStream gzip = new GZIPInputStream(new ByteBufferInputStream(source), CHUNK_SIZE);
             DataInputStream dis = new DataInputStream(gzip);
 
             DataBuffer bufferRestored = Nd4j.createBuffer(descriptor.getNumberOfElements());
@@ -63,23 +71,18 @@ public class Gzip extends AbstractCompressor {
     @Override
     public DataBuffer compress(DataBuffer buffer) {
         try {
-            ByteArrayOutputStream stream = new ByteArrayOutputStream();
-            GZIPOutputStream gzip = new GZIPOutputStream(stream);
+            PointerOutputStream stream = new PointerOutputStream();
+            GZIPOutputStream gzip = new GZIPOutputStream(stream, CHUNK_SIZE);
             DataOutputStream dos = new DataOutputStream(gzip);
 
             buffer.write(dos);
             dos.flush();
             dos.close();
 
-            byte[] bytes = stream.toByteArray();
-            //            logger.info("Bytes: {}", Arrays.toString(bytes));
-            BytePointer pointer = new BytePointer(bytes);
             CompressionDescriptor descriptor = new CompressionDescriptor(buffer, this);
-            descriptor.setCompressedLength(bytes.length);
-
-            CompressedDataBuffer result = new CompressedDataBuffer(pointer, descriptor);
+            descriptor.setCompressedLength(stream.size());
 
-            return result;
+            return new CompressedDataBuffer(stream.toPointer(), descriptor);
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
@@ -88,6 +91,104 @@ public class Gzip extends AbstractCompressor {
     @Override
     protected CompressedDataBuffer compressPointer(DataBuffer.TypeEx srcType, Pointer srcPointer, int length,
                     int elementSize) {
-        throw new UnsupportedOperationException("Not implemented yet");
+        DataBuffer.Type type;
+        if (srcType == DataBuffer.TypeEx.FLOAT)
+            type = DataBuffer.Type.FLOAT;
+        else if (srcType == DataBuffer.TypeEx.DOUBLE)
+            type = DataBuffer.Type.DOUBLE;
+        else if (srcType == DataBuffer.TypeEx.FLOAT16)
+            type = DataBuffer.Type.HALF;
+        else
+            throw new UnsupportedOperationException("Unsupported source dataType: [" + srcType + "]");
+
+        try {
+            PointerOutputStream stream = new PointerOutputStream();
+            GZIPOutputStream gzip = new GZIPOutputStream(stream, CHUNK_SIZE);
+            DataOutputStream dos = new DataOutputStream(gzip);
+
+            // same layout as DataBuffer.write(), so decompress() doesn't care where data came from
+            dos.writeUTF(Nd4j.alloc.name());
+            dos.writeInt(length);
+            dos.writeUTF(type.name());
+
+            ByteBuffer source = Lz4.asByteBuffer(srcPointer, (long) length * elementSize)
+                            .order(ByteOrder.nativeOrder());
+            byte[] chunk = new byte[Math.min(CHUNK_SIZE, source.capacity())];
+            while (source.hasRemaining()) {
+                int bytes = Math.min(chunk.length, source.remaining());
+                ByteBuffer target = ByteBuffer.wrap(chunk, 0, bytes).order(ByteOrder.BIG_ENDIAN);
+                for (int i = 0; i < bytes; i += elementSize) {
+                    if (type == DataBuffer.Type.DOUBLE)
+                        target.putDouble(source.getDouble());
+                    else if (type == DataBuffer.Type.FLOAT)
+                        target.putFloat(source.getFloat());
+                    else
+                        target.putShort(source.getShort());
+                }
+                dos.write(chunk, 0, bytes);
+            }
+            dos.flush();
+            dos.close();
+
+            CompressionDescriptor descriptor = new CompressionDescriptor();
+            descriptor.setCompressedLength(stream.size());
+            descriptor.setOriginalLength((long) length * elementSize);
+            descriptor.setOriginalElementSize(elementSize);
+            descriptor.setNumberOfElements(length);
+            descriptor.setCompressionAlgorithm(getDescriptor());
+            descriptor.setCompressionType(getCompressionType());
+
+            return new CompressedDataBuffer(stream.toPointer(), descriptor);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Output stream copying its contents into off-heap memory once, without intermediate byte[] copy
+     */
+    private static class PointerOutputStream extends ByteArrayOutputStream {
+        private PointerOutputStream() {
+            super(CHUNK_SIZE);
+        }
+
+        private BytePointer toPointer() {
+            BytePointer pointer = new BytePointer(count);
+            pointer.put(buf, 0, count);
+            return pointer;
+        }
+    }
+
+    /**
+     * Input stream reading from off-heap memory, without copying it to heap first
+     */
+    private static class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0)
+                return 0;
+            if (!buffer.hasRemaining())
+                return -1;
+
+            int bytes = Math.min(len, buffer.remaining());
+            buffer.get(b, off, bytes);
+            return bytes;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
     }
 }
@@ -0,0 +1,357 @@
+package org.nd4j.compression.impl;
+
+import org.bytedeco.javacpp.BytePointer;
+import org.bytedeco.javacpp.Pointer;
+import org.nd4j.linalg.api.buffer.DataBuffer;
+import org.nd4j.linalg.api.concurrency.AffinityManager;
+import org.nd4j.linalg.compression.CompressedDataBuffer;
+import org.nd4j.linalg.compression.CompressionDescriptor;
+import org.nd4j.linalg.compression.CompressionType;
+import org.nd4j.linalg.factory.Nd4j;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Fast lossless compressor, pure Java implementation of LZ4 block format.
+ *
+ * Data is split into independent blocks of BLOCK_SIZE bytes, compressed straight from source memory.
+ * Blocks that don't shrink are stored as is, so incompressible data costs only the header.
+ * Works best on data with repeated values, i.e. sparse gradients or masks.
+ *
+ * Compressed layout, little endian:
+ * int: TypeEx ordinal of the source data
+ * int: block size
+ * int: number of blocks
+ * int[number of blocks]: compressed length of each block, negative for blocks stored uncompressed
+ * blocks data
+ */
+public class Lz4 extends AbstractCompressor {
+    protected static final int BLOCK_SIZE = 64 * 1024;
+
+    private static final int MIN_MATCH = 4;
+    private static final int LAST_LITERALS = 5;
+    private static final int MF_LIMIT = 12;
+    private static final int MAX_DISTANCE = 65535;
+    private static final int HASH_LOG = 12;
+    private static final int RUN_MASK = 15;
+
+    private static final ThreadLocal<int[]> hashTables = new ThreadLocal<int[]>() {
+        @Override
+        protected int[] initialValue() {
+            return new int[1 << HASH_LOG];
+        }
+    };
+
+    /**
+     * This method returns compression descriptor. It should be unique for any compressor implementation
+     *
+     * @return
+     */
+    @Override
+    public String getDescriptor() {
+        return "LZ4";
+    }
+
+    /**
+     * This method returns compression type provided by specific NDArrayCompressor implementation
+     *
+     * @return
+     */
+    @Override
+    public CompressionType getCompressionType() {
+        return CompressionType.LOSSLESS;
+    }
+
+    @Override
+    public DataBuffer compress(DataBuffer buffer) {
+        Nd4j.getAffinityManager().ensureLocation(buffer, AffinityManager.Location.HOST);
+
+        return compressPointer(getBufferTypeEx(buffer), buffer.addressPointer(), (int) buffer.length(),
+                        buffer.getElementSize());
+    }
+
+    @Override
+    public DataBuffer decompress(DataBuffer buffer) {
+        CompressedDataBuffer compressed = (CompressedDataBuffer) buffer;
+        CompressionDescriptor descriptor = compressed.getCompressionDescriptor();
+        ByteBuffer source = asByteBuffer(compressed.addressPointer(), descriptor.getCompressedLength());
+
+        DataBuffer.TypeEx srcType = DataBuffer.TypeEx.values()[source.getInt(0)];
+        DataBuffer result = Nd4j.createBuffer(descriptor.getNumberOfElements(), false);
+
+        if (srcType == getBufferTypeEx(result)) {
+            decompress(source, asByteBuffer(result.addressPointer(), descriptor.getOriginalLength()));
+        } else {
+            // data is decompressed as is, and converted to the current data type afterwards
+            BytePointer temp = new BytePointer(descriptor.getOriginalLength());
+            decompress(source, asByteBuffer(temp, descriptor.getOriginalLength()));
+            Nd4j.getNDArrayFactory().convertDataEx(srcType, temp, getBufferTypeEx(result), result.addressPointer(),
+                            result.length());
+            temp.deallocate();
+        }
+
+        Nd4j.getAffinityManager().tagLocation(result, AffinityManager.Location.HOST);
+        return result;
+    }
+
+    @Override
+    protected CompressedDataBuffer compressPointer(DataBuffer.TypeEx srcType, Pointer srcPointer, int length,
+                    int elementSize) {
+        long srcLength = (long) length * elementSize;
+        if (srcLength > Integer.MAX_VALUE)
+            throw new UnsupportedOperationException("LZ4 compression of buffers over 2GB isn't supported");
+
+        ByteBuffer source = asByteBuffer(srcPointer, srcLength);
+        int numBlocks = (int) ((srcLength + BLOCK_SIZE - 1) / BLOCK_SIZE);
+        int headerLength = 12 + 4 * numBlocks;
+
+        // blocks are compressed into preallocated space large enough for the worst case
+        BytePointer scratch = new BytePointer(headerLength + srcLength);
+        ByteBuffer target = asByteBuffer(scratch, headerLength + srcLength);
+        target.putInt(0, srcType.ordinal());
+        target.putInt(4, BLOCK_SIZE);
+        target.putInt(8, numBlocks);
+
+        int[] hashTable = hashTables.get();
+        int position = headerLength;
+        for (int b = 0; b < numBlocks; b++) {
+            int blockStart = b * BLOCK_SIZE;
+            int blockLength = (int) Math.min(BLOCK_SIZE, srcLength - blockStart);
+
+            int compressedLength = compressBlock(source, blockStart, blockLength, target, position,
+                            blockLength - 1, hashTable);
+            if (compressedLength < 0) {
+                copy(source, blockStart, target, position, blockLength);
+                target.putInt(12 + 4 * b, -blockLength);
+                position += blockLength;
+            } else {
+                target.putInt(12 + 4 * b, compressedLength);
+                position += compressedLength;
+            }
+        }
+
+        BytePointer pointer = new BytePointer(position);
+        Pointer.memcpy(pointer, scratch, position);
+        scratch.deallocate();
+
+        CompressionDescriptor descriptor = new CompressionDescriptor();
+        descriptor.setCompressedLength(position);
+        descriptor.setOriginalLength(srcLength);
+        descriptor.setOriginalElementSize(elementSize);
+        descriptor.setNumberOfElements(length);
+        descriptor.setCompressionAlgorithm(getDescriptor());
+        descriptor.setCompressionType(getCompressionType());
+
+        return new CompressedDataBuffer(pointer, descriptor);
+    }
+
+    /**
+     * Decompress all blocks from the compressed layout described above into the target
+     */
+    protected static void decompress(ByteBuffer source, ByteBuffer target) {
+        int blockSize = source.getInt(4);
+        int numBlocks = source.getInt(8);
+        int position = 12 + 4 * numBlocks;
+        for (int b = 0; b < numBlocks; b++) {
+            int compressedLength = source.getInt(12 + 4 * b);
+            int blockStart = b * blockSize;
+            int blockLength = Math.min(blockSize, target.capacity() - blockStart);
+
+            if (compressedLength < 0) {
+                copy(source, position, target, blockStart, -compressedLength);
+                position -= compressedLength;
+            } else {
+                decompressBlock(source, position, compressedLength, target, blockStart, blockLength);
+                position += compressedLength;
+            }
+        }
+    }
+
+    /**
+     * Compress single block in LZ4 block format
+     *
+     * @return compressed length, or -1 if it would exceed maxLength
+     */
+    protected static int compressBlock(ByteBuffer src, int srcOffset, int srcLength, ByteBuffer dst, int dstOffset,
+                    int maxLength, int[] hashTable) {
+        int srcEnd = srcOffset + srcLength;
+        int dstEnd = dstOffset + maxLength;
+        int anchor = srcOffset;
+        int dp = dstOffset;
+
+        if (srcLength > MF_LIMIT) {
+            int matchLimit = srcEnd - LAST_LITERALS;
+            int mfLimit = srcEnd - MF_LIMIT;
+
+            int ip = srcOffset;
+            int searchCount = 0;
+            while (ip < mfLimit) {
+                int sequence = src.getInt(ip);
+                int h = hash(sequence);
+                // stale entries are harmless: candidate is verified below
+                int ref = hashTable[h];
+                hashTable[h] = ip;
+
+                if (ref < srcOffset || ref >= ip || ip - ref > MAX_DISTANCE || src.getInt(ref) != sequence) {
+                    // skip faster over incompressible data
+                    ip += 1 + (searchCount++ >>> 6);
+                    continue;
+                }
+                searchCount = 0;
+
+                // extend match backwards into pending literals
+                while (ip > anchor && ref > srcOffset && src.get(ip - 1) == src.get(ref - 1)) {
+                    ip--;
+                    ref--;
+                }
+
+                int matchLength = MIN_MATCH;
+                while (ip + matchLength < matchLimit && src.get(ip + matchLength) == src.get(ref + matchLength))
+                    matchLength++;
+
+                int literals = ip - anchor;
+                if (dp + 1 + literals / 255 + 1 + literals + 2 + matchLength / 255 + 1 > dstEnd)
+                    return -1;
+
+                dp = writeSequence(src, anchor, literals, ip - ref, matchLength - MIN_MATCH, dst, dp);
+
+                ip += matchLength;
+                anchor = ip;
+                if (ip < mfLimit)
+                    hashTable[hash(src.getInt(ip - 2))] = ip - 2;
+            }
+        }
+
+        int literals = srcEnd - anchor;
+        if (dp + 1 + literals / 255 + 1 + literals > dstEnd)
+            return -1;
+
+        dp = writeLiterals(src, anchor, literals, dst, dp);
+        return dp - dstOffset;
+    }
+
+    /**
+     * Decompress single block in LZ4 block format
+     */
+    protected static void decompressBlock(ByteBuffer src, int srcOffset, int srcLength, ByteBuffer dst, int dstOffset,
+                    int dstLength) {
+        int sp = srcOffset;
+        int srcEnd = srcOffset + srcLength;
+        int dp = dstOffset;
+        int dstEnd = dstOffset + dstLength;
+
+        while (true) {
+            int token = src.get(sp++) & 0xFF;
+
+            int literals = token >>> 4;
+            if (literals == RUN_MASK) {
+                int b;
+                do {
+                    b = src.get(sp++) & 0xFF;
+                    literals += b;
+                } while (b == 255);
+            }
+
+            if (dp + literals > dstEnd || sp + literals > srcEnd)
+                throw new IllegalStateException("Malformed LZ4 block");
+
+            copy(src, sp, dst, dp, literals);
+            sp += literals;
+            dp += literals;
+
+            // last sequence has literals only
+            if (sp >= srcEnd)
+                break;
+
+            int offset = (src.get(sp) & 0xFF) | ((src.get(sp + 1) & 0xFF) << 8);
+            sp += 2;
+
+            int matchLength = token & RUN_MASK;
+            if (matchLength == RUN_MASK) {
+                int b;
+                do {
+                    b = src.get(sp++) & 0xFF;
+                    matchLength += b;
+                } while (b == 255);
+            }
+            matchLength += MIN_MATCH;
+
+            int ref = dp - offset;
+            if (offset == 0 || ref < dstOffset || dp + matchLength > dstEnd)
+                throw new IllegalStateException("Malformed LZ4 block");
+
+            if (offset >= matchLength) {
+                copy(dst, ref, dst, dp, matchLength);
+            } else {
+                // overlapping match repeats the last offset bytes
+                for (int i = 0; i < matchLength; i++)
+                    dst.put(dp + i, dst.get(ref + i));
+            }
+            dp += matchLength;
+        }
+
+        if (dp != dstEnd)
+            throw new IllegalStateException("Malformed LZ4 block");
+    }
+
+    private static int writeSequence(ByteBuffer src, int literalsStart, int literals, int offset, int matchLength,
+                    ByteBuffer dst, int dp) {
+        int token = dp++;
+        int tokenValue = (Math.min(literals, RUN_MASK) << 4) | Math.min(matchLength, RUN_MASK);
+        dst.put(token, (byte) tokenValue);
+
+        dp = writeLength(literals, dst, dp);
+        copy(src, literalsStart, dst, dp, literals);
+        dp += literals;
+
+        dst.put(dp++, (byte) offset);
+        dst.put(dp++, (byte) (offset >>> 8));
+
+        return writeLength(matchLength, dst, dp);
+    }
+
+    private static int writeLiterals(ByteBuffer src, int literalsStart, int literals, ByteBuffer dst, int dp) {
+        dst.put(dp++, (byte) (Math.min(literals, RUN_MASK) << 4));
+        dp = writeLength(literals, dst, dp);
+        copy(src, literalsStart, dst, dp, literals);
+        return dp + literals;
+    }
+
+    private static int writeLength(int length, ByteBuffer dst, int dp) {
+        if (length < RUN_MASK)
+            return dp;
+
+        length -= RUN_MASK;
+        while (length >= 255) {
+            dst.put(dp++, (byte) 255);
+            length -= 255;
+        }
+        dst.put(dp++, (byte) length);
+        return dp;
+    }
+
+    private static int hash(int sequence) {
+        return (sequence * -1640531535) >>> (32 - HASH_LOG);
+    }
+
+    private static void copy(ByteBuffer src, int srcOffset, ByteBuffer dst, int dstOffset, int length) {
+        if (length < 16) {
+            for (int i = 0; i < length; i++)
+                dst.put(dstOffset + i, src.get(srcOffset + i));
+            return;
+        }
+
+        ByteBuffer from = src.duplicate();
+        from.limit(srcOffset + length).position(srcOffset);
+        ByteBuffer to = dst.duplicate();
+        to.position(dstOffset);
+        to.put(from);
+    }
+
+    protected static ByteBuffer asByteBuffer(Pointer pointer, long length) {
+        BytePointer bytes = new BytePointer(pointer);
+        bytes.position(0).limit(length).capacity(length);
+        return bytes.asByteBuffer().order(ByteOrder.LITTLE_ENDIAN);
+    }
+}
@@ -5,6 +5,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.nd4j.compression.impl.NoOp;
 import org.nd4j.linalg.api.ndarray.INDArray;
 import org.nd4j.linalg.compression.AbstractStorage;
+import org.nd4j.linalg.compression.ChunkedCompressor;
 import org.nd4j.linalg.compression.NDArrayCompressor;
 
 import java.util.Map;
@@ -145,6 +146,33 @@ public class CompressedRamStorage<T extends Object> implements AbstractStorage<T
         }
     }
 
+    /**
+     * Get rows [fromRow, toRow) of the object from the storage, by key.
+     * If storage uses ChunkedCompressor, only chunks containing these rows are decompressed
+     *
+     * @param key
+     * @param fromRow first row, inclusive
+     * @param toRow last row, exclusive
+     */
+    public INDArray get(T key, int fromRow, int toRow) {
+        try {
+            if (emulateIsAbsent)
+                lock.readLock().lock();
+
+            INDArray result = compressedEntries.get(key);
+            if (result == null)
+                return null;
+
+            if (compressor instanceof ChunkedCompressor)
+                return ((ChunkedCompressor) compressor).decompressRows(result, fromRow, toRow);
+
+            return ChunkedCompressor.sliceRows(compressor.decompress(result), fromRow, toRow);
+        } finally {
+            if (emulateIsAbsent)
+                lock.readLock().unlock();
+        }
+    }
+
     /**
      * This method checks, if storage contains specified key
      *
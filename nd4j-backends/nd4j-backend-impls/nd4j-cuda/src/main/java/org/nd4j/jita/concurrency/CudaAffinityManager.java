@@ -322,6 +322,18 @@ public class CudaAffinityManager extends BasicAffinityManager {
         }
     }
 
+    /**
+     * This method makes sure that contents of the given DataBuffer are actual on specified location
+     *
+     * @param buffer
+     * @param location
+     */
+    @Override
+    public void ensureLocation(DataBuffer buffer, Location location) {
+        if (location == Location.HOST || location == Location.EVERYWHERE)
+            AtomicAllocator.getInstance().synchronizeHostData(buffer);
+    }
+
     @Override
     public Integer getDeviceForArray(@NonNull INDArray array) {
         return AtomicAllocator.getInstance().getDeviceId(array);
@@ -22,6 +22,8 @@ package org.nd4j.linalg.jcublas.buffer.factory;
 import org.bytedeco.javacpp.Pointer;
 import org.bytedeco.javacpp.indexer.Indexer;
 import org.nd4j.linalg.api.buffer.DataBuffer;
+import org.nd4j.jita.allocator.impl.AtomicAllocator;
+import org.nd4j.jita.allocator.pointers.CudaPointer;
 import org.nd4j.linalg.api.buffer.factory.DataBufferFactory;
 import org.nd4j.linalg.jcublas.buffer.CudaDoubleDataBuffer;
 import org.nd4j.linalg.jcublas.buffer.CudaFloatDataBuffer;
@@ -379,6 +381,35 @@ public class CudaDataBufferFactory implements DataBufferFactory {
         throw new IllegalArgumentException("Illegal type " + type);
     }
 
+    /**
+     * Device memory can't be backed by a file, so contents of the buffer are copied here
+     */
+    @Override
+    public DataBuffer createMapped(ByteBuffer buffer, DataBuffer.Type type, long length, boolean readOnly) {
+        DataBuffer ret;
+        switch (type) {
+            case INT:
+                ret = createInt(length, false);
+                break;
+            case DOUBLE:
+                ret = createDouble(length, false);
+                break;
+            case FLOAT:
+                ret = createFloat(length, false);
+                break;
+            case HALF:
+                ret = createHalf(length, false);
+                break;
+            default:
+                throw new IllegalArgumentException("Illegal type " + type);
+        }
+
+        AtomicAllocator.getInstance().memcpyBlocking(ret, new CudaPointer(new Pointer(buffer)),
+                        length * ret.getElementSize(), 0);
+
+        return ret;
+    }
+
 
     @Override
     public DataBuffer createHalf(long length) {
@@ -28,6 +28,7 @@ import org.nd4j.linalg.api.complex.IComplexFloat;
 import org.nd4j.linalg.api.complex.IComplexNDArray;
 import org.nd4j.linalg.api.complex.IComplexNumber;
 import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.api.ops.executioner.DefaultOpExecutioner;
 import org.nd4j.linalg.api.shape.Shape;
 import org.nd4j.linalg.cache.TADManager;
 import org.nd4j.linalg.compression.CompressedDataBuffer;
@@ -705,6 +706,10 @@ public class CpuNDArrayFactory extends BaseNDArrayFactory {
         if (arrays.length == 1)
             return target.assign(arrays[0]);
 
+        // averaged result is written into all inputs as well
+        DefaultOpExecutioner.validateWritable(target);
+        DefaultOpExecutioner.validateWritable(arrays);
+
         long len = target.lengthLong();
 
         PointerPointer dataPointers = new PointerPointer(arrays.length);
@@ -809,6 +814,9 @@ public class CpuNDArrayFactory extends BaseNDArrayFactory {
             tadLength *= arrays.get(0).shape()[dimensions.get(0)[i]];
         }
 
+        for (INDArray array : arrays)
+            DefaultOpExecutioner.validateWritable(array);
+
         int numTads = arrays.get(0).length() / tadLength;
 
         int[] map = ArrayUtil.buildInterleavedVector(rnd, numTads);
@@ -7,24 +7,35 @@ import org.bytedeco.javacpp.Pointer;
 import org.nd4j.linalg.api.buffer.DataBuffer;
 import org.nd4j.linalg.api.buffer.IntBuffer;
 import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.cache.BoundedCache;
 import org.nd4j.linalg.cache.ConstantHandler;
 import org.nd4j.linalg.cache.TADManager;
 import org.nd4j.linalg.cache.TadDescriptor;
 import org.nd4j.nativeblas.NativeOps;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
-
 /**
  * @author raver119@gmail.com
  */
 public class CpuTADManager implements TADManager {
-    private Map<TadDescriptor, Pair<DataBuffer, DataBuffer>> cache = new ConcurrentHashMap<>();
+    public static final String CACHE_NAME = "tad";
+    private static final long DEFAULT_MAX_ENTRIES = 1000;
+    private static final long DEFAULT_MAX_BYTES = 64L * 1024 * 1024;
+
+    private final BoundedCache<TadDescriptor, Pair<DataBuffer, DataBuffer>> cache = BoundedCache.configured(
+                    CACHE_NAME, DEFAULT_MAX_ENTRIES, DEFAULT_MAX_BYTES,
+                    new BoundedCache.Weigher<Pair<DataBuffer, DataBuffer>>() {
+                        @Override
+                        public long weigh(Pair<DataBuffer, DataBuffer> value) {
+                            long weight = 0;
+                            if (value.getFirst() != null)
+                                weight += value.getFirst().length() * value.getFirst().getElementSize();
+                            if (value.getSecond() != null)
+                                weight += value.getSecond().length() * value.getSecond().getElementSize();
+                            return weight;
+                        }
+                    });
     private NativeOps nativeOps;
     private ConstantHandler constantHandler;
-    private AtomicInteger counter = new AtomicInteger(0);
-    private static final int MAX_ENTRIES = 100;
 
     public CpuTADManager() {
         //
@@ -40,7 +51,16 @@ public class CpuTADManager implements TADManager {
      */
     @Override
     public void purgeBuffers() {
-        cache = new ConcurrentHashMap<>();
+        cache.clear();
+    }
+
+    /**
+     * This method returns cache used for TAD buffers, i.e. for statistics
+     *
+     * @return
+     */
+    public BoundedCache<TadDescriptor, Pair<DataBuffer, DataBuffer>> getCache() {
+        return cache;
     }
 
     @Override
@@ -50,7 +70,8 @@ public class CpuTADManager implements TADManager {
         } else {
             TadDescriptor descriptor = new TadDescriptor(array, dimension);
 
-            if (!cache.containsKey(descriptor)) {
+            Pair<DataBuffer, DataBuffer> cached = cache.get(descriptor);
+            if (cached == null) {
                 int dimensionLength = dimension.length;
 
                 // FIXME: this is fast triage, remove it later
@@ -80,14 +101,10 @@ public class CpuTADManager implements TADManager {
                 // If the line below will be uncommented, shapes from JVM will be used on native side
                 //outputBuffer = array.tensorAlongDimension(0, dimension).shapeInfoDataBuffer();
                 Pair<DataBuffer, DataBuffer> pair = new Pair<>(outputBuffer, offsetsBuffer);
-                if (counter.get() < MAX_ENTRIES) {
-                    counter.incrementAndGet();
-                    cache.put(descriptor, pair);
-                }
-                return pair;
+                return cache.put(descriptor, pair);
             }
 
-            return cache.get(descriptor);
+            return cached;
         }
     }
 }
@@ -4,19 +4,20 @@ import lombok.extern.slf4j.Slf4j;
 import org.nd4j.linalg.api.buffer.DataBuffer;
 import org.nd4j.linalg.api.ndarray.BaseShapeInfoProvider;
 import org.nd4j.linalg.api.shape.ShapeDescriptor;
-
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import org.nd4j.linalg.cache.BoundedCache;
+import org.nd4j.linalg.cache.DataBufferWeigher;
 
 /**
  * @author raver119@gmail.com
  */
 @Slf4j
 public class DirectShapeInfoProvider extends BaseShapeInfoProvider {
-    private Map<ShapeDescriptor, DataBuffer> shapeCache = new ConcurrentHashMap<>();
-    private AtomicInteger counter = new AtomicInteger(0);
-    private static final int MAX_ENTRIES = 100;
+    public static final String CACHE_NAME = "shapes";
+    private static final long DEFAULT_MAX_ENTRIES = 10000;
+    private static final long DEFAULT_MAX_BYTES = 16L * 1024 * 1024;
+
+    private final BoundedCache<ShapeDescriptor, DataBuffer> shapeCache = BoundedCache.configured(CACHE_NAME,
+                    DEFAULT_MAX_ENTRIES, DEFAULT_MAX_BYTES, new DataBufferWeigher());
 
     @Override
     public DataBuffer createShapeInformation(int[] shape, int[] stride, int offset, int elementWiseStride, char order) {
@@ -25,29 +26,26 @@ public class DirectShapeInfoProvider extends BaseShapeInfoProvider {
         offset = 0;
 
         ShapeDescriptor descriptor = new ShapeDescriptor(shape, stride, offset, elementWiseStride, order);
-        if (!shapeCache.containsKey(descriptor)) {
-            if (counter.get() < MAX_ENTRIES) {
-                synchronized (this) {
-                    if (!shapeCache.containsKey(descriptor)) {
-                        counter.incrementAndGet();
-                        DataBuffer buffer =
-                                        super.createShapeInformation(shape, stride, offset, elementWiseStride, order);
-                        shapeCache.put(descriptor, buffer);
-
-                        return buffer;
-                    } else
-                        return shapeCache.get(descriptor);
-                }
-            } else {
-                return super.createShapeInformation(shape, stride, offset, elementWiseStride, order);
-            }
+        DataBuffer buffer = shapeCache.get(descriptor);
+        if (buffer == null) {
+            buffer = super.createShapeInformation(shape, stride, offset, elementWiseStride, order);
+            buffer = shapeCache.put(descriptor, buffer);
         }
 
-        return shapeCache.get(descriptor);
+        return buffer;
     }
 
     @Override
     public void purgeCache() {
-        shapeCache = new ConcurrentHashMap<>();
+        shapeCache.clear();
+    }
+
+    /**
+     * This method returns cache used for shape information buffers, i.e. for statistics
+     *
+     * @return
+     */
+    public BoundedCache<ShapeDescriptor, DataBuffer> getCache() {
+        return shapeCache;
     }
 }
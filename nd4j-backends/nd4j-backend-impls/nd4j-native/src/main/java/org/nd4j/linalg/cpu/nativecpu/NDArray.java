@@ -27,6 +27,7 @@ import org.nd4j.linalg.api.buffer.FloatBuffer;
 import org.nd4j.linalg.api.ndarray.BaseNDArray;
 import org.nd4j.linalg.api.ndarray.BaseNDArrayProxy;
 import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.api.ops.executioner.GridExecutioner;
 import org.nd4j.linalg.factory.Nd4j;
 
 import java.util.List;
@@ -352,6 +353,27 @@ public class NDArray extends BaseNDArray {
         super(shape, buffer);
     }
 
+    /**
+     * Ops held back by a GridExecutioner may still be writing into this buffer,
+     * so they're executed before data is handed out (to BLAS, getDouble(), dup() and so on)
+     *
+     * @return
+     */
+    @Override
+    public DataBuffer data() {
+        if (Nd4j.getExecutioner() instanceof GridExecutioner)
+            ((GridExecutioner) Nd4j.getExecutioner()).flushQueue();
+
+        return super.data();
+    }
+
+    @Override
+    public Object element() {
+        // BaseNDArray reads the buffer field directly here
+        data();
+        return super.element();
+    }
+
     private Object writeReplace() throws java.io.ObjectStreamException {
         return new BaseNDArrayProxy(this);
     }
@@ -3,35 +3,30 @@ package org.nd4j.linalg.cpu.nativecpu.cache;
 import org.nd4j.linalg.api.buffer.DataBuffer;
 import org.nd4j.linalg.cache.ArrayDescriptor;
 import org.nd4j.linalg.cache.BasicConstantHandler;
+import org.nd4j.linalg.cache.BoundedCache;
+import org.nd4j.linalg.cache.DataBufferWeigher;
 import org.nd4j.linalg.factory.Nd4j;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
-
 /**
  * @author raver119@gmail.com
  */
 public class ConstantBuffersCache extends BasicConstantHandler {
-    protected Map<ArrayDescriptor, DataBuffer> buffersCache = new ConcurrentHashMap<>();
-    private AtomicInteger counter = new AtomicInteger(0);
-    private static final int MAX_ENTRIES = 100;
+    public static final String CACHE_NAME = "constants";
+    private static final long DEFAULT_MAX_ENTRIES = 1000;
+    private static final long DEFAULT_MAX_BYTES = 16L * 1024 * 1024;
+
+    protected final BoundedCache<ArrayDescriptor, DataBuffer> buffersCache = BoundedCache.configured(CACHE_NAME,
+                    DEFAULT_MAX_ENTRIES, DEFAULT_MAX_BYTES, new DataBufferWeigher());
 
     @Override
     public DataBuffer getConstantBuffer(int[] array) {
         ArrayDescriptor descriptor = new ArrayDescriptor(array);
 
-        if (!buffersCache.containsKey(descriptor)) {
-            DataBuffer buffer = Nd4j.createBuffer(array);
+        DataBuffer buffer = buffersCache.get(descriptor);
+        if (buffer == null)
+            buffer = buffersCache.put(descriptor, Nd4j.createBuffer(array));
 
-            if (counter.get() < MAX_ENTRIES) {
-                counter.incrementAndGet();
-                buffersCache.put(descriptor, buffer);
-            }
-            return buffer;
-        }
-
-        return buffersCache.get(descriptor);
+        return buffer;
     }
 
     /**
@@ -39,40 +34,37 @@ public class ConstantBuffersCache extends BasicConstantHandler {
      */
     @Override
     public void purgeConstants() {
-        buffersCache = new ConcurrentHashMap<>();
+        buffersCache.clear();
     }
 
     @Override
     public DataBuffer getConstantBuffer(float[] array) {
         ArrayDescriptor descriptor = new ArrayDescriptor(array);
 
-        if (!buffersCache.containsKey(descriptor)) {
-            DataBuffer buffer = Nd4j.createBuffer(array);
-
-            if (counter.get() < MAX_ENTRIES) {
-                counter.incrementAndGet();
-                buffersCache.put(descriptor, buffer);
-            }
-            return buffer;
-        }
+        DataBuffer buffer = buffersCache.get(descriptor);
+        if (buffer == null)
+            buffer = buffersCache.put(descriptor, Nd4j.createBuffer(array));
 
-        return buffersCache.get(descriptor);
+        return buffer;
     }
 
     @Override
     public DataBuffer getConstantBuffer(double[] array) {
         ArrayDescriptor descriptor = new ArrayDescriptor(array);
 
-        if (!buffersCache.containsKey(descriptor)) {
-            DataBuffer buffer = Nd4j.createBuffer(array);
+        DataBuffer buffer = buffersCache.get(descriptor);
+        if (buffer == null)
+            buffer = buffersCache.put(descriptor, Nd4j.createBuffer(array));
 
-            if (counter.get() < MAX_ENTRIES) {
-                counter.incrementAndGet();
-                buffersCache.put(descriptor, buffer);
-            }
-            return buffer;
-        }
+        return buffer;
+    }
 
-        return buffersCache.get(descriptor);
+    /**
+     * This method returns cache used for constant buffers, i.e. for statistics
+     *
+     * @return
+     */
+    public BoundedCache<ArrayDescriptor, DataBuffer> getCache() {
+        return buffersCache;
     }
 }
@@ -0,0 +1,222 @@
+package org.nd4j.linalg.cpu.nativecpu.ops;
+
+import org.nd4j.linalg.api.complex.IComplexNDArray;
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.api.ops.*;
+import org.nd4j.linalg.api.ops.aggregates.Aggregate;
+import org.nd4j.linalg.api.ops.aggregates.Batch;
+import org.nd4j.linalg.api.ops.executioner.GridExecutioner;
+import org.nd4j.linalg.api.ops.grid.OpDescriptor;
+import org.nd4j.linalg.api.ops.impl.meta.PredicateMetaOp;
+import org.nd4j.linalg.api.ops.impl.meta.ReduceMetaOp;
+import org.nd4j.linalg.api.rng.Random;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * GridExecutioner for CPU backend.
+ *
+ * Elementwise ops supported by {@link FusedOpKernels} are not executed immediately: the last one is held back,
+ * and if the next op consumes its result, both ops are executed as a single MetaOp, i.e. in one pass over memory.
+ * Scalar->transform, transform->transform and transform->reduce chains benefit from that.
+ *
+ * Any other op, any call to {@link #flushQueue()}, or any access to array data via INDArray.data()
+ * (which includes getDouble(), BLAS calls and dup()) executes the held op first.
+ * The held op is shared by all threads, so an op issued on a pool thread is executed
+ * by whichever thread touches data next, even if the original thread is already gone.
+ *
+ * To enable this executioner, set system property opexec=org.nd4j.linalg.cpu.nativecpu.ops.CpuGridExecutioner
+ */
+public class CpuGridExecutioner extends NativeOpExecutioner implements GridExecutioner {
+    // guards execution of the held op, so it's executed exactly once and readers wait for it to complete
+    private final ReentrantLock lock = new ReentrantLock();
+    // stays set until the held op is executed, so other threads don't read data while it's in progress
+    private volatile Op lastOp;
+    // set while the lock owner executes ops, nested calls from within execution go straight to the backend
+    private boolean executing;
+
+    private AtomicLong metaCounter = new AtomicLong(0);
+    private AtomicLong execCounter = new AtomicLong(0);
+
+    @Override
+    public Op exec(Op op) {
+        if (op instanceof MetaOp || op instanceof GridOp) {
+            flushQueue();
+            return super.exec(op);
+        }
+
+        lock.lock();
+        try {
+            if (executing)
+                return super.exec(op);
+
+            execCounter.incrementAndGet();
+            executing = true;
+            try {
+                // held op would fail later, on some unrelated call. Checked here, since data access
+                // flushes the queue, unless we're executing already
+                validateWritable(op);
+
+                Op last = lastOp;
+                if (last != null) {
+                    try {
+                        if (FusedOpKernels.canFuse(last, op) && executionMode() != ExecutionMode.JAVA) {
+                            metaCounter.incrementAndGet();
+
+                            if (op instanceof Accumulation)
+                                super.exec(new ReduceMetaOp(new OpDescriptor(last), new OpDescriptor(op)));
+                            else
+                                super.exec(new PredicateMetaOp(last, op));
+
+                            return op;
+                        }
+
+                        super.exec(last);
+                    } finally {
+                        lastOp = null;
+                    }
+                }
+
+                if (FusedOpKernels.step(op) != null && !(op.x() instanceof IComplexNDArray)) {
+                    // it'll be executed either with the next op, or on flush
+                    lastOp = op;
+                    return op;
+                }
+            } finally {
+                executing = false;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        return super.exec(op);
+    }
+
+    /**
+     * @return number of ops executed as part of MetaOps
+     */
+    public long getMetaCounter() {
+        return metaCounter.get();
+    }
+
+    /**
+     * @return number of ops passed through this executioner
+     */
+    public long getExecutionCounter() {
+        return execCounter.get();
+    }
+
+    @Override
+    public void flushQueue() {
+        if (lastOp == null)
+            return;
+
+        lock.lock();
+        try {
+            Op last = lastOp;
+            if (last == null || executing)
+                return;
+
+            executing = true;
+            try {
+                super.exec(last);
+            } finally {
+                lastOp = null;
+                executing = false;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Execution on CPU is synchronous, so this call is equal to {@link #flushQueue()}
+     */
+    @Override
+    public void flushQueueBlocking() {
+        flushQueue();
+    }
+
+    @Override
+    public int getQueueLength() {
+        return lastOp == null ? 0 : 1;
+    }
+
+    @Override
+    public void aggregate(Aggregate op) {
+        exec(op);
+    }
+
+    @Override
+    public void aggregate(Aggregate op, long key) {
+        exec(op);
+    }
+
+    @Override
+    public Op exec(Op op, int... dimension) {
+        flushQueue();
+        return super.exec(op, dimension);
+    }
+
+    @Override
+    public INDArray exec(Accumulation op, int... dimension) {
+        flushQueue();
+        return super.exec(op, dimension);
+    }
+
+    @Override
+    public INDArray exec(IndexAccumulation op, int... dimension) {
+        flushQueue();
+        return super.exec(op, dimension);
+    }
+
+    @Override
+    public INDArray exec(BroadcastOp op, int... dimension) {
+        flushQueue();
+        return super.exec(op, dimension);
+    }
+
+    @Override
+    public <T extends Aggregate> void exec(Batch<T> batch) {
+        flushQueue();
+        super.exec(batch);
+    }
+
+    @Override
+    public void exec(List<Aggregate> batch) {
+        flushQueue();
+        super.exec(batch);
+    }
+
+    @Override
+    public void exec(Aggregate op) {
+        flushQueue();
+        super.exec(op);
+    }
+
+    @Override
+    public INDArray exec(RandomOp op) {
+        flushQueue();
+        return super.exec(op);
+    }
+
+    @Override
+    public INDArray exec(RandomOp op, Random rng) {
+        flushQueue();
+        return super.exec(op, rng);
+    }
+
+    @Override
+    public void exec(MetaOp op) {
+        flushQueue();
+        super.exec(op);
+    }
+
+    @Override
+    public void exec(GridOp op) {
+        flushQueue();
+        super.exec(op);
+    }
+}
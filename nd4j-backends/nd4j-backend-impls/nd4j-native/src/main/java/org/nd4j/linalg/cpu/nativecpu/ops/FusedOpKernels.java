@@ -0,0 +1,425 @@
+package org.nd4j.linalg.cpu.nativecpu.ops;
+
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.api.ops.Accumulation;
+import org.nd4j.linalg.api.ops.MetaOp;
+import org.nd4j.linalg.api.ops.Op;
+import org.nd4j.linalg.api.ops.ScalarOp;
+import org.nd4j.linalg.api.ops.TransformOp;
+import org.nd4j.linalg.api.ops.executioner.HostKernels;
+import org.nd4j.linalg.api.ops.impl.accum.*;
+import org.nd4j.linalg.api.ops.impl.scalar.*;
+import org.nd4j.linalg.api.ops.impl.transforms.*;
+import org.nd4j.linalg.api.ops.impl.transforms.arithmetic.*;
+
+/**
+ * CPU implementation of MetaOps: two consecutive elementwise ops, or elementwise op followed by whole-array reduction,
+ * applied in a single pass over memory.
+ *
+ * libnd4j has no meta kernels for CPU, so these loops run on JVM side, directly over off-heap buffers.
+ * Only basic scalar, transform and pairwise ops are supported, and all operands should have the same layout,
+ * see {@link #canFuse(Op, Op)}.
+ */
+final class FusedOpKernels {
+    // arrays shorter than this are processed on the calling thread
+    static final int PARALLEL_THRESHOLD = 32768;
+
+    private FusedOpKernels() {}
+
+    /**
+     * Elementwise function, y is 0.0 for ops without Y operand
+     */
+    abstract static class Step {
+        abstract double apply(double x, double y);
+    }
+
+    abstract static class Reducer {
+        double initial() {
+            return 0.0;
+        }
+
+        abstract double update(double accumulator, double value);
+
+        double combine(double a, double b) {
+            return a + b;
+        }
+
+        double finish(double accumulator, long length) {
+            return accumulator;
+        }
+    }
+
+    private static boolean is(Op op, Class<? extends Op> clazz) {
+        return op.getClass() == clazz;
+    }
+
+    /**
+     * This method returns elementwise function for the given op, or null if op isn't supported
+     *
+     * @param op
+     * @return
+     */
+    static Step step(Op op) {
+        if (op.isExecSpecial())
+            return null;
+
+        if (op instanceof ScalarOp) {
+            ScalarOp scalarOp = (ScalarOp) op;
+            if (scalarOp.getDimension() != null || scalarOp.scalar() == null || op.y() != null)
+                return null;
+
+            final double scalar = scalarOp.scalar().doubleValue();
+            if (is(op, ScalarAdd.class))
+                return new Step() {
+                    @Override
+                    double apply(double x, double y) {
+                        return x + scalar;
+                    }
+                };
+            if (is(op, ScalarSubtraction.class))
+                return new Step() {
+                    @Override
+                    double apply(double x, double y) {
+                        return x - scalar;
+                    }
+                };
+            if (is(op, ScalarMultiplication.class))
+                return new Step() {
+                    @Override
+                    double apply(double x, double y) {
+                        return x * scalar;
+                    }
+                };
+            if (is(op, ScalarDivision.class))
+                return new Step() {
+                    @Override
+                    double apply(double x, double y) {
+                        return x / scalar;
+                    }
+                };
+            if (is(op, ScalarReverseSubtraction.class))
+                return new Step() {
+                    @Override
+                    double apply(double x, double y) {
+                        return scalar - x;
+                    }
+                };
+            if (is(op, ScalarReverseDivision.class))
+                return new Step() {
+                    @Override
+                    double apply(double x, double y) {
+                        return scalar / x;
+                    }
+                };
+            if (is(op, ScalarMax.class))
+                return new Step() {
+                    @Override
+                    double apply(double x, double y) {
+                        return Math.max(x, scalar);
+                    }
+                };
+            if (is(op, ScalarMin.class))
+                return new Step() {
+                    @Override
+                    double apply(double x, double y) {
+                        return Math.min(x, scalar);
+                    }
+                };
+        } else if (op instanceof TransformOp && op.y() == null) {
+            if (is(op, Exp.class))
+                return new Step() {
+                    @Override
+                    double apply(double x, double y) {
+                        return Math.exp(x);
+                    }
+                };
+            if (is(op, Log.class))
+                return new Step() {
+                    @Override
+                    double apply(double x, double y) {
+                        return Math.log(x);
+                    }
+                };
+            if (is(op, Tanh.class))
+                return new Step() {
+                    @Override
+                    double apply(double x, double y) {
+                        return Math.tanh(x);
+                    }
+                };
+            if (is(op, Sigmoid.class))
+                return new Step() {
+                    @Override
+                    double apply(double x, double y) {
+                        return 1.0 / (1.0 + Math.exp(-x));
+                    }
+                };
+            if (is(op, Abs.class))
+                return new Step() {
+                    @Override
+                    double apply(double x, double y) {
+                        return Math.abs(x);
+                    }
+                };
+            if (is(op, Negative.class))
+                return new Step() {
+                    @Override
+                    double apply(double x, double y) {
+                        return -x;
+                    }
+                };
+            if (is(op, Sqrt.class))
+                return new Step() {
+                    @Override
+                    double apply(double x, double y) {
+                        return Math.sqrt(x);
+                    }
+                };
+            if (is(op, OneMinus.class))
+                return new Step() {
+                    @Override
+                    double apply(double x, double y) {
+                        return 1.0 - x;
+                    }
+                };
+        } else if (op instanceof TransformOp) {
+            if (is(op, AddOp.class))
+                return new Step() {
+                    @Override
+                    double apply(double x, double y) {
+                        return x + y;
+                    }
+                };
+            if (is(op, SubOp.class))
+                return new Step() {
+                    @Override
+                    double apply(double x, double y) {
+                        return x - y;
+                    }
+                };
+            if (is(op, MulOp.class))
+                return new Step() {
+                    @Override
+                    double apply(double x, double y) {
+                        return x * y;
+                    }
+                };
+            if (is(op, DivOp.class))
+                return new Step() {
+                    @Override
+                    double apply(double x, double y) {
+                        return x / y;
+                    }
+                };
+            if (is(op, RSubOp.class))
+                return new Step() {
+                    @Override
+                    double apply(double x, double y) {
+                        return y - x;
+                    }
+                };
+            if (is(op, RDivOp.class))
+                return new Step() {
+                    @Override
+                    double apply(double x, double y) {
+                        return y / x;
+                    }
+                };
+            if (is(op, CopyOp.class))
+                return new Step() {
+                    @Override
+                    double apply(double x, double y) {
+                        return y;
+                    }
+                };
+        }
+
+        return null;
+    }
+
+    /**
+     * This method returns reduction for the given op, or null if op isn't supported
+     *
+     * @param op
+     * @return
+     */
+    static Reducer reducer(Op op) {
+        if (op.y() != null)
+            return null;
+
+        if (is(op, Sum.class))
+            return new Reducer() {
+                @Override
+                double update(double accumulator, double value) {
+                    return accumulator + value;
+                }
+            };
+        if (is(op, Mean.class))
+            return new Reducer() {
+                @Override
+                double update(double accumulator, double value) {
+                    return accumulator + value;
+                }
+
+                @Override
+                double finish(double accumulator, long length) {
+                    return accumulator / length;
+                }
+            };
+        if (is(op, ASum.class) || is(op, Norm1.class))
+            return new Reducer() {
+                @Override
+                double update(double accumulator, double value) {
+                    return accumulator + Math.abs(value);
+                }
+            };
+        if (is(op, Norm2.class))
+            return new Reducer() {
+                @Override
+                double update(double accumulator, double value) {
+                    return accumulator + value * value;
+                }
+
+                @Override
+                double finish(double accumulator, long length) {
+                    return Math.sqrt(accumulator);
+                }
+            };
+        if (is(op, Max.class))
+            return new Reducer() {
+                @Override
+                double initial() {
+                    return Double.NEGATIVE_INFINITY;
+                }
+
+                @Override
+                double update(double accumulator, double value) {
+                    return Math.max(accumulator, value);
+                }
+
+                @Override
+                double combine(double a, double b) {
+                    return Math.max(a, b);
+                }
+            };
+        if (is(op, Min.class))
+            return new Reducer() {
+                @Override
+                double initial() {
+                    return Double.POSITIVE_INFINITY;
+                }
+
+                @Override
+                double update(double accumulator, double value) {
+                    return Math.min(accumulator, value);
+                }
+
+                @Override
+                double combine(double a, double b) {
+                    return Math.min(a, b);
+                }
+            };
+
+        return null;
+    }
+
+    /**
+     * This method checks, if given ops can be executed as a single MetaOp:
+     * first op should be supported elementwise op, and its result should be X operand of the second op,
+     * which is either supported elementwise op, or supported whole-array reduction
+     *
+     * @param first
+     * @param second
+     * @return
+     */
+    static boolean canFuse(Op first, Op second) {
+        if (first.z() == null || first.z() != second.x() || step(first) == null)
+            return false;
+
+        if (second instanceof Accumulation) {
+            if (reducer(second) == null)
+                return false;
+        } else {
+            // the second op can't read intermediate result from the other operand
+            if (step(second) == null || second.z() == null || (second.y() != null && second.y() == first.z()))
+                return false;
+        }
+
+        INDArray reference = first.x();
+        return HostKernels.isCompatible(reference, reference) && HostKernels.isCompatible(reference, first.y())
+                        && HostKernels.isCompatible(reference, first.z())
+                        && HostKernels.isCompatible(reference, second.y())
+                        && (second instanceof Accumulation || HostKernels.isCompatible(reference, second.z()));
+    }
+
+    /**
+     * This method executes given MetaOp in a single pass. Caller should check {@link #canFuse(Op, Op)} first.
+     *
+     * @param op
+     */
+    static void exec(MetaOp op) {
+        Op first = op.getFirstOp();
+        Op second = op.getSecondOp();
+
+        if (second instanceof Accumulation) {
+            Accumulation accumulation = (Accumulation) second;
+            accumulation.setFinalResult(reduce(first, accumulation));
+        } else {
+            transform(first, second);
+        }
+    }
+
+    private static void transform(Op first, Op second) {
+        final Step stepA = step(first);
+        final Step stepB = step(second);
+
+        final HostKernels.Operand ax = HostKernels.operand(first.x());
+        final HostKernels.Operand ay = HostKernels.operand(first.y());
+        // for in-place chains intermediate result gets overwritten anyway
+        final HostKernels.Operand az = first.z() == second.z() ? null : HostKernels.operand(first.z());
+        final HostKernels.Operand by = HostKernels.operand(second.y());
+        final HostKernels.Operand bz = HostKernels.operand(second.z());
+
+        HostKernels.forEachChunk((int) first.x().length(), PARALLEL_THRESHOLD, new HostKernels.Chunk() {
+            @Override
+            public double run(int from, int to) {
+                for (int i = from; i < to; i++) {
+                    double t = stepA.apply(ax.get(i), ay == null ? 0.0 : ay.get(i));
+                    if (az != null)
+                        az.put(i, t);
+                    bz.put(i, stepB.apply(t, by == null ? 0.0 : by.get(i)));
+                }
+                return 0.0;
+            }
+        });
+    }
+
+    private static double reduce(Op first, Accumulation second) {
+        final Step step = step(first);
+        final Reducer reducer = reducer(second);
+
+        final HostKernels.Operand x = HostKernels.operand(first.x());
+        final HostKernels.Operand y = HostKernels.operand(first.y());
+        final HostKernels.Operand z = HostKernels.operand(first.z());
+
+        int length = (int) first.x().length();
+        double[] partials = HostKernels.forEachChunk(length, PARALLEL_THRESHOLD, new HostKernels.Chunk() {
+            @Override
+            public double run(int from, int to) {
+                double accumulator = reducer.initial();
+                for (int i = from; i < to; i++) {
+                    double t = step.apply(x.get(i), y == null ? 0.0 : y.get(i));
+                    z.put(i, t);
+                    accumulator = reducer.update(accumulator, t);
+                }
+                return accumulator;
+            }
+        });
+
+        double result = partials[0];
+        for (int i = 1; i < partials.length; i++)
+            result = reducer.combine(result, partials[i]);
+
+        return reducer.finish(result, length);
+    }
+}
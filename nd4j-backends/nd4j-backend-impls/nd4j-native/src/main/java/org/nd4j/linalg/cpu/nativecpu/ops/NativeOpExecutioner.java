@@ -15,12 +15,16 @@ import org.nd4j.linalg.api.ops.*;
 import org.nd4j.linalg.api.ops.aggregates.Aggregate;
 import org.nd4j.linalg.api.ops.aggregates.Batch;
 import org.nd4j.linalg.api.ops.executioner.DefaultOpExecutioner;
+import org.nd4j.linalg.api.ops.grid.OpDescriptor;
 import org.nd4j.linalg.api.ops.impl.accum.Variance;
+import org.nd4j.linalg.api.ops.impl.grid.BaseGridOp;
 import org.nd4j.linalg.api.rng.Random;
 import org.nd4j.linalg.api.shape.Shape;
 import org.nd4j.linalg.cache.ConstantHandler;
 import org.nd4j.linalg.cache.TADManager;
 import org.nd4j.linalg.cpu.nativecpu.CpuTADManager;
+import org.nd4j.linalg.cpu.nativecpu.DirectShapeInfoProvider;
+import org.nd4j.linalg.cpu.nativecpu.cache.ConstantBuffersCache;
 import org.nd4j.linalg.exception.ND4JIllegalStateException;
 import org.nd4j.linalg.factory.Nd4j;
 import org.nd4j.linalg.util.ArrayUtil;
@@ -98,11 +102,78 @@ public class NativeOpExecutioner extends DefaultOpExecutioner {
         } else if (op instanceof BroadcastOp) {
             BroadcastOp broadcastOp = (BroadcastOp) op;
             exec(broadcastOp, broadcastOp.getDimension());
+        } else if (op instanceof MetaOp) {
+            exec((MetaOp) op);
+        } else if (op instanceof GridOp) {
+            exec((GridOp) op);
         }
 
         return op;
     }
 
+    /**
+     * This method executes MetaOp in a single pass over memory, if both ops are supported by {@link FusedOpKernels}.
+     * Otherwise ops are executed one by one.
+     *
+     * @param op
+     */
+    @Override
+    public void exec(MetaOp op) {
+        Op first = op.getFirstOp();
+        Op second = op.getSecondOp();
+
+        int[] dimensions = op.getSecondOpDescriptor().getDimensions();
+        boolean wholeArray = dimensions == null || Shape.wholeArrayDimension(dimensions);
+
+        if (executionMode() != ExecutionMode.JAVA && wholeArray && FusedOpKernels.canFuse(first, second)) {
+            checkForCompression(first);
+            checkForCompression(second);
+            validateDataType(Nd4j.dataType(), first);
+
+            FusedOpKernels.exec(op);
+            return;
+        }
+
+        exec(op.getFirstOpDescriptor());
+        exec(op.getSecondOpDescriptor());
+    }
+
+    /**
+     * This method executes ops of the given GridOp one by one, in their original order
+     *
+     * @param op
+     */
+    @Override
+    public void exec(GridOp op) {
+        if (op instanceof MetaOp) {
+            exec((MetaOp) op);
+            return;
+        }
+
+        if (!(op instanceof BaseGridOp))
+            throw new UnsupportedOperationException("Unknown GridOp: [" + op.getClass().getSimpleName() + "]");
+
+        for (OpDescriptor descriptor : ((BaseGridOp) op).getQueuedOps())
+            exec(descriptor);
+    }
+
+    private void exec(OpDescriptor descriptor) {
+        Op op = descriptor.getOp();
+        int[] dimensions = descriptor.getDimensions();
+
+        if (dimensions == null || Shape.wholeArrayDimension(dimensions)) {
+            exec(op);
+        } else if (op instanceof Accumulation) {
+            exec((Accumulation) op, dimensions);
+        } else if (op instanceof IndexAccumulation) {
+            exec((IndexAccumulation) op, dimensions);
+        } else if (op instanceof BroadcastOp) {
+            exec((BroadcastOp) op, dimensions);
+        } else {
+            exec(op, dimensions);
+        }
+    }
+
 
     @Override
     public INDArray exec(IndexAccumulation op, int... dimension) {
@@ -695,6 +766,8 @@ public class NativeOpExecutioner extends DefaultOpExecutioner {
                             dimension.length);
         }
 
+        profilingHookOut(op, st);
+
         return op.z();
     }
 
@@ -868,6 +941,8 @@ public class NativeOpExecutioner extends DefaultOpExecutioner {
             for (int e = 0; e < op.getArguments().size(); e++) {
                 idx = argsPos + i * batch.getSample().maxArguments();
 
+                // native side gets raw pointers, and might write into any of arguments
+                validateWritable(op.getArguments().get(e));
                 if (op.getArguments().get(e) != null)
                     ptrPtr.put(idx + e, op.getArguments().get(e).data().addressPointer());
             }
@@ -949,6 +1024,8 @@ public class NativeOpExecutioner extends DefaultOpExecutioner {
         PointerPointer intArrays = block.getArraysPointer(); //new PointerPointer(numIntArrays);
 
         for (int x = 0; x < numArguments; x++) {
+            // native side gets raw pointers, and might write into any of arguments
+            validateWritable(op.getArguments().get(x));
             arguments.put(x, op.getArguments().get(x) == null ? null
                             : op.getArguments().get(x).data().addressPointer());
         }
@@ -1018,6 +1095,12 @@ public class NativeOpExecutioner extends DefaultOpExecutioner {
         properties.put(Nd4jEnvironment.BLAS_VENDOR_KEY, (Nd4j.factory().blas()).getBlasVendor().toString());
         properties.put(Nd4jEnvironment.HOST_FREE_MEMORY_KEY, Pointer.maxBytes() - Pointer.totalBytes());
 
+        tadManager.getCache().exportStatistics(properties);
+        if (Nd4j.getShapeInfoProvider() instanceof DirectShapeInfoProvider)
+            ((DirectShapeInfoProvider) Nd4j.getShapeInfoProvider()).getCache().exportStatistics(properties);
+        if (Nd4j.getConstantHandler() instanceof ConstantBuffersCache)
+            ((ConstantBuffersCache) Nd4j.getConstantHandler()).getCache().exportStatistics(properties);
+
         return properties;
     }
 
@@ -0,0 +1,195 @@
+package org.nd4j.linalg.cpu.nativecpu.ops;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.api.ops.executioner.OpExecutioner;
+import org.nd4j.linalg.api.ops.grid.OpDescriptor;
+import org.nd4j.linalg.api.ops.impl.accum.Sum;
+import org.nd4j.linalg.api.ops.impl.grid.FreeGridOp;
+import org.nd4j.linalg.api.ops.impl.meta.PredicateMetaOp;
+import org.nd4j.linalg.api.ops.impl.meta.ReduceMetaOp;
+import org.nd4j.linalg.api.ops.impl.scalar.ScalarAdd;
+import org.nd4j.linalg.api.ops.impl.scalar.ScalarMultiplication;
+import org.nd4j.linalg.api.ops.impl.transforms.Abs;
+import org.nd4j.linalg.api.ops.impl.transforms.Exp;
+import org.nd4j.linalg.api.ops.impl.transforms.SoftMax;
+import org.nd4j.linalg.api.ops.impl.transforms.arithmetic.AddOp;
+import org.nd4j.linalg.factory.Nd4j;
+import org.nd4j.linalg.ops.transforms.Transforms;
+
+import java.lang.reflect.Field;
+
+import static org.junit.Assert.*;
+
+public class MetaOpTests {
+
+    @Before
+    public void setUp() {
+        // backend should be loaded before executioners are created
+        Nd4j.getBackend();
+    }
+
+    private static <T extends NativeOpExecutioner> T init(T executioner) {
+        executioner.setExecutionMode(Nd4j.getExecutioner().executionMode());
+        return executioner;
+    }
+
+    @Test
+    public void testPredicateMetaOp() {
+        NativeOpExecutioner executioner = init(new NativeOpExecutioner());
+
+        INDArray array = Nd4j.create(new float[] {-11f, -12f, -13f, -14f, -15f, -16f, -17f, -18f, -19f, -20f});
+        INDArray exp = Nd4j.create(new float[] {1f, 2f, 3f, 4f, 5f, 6f, 7f, 8f, 9f, 10f});
+
+        assertTrue(FusedOpKernels.canFuse(new ScalarAdd(array, 10f), new Abs(array)));
+        executioner.exec(new PredicateMetaOp(new ScalarAdd(array, 10f), new Abs(array)));
+
+        assertEquals(exp, array);
+    }
+
+    @Test
+    public void testPairwiseMetaOp() {
+        NativeOpExecutioner executioner = init(new NativeOpExecutioner());
+
+        INDArray x = Nd4j.linspace(1, 100000, 100000);
+        INDArray y = Nd4j.linspace(1, 100000, 100000);
+        INDArray z = Nd4j.create(1, 100000);
+        INDArray result = Nd4j.create(1, 100000);
+
+        // z = x + y, result = z * 0.5, intermediate result stays available in z
+        executioner.exec(new PredicateMetaOp(new AddOp(x, y, z),
+                        new ScalarMultiplication(z, null, result, z.length(), 0.5)));
+
+        assertEquals(x.mul(2), z);
+        assertEquals(x, result);
+    }
+
+    @Test
+    public void testReduceMetaOp() {
+        NativeOpExecutioner executioner = init(new NativeOpExecutioner());
+
+        INDArray array = Nd4j.linspace(-50000, 49999, 100000);
+        INDArray exp = Transforms.abs(array, true);
+        double expSum = exp.sumNumber().doubleValue();
+
+        Sum sum = new Sum(array);
+        executioner.exec(new ReduceMetaOp(new OpDescriptor(new Abs(array)), new OpDescriptor(sum)));
+
+        assertEquals(exp, array);
+        assertEquals(expSum, sum.getFinalResult().doubleValue(), 1e-3 * expSum);
+    }
+
+    @Test
+    public void testNonFusableMetaOp() {
+        NativeOpExecutioner executioner = init(new NativeOpExecutioner());
+
+        INDArray array = Nd4j.create(new double[] {1, 2, 3, 4}, new int[] {2, 2});
+        INDArray exp = Nd4j.getExecutioner().execAndReturn(new SoftMax(Transforms.exp(array, true)));
+
+        // SoftMax isn't elementwise, so ops are executed one by one
+        assertFalse(FusedOpKernels.canFuse(new Exp(array), new SoftMax(array)));
+        executioner.exec(new PredicateMetaOp(new Exp(array), new SoftMax(array)));
+
+        assertEquals(exp, array);
+    }
+
+    @Test
+    public void testFreeGridOp() {
+        NativeOpExecutioner executioner = init(new NativeOpExecutioner());
+
+        INDArray array = Nd4j.create(new float[] {1f, 2f, 3f, 4f});
+        INDArray exp = Nd4j.create(new float[] {4f, 6f, 8f, 10f});
+
+        executioner.exec(new FreeGridOp(new ScalarAdd(array, 1f), new ScalarMultiplication(array, 2f)));
+
+        assertEquals(exp, array);
+    }
+
+    @Test
+    public void testGridExecutioner() {
+        CpuGridExecutioner executioner = init(new CpuGridExecutioner());
+
+        INDArray array = Nd4j.linspace(1, 10, 10);
+        INDArray other = Nd4j.linspace(1, 10, 10);
+        INDArray exp = Nd4j.linspace(1, 10, 10).addi(1).muli(2);
+
+        executioner.exec(new ScalarAdd(array, 1f));
+        assertEquals(1, executioner.getQueueLength());
+
+        // consumes result of the queued op, so both are executed as MetaOp
+        executioner.exec(new ScalarMultiplication(array, 2f));
+        assertEquals(0, executioner.getQueueLength());
+        assertEquals(1, executioner.getMetaCounter());
+        assertEquals(exp, array);
+
+        // unrelated op flushes queued one
+        executioner.exec(new Exp(other));
+        executioner.exec(new ScalarAdd(array, 1f));
+        assertEquals(1, executioner.getMetaCounter());
+        assertEquals(Transforms.exp(Nd4j.linspace(1, 10, 10), true), other);
+
+        // reduction is fused with queued op as well
+        Sum sum = new Sum(array);
+        executioner.exec(sum);
+        assertEquals(2, executioner.getMetaCounter());
+        assertEquals(exp.sumNumber().doubleValue() + 10, sum.getFinalResult().doubleValue(), 1e-3);
+
+        executioner.exec(new Abs(array));
+        executioner.flushQueueBlocking();
+        assertEquals(0, executioner.getQueueLength());
+        assertEquals(exp.add(1), array);
+    }
+
+    @Test
+    public void testGridExecutionerDataAccess() throws Exception {
+        CpuGridExecutioner executioner = init(new CpuGridExecutioner());
+        OpExecutioner original = setExecutioner(executioner);
+        try {
+            INDArray x = Nd4j.ones(2, 2);
+            x.addi(1);
+            assertEquals(1, executioner.getQueueLength());
+            assertEquals(Nd4j.valueArrayOf(new int[] {2, 2}, 2.0), x.mmul(Nd4j.eye(2)));
+            assertEquals(0, executioner.getQueueLength());
+
+            INDArray z = Nd4j.ones(4);
+            z.addi(5);
+            assertEquals(6.0, z.getDouble(0), 1e-5);
+
+            INDArray d = Nd4j.ones(4);
+            d.muli(3);
+            INDArray copy = d.dup();
+            d.addi(1);
+            assertEquals(Nd4j.valueArrayOf(new int[] {1, 4}, 3.0), copy);
+
+            // creating the next op doesn't flush the held one, so chains are still fused
+            long metaOps = executioner.getMetaCounter();
+            INDArray chain = Nd4j.ones(4);
+            chain.addi(1).muli(2);
+            assertEquals(metaOps + 1, executioner.getMetaCounter());
+            assertEquals(4.0, chain.getDouble(0), 1e-5);
+
+            // op held back on a thread that's gone by now
+            final INDArray shared = Nd4j.ones(4);
+            Thread thread = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    shared.addi(2);
+                }
+            });
+            thread.start();
+            thread.join();
+            assertEquals(3.0, shared.getDouble(3), 1e-5);
+        } finally {
+            setExecutioner(original);
+        }
+    }
+
+    private static OpExecutioner setExecutioner(OpExecutioner executioner) throws Exception {
+        Field field = Nd4j.class.getDeclaredField("OP_EXECUTIONER_INSTANCE");
+        field.setAccessible(true);
+        OpExecutioner original = (OpExecutioner) field.get(null);
+        field.set(null, executioner);
+        return original;
+    }
+}
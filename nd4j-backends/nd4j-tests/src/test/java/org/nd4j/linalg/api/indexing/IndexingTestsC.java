@@ -208,6 +208,95 @@ public class IndexingTestsC extends BaseNd4jTest {
 
     }
 
+    @Test
+    public void testGather1() {
+        INDArray arr = Nd4j.linspace(1, 20, 20).reshape(5, 4);
+
+        INDArray rows = Nd4j.gather(arr, 0, 4, 1, 1);
+        assertArrayEquals(new int[] {3, 4}, rows.shape());
+        assertEquals(arr.getRow(4), rows.getRow(0));
+        assertEquals(arr.getRow(1), rows.getRow(1));
+        assertEquals(arr.getRow(1), rows.getRow(2));
+
+        INDArray columns = Nd4j.gather(arr, 1, 3, 0);
+        assertArrayEquals(new int[] {5, 2}, columns.shape());
+        assertEquals(arr.getColumn(3), columns.getColumn(0));
+        assertEquals(arr.getColumn(0), columns.getColumn(1));
+
+        // views and f order go through the same path
+        INDArray view = arr.dup('f').get(NDArrayIndex.interval(1, 5), NDArrayIndex.all());
+        assertEquals(arr.getRows(4, 2), Nd4j.gather(view, 0, 3, 1));
+
+        INDArray vector = Nd4j.linspace(1, 10, 10);
+        assertEquals(Nd4j.create(new double[] {10, 1, 5}), Nd4j.gather(vector, 1, 9, 0, 4));
+    }
+
+    @Test
+    public void testGather3d() {
+        INDArray arr = Nd4j.linspace(1, 60, 60).reshape(3, 4, 5);
+
+        INDArray result = Nd4j.gather(arr, 1, 2, 0);
+        assertArrayEquals(new int[] {3, 2, 5}, result.shape());
+        for (int i = 0; i < 3; i++) {
+            for (int k = 0; k < 5; k++) {
+                assertEquals(arr.getDouble(i, 2, k), result.getDouble(i, 0, k), 1e-5);
+                assertEquals(arr.getDouble(i, 0, k), result.getDouble(i, 1, k), 1e-5);
+            }
+        }
+    }
+
+    @Test
+    public void testScatter1() {
+        INDArray updates = Nd4j.linspace(1, 8, 8).reshape(2, 4);
+
+        INDArray target = Nd4j.zeros(3, 4);
+        Nd4j.scatterUpdate(target, 0, new int[] {2, 0}, updates);
+        assertEquals(updates.getRow(1), target.getRow(0));
+        assertEquals(Nd4j.zeros(1, 4), target.getRow(1));
+        assertEquals(updates.getRow(0), target.getRow(2));
+
+        // duplicate indexes are accumulated
+        INDArray acc = Nd4j.ones(3, 4);
+        Nd4j.scatterAdd(acc, 0, new int[] {1, 1}, updates);
+        assertEquals(Nd4j.ones(1, 4), acc.getRow(0));
+        assertEquals(updates.getRow(0).add(updates.getRow(1)).addi(1.0), acc.getRow(1));
+
+        INDArray vector = Nd4j.zeros(1, 5);
+        Nd4j.scatterAdd(vector, 1, new int[] {3, 3, 0}, Nd4j.create(new double[] {1, 2, 3}));
+        assertEquals(Nd4j.create(new double[] {3, 0, 0, 3, 0}), vector);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testGatherOutOfBounds() {
+        Nd4j.gather(Nd4j.create(5, 4), 0, 1, 5);
+    }
+
+    @Test
+    public void testSpecifiedIndexGather() {
+        INDArray arr = Nd4j.linspace(1, 60, 60).reshape(3, 4, 5);
+
+        INDArray get = arr.get(new SpecifiedIndex(2, 0), NDArrayIndex.all(), new SpecifiedIndex(4, 1, 1));
+        assertArrayEquals(new int[] {2, 4, 3}, get.shape());
+        for (int j = 0; j < 4; j++) {
+            assertEquals(arr.getDouble(2, j, 4), get.getDouble(0, j, 0), 1e-5);
+            assertEquals(arr.getDouble(0, j, 1), get.getDouble(1, j, 2), 1e-5);
+        }
+
+        // result is a copy
+        get.assign(0);
+        assertEquals(Nd4j.linspace(1, 60, 60).reshape(3, 4, 5), arr);
+    }
+
+    @Test
+    public void testSpecifiedIndexPut() {
+        INDArray arr = Nd4j.zeros(4, 3);
+        INDArray element = Nd4j.linspace(1, 6, 6).reshape(2, 3);
+
+        arr.put(new INDArrayIndex[] {new SpecifiedIndex(3, 1), NDArrayIndex.all()}, element);
+        assertEquals(element.getRow(0), arr.getRow(3));
+        assertEquals(element.getRow(1), arr.getRow(1));
+        assertEquals(Nd4j.zeros(1, 3), arr.getRow(0));
+    }
 
     @Override
     public char ordering() {
@@ -4,12 +4,24 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 import org.nd4j.linalg.BaseNd4jTest;
+import org.nd4j.linalg.api.iter.NdIndexCursor;
 import org.nd4j.linalg.api.iter.NdIndexIterator;
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.api.shape.Shape;
+import org.nd4j.linalg.api.shape.loop.coordinatefunction.CoordinateFunction;
+import org.nd4j.linalg.factory.Nd4j;
 import org.nd4j.linalg.factory.Nd4jBackend;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
-import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.*;
 
 /**
  * @author Adam Gibson
@@ -33,6 +45,121 @@ public class NDIndexIteratorTest extends BaseNd4jTest {
 
     }
 
+    @Test
+    public void testCursorMatchesIterator() {
+        int[][] shapes = new int[][] {{2, 3, 4}, {5}, {1, 7}, {3, 1, 2, 2}};
+        for (int[] shape : shapes) {
+            for (char order : new char[] {'c', 'f'}) {
+                NdIndexIterator iter = new NdIndexIterator(order, shape);
+                NdIndexCursor cursor = new NdIndexCursor(order, shape);
+                int[] coords = cursor.coordinates();
+
+                long count = 0;
+                while (cursor.advance()) {
+                    assertTrue(iter.hasNext());
+                    assertArrayEquals(order == 'c' ? Shape.ind2subC(shape, count) : Shape.ind2sub(shape, count),
+                                    coords);
+                    assertArrayEquals(iter.next(), coords);
+                    assertSame(coords, cursor.coordinates());
+                    assertEquals(count++, cursor.index());
+                }
+
+                assertFalse(iter.hasNext());
+                assertFalse(cursor.advance());
+                assertEquals(cursor.length(), count);
+
+                cursor.reset();
+                assertTrue(cursor.advance());
+                assertArrayEquals(new int[shape.length], coords);
+            }
+        }
+    }
+
+    @Test
+    public void testCursorEmptyShape() {
+        assertFalse(new NdIndexCursor(3, 0, 2).advance());
+        assertFalse(new NdIndexIterator(3, 0, 2).hasNext());
+    }
+
+    @Test
+    public void testLookupCacheKeyedByValue() throws Exception {
+        NdIndexIterator.getLookupCache().clear();
+        long misses = NdIndexIterator.getLookupCache().getMisses();
+        long hits = NdIndexIterator.getLookupCache().getHits();
+
+        new NdIndexIterator('c', true, new int[] {3, 4, 5});
+        new NdIndexIterator('c', true, new int[] {3, 4, 5});
+        new NdIndexIterator('f', true, new int[] {3, 4, 5});
+
+        assertEquals(misses + 2, NdIndexIterator.getLookupCache().getMisses());
+        assertEquals(hits + 1, NdIndexIterator.getLookupCache().getHits());
+        assertEquals(2, NdIndexIterator.getLookupCache().size());
+
+        // concurrent iteration over shared lookups
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                final int[] shape = new int[] {2 + t % 3, 6, 7};
+                futures.add(executor.submit(new Callable<Boolean>() {
+                    @Override
+                    public Boolean call() {
+                        NdIndexIterator iter = new NdIndexIterator('c', true, shape);
+                        for (long i = 0; iter.hasNext(); i++) {
+                            if (!Arrays.equals(Shape.ind2subC(shape, i), iter.next()))
+                                return false;
+                        }
+                        return true;
+                    }
+                }));
+            }
+
+            for (Future<Boolean> future : futures)
+                assertTrue(future.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testShapeIterate() {
+        INDArray arr = Nd4j.create(2, 3);
+        final List<int[]> visited = new ArrayList<>();
+        Shape.iterate(arr, new CoordinateFunction() {
+            @Override
+            public void process(int[]... coord) {
+                visited.add(coord[0].clone());
+            }
+        });
+
+        assertEquals(6, visited.size());
+        Iterator<int[]> iter = new NdIndexIterator(2, 3);
+        for (int[] coords : visited)
+            assertArrayEquals(iter.next(), coords);
+
+        // pair iteration visits the same coordinates, in the same order, as recursive implementation
+        INDArray arr2 = Nd4j.create(3, 2);
+        final List<int[]> pairs = new ArrayList<>();
+        Shape.iterate(arr, arr2, new CoordinateFunction() {
+            @Override
+            public void process(int[]... coord) {
+                pairs.add(new int[] {coord[0][0], coord[0][1], coord[1][0], coord[1][1]});
+            }
+        });
+
+        final List<int[]> expected = new ArrayList<>();
+        Shape.iterate(0, 2, arr.shape(), new int[2], 0, 2, arr2.shape(), new int[2], new CoordinateFunction() {
+            @Override
+            public void process(int[]... coord) {
+                expected.add(new int[] {coord[0][0], coord[0][1], coord[1][0], coord[1][1]});
+            }
+        });
+
+        assertEquals(expected.size(), pairs.size());
+        for (int i = 0; i < expected.size(); i++)
+            assertArrayEquals(expected.get(i), pairs.get(i));
+    }
+
     @Override
     public char ordering() {
         return 'f';
@@ -0,0 +1,101 @@
+package org.nd4j.linalg.api.ops.executioner;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.nd4j.linalg.BaseNd4jTest;
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.factory.Nd4j;
+import org.nd4j.linalg.factory.Nd4jBackend;
+
+import static org.junit.Assert.*;
+
+@RunWith(Parameterized.class)
+public class HostKernelsTest extends BaseNd4jTest {
+
+    public HostKernelsTest(Nd4jBackend backend) {
+        super(backend);
+    }
+
+    @Test
+    public void testStridedOperand() {
+        INDArray matrix = Nd4j.linspace(1, 12, 12).reshape('c', 3, 4);
+        INDArray column = matrix.getColumn(1);
+        assertTrue(HostKernels.isCompatible(column, column));
+
+        HostKernels.Operand operand = HostKernels.operand(column);
+        assertEquals(2.0, operand.get(0), 1e-5);
+        assertEquals(10.0, operand.get(2), 1e-5);
+
+        double[] block = new double[2];
+        float[] scratch = new float[2];
+        operand.read(1, block, scratch, 2);
+        assertEquals(6.0, block[0], 1e-5);
+        assertEquals(10.0, block[1], 1e-5);
+
+        block[0] = -1;
+        block[1] = -2;
+        operand.write(1, block, scratch, 2);
+        operand.put(0, -3);
+        assertEquals(Nd4j.create(new double[] {-3, -1, -2}, new int[] {3, 1}), matrix.getColumn(1));
+        assertEquals(1.0, matrix.getDouble(0, 0), 1e-5);
+    }
+
+    @Test
+    public void testCompatibility() {
+        INDArray c = Nd4j.create(new int[] {3, 4}, 'c');
+        assertTrue(HostKernels.isCompatible(c, null));
+        assertTrue(HostKernels.isCompatible(c, Nd4j.create(new int[] {3, 4}, 'c')));
+        assertFalse(HostKernels.isCompatible(c, Nd4j.create(new int[] {3, 4}, 'f')));
+        assertFalse(HostKernels.isCompatible(c, Nd4j.create(new int[] {4, 3}, 'c')));
+        assertTrue(HostKernels.isCompatible(Nd4j.create(1, 12), Nd4j.create(12, 1)));
+    }
+
+    @Test
+    public void testForEachChunk() {
+        final INDArray array = Nd4j.linspace(1, 10000, 10000);
+        final HostKernels.Operand operand = HostKernels.operand(array);
+        double expected = 10000.0 * 10001.0 / 2;
+
+        double[] partials = HostKernels.forEachChunk(array.length(), 100, new HostKernels.Chunk() {
+            @Override
+            public double run(int from, int to) {
+                double sum = 0.0;
+                for (int i = from; i < to; i++) {
+                    sum += operand.get(i);
+                    operand.put(i, 0.0);
+                }
+                return sum;
+            }
+        });
+
+        double sum = 0.0;
+        for (double partial : partials)
+            sum += partial;
+
+        assertEquals(expected, sum, 1e-5 * expected);
+        assertEquals(0.0, array.sumNumber().doubleValue(), 1e-5);
+    }
+
+    @Test
+    public void testForEachChunkFailure() {
+        try {
+            HostKernels.forEachChunk(100000, 1000, new HostKernels.Chunk() {
+                @Override
+                public double run(int from, int to) {
+                    if (to == 100000)
+                        throw new IllegalStateException("Broken chunk");
+                    return 0.0;
+                }
+            });
+            fail("Exception expected");
+        } catch (IllegalStateException e) {
+            assertEquals("Broken chunk", e.getMessage());
+        }
+    }
+
+    @Override
+    public char ordering() {
+        return 'c';
+    }
+}
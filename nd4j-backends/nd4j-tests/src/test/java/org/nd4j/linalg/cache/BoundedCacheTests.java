@@ -0,0 +1,95 @@
+package org.nd4j.linalg.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.nd4j.linalg.BaseNd4jTest;
+import org.nd4j.linalg.api.buffer.DataBuffer;
+import org.nd4j.linalg.factory.Nd4j;
+import org.nd4j.linalg.factory.Nd4jBackend;
+
+import java.util.Properties;
+
+import static org.junit.Assert.*;
+
+@Slf4j
+@RunWith(Parameterized.class)
+public class BoundedCacheTests extends BaseNd4jTest {
+
+    public BoundedCacheTests(Nd4jBackend backend) {
+        super(backend);
+    }
+
+    @Test
+    public void testEntriesBound1() throws Exception {
+        BoundedCache<Integer, DataBuffer> cache = new BoundedCache<>("test", 10, Long.MAX_VALUE, new DataBufferWeigher());
+
+        for (int e = 0; e < 10; e++)
+            cache.put(e, Nd4j.createBuffer(new int[] {e}));
+
+        // let access timestamps differ
+        Thread.sleep(5);
+        for (int e = 5; e < 10; e++)
+            assertNotNull(cache.get(e));
+        Thread.sleep(5);
+
+        cache.put(10, Nd4j.createBuffer(new int[] {10}));
+
+        assertTrue(cache.size() <= 10);
+        assertTrue(cache.getEvictions() > 0);
+
+        // recently used entries should survive eviction
+        for (int e = 5; e < 11; e++)
+            assertNotNull(cache.get(e));
+
+        assertNull(cache.get(0));
+    }
+
+    @Test
+    public void testBytesBound1() throws Exception {
+        BoundedCache<Integer, DataBuffer> cache = new BoundedCache<>("test", 1000, 400, new DataBufferWeigher());
+
+        for (int e = 0; e < 20; e++)
+            cache.put(e, Nd4j.createBuffer(new int[10]));
+
+        assertTrue(cache.bytes() <= 400);
+        assertEquals(cache.size() * 40, cache.bytes());
+
+        // value heavier than whole cache isn't cached, but returned as is
+        DataBuffer heavy = Nd4j.createBuffer(new int[1000]);
+        assertTrue(heavy == cache.put(100, heavy));
+        assertNull(cache.get(100));
+    }
+
+    @Test
+    public void testStatistics1() throws Exception {
+        BoundedCache<Integer, DataBuffer> cache = new BoundedCache<>("test", 10, 1000, new DataBufferWeigher());
+
+        DataBuffer first = Nd4j.createBuffer(new int[] {1});
+        assertNull(cache.get(1));
+        assertTrue(first == cache.put(1, first));
+
+        // second put for the same key returns previously cached value
+        assertTrue(first == cache.put(1, Nd4j.createBuffer(new int[] {2})));
+        assertTrue(first == cache.get(1));
+
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(0, cache.getEvictions());
+
+        Properties properties = new Properties();
+        cache.exportStatistics(properties);
+        assertEquals(1L, properties.get("cache.test.hits"));
+        assertEquals(1L, properties.get("cache.test.entries"));
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.bytes());
+    }
+
+    @Override
+    public char ordering() {
+        return 'c';
+    }
+}
@@ -8,6 +8,7 @@ import org.nd4j.linalg.api.buffer.DataBuffer;
 import org.nd4j.linalg.api.ndarray.INDArray;
 import org.nd4j.linalg.factory.Nd4j;
 import org.nd4j.linalg.factory.Nd4jBackend;
+import org.nd4j.linalg.indexing.NDArrayIndex;
 
 import java.nio.ByteBuffer;
 
@@ -191,6 +192,131 @@ public class CompressionTests extends BaseNd4jTest {
         assertEquals(exp, decomp);
     }
 
+    @Test
+    public void testGzipCompression2() {
+        // zero bytes inside of compressed stream shouldn't truncate it
+        INDArray array = Nd4j.zeros(1000);
+        array.putScalar(999, 1.0f);
+        INDArray exp = array.dup();
+
+        BasicNDArrayCompressor.getInstance().setDefaultCompression("GZIP");
+
+        INDArray compr = BasicNDArrayCompressor.getInstance().compress(array);
+        INDArray decomp = BasicNDArrayCompressor.getInstance().decompress(compr);
+
+        assertEquals(exp, decomp);
+    }
+
+    @Test
+    public void testLz4Compression1() {
+        INDArray array = Nd4j.linspace(1, 10000, 20000);
+        INDArray exp = array.dup();
+
+        BasicNDArrayCompressor.getInstance().setDefaultCompression("LZ4");
+
+        INDArray compr = BasicNDArrayCompressor.getInstance().compress(array);
+
+        assertEquals(DataBuffer.Type.COMPRESSED, compr.data().dataType());
+
+        INDArray decomp = BasicNDArrayCompressor.getInstance().decompress(compr);
+
+        assertEquals(exp, array);
+        assertEquals(exp, decomp);
+    }
+
+    @Test
+    public void testLz4Compression2() {
+        INDArray array = Nd4j.zeros(100000);
+        array.get(NDArrayIndex.interval(5000, 5100)).assign(Nd4j.linspace(1, 100, 100));
+        INDArray exp = array.dup();
+
+        BasicNDArrayCompressor.getInstance().setDefaultCompression("LZ4");
+
+        INDArray compr = BasicNDArrayCompressor.getInstance().compress(array);
+        CompressionDescriptor descriptor = ((CompressedDataBuffer) compr.data()).getCompressionDescriptor();
+        assertTrue(descriptor.getCompressedLength() < descriptor.getOriginalLength() / 50);
+
+        assertEquals(exp, BasicNDArrayCompressor.getInstance().decompress(compr));
+    }
+
+    @Test
+    public void testLz4Compression3() {
+        // incompressible data is stored as is
+        INDArray array = Nd4j.rand(new int[] {1, 50000}, 119);
+        INDArray exp = array.dup();
+
+        BasicNDArrayCompressor.getInstance().setDefaultCompression("LZ4");
+
+        INDArray compr = BasicNDArrayCompressor.getInstance().compress(array);
+        CompressionDescriptor descriptor = ((CompressedDataBuffer) compr.data()).getCompressionDescriptor();
+        assertTrue(descriptor.getCompressedLength() <= descriptor.getOriginalLength() + 64);
+
+        assertEquals(exp, BasicNDArrayCompressor.getInstance().decompress(compr));
+    }
+
+    @Test
+    public void testChunkedCompression1() {
+        INDArray array = Nd4j.linspace(1, 10000, 20000);
+        INDArray exp = array.dup();
+
+        BasicNDArrayCompressor compressor = BasicNDArrayCompressor.getInstance();
+        compressor.setDefaultCompression("GZIP");
+        long chunkSize = compressor.getChunkSize();
+        compressor.setChunkSize(3000);
+        try {
+            INDArray compr = compressor.compress(array);
+
+            assertTrue(ChunkedCompressor.isChunked(compr));
+            assertEquals(exp, array);
+            assertEquals(exp, compressor.decompress(compr));
+
+            compressor.decompressi(compr);
+            assertFalse(compr.isCompressed());
+            assertEquals(exp, compr);
+        } finally {
+            compressor.setChunkSize(chunkSize);
+        }
+    }
+
+    @Test
+    public void testChunkedCompression2() {
+        INDArray array = Nd4j.linspace(1, 1000, 1000);
+        NDArrayCompressor codec = BasicNDArrayCompressor.getInstance().getCompressor("LZ4");
+        ChunkedCompressor compressor = new ChunkedCompressor(codec, 64);
+
+        DataBuffer compr = compressor.compress(array.data());
+        assertEquals(1000, compr.length());
+
+        // ranges within single chunk, crossing chunks and covering the tail
+        long[][] ranges = new long[][] {{0, 10}, {70, 5}, {60, 200}, {990, 10}, {0, 1000}};
+        for (long[] range : ranges) {
+            DataBuffer part = compressor.decompress(compr, range[0], range[1]);
+            assertEquals(range[1], part.length());
+            for (int i = 0; i < range[1]; i++)
+                assertEquals(range[0] + i + 1, part.getDouble(i), 1e-5);
+        }
+    }
+
+    @Test
+    public void testChunkedCompressionRows() {
+        INDArray array = Nd4j.linspace(1, 3000, 3000).reshape(100, 30);
+        NDArrayCompressor codec = BasicNDArrayCompressor.getInstance().getCompressor("FLOAT16");
+        ChunkedCompressor compressor = new ChunkedCompressor(codec, 100);
+
+        INDArray compr = compressor.compress(array);
+        assertTrue(ChunkedCompressor.isChunked(compr));
+
+        INDArray rows = compressor.decompressRows(compr, 17, 22);
+        assertArrayEquals(new int[] {5, 30}, rows.shape());
+        assertEquals(array.get(NDArrayIndex.interval(17, 22), NDArrayIndex.all()), rows);
+
+        // f ordered arrays and non-chunked arrays are decompressed as whole
+        INDArray fOrder = array.dup('f');
+        assertEquals(array.getRow(3), compressor.decompressRows(compressor.compress(fOrder), 3, 4));
+        INDArray gzip = BasicNDArrayCompressor.getInstance().compress(array, "GZIP");
+        assertEquals(array.getRow(99), BasicNDArrayCompressor.getInstance().decompressRows(gzip, 99, 100));
+    }
+
     @Test
     public void testNoOpCompression1() {
         INDArray array = Nd4j.linspace(1, 10000, 20000);
@@ -287,6 +413,37 @@ public class CompressionTests extends BaseNd4jTest {
         assertEquals(exp, decomp);
     }
 
+    @Test
+    public void testJVMCompression4() throws Exception {
+        INDArray exp = Nd4j.create(new float[] {1f, 2f, 3f, 4f, 5f});
+
+        BasicNDArrayCompressor.getInstance().setDefaultCompression("GZIP");
+
+        INDArray compressed = BasicNDArrayCompressor.getInstance().compress(new float[] {1f, 2f, 3f, 4f, 5f});
+        assertTrue(compressed.isCompressed());
+
+        INDArray decomp = BasicNDArrayCompressor.getInstance().decompress(compressed);
+
+        assertEquals(exp, decomp);
+    }
+
+    @Test
+    public void testJVMCompression5() throws Exception {
+        double[] data = new double[40000];
+        for (int i = 0; i < data.length; i++)
+            data[i] = i % 7;
+        INDArray exp = Nd4j.create(data);
+
+        BasicNDArrayCompressor.getInstance().setDefaultCompression("LZ4");
+
+        INDArray compressed = BasicNDArrayCompressor.getInstance().compress(data);
+        assertTrue(compressed.isCompressed());
+
+        INDArray decomp = BasicNDArrayCompressor.getInstance().decompress(compressed);
+
+        assertEquals(exp, decomp);
+    }
+
     @Override
     public char ordering() {
         return 'c';
@@ -0,0 +1,214 @@
+package org.nd4j.linalg.dataset;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.nd4j.linalg.BaseNd4jTest;
+import org.nd4j.linalg.dataset.api.DataSetPreProcessor;
+import org.nd4j.linalg.dataset.api.MultiDataSetPreProcessor;
+import org.nd4j.linalg.dataset.api.iterator.AsyncDataSetIterator;
+import org.nd4j.linalg.dataset.api.iterator.AsyncMultiDataSetIterator;
+import org.nd4j.linalg.dataset.api.iterator.DataSetIterator;
+import org.nd4j.linalg.dataset.api.iterator.TestDataSetIterator;
+import org.nd4j.linalg.dataset.api.iterator.TestMultiDataSetIterator;
+import org.nd4j.linalg.factory.Nd4j;
+import org.nd4j.linalg.factory.Nd4jBackend;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+@RunWith(Parameterized.class)
+public class AsyncDataSetIteratorTest extends BaseNd4jTest {
+
+    public AsyncDataSetIteratorTest(Nd4jBackend backend) {
+        super(backend);
+    }
+
+    // every DataSet is filled with its own index, so we can tell them apart
+    private static DataSet dataSet(int index) {
+        return new DataSet(Nd4j.valueArrayOf(1, 3, index), Nd4j.valueArrayOf(1, 2, -index));
+    }
+
+    private static DataSet merged(int numDataSets) {
+        List<DataSet> list = new ArrayList<>();
+        for (int i = 0; i < numDataSets; i++)
+            list.add(dataSet(i));
+        return DataSet.merge(list);
+    }
+
+    private static DataSetIterator source(int numDataSets) {
+        return new TestDataSetIterator(merged(numDataSets), 1);
+    }
+
+    @Test
+    public void testOrderPreserved() {
+        AsyncDataSetIterator iterator = new AsyncDataSetIterator(source(50), 4, 3, false);
+        final Set<String> threads = Collections.synchronizedSet(new HashSet<String>());
+        iterator.setPreProcessor(new DataSetPreProcessor() {
+            @Override
+            public void preProcess(org.nd4j.linalg.dataset.api.DataSet toPreProcess) {
+                threads.add(Thread.currentThread().getName());
+                toPreProcess.getFeatures().muli(2);
+            }
+        });
+
+        for (int epoch = 0; epoch < 2; epoch++) {
+            int cnt = 0;
+            while (iterator.hasNext()) {
+                DataSet ds = iterator.next();
+                assertEquals(2.0 * cnt, ds.getFeatures().getDouble(0), 1e-5);
+                assertEquals(-cnt, ds.getLabels().getDouble(0), 1e-5);
+                cnt++;
+            }
+            assertEquals(50, cnt);
+            iterator.reset();
+        }
+        iterator.shutdown();
+
+        // preprocessing never happens on consumer thread
+        assertFalse(threads.isEmpty());
+        assertFalse(threads.contains(Thread.currentThread().getName()));
+    }
+
+    @Test
+    public void testResetMidIteration() {
+        AsyncDataSetIterator iterator = new AsyncDataSetIterator(source(20), 2);
+        for (int i = 0; i < 5; i++)
+            assertEquals(i, iterator.next().getFeatures().getDouble(0), 1e-5);
+
+        iterator.reset();
+
+        int cnt = 0;
+        while (iterator.hasNext())
+            assertEquals(cnt++, iterator.next().getFeatures().getDouble(0), 1e-5);
+        assertEquals(20, cnt);
+        iterator.shutdown();
+    }
+
+    @Test
+    public void testExceptionPropagation() {
+        AsyncDataSetIterator iterator = new AsyncDataSetIterator(source(10), 4, 2, false);
+        iterator.setPreProcessor(new DataSetPreProcessor() {
+            @Override
+            public void preProcess(org.nd4j.linalg.dataset.api.DataSet toPreProcess) {
+                if (toPreProcess.getFeatures().getDouble(0) == 3.0)
+                    throw new IllegalStateException("Broken DataSet");
+            }
+        });
+
+        for (int i = 0; i < 3; i++)
+            iterator.next();
+
+        try {
+            iterator.next();
+            fail("Exception expected");
+        } catch (IllegalStateException e) {
+            assertEquals("Broken DataSet", e.getMessage());
+        }
+
+        // failure of a single DataSet doesn't stop iteration
+        assertEquals(4.0, iterator.next().getFeatures().getDouble(0), 1e-5);
+        iterator.shutdown();
+    }
+
+    @Test(timeout = 30000L)
+    public void testSourceFailure() {
+        DataSetIterator source = new TestDataSetIterator(merged(10), 1) {
+            private int cnt;
+
+            @Override
+            public synchronized DataSet next() {
+                if (cnt++ == 5)
+                    throw new IllegalStateException("Broken source");
+                return super.next();
+            }
+        };
+        AsyncDataSetIterator iterator = new AsyncDataSetIterator(source, 4, 2, false);
+
+        for (int i = 0; i < 5; i++)
+            assertEquals(i, iterator.next().getFeatures().getDouble(0), 1e-5);
+
+        try {
+            iterator.next();
+            fail("Exception expected");
+        } catch (IllegalStateException e) {
+            assertEquals("Broken source", e.getMessage());
+        }
+
+        // source can't go on after failure, so iteration ends there
+        assertFalse(iterator.hasNext());
+        assertFalse(iterator.hasNext());
+        iterator.shutdown();
+    }
+
+    @Test(timeout = 30000L)
+    public void testResetCancelsPreprocessing() {
+        AsyncDataSetIterator iterator = new AsyncDataSetIterator(source(20), 4, 1, false);
+        final AtomicInteger counter = new AtomicInteger(0);
+        iterator.setPreProcessor(new DataSetPreProcessor() {
+            @Override
+            public void preProcess(org.nd4j.linalg.dataset.api.DataSet toPreProcess) {
+                counter.incrementAndGet();
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+
+        iterator.next();
+        iterator.reset();
+
+        int cnt = 0;
+        while (iterator.hasNext()) {
+            iterator.next();
+            cnt++;
+        }
+        assertEquals(20, cnt);
+
+        // first element, at most one in progress on reset, and the full second pass
+        assertTrue(counter.get() <= 22);
+        iterator.shutdown();
+    }
+
+    @Test
+    public void testMultiDataSetIterator() {
+        org.nd4j.linalg.dataset.api.MultiDataSet[] list = new org.nd4j.linalg.dataset.api.MultiDataSet[30];
+        for (int i = 0; i < list.length; i++)
+            list[i] = new MultiDataSet(Nd4j.valueArrayOf(1, 3, i), Nd4j.valueArrayOf(1, 2, -i));
+
+        AsyncMultiDataSetIterator iterator =
+                        new AsyncMultiDataSetIterator(new TestMultiDataSetIterator(1, list), 3, 2, false);
+        iterator.setPreProcessor(new MultiDataSetPreProcessor() {
+            @Override
+            public void preProcess(org.nd4j.linalg.dataset.api.MultiDataSet multiDataSet) {
+                multiDataSet.getLabels(0).assign(multiDataSet.getFeatures(0).getDouble(0) + 1);
+            }
+        });
+
+        for (int epoch = 0; epoch < 2; epoch++) {
+            int cnt = 0;
+            while (iterator.hasNext()) {
+                org.nd4j.linalg.dataset.api.MultiDataSet mds = iterator.next();
+                assertEquals(cnt, mds.getFeatures(0).getDouble(0), 1e-5);
+                assertEquals(cnt + 1, mds.getLabels(0).getDouble(0), 1e-5);
+                cnt++;
+            }
+            assertEquals(30, cnt);
+            iterator.reset();
+        }
+        iterator.shutdown();
+    }
+
+    @Override
+    public char ordering() {
+        return 'c';
+    }
+}
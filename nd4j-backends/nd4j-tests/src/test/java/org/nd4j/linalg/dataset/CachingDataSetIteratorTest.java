@@ -13,12 +13,14 @@ import org.nd4j.linalg.dataset.api.iterator.SamplingDataSetIterator;
 import org.nd4j.linalg.dataset.api.iterator.cache.DataSetCache;
 import org.nd4j.linalg.dataset.api.iterator.cache.InFileDataSetCache;
 import org.nd4j.linalg.dataset.api.iterator.cache.InMemoryDataSetCache;
+import org.nd4j.linalg.dataset.api.iterator.cache.TieredDataSetCache;
 import org.nd4j.linalg.factory.Nd4j;
 import org.nd4j.linalg.factory.Nd4jBackend;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.Assert.*;
 
@@ -54,6 +56,125 @@ public class CachingDataSetIteratorTest extends BaseNd4jTest {
         FileUtils.deleteDirectory(cacheDir.toFile());
     }
 
+    @Test
+    public void testInFileSharded() throws IOException {
+        Path cacheDir = Files.createTempDirectory("nd4j-data-set-cache-test");
+        DataSetCache cache = new InFileDataSetCache(cacheDir.toFile(), true);
+
+        runDataSetTest(cache);
+
+        // sealed shards should be picked up by new cache instance
+        DataSetCache restored = new InFileDataSetCache(cacheDir.toFile(), true);
+        assertTrue(restored.isComplete("test-namespace"));
+        assertTrue(restored.contains("data-set-cache-test-namespace-000000.bin"));
+        assertNotNull(restored.get("data-set-cache-test-namespace-000000.bin"));
+
+        FileUtils.deleteDirectory(cacheDir.toFile());
+    }
+
+    @Test
+    public void testTiered() throws IOException {
+        Path cacheDir = Files.createTempDirectory("nd4j-data-set-cache-test");
+        // budget fits only a few DataSets, so the rest go to disk
+        TieredDataSetCache cache = new TieredDataSetCache(10000, cacheDir.toFile());
+
+        runDataSetTest(cache);
+
+        assertTrue(cache.getSpills() > 0);
+        assertTrue(cache.getHits() > 0);
+        assertTrue(cache.getFileHits() > 0);
+        assertTrue(cache.getBytesResident() <= 10000);
+        assertEquals(0, cache.getEvictions());
+
+        FileUtils.deleteDirectory(cacheDir.toFile());
+    }
+
+    @Test
+    public void testTieredConcurrentSpills() throws Exception {
+        Path cacheDir = Files.createTempDirectory("nd4j-data-set-cache-test");
+        final TieredDataSetCache cache = new TieredDataSetCache(10000, cacheDir.toFile());
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            final int thread = t;
+            threads[t] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        for (int i = 0; i < 20; i++) {
+                            String key = "key-" + thread + "-" + i;
+                            DataSet dataSet = new DataSet(Nd4j.valueArrayOf(20, 20, i), Nd4j.zeros(20, 2));
+                            cache.put(key, dataSet);
+
+                            // value must be available while it's being spilled, and after that
+                            assertEquals(dataSet, cache.get(key));
+                        }
+                    } catch (Throwable e) {
+                        failure.compareAndSet(null, e);
+                    }
+                }
+            });
+            threads[t].start();
+        }
+
+        for (Thread thread : threads)
+            thread.join();
+
+        if (failure.get() != null)
+            throw new RuntimeException(failure.get());
+
+        for (int t = 0; t < threads.length; t++)
+            for (int i = 0; i < 20; i++)
+                assertEquals(Nd4j.valueArrayOf(20, 20, i), cache.get("key-" + t + "-" + i).getFeatures());
+
+        assertTrue(cache.getSpills() > 0);
+        assertTrue(cache.getBytesResident() <= 10000);
+
+        FileUtils.deleteDirectory(cacheDir.toFile());
+    }
+
+    @Test
+    public void testTieredMemoryOnly() {
+        DataSet first = new DataSet(Nd4j.linspace(1, 100, 100).reshape(10, 10), Nd4j.ones(10, 2));
+        DataSet second = new DataSet(Nd4j.linspace(101, 200, 100).reshape(10, 10), Nd4j.zeros(10, 2));
+
+        TieredDataSetCache cache = new TieredDataSetCache(1024 * 1024);
+        cache.put("first", first);
+        cache.put("second", second);
+
+        assertEquals(2, cache.numResident());
+        assertEquals(first, cache.get("first"));
+        assertEquals(second, cache.get("second"));
+        assertNull(cache.get("third"));
+        assertEquals(2.0 / 3.0, cache.getHitRate(), 1e-5);
+
+        // budget fits just one DataSet, so least recently used one gets dropped
+        TieredDataSetCache tiny = new TieredDataSetCache(cache.getBytesResident() - 1);
+        tiny.put("first", first);
+        tiny.put("second", second);
+        tiny.get("second");
+
+        assertEquals(1, tiny.numResident());
+        assertEquals(1, tiny.getEvictions());
+        assertFalse(tiny.contains("first"));
+        assertEquals(second, tiny.get("second"));
+    }
+
+    @Test
+    public void testTieredCompression() {
+        DataSet dataSet = new DataSet(Nd4j.ones(100, 100), Nd4j.zeros(100, 2));
+
+        TieredDataSetCache plain = new TieredDataSetCache(1024 * 1024);
+        TieredDataSetCache compressed = new TieredDataSetCache(1024 * 1024, (DataSetCache) null, "GZIP");
+        plain.put("key", dataSet);
+        compressed.put("key", dataSet);
+
+        assertTrue(compressed.getBytesResident() < plain.getBytesResident() / 10);
+        assertEquals(dataSet, compressed.get("key"));
+        assertFalse(compressed.get("key").getFeatures().isCompressed());
+    }
+
     private void runDataSetTest(DataSetCache cache) {
         int rows = 500;
         int inputColumns = 100;
@@ -34,6 +34,20 @@ public class MinMaxStatsTest extends BaseNd4jTest {
         assertEquals(expectedUpper, stats.getUpper());
     }
 
+    @Test
+    public void testBuilderMerge() {
+        INDArray data = Nd4j.create(new double[] {1, 8, 4, 2, -3, 6, 5, 7, 0}, new int[] {3, 3}, 'c');
+
+        MinMaxStats.Builder first = new MinMaxStats.Builder();
+        MinMaxStats.Builder second = new MinMaxStats.Builder();
+        first.add(data.getRows(0, 1), null);
+        second.add(data.getRow(2), null);
+
+        MinMaxStats stats = new MinMaxStats.Builder().merge(first).merge(second).build();
+        assertEquals(Nd4j.create(new double[] {1, -3, 0}), stats.getLower());
+        assertEquals(Nd4j.create(new double[] {5, 8, 6}), stats.getUpper());
+    }
+
     @Override
     public char ordering() {
         return 'c';
@@ -8,8 +8,10 @@ import org.nd4j.linalg.api.ndarray.INDArray;
 import org.nd4j.linalg.dataset.api.iterator.DataSetIterator;
 import org.nd4j.linalg.dataset.api.iterator.TestDataSetIterator;
 import org.nd4j.linalg.dataset.api.preprocessor.NormalizerStandardize;
+import org.nd4j.linalg.dataset.api.preprocessor.stats.DistributionStats;
 import org.nd4j.linalg.factory.Nd4j;
 import org.nd4j.linalg.factory.Nd4jBackend;
+import org.nd4j.linalg.indexing.NDArrayIndex;
 import org.nd4j.linalg.ops.transforms.Transforms;
 
 import static org.junit.Assert.*;
@@ -181,6 +183,30 @@ public class NormalizerStandardizeTest extends BaseNd4jTest {
         assertEquals(1.70783f, norm4.getStd().getFloat(0), 1e-4);
     }
 
+    @Test
+    public void testBuilderMerge() {
+        INDArray data = Nd4j.rand(new int[] {100, 4}, 12345).muli(10).addi(5);
+        INDArray expMean = data.mean(0);
+        INDArray expStd = data.std(false, 0);
+
+        // partial builders of uneven sizes, one of them without any data
+        DistributionStats.Builder first = new DistributionStats.Builder();
+        DistributionStats.Builder second = new DistributionStats.Builder();
+        DistributionStats.Builder empty = new DistributionStats.Builder();
+        first.add(data.get(NDArrayIndex.interval(0, 7), NDArrayIndex.all()), null);
+        first.add(data.get(NDArrayIndex.interval(7, 60), NDArrayIndex.all()), null);
+        second.add(data.get(NDArrayIndex.interval(60, 100), NDArrayIndex.all()), null);
+
+        DistributionStats merged = empty.merge(first).merge(second).build();
+        assertTrue(expMean.equalsWithEps(merged.getMean(), 1e-4));
+        assertTrue(expStd.equalsWithEps(merged.getStd(), 1e-4));
+
+        // merged builders stay intact
+        DistributionStats secondStats = second.build();
+        INDArray secondData = data.get(NDArrayIndex.interval(60, 100), NDArrayIndex.all());
+        assertTrue(secondData.mean(0).equalsWithEps(secondStats.getMean(), 1e-4));
+    }
+
     @Test
     public void testUnderOverflow() {
         // This dataset will be basically constant with a small std deviation
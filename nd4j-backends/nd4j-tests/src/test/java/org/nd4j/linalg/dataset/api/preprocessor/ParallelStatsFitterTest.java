@@ -0,0 +1,144 @@
+package org.nd4j.linalg.dataset.api.preprocessor;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.nd4j.linalg.BaseNd4jTest;
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.dataset.api.preprocessor.stats.DistributionStats;
+import org.nd4j.linalg.factory.Nd4j;
+import org.nd4j.linalg.factory.Nd4jBackend;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+@RunWith(Parameterized.class)
+public class ParallelStatsFitterTest extends BaseNd4jTest {
+
+    public ParallelStatsFitterTest(Nd4jBackend backend) {
+        super(backend);
+    }
+
+    private static class Fitter extends ParallelStatsFitter<INDArray, DistributionStats.Builder> {
+        private final int failAt;
+
+        Fitter(int failAt) {
+            this.failAt = failAt;
+        }
+
+        @Override
+        protected DistributionStats.Builder newPartial() {
+            return new DistributionStats.Builder();
+        }
+
+        @Override
+        protected void fitPartial(DistributionStats.Builder partial, INDArray batch) {
+            if (batch.getDouble(0) == failAt)
+                throw new IllegalStateException("Failing batch");
+            partial.add(batch, null);
+        }
+
+        @Override
+        protected void merge(DistributionStats.Builder target, DistributionStats.Builder other) {
+            target.merge(other);
+        }
+    }
+
+    private List<INDArray> batches(INDArray data, int batchSize) {
+        List<INDArray> result = new ArrayList<>();
+        for (int i = 0; i < data.rows(); i += batchSize)
+            result.add(data.getRows(range(i, Math.min(i + batchSize, data.rows()))));
+        return result;
+    }
+
+    private static int[] range(int from, int to) {
+        int[] result = new int[to - from];
+        for (int i = 0; i < result.length; i++)
+            result[i] = from + i;
+        return result;
+    }
+
+    @Test(timeout = 60000L)
+    public void testParallelFit() {
+        INDArray data = Nd4j.rand(new int[] {500, 6}, 119).muli(100).addi(1);
+        List<INDArray> batches = batches(data, 7);
+
+        for (int workers : new int[] {1, 2, 4, 8}) {
+            DistributionStats stats = new Fitter(-1).fit(batches.iterator(), workers).build();
+            assertTrue(data.mean(0).equalsWithEps(stats.getMean(), 1e-3));
+            assertTrue(data.std(false, 0).equalsWithEps(stats.getStd(), 1e-3));
+        }
+    }
+
+    @Test(timeout = 60000L)
+    public void testEmptyIterator() {
+        DistributionStats.Builder builder =
+                        new Fitter(-1).fit(Collections.<INDArray>emptyList().iterator(), 4);
+        try {
+            builder.build();
+            fail("Expected exception for empty builder");
+        } catch (RuntimeException e) {
+            assertTrue(e.getMessage().contains("No data was added"));
+        }
+    }
+
+    @Test(timeout = 60000L)
+    public void testWorkerFailure() {
+        INDArray data = Nd4j.linspace(1, 400, 400).reshape(100, 4);
+        // first element of batch starting at row 40 is 161
+        for (int workers : new int[] {1, 4}) {
+            try {
+                new Fitter(161).fit(batches(data, 5).iterator(), workers);
+                fail("Expected exception from the failing batch");
+            } catch (IllegalStateException e) {
+                assertEquals("Failing batch", e.getMessage());
+            }
+        }
+    }
+
+    @Test(timeout = 60000L)
+    public void testIteratorFailure() {
+        final Iterator<INDArray> batches = batches(Nd4j.linspace(1, 400, 400).reshape(100, 4), 5).iterator();
+        Iterator<INDArray> failing = new Iterator<INDArray>() {
+            private int count;
+
+            @Override
+            public boolean hasNext() {
+                return batches.hasNext();
+            }
+
+            @Override
+            public INDArray next() {
+                if (++count == 10)
+                    throw new IllegalArgumentException("Broken iterator");
+                return batches.next();
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+
+        try {
+            new Fitter(-1).fit(failing, 4);
+            fail("Expected exception from the iterator");
+        } catch (IllegalArgumentException e) {
+            assertEquals("Broken iterator", e.getMessage());
+        }
+
+        // shared pool isn't left busy by stopped workers
+        INDArray data = Nd4j.rand(new int[] {100, 3}, 7);
+        DistributionStats stats = new Fitter(-1).fit(batches(data, 10).iterator(), 4).build();
+        assertTrue(data.mean(0).equalsWithEps(stats.getMean(), 1e-3));
+    }
+
+    @Override
+    public char ordering() {
+        return 'c';
+    }
+}
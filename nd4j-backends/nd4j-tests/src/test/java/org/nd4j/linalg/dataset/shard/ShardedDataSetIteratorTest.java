@@ -0,0 +1,186 @@
+package org.nd4j.linalg.dataset.shard;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.nd4j.linalg.BaseNd4jTest;
+import org.nd4j.linalg.dataset.DataSet;
+import org.nd4j.linalg.factory.Nd4j;
+import org.nd4j.linalg.factory.Nd4jBackend;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+@RunWith(Parameterized.class)
+public class ShardedDataSetIteratorTest extends BaseNd4jTest {
+    private File directory;
+
+    public ShardedDataSetIteratorTest(Nd4jBackend backend) {
+        super(backend);
+    }
+
+    @Before
+    public void setUpDirectory() throws IOException {
+        directory = Files.createTempDirectory("nd4j-shard-test").toFile();
+    }
+
+    @After
+    public void tearDownDirectory() throws IOException {
+        FileUtils.deleteDirectory(directory);
+    }
+
+    // every DataSet is filled with its own index, so we can tell them apart
+    private static DataSet dataSet(int index) {
+        return new DataSet(Nd4j.valueArrayOf(5, 3, index), Nd4j.valueArrayOf(5, 2, -index));
+    }
+
+    private List<File> writeShards(int numShards, int perShard) throws IOException {
+        List<File> files = new ArrayList<>();
+        int index = 0;
+        for (int s = 0; s < numShards; s++) {
+            File file = new File(directory, "shard-" + s + ".bin");
+            try (DataSetShardWriter writer = new DataSetShardWriter(file)) {
+                for (int i = 0; i < perShard; i++) {
+                    assertEquals(i, writer.write("key-" + index, dataSet(index)));
+                    index++;
+                }
+            }
+            files.add(file);
+        }
+        return files;
+    }
+
+    @Test
+    public void testShardRandomAccess() throws IOException {
+        File file = writeShards(1, 10).get(0);
+
+        assertTrue(DataSetShard.isShard(file));
+        try (DataSetShard shard = new DataSetShard(file)) {
+            assertEquals(10, shard.size());
+            for (int i : new int[] {7, 0, 9, 3})
+                assertEquals(dataSet(i), shard.get(i));
+
+            assertEquals(dataSet(4), shard.get("key-4"));
+            assertNull(shard.get("key-119"));
+            assertEquals(5, shard.getEntry(0).getNumExamples());
+        }
+    }
+
+    @Test
+    public void testUnclosedShard() throws IOException {
+        File file = new File(directory, "unclosed.bin");
+        DataSetShardWriter writer = new DataSetShardWriter(file);
+        writer.write(dataSet(1));
+        writer.flush();
+
+        assertFalse(DataSetShard.isShard(file));
+        writer.close();
+        assertTrue(DataSetShard.isShard(file));
+    }
+
+    @Test
+    public void testIteration() throws IOException {
+        List<File> files = writeShards(3, 4);
+
+        try (ShardedDataSetIterator iterator = new ShardedDataSetIterator(files)) {
+            assertEquals(12, iterator.size());
+            assertEquals(60, iterator.totalExamples());
+            assertEquals(5, iterator.batch());
+            assertEquals(3, iterator.inputColumns());
+            assertEquals(2, iterator.totalOutcomes());
+
+            for (int epoch = 0; epoch < 2; epoch++) {
+                int cnt = 0;
+                while (iterator.hasNext())
+                    assertEquals(dataSet(cnt++), iterator.next());
+
+                assertEquals(12, cnt);
+                iterator.reset();
+            }
+        }
+    }
+
+    @Test
+    public void testShuffledIteration() throws IOException {
+        List<File> files = writeShards(3, 4);
+
+        try (ShardedDataSetIterator iterator = new ShardedDataSetIterator(files, true, 119L, 3)) {
+            List<Double> previous = null;
+            for (int epoch = 0; epoch < 3; epoch++) {
+                List<Double> seen = new ArrayList<>();
+                while (iterator.hasNext())
+                    seen.add(iterator.next().getFeatures().getDouble(0));
+
+                // every DataSet is visited exactly once per epoch
+                Set<Double> unique = new HashSet<>(seen);
+                assertEquals(12, unique.size());
+                for (int i = 0; i < 12; i++)
+                    assertTrue(unique.contains((double) i));
+
+                if (previous != null)
+                    assertNotEquals(previous, seen);
+                previous = seen;
+
+                iterator.reset();
+            }
+        }
+    }
+
+    @Test
+    public void testStore() throws IOException {
+        // tiny shard size, so every few DataSets go to the new shard
+        ShardedDataSetStore store = new ShardedDataSetStore(directory, 1024);
+        for (int i = 0; i < 10; i++)
+            store.put("key-" + i, dataSet(i));
+
+        // overwritten key should return the latest DataSet
+        store.put("key-3", dataSet(119));
+
+        for (int i = 0; i < 10; i++)
+            assertEquals(dataSet(i == 3 ? 119 : i), store.get("key-" + i));
+        assertNull(store.get("key-10"));
+        store.close();
+
+        assertTrue(directory.listFiles().length > 1);
+
+        ShardedDataSetStore restored = new ShardedDataSetStore(directory, 1024);
+        assertEquals(10, restored.size());
+        for (int i = 0; i < 10; i++)
+            assertEquals(dataSet(i == 3 ? 119 : i), restored.get("key-" + i));
+        restored.close();
+    }
+
+    @Test
+    public void testStoreIgnoresUnsealedShards() throws IOException {
+        ShardedDataSetStore store = new ShardedDataSetStore(directory);
+        store.put("key-1", dataSet(1));
+        assertEquals(dataSet(1), store.get("key-1"));
+
+        // store isn't sealed here, i.e. process was killed
+        ShardedDataSetStore restored = new ShardedDataSetStore(directory);
+        assertFalse(restored.contains("key-1"));
+
+        restored.put("key-2", dataSet(2));
+        restored.close();
+        store.close();
+
+        assertEquals(2, directory.listFiles().length);
+        assertTrue(Arrays.asList(directory.list()).contains("shard-00001.bin"));
+    }
+
+    @Override
+    public char ordering() {
+        return 'c';
+    }
+}
@@ -0,0 +1,178 @@
+package org.nd4j.linalg.fft;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.nd4j.linalg.BaseNd4jTest;
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.factory.Nd4j;
+import org.nd4j.linalg.factory.Nd4jBackend;
+import org.nd4j.linalg.ops.transforms.Transforms;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+@RunWith(Parameterized.class)
+public class FFTPlanTests extends BaseNd4jTest {
+
+    public FFTPlanTests(Nd4jBackend backend) {
+        super(backend);
+    }
+
+    @Test
+    public void testAgainstDft() {
+        Random random = new Random(12345);
+
+        // powers of 2, mixed radix, primes handled directly and primes going through Bluestein
+        for (int n : new int[] {1, 2, 3, 4, 5, 6, 7, 8, 12, 15, 16, 30, 31, 37, 97, 100, 243, 1000, 1024, 2 * 101}) {
+            double[] data = new double[2 * n];
+            for (int i = 0; i < data.length; i++)
+                data[i] = random.nextDouble() * 2 - 1;
+
+            double[] exp = dft(data, n);
+            double[] result = data.clone();
+            FFTPlan.forLength(n).transform(result, 0, 1, false);
+
+            assertArrayEquals("Failed for length " + n, exp, result, 1e-9 * n);
+        }
+    }
+
+    @Test
+    public void testInverse() {
+        Random random = new Random(12345);
+
+        for (int n : new int[] {1, 7, 64, 97, 360, 65536}) {
+            double[] data = new double[2 * n];
+            for (int i = 0; i < data.length; i++)
+                data[i] = random.nextDouble();
+
+            double[] result = data.clone();
+            FFTPlan plan = FFTPlan.forLength(n);
+            plan.transform(result, 0, 1, false);
+            plan.transform(result, 0, 1, true);
+
+            assertArrayEquals("Failed for length " + n, data, result, 1e-9);
+        }
+    }
+
+    @Test
+    public void testRealInput() {
+        Random random = new Random(12345);
+
+        for (int n : new int[] {1, 2, 6, 9, 16, 98, 194, 1000}) {
+            int count = 3;
+            double[] input = new double[n * count];
+            double[] complex = new double[2 * n * count];
+            for (int i = 0; i < input.length; i++) {
+                input[i] = random.nextDouble();
+                complex[2 * i] = input[i];
+            }
+
+            FFTPlan plan = FFTPlan.forLength(n);
+            plan.transform(complex, 0, count, false);
+
+            double[] result = new double[2 * n * count + 2];
+            plan.transformReal(input, 0, result, 2, count);
+
+            for (int i = 0; i < complex.length; i++)
+                assertEquals("Failed for length " + n + " at " + i, complex[i], result[i + 2], 1e-9 * n);
+        }
+    }
+
+    @Test
+    public void testPlanCache() {
+        assertSame(FFTPlan.forLength(1000), FFTPlan.forLength(1000));
+        assertFalse(FFTPlan.forLength(1024).isBluestein());
+        assertFalse(FFTPlan.forLength(3 * 5 * 7 * 31).isBluestein());
+        assertTrue(FFTPlan.forLength(97).isBluestein());
+        assertEquals(97, FFTPlan.forLength(97).length());
+    }
+
+    @Test
+    public void testBatchedAlongDimension() {
+        INDArray real = Nd4j.rand(new int[] {6, 10}, 123);
+        INDArray imag = Nd4j.rand(new int[] {6, 10}, 321);
+
+        for (int dimension : new int[] {0, 1}) {
+            INDArray[] result = FFT.fft(real, imag, dimension);
+            assertArrayEquals(real.shape(), result[0].shape());
+            assertArrayEquals(real.shape(), result[1].shape());
+
+            int n = real.size(dimension);
+            for (int i = 0; i < real.tensorssAlongDimension(dimension); i++) {
+                INDArray re = real.tensorAlongDimension(i, dimension);
+                INDArray im = imag.tensorAlongDimension(i, dimension);
+
+                double[] data = new double[2 * n];
+                for (int j = 0; j < n; j++) {
+                    data[2 * j] = re.getDouble(j);
+                    data[2 * j + 1] = im.getDouble(j);
+                }
+                double[] exp = dft(data, n);
+
+                INDArray resRe = result[0].tensorAlongDimension(i, dimension);
+                INDArray resIm = result[1].tensorAlongDimension(i, dimension);
+                for (int j = 0; j < n; j++) {
+                    assertEquals(exp[2 * j], resRe.getDouble(j), 1e-4);
+                    assertEquals(exp[2 * j + 1], resIm.getDouble(j), 1e-4);
+                }
+            }
+
+            INDArray[] restored = FFT.ifft(result[0], result[1], dimension);
+            assertClose(real, restored[0]);
+            assertClose(imag, restored[1]);
+        }
+    }
+
+    @Test
+    public void testRealSignal() {
+        // cosine with period of 8 samples gives two symmetric peaks
+        int n = 64;
+        INDArray signal = Nd4j.create(3, n);
+        for (int i = 0; i < n; i++) {
+            double value = Math.cos(2 * Math.PI * i / 8);
+            for (int r = 0; r < 3; r++)
+                signal.putScalar(r, i, value);
+        }
+
+        INDArray[] result = FFT.fft(signal, null, 1);
+        for (int r = 0; r < 3; r++) {
+            for (int k = 0; k < n; k++) {
+                double exp = k == n / 8 || k == n - n / 8 ? n / 2 : 0.0;
+                assertEquals(exp, result[0].getDouble(r, k), 1e-4);
+                assertEquals(0.0, result[1].getDouble(r, k), 1e-4);
+            }
+        }
+
+        INDArray[] restored = FFT.ifft(result[0], result[1], 1);
+        assertClose(signal, restored[0]);
+    }
+
+    private static void assertClose(INDArray exp, INDArray array) {
+        assertArrayEquals(exp.shape(), array.shape());
+        assertEquals(0.0, Transforms.abs(exp.sub(array)).maxNumber().doubleValue(), 1e-5);
+    }
+
+    // reference O(n^2) transform
+    private static double[] dft(double[] data, int n) {
+        double[] result = new double[2 * n];
+        for (int k = 0; k < n; k++) {
+            double re = 0;
+            double im = 0;
+            for (int j = 0; j < n; j++) {
+                double phase = -2 * Math.PI * ((long) j * k % n) / n;
+                re += data[2 * j] * Math.cos(phase) - data[2 * j + 1] * Math.sin(phase);
+                im += data[2 * j] * Math.sin(phase) + data[2 * j + 1] * Math.cos(phase);
+            }
+            result[2 * k] = re;
+            result[2 * k + 1] = im;
+        }
+        return result;
+    }
+
+    @Override
+    public char ordering() {
+        return 'c';
+    }
+}
@@ -26,6 +26,7 @@ import org.nd4j.linalg.api.ndarray.INDArray;
 import org.nd4j.linalg.api.rng.distribution.Distribution;
 import org.nd4j.linalg.factory.Nd4j;
 import org.nd4j.linalg.factory.Nd4jBackend;
+import org.nd4j.linalg.indexing.NDArrayIndex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -83,6 +84,70 @@ public class UpdaterTest extends BaseNd4jTest {
         }
     }
 
+    @Test
+    public void testFusedMatchesOps() {
+        //Contiguous arrays go through fused kernels, non-contiguous views fall back to regular ops
+        int[] m = new int[] {2, 1, 2, 1};
+
+        for (char order : new char[] {'c', 'f'}) {
+            GradientUpdater[] fused = new GradientUpdater[] {new AdaDelta(0.95), new AdaGrad(0.1), new Adam(0.01),
+                            new RmsProp(0.1, 0.95)};
+            GradientUpdater[] ops = new GradientUpdater[] {new AdaDelta(0.95), new AdaGrad(0.1), new Adam(0.01),
+                            new RmsProp(0.1, 0.95)};
+
+            for (int i = 0; i < fused.length; i++) {
+                INDArray fusedState = Nd4j.zeros(1, m[i] * 10 * 10);
+                INDArray opsState = Nd4j.zeros(1, m[i] * 10 * 10);
+                fused[i].setStateViewArray(fusedState, new int[] {10, 10}, order, true);
+                ops[i].setStateViewArray(opsState, new int[] {10, 10}, order, true);
+
+                String msg = fused[i].getClass().getSimpleName() + " " + order;
+
+                Nd4j.getRandom().setSeed(12345);
+                for (int j = 0; j < 5; j++) {
+                    INDArray gradient = Nd4j.rand(10, 10).subi(0.5).dup(order);
+                    INDArray view = Nd4j.create(new int[] {20, 20}, order)
+                                    .get(NDArrayIndex.interval(5, 15), NDArrayIndex.interval(5, 15));
+                    view.assign(gradient);
+                    assertTrue(view.elementWiseStride() < 1);
+
+                    INDArray fusedOut = fused[i].getGradient(gradient, j);
+                    INDArray opsOut = ops[i].getGradient(view, j);
+
+                    assertTrue(msg, fusedOut == gradient);
+                    assertTrue(msg + " at iteration " + j, opsOut.equalsWithEps(fusedOut, 1e-5));
+                    assertTrue(msg + " at iteration " + j, opsState.equalsWithEps(fusedState, 1e-5));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testFusedNesterovs() {
+        double momentum = 0.9;
+        double lr = 0.1;
+
+        for (char order : new char[] {'c', 'f'}) {
+            Nesterovs nesterovs = new Nesterovs(momentum, lr);
+            INDArray state = Nd4j.zeros(1, 10 * 10);
+            nesterovs.setStateViewArray(state, new int[] {10, 10}, order, true);
+
+            INDArray v = Nd4j.zeros(10, 10);
+            Nd4j.getRandom().setSeed(12345);
+            for (int j = 0; j < 5; j++) {
+                INDArray gradient = Nd4j.rand(10, 10).subi(0.5).dup(order);
+
+                INDArray vPrev = v.dup();
+                v.muli(momentum).subi(gradient.mul(lr));
+                INDArray exp = vPrev.mul(momentum).subi(v.mul(1 + momentum));
+
+                nesterovs.getGradient(gradient, j);
+                assertTrue("Failed at iteration " + j, exp.equalsWithEps(gradient, 1e-5));
+                assertTrue("Failed at iteration " + j, v.equalsWithEps(nesterovs.getV(), 1e-5));
+            }
+        }
+    }
+
     @Test
     public void testAdaGradCombining() {
         int n = 7;
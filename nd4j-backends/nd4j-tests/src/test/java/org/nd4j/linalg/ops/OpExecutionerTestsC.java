@@ -33,7 +33,9 @@ import org.nd4j.linalg.api.ndarray.INDArray;
 import org.nd4j.linalg.api.ops.IndexAccumulation;
 import org.nd4j.linalg.api.ops.TadCollapseAccumulation;
 import org.nd4j.linalg.api.ops.exception.IllegalOpException;
+import org.nd4j.linalg.api.ops.executioner.DefaultOpExecutioner;
 import org.nd4j.linalg.api.ops.executioner.OpExecutioner;
+import org.nd4j.linalg.api.ops.executioner.StridedKernelRunner;
 import org.nd4j.linalg.api.ops.impl.accum.*;
 import org.nd4j.linalg.api.ops.impl.accum.distances.EuclideanDistance;
 import org.nd4j.linalg.api.ops.impl.accum.distances.ManhattanDistance;
@@ -42,6 +44,7 @@ import org.nd4j.linalg.api.ops.impl.indexaccum.IMax;
 import org.nd4j.linalg.api.ops.impl.indexaccum.IMin;
 import org.nd4j.linalg.api.ops.impl.scalar.ScalarAdd;
 import org.nd4j.linalg.api.ops.impl.scalar.ScalarMax;
+import org.nd4j.linalg.api.ops.impl.scalar.ScalarMultiplication;
 import org.nd4j.linalg.api.ops.impl.scalar.comparison.ScalarGreaterThan;
 import org.nd4j.linalg.api.ops.impl.scalar.comparison.ScalarLessThan;
 import org.nd4j.linalg.api.ops.impl.transforms.*;
@@ -955,6 +958,62 @@ public class OpExecutionerTestsC extends BaseNd4jTest {
         DataTypeUtil.setDTypeForContext(initialType);
     }
 
+    @Test
+    public void testJavaModeKernels1() {
+        OpExecutioner executioner = new DefaultOpExecutioner();
+        executioner.setExecutionMode(OpExecutioner.ExecutionMode.JAVA);
+
+        INDArray x = Nd4j.linspace(1, 24, 24).reshape(2, 3, 4);
+        INDArray y = Nd4j.linspace(24, 1, 24).reshape(2, 3, 4);
+
+        // contiguous operands, collapsed into a single loop
+        INDArray exp = Transforms.exp(x, true);
+        INDArray z = Nd4j.create(2, 3, 4);
+        executioner.exec(new Exp(x, z));
+        assertEquals(exp, z);
+
+        assertEquals(x.add(y), executioner.execAndReturn(new AddOp(x, y, Nd4j.create(2, 3, 4))));
+        assertEquals(x.add(2.5), executioner.execAndReturn(new ScalarAdd(x.dup(), 2.5)));
+
+        // strided operands with different orders
+        INDArray xView = x.permute(2, 0, 1);
+        INDArray yView = y.dup('f').permute(2, 0, 1);
+        INDArray zF = Nd4j.create(new int[] {4, 2, 3}, 'f');
+        executioner.exec(new MulOp(xView, yView, zF));
+        assertEquals(xView.mul(yView), zF);
+
+        // in-place on a view leaves the rest of the array intact
+        INDArray matrix = Nd4j.linspace(1, 20, 20).reshape(4, 5);
+        INDArray expMatrix = matrix.dup();
+        expMatrix.get(all(), NDArrayIndex.interval(1, 3)).muli(2.0);
+        INDArray column = matrix.get(all(), NDArrayIndex.interval(1, 3));
+        executioner.exec(new ScalarMultiplication(column, 2.0));
+        assertEquals(expMatrix, matrix);
+    }
+
+    @Test
+    public void testJavaModeKernelsFloat() {
+        DataBuffer.Type initialType = Nd4j.dataType();
+        DataTypeUtil.setDTypeForContext(DataBuffer.Type.FLOAT);
+        try {
+            OpExecutioner executioner = new DefaultOpExecutioner();
+            INDArray x = Nd4j.linspace(-5, 6, 12).reshape(3, 4).transpose();
+            INDArray z = Nd4j.create(4, 3);
+            executioner.exec(new Sigmoid(x, z));
+            assertEquals(Transforms.sigmoid(x, true), z);
+        } finally {
+            DataTypeUtil.setDTypeForContext(initialType);
+        }
+    }
+
+    @Test
+    public void testJavaModeKernelsUnsupported() {
+        INDArray x = Nd4j.create(3, 4);
+        assertFalse(StridedKernelRunner.canExecute(new SoftMax(x)));
+        assertFalse(StridedKernelRunner.canExecute(new AddOp(x, Nd4j.create(4, 3), Nd4j.create(3, 4))));
+        assertTrue(StridedKernelRunner.canExecute(new Exp(x)));
+    }
+
     @Override
     public char ordering() {
         return 'c';
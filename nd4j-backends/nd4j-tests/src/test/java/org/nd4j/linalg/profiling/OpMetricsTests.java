@@ -0,0 +1,217 @@
+package org.nd4j.linalg.profiling;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.api.ops.executioner.OpExecutioner;
+import org.nd4j.linalg.factory.Nd4j;
+import org.nd4j.linalg.profiler.metrics.BlasRoutine;
+import org.nd4j.linalg.profiler.metrics.LatencyBuckets;
+import org.nd4j.linalg.profiler.metrics.OpMetrics;
+import org.nd4j.linalg.profiler.metrics.OpMetricsSnapshot;
+import org.nd4j.linalg.profiler.metrics.OpType;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@Slf4j
+public class OpMetricsTests {
+
+    @Before
+    public void setUp() {
+        Nd4j.getExecutioner().setProfilingMode(OpExecutioner.ProfilingMode.DISABLED);
+        OpMetrics.getInstance().setEnabled(true);
+        OpMetrics.getInstance().reset();
+    }
+
+    @After
+    public void tearDown() {
+        OpMetrics.getInstance().setEnabled(true);
+        OpMetrics.getInstance().reset();
+    }
+
+    @Test
+    public void testCounter1() {
+        INDArray array = Nd4j.createUninitialized(100);
+
+        array.assign(10f);
+        array.divi(2f);
+        array.divi(2f);
+
+        OpMetricsSnapshot snapshot = OpMetrics.getInstance().snapshot();
+
+        long scalars = 0;
+        for (OpMetricsSnapshot.Entry entry : snapshot.getEntries())
+            if (entry.getType() == OpType.SCALAR)
+                scalars += entry.getCount();
+
+        assertEquals(3, scalars);
+    }
+
+    @Test
+    public void testBlasCounter1() {
+        INDArray a = Nd4j.rand(10, 10);
+        INDArray b = Nd4j.rand(10, 10);
+
+        OpMetrics.getInstance().reset();
+
+        a.mmul(b);
+        a.mmul(b);
+
+        OpMetricsSnapshot.Entry entry = OpMetrics.getInstance().snapshot().getEntry(BlasRoutine.GEMM);
+        assertNotNull(entry);
+        assertEquals(2, entry.getCount());
+        assertEquals("gemm", entry.getName());
+        assertTrue(entry.getMaxNanos() > 0);
+        assertTrue(entry.getTotalNanos() >= entry.getMaxNanos());
+        assertTrue(entry.getPercentileNanos(0.5) <= entry.getMaxNanos());
+        assertTrue(entry.getPercentileNanos(0.999) <= entry.getMaxNanos());
+    }
+
+    @Test
+    public void testDisabled1() {
+        OpMetrics.getInstance().setEnabled(false);
+
+        INDArray array = Nd4j.createUninitialized(100);
+        array.assign(10f);
+
+        assertEquals(0, OpMetrics.getInstance().snapshot().getTotalCount());
+    }
+
+    @Test
+    public void testReset1() {
+        INDArray array = Nd4j.createUninitialized(100);
+        array.assign(10f);
+
+        assertTrue(OpMetrics.getInstance().snapshot().getTotalCount() > 0);
+
+        OpMetrics.getInstance().reset();
+
+        assertEquals(0, OpMetrics.getInstance().snapshot().getTotalCount());
+        assertNull(OpMetrics.getInstance().snapshot().getEntry(BlasRoutine.GEMM));
+    }
+
+    @Test
+    public void testConcurrentRecording1() throws Exception {
+        final int numThreads = 4;
+        final int iterations = 1000;
+
+        Thread[] threads = new Thread[numThreads];
+        for (int t = 0; t < numThreads; t++) {
+            threads[t] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for (int i = 0; i < iterations; i++) {
+                        long start = OpMetrics.getInstance().start();
+                        OpMetrics.getInstance().record(BlasRoutine.DOT, start);
+                    }
+                }
+            });
+            threads[t].start();
+        }
+
+        for (Thread thread : threads)
+            thread.join();
+
+        OpMetricsSnapshot.Entry entry = OpMetrics.getInstance().snapshot().getEntry(BlasRoutine.DOT);
+        assertNotNull(entry);
+        assertEquals(numThreads * iterations, entry.getCount());
+    }
+
+    @Test
+    public void testShortLivedThreads1() throws Exception {
+        final int numThreads = 50;
+        int recorders = OpMetrics.getInstance().getNumRecorders();
+
+        for (int t = 0; t < numThreads; t++) {
+            Thread thread = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    long start = OpMetrics.getInstance().start();
+                    OpMetrics.getInstance().record(BlasRoutine.AXPY, start);
+                }
+            });
+            thread.start();
+            thread.join();
+        }
+
+        // counts of finished threads are kept, while their slots are released
+        OpMetricsSnapshot.Entry entry = OpMetrics.getInstance().snapshot().getEntry(BlasRoutine.AXPY);
+        assertNotNull(entry);
+        assertEquals(numThreads, entry.getCount());
+        assertTrue(OpMetrics.getInstance().getNumRecorders() <= recorders + 1);
+
+        OpMetrics.getInstance().reset();
+        assertNull(OpMetrics.getInstance().snapshot().getEntry(BlasRoutine.AXPY));
+    }
+
+    @Test
+    public void testResetFromOtherThread1() throws Exception {
+        long start = OpMetrics.getInstance().start();
+        OpMetrics.getInstance().record(BlasRoutine.SCAL, start);
+
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                OpMetrics.getInstance().reset();
+            }
+        });
+        thread.start();
+        thread.join();
+
+        assertNull(OpMetrics.getInstance().snapshot().getEntry(BlasRoutine.SCAL));
+
+        // records made after reset by the thread which recorded before it are kept
+        for (int i = 0; i < 3; i++) {
+            start = OpMetrics.getInstance().start();
+            OpMetrics.getInstance().record(BlasRoutine.SCAL, start);
+        }
+
+        OpMetricsSnapshot.Entry entry = OpMetrics.getInstance().snapshot().getEntry(BlasRoutine.SCAL);
+        assertNotNull(entry);
+        assertEquals(3, entry.getCount());
+    }
+
+    @Test
+    public void testExport1() {
+        long start = OpMetrics.getInstance().start();
+        OpMetrics.getInstance().record(BlasRoutine.GEMV, start);
+
+        OpMetricsSnapshot snapshot = OpMetrics.getInstance().snapshot();
+
+        String json = snapshot.toJson();
+        assertTrue(json.startsWith("["));
+        assertTrue(json.endsWith("]"));
+        assertTrue(json.contains("\"name\":\"gemv\""));
+        assertTrue(json.contains("\"count\":1"));
+
+        String prometheus = snapshot.toPrometheus();
+        assertTrue(prometheus.contains("# TYPE nd4j_op_invocations_total counter"));
+        assertTrue(prometheus.contains("nd4j_op_invocations_total{type=\"BLAS\",op=\"gemv\",opnum=\""
+                        + BlasRoutine.GEMV.ordinal() + "\"} 1"));
+        assertTrue(prometheus.contains("# TYPE nd4j_op_duration_seconds summary"));
+        assertTrue(prometheus.contains("quantile=\"0.99\""));
+    }
+
+    @Test
+    public void testLatencyBuckets1() {
+        long[] values = new long[] {0, 1, 7, 8, 15, 16, 100, 1000, 123456, 1000000000L, LatencyBuckets.MAX_NANOS};
+        for (long value : values) {
+            int bucket = LatencyBuckets.bucketOf(value);
+            assertTrue(bucket >= 0 && bucket < LatencyBuckets.BUCKETS);
+            assertTrue(LatencyBuckets.lowerBound(bucket) <= value);
+            assertTrue(LatencyBuckets.upperBound(bucket) >= value);
+        }
+
+        // everything above max goes into last bucket
+        assertEquals(LatencyBuckets.BUCKETS - 1, LatencyBuckets.bucketOf(Long.MAX_VALUE));
+
+        // buckets are monotonic
+        for (int b = 1; b < LatencyBuckets.BUCKETS; b++)
+            assertTrue(LatencyBuckets.lowerBound(b) > LatencyBuckets.lowerBound(b - 1));
+    }
+}
@@ -7,13 +7,14 @@ import org.junit.runners.Parameterized;
 import org.nd4j.linalg.BaseNd4jTest;
 import org.nd4j.linalg.api.buffer.DataBuffer;
 import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.exception.ND4JIllegalStateException;
 import org.nd4j.linalg.factory.Nd4j;
 import org.nd4j.linalg.factory.Nd4jBackend;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
+import java.io.*;
 
 import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.fail;
 
 /**
  * Created by raver119 on 21.12.16.
@@ -53,6 +54,200 @@ public class BasicSerDeTests extends BaseNd4jTest {
         Nd4j.setDataType(initialType);
     }
 
+    @Test
+    public void testBinaryFormatRoundTrip1() throws Exception {
+        INDArray array = Nd4j.linspace(1, 120, 120).reshape(4, 5, 6);
+
+        File tmp = File.createTempFile("binarySerde", "bin");
+        tmp.deleteOnExit();
+
+        Nd4j.saveBinary(array, tmp);
+        INDArray restored = Nd4j.readBinary(tmp);
+
+        assertEquals(array, restored);
+        assertEquals(array.ordering(), restored.ordering());
+    }
+
+    @Test
+    public void testBinaryFormatView1() throws Exception {
+        INDArray array = Nd4j.linspace(1, 100, 100).reshape(10, 10);
+        INDArray view = array.getColumn(3);
+
+        File tmp = File.createTempFile("binarySerde", "bin");
+        tmp.deleteOnExit();
+
+        Nd4j.saveBinary(view, tmp);
+        INDArray restored = Nd4j.readBinary(tmp);
+
+        assertEquals(view, restored);
+    }
+
+    @Test
+    public void testMmapBinary1() throws Exception {
+        INDArray array = Nd4j.linspace(1, 120, 120).reshape(4, 5, 6);
+
+        File tmp = File.createTempFile("binarySerde", "bin");
+        tmp.deleteOnExit();
+
+        Nd4j.saveBinary(array, tmp);
+        INDArray mapped = Nd4j.mmapBinary(tmp);
+
+        assertEquals(array, mapped);
+        assertEquals(array.sumNumber().doubleValue(), mapped.sumNumber().doubleValue(), 1e-5);
+        assertEquals(array.getRow(2), mapped.getRow(2));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testMmapBinaryReadOnly1() throws Exception {
+        INDArray array = Nd4j.linspace(1, 10, 10);
+
+        File tmp = File.createTempFile("binarySerde", "bin");
+        tmp.deleteOnExit();
+
+        Nd4j.saveBinary(array, tmp);
+        INDArray mapped = Nd4j.mmapBinary(tmp, false);
+
+        mapped.putScalar(0, 5.0);
+    }
+
+    @Test
+    public void testMmapBinaryReadOnlyOps1() throws Exception {
+        INDArray array = Nd4j.linspace(1, 12, 12).reshape(3, 4);
+
+        File tmp = File.createTempFile("binarySerde", "bin");
+        tmp.deleteOnExit();
+
+        Nd4j.saveBinary(array, tmp);
+        INDArray mapped = Nd4j.mmapBinary(tmp, false);
+
+        // in-place ops are rejected before reaching native code, both for the array and its views
+        for (INDArray target : new INDArray[] {mapped, mapped.getRow(1)}) {
+            try {
+                target.addi(1.0);
+                fail("In-place op over read-only mapping should be rejected");
+            } catch (ND4JIllegalStateException e) {
+                // expected
+            }
+        }
+
+        // while ops producing new arrays work as usual
+        assertEquals(array.add(1.0), mapped.add(1.0));
+        assertEquals(array.sum(1), mapped.sum(1));
+        assertEquals(array.sumNumber().doubleValue(), mapped.sumNumber().doubleValue(), 1e-5);
+        assertEquals(array, mapped);
+    }
+
+    @Test
+    public void testMmapBinaryReadOnlyWrites1() throws Exception {
+        final INDArray array = Nd4j.linspace(1, 4, 4).reshape(2, 2);
+
+        File tmp = File.createTempFile("binarySerde", "bin");
+        tmp.deleteOnExit();
+
+        Nd4j.saveBinary(array, tmp);
+        final INDArray mapped = Nd4j.mmapBinary(tmp, false);
+
+        // bulk setters, views, BLAS and other native routines can't write there either
+        Runnable[] writes = new Runnable[] {new Runnable() {
+            @Override
+            public void run() {
+                mapped.data().setData(new float[] {5, 6, 7, 8});
+            }
+        }, new Runnable() {
+            @Override
+            public void run() {
+                mapped.data().assign(5.0);
+            }
+        }, new Runnable() {
+            @Override
+            public void run() {
+                Nd4j.createBuffer(mapped.data(), 2, 2).put(0, 5.0);
+            }
+        }, new Runnable() {
+            @Override
+            public void run() {
+                Nd4j.gemm(array, array, mapped, false, false, 1.0, 0.0);
+            }
+        }, new Runnable() {
+            @Override
+            public void run() {
+                Nd4j.getBlasWrapper().level1().axpy(4, 1.0, array, mapped);
+            }
+        }, new Runnable() {
+            @Override
+            public void run() {
+                Nd4j.averageAndPropagate(new INDArray[] {array.dup(), mapped});
+            }
+        }};
+
+        for (Runnable write : writes) {
+            try {
+                write.run();
+                fail("Write into read-only mapping should be rejected");
+            } catch (UnsupportedOperationException | ND4JIllegalStateException e) {
+                // expected
+            }
+        }
+
+        assertEquals(array, mapped);
+    }
+
+    @Test
+    public void testMmapBinaryDefaultCopyOnWrite1() throws Exception {
+        INDArray array = Nd4j.linspace(1, 10, 10);
+
+        File tmp = File.createTempFile("binarySerde", "bin");
+        tmp.deleteOnExit();
+
+        Nd4j.saveBinary(array, tmp);
+        INDArray mapped = Nd4j.mmapBinary(tmp);
+        mapped.addi(1.0);
+
+        assertEquals(array.add(1.0), mapped);
+        assertEquals(array, Nd4j.readBinary(tmp));
+    }
+
+    @Test
+    public void testMmapBinaryCopyOnWrite1() throws Exception {
+        INDArray array = Nd4j.linspace(1, 10, 10);
+
+        File tmp = File.createTempFile("binarySerde", "bin");
+        tmp.deleteOnExit();
+
+        Nd4j.saveBinary(array, tmp);
+        INDArray mapped = Nd4j.mmapBinary(tmp, true);
+        mapped.addi(1.0);
+
+        assertEquals(array.add(1.0), mapped);
+        assertEquals(array, Nd4j.readBinary(tmp));
+    }
+
+    @Test
+    public void testLegacyFormatReadable1() throws Exception {
+        INDArray array = Nd4j.linspace(1, 60, 60).reshape(6, 10);
+
+        File tmp = File.createTempFile("legacySerde", "bin");
+        tmp.deleteOnExit();
+
+        try (DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)))) {
+            Nd4j.write(array, dos);
+        }
+
+        INDArray restored = Nd4j.readBinary(tmp);
+
+        assertEquals(array, restored);
+    }
+
+    @Test
+    public void testStreamRoundTripLarge1() throws Exception {
+        // enough elements to span several stream chunks
+        INDArray array = Nd4j.rand(1000, 700);
+
+        INDArray restored = Nd4j.fromByteArray(Nd4j.toByteArray(array));
+
+        assertEquals(array, restored);
+    }
+
     @Override
     public char ordering() {
         return 'f';
@@ -0,0 +1,313 @@
+package org.nd4j.linalg.sparse;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.nd4j.linalg.BaseNd4jTest;
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.api.ndarray.ISparseNDArray;
+import org.nd4j.linalg.api.ndarray.SparseFormat;
+import org.nd4j.linalg.dataset.DataSet;
+import org.nd4j.linalg.factory.Nd4j;
+import org.nd4j.linalg.factory.Nd4jBackend;
+import org.nd4j.linalg.indexing.NDArrayIndex;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+@RunWith(Parameterized.class)
+public class SparseNDArrayTests extends BaseNd4jTest {
+
+    public SparseNDArrayTests(Nd4jBackend backend) {
+        super(backend);
+    }
+
+    /**
+     * 1 0 0 2
+     * 0 0 0 0
+     * 0 3 0 0
+     * 4 0 5 6
+     */
+    private INDArray dense() {
+        return Nd4j.create(new double[] {1, 0, 0, 2, 0, 0, 0, 0, 0, 3, 0, 0, 4, 0, 5, 6}, new int[] {4, 4}, 'c');
+    }
+
+    private ISparseNDArray csr() {
+        return Nd4j.createSparseCSR(new double[] {1, 2, 3, 4, 5, 6}, new int[] {0, 3, 1, 0, 2, 3},
+                        new int[] {0, 2, 2, 3, 6}, new int[] {4, 4});
+    }
+
+    private ISparseNDArray coo() {
+        // deliberately unordered
+        return Nd4j.createSparseCOO(new double[] {6, 3, 1, 5, 2, 4}, new int[] {3, 2, 0, 3, 0, 3},
+                        new int[] {3, 1, 0, 2, 3, 0}, new int[] {4, 4});
+    }
+
+    @Test
+    public void testCreation1() {
+        for (ISparseNDArray array : new ISparseNDArray[] {csr(), coo()}) {
+            assertTrue(array.isSparse());
+            assertEquals(6, array.nnz());
+            assertArrayEquals(new int[] {4, 4}, array.shape());
+            assertEquals(16, array.length());
+            assertEquals(dense(), array.toDense());
+
+            assertEquals(5.0, array.getDouble(3, 2), 1e-5);
+            assertEquals(0.0, array.getDouble(1, 1), 1e-5);
+            assertEquals(2.0, array.getDouble(3), 1e-5);
+        }
+
+        assertEquals(SparseFormat.CSR, csr().getFormat());
+        assertEquals(SparseFormat.COO, coo().getFormat());
+        assertFalse(dense().isSparse());
+    }
+
+    @Test
+    public void testConversions1() {
+        assertEquals(dense(), Nd4j.toSparse(dense(), SparseFormat.CSR).toDense());
+        assertEquals(dense(), Nd4j.toSparse(dense(), SparseFormat.COO).toDense());
+        assertEquals(6, Nd4j.toSparse(dense(), SparseFormat.COO).nnz());
+
+        assertEquals(SparseFormat.COO, csr().toCOO().getFormat());
+        assertEquals(dense(), csr().toCOO().toDense());
+        assertEquals(SparseFormat.CSR, coo().toCSR().getFormat());
+        assertEquals(dense(), coo().toCSR().toDense());
+
+        assertEquals(csr(), coo());
+        assertEquals(dense().transpose(), csr().transpose());
+        assertEquals(dense().transpose(), coo().transpose());
+    }
+
+    @Test
+    public void testCooDuplicates1() {
+        ISparseNDArray array = Nd4j.createSparseCOO(new double[] {1, 2, 3}, new int[] {1, 0, 1}, new int[] {1, 0, 1},
+                        new int[] {2, 2});
+
+        assertEquals(2, array.nnz());
+        assertEquals(4.0, array.getDouble(1, 1), 1e-5);
+        assertEquals(2.0, array.getDouble(0, 0), 1e-5);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCsrValidation1() {
+        // column indices aren't sorted within first row
+        Nd4j.createSparseCSR(new double[] {1, 2}, new int[] {3, 0}, new int[] {0, 2, 2}, new int[] {2, 4});
+    }
+
+    @Test
+    public void testMmul1() {
+        INDArray other = Nd4j.linspace(1, 12, 12).reshape(4, 3);
+        INDArray exp = dense().mmul(other);
+
+        for (ISparseNDArray array : new ISparseNDArray[] {csr(), coo()}) {
+            INDArray result = array.mmul(other);
+            assertFalse(result.isSparse());
+            assertEquals(exp, result);
+
+            // f-ordered operand and preallocated result
+            INDArray result2 = Nd4j.create(new int[] {4, 3}, 'f');
+            array.mmul(other.dup('f'), result2);
+            assertEquals(exp, result2);
+        }
+    }
+
+    @Test
+    public void testMmul2() {
+        Random random = new Random(12345);
+        double[] data = new double[20 * 50];
+        for (int i = 0; i < data.length; i++)
+            data[i] = random.nextDouble() < 0.8 ? 0.0 : random.nextDouble();
+
+        INDArray dense = Nd4j.create(data, new int[] {20, 50}, 'c');
+        INDArray other = Nd4j.rand(new int[] {50, 7});
+
+        ISparseNDArray sparse = Nd4j.toSparse(dense, SparseFormat.CSR);
+        assertTrue(sparse.nnz() < 20 * 50);
+        assertTrue(dense.mmul(other).equalsWithEps(sparse.mmul(other), 1e-4));
+    }
+
+    @Test
+    public void testAdd1() {
+        INDArray target = Nd4j.ones(4, 4);
+        INDArray exp = dense().add(1.0);
+
+        for (ISparseNDArray array : new ISparseNDArray[] {csr(), coo()}) {
+            assertEquals(exp, Nd4j.ones(4, 4).addi(array));
+            assertEquals(exp, array.add(Nd4j.ones(4, 4)));
+            assertEquals(exp, array.addTo(Nd4j.ones(4, 4)));
+        }
+
+        // source array stays intact
+        INDArray result = Nd4j.create(4, 4);
+        target.addi(csr(), result);
+        assertEquals(exp, result);
+        assertEquals(Nd4j.ones(4, 4), target);
+    }
+
+    @Test
+    public void testAddToViews1() {
+        for (ISparseNDArray array : new ISparseNDArray[] {csr(), coo()}) {
+            // f-ordered target
+            INDArray fOrder = Nd4j.create(new int[] {4, 4}, 'f').assign(1.0);
+            assertEquals(dense().add(1.0), array.addTo(fOrder));
+
+            // view with non-zero offset
+            INDArray base = Nd4j.ones(6, 8);
+            INDArray view = base.get(NDArrayIndex.interval(2, 6), NDArrayIndex.interval(3, 7));
+            array.addTo(view);
+            assertEquals(dense().add(1.0), view);
+            assertEquals(6 * 8 + dense().sumNumber().doubleValue(), base.sumNumber().doubleValue(), 1e-5);
+
+            // transposed view, with non-unit column stride
+            INDArray transposed = Nd4j.ones(4, 4).transpose();
+            assertEquals(dense().add(1.0), array.addTo(transposed));
+
+            // single row target, where row stride is meaningless
+            INDArray row = Nd4j.ones(1, 4);
+            ((ISparseNDArray) array.getRow(3)).addTo(row);
+            assertEquals(dense().getRow(3).add(1.0), row);
+        }
+    }
+
+    @Test
+    public void testScalarOps1() {
+        for (ISparseNDArray array : new ISparseNDArray[] {csr(), coo()}) {
+            assertEquals(dense().mul(2.0), ((ISparseNDArray) array.mul(2.0)).toDense());
+            assertEquals(dense(), array.toDense());
+
+            array.divi(2.0);
+            assertEquals(dense().div(2.0), array.toDense());
+        }
+    }
+
+    @Test
+    public void testRowSlicing1() {
+        INDArray dense = dense();
+        for (ISparseNDArray array : new ISparseNDArray[] {csr(), coo()}) {
+            ISparseNDArray row = (ISparseNDArray) array.getRow(3);
+            assertEquals(array.getFormat(), row.getFormat());
+            assertEquals(3, row.nnz());
+            assertEquals(dense.getRow(3), row.toDense());
+
+            ISparseNDArray empty = (ISparseNDArray) array.getRow(1);
+            assertEquals(0, empty.nnz());
+            assertEquals(Nd4j.zeros(1, 4), empty.toDense());
+
+            ISparseNDArray rows = (ISparseNDArray) array.getRows(3, 0);
+            assertEquals(dense.getRows(3, 0), rows.toDense());
+
+            ISparseNDArray range = (ISparseNDArray) array.get(NDArrayIndex.interval(1, 3));
+            assertEquals(dense.get(NDArrayIndex.interval(1, 3), NDArrayIndex.all()), range.toDense());
+
+            assertEquals(dense.slice(2), ((ISparseNDArray) array.slice(2)).toDense());
+        }
+    }
+
+    @Test
+    public void testSerde1() throws Exception {
+        for (ISparseNDArray array : new ISparseNDArray[] {csr(), coo()}) {
+            ByteArrayOutputStream bos = new ByteArrayOutputStream();
+            Nd4j.write(array, new DataOutputStream(bos));
+
+            INDArray restored = Nd4j.read(new DataInputStream(new ByteArrayInputStream(bos.toByteArray())));
+            assertTrue(restored.isSparse());
+            assertEquals(array.getFormat(), ((ISparseNDArray) restored).getFormat());
+            assertEquals(array, restored);
+        }
+    }
+
+    @Test
+    public void testSerdeCompactness1() throws Exception {
+        int rows = 100;
+        int columns = 100000;
+        double[] values = new double[rows * 3];
+        int[] rowIndices = new int[rows * 3];
+        int[] columnIndices = new int[rows * 3];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 1.0;
+            rowIndices[i] = i / 3;
+            columnIndices[i] = (i * 7919) % columns;
+        }
+
+        ISparseNDArray array = Nd4j.createSparseCOO(values, rowIndices, columnIndices, new int[] {rows, columns});
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        Nd4j.write(array, new DataOutputStream(bos));
+
+        // indices take at most 3 bytes each, values 4 or 8 bytes
+        assertTrue(bos.size() < 32 + rows + array.nnz() * (3 + 8));
+
+        INDArray restored = Nd4j.read(new DataInputStream(new ByteArrayInputStream(bos.toByteArray())));
+        assertEquals(array.nnz(), ((ISparseNDArray) restored).nnz());
+        for (int i = 0; i < values.length; i++)
+            assertEquals(1.0, restored.getDouble(rowIndices[i], columnIndices[i]), 1e-5);
+    }
+
+    @Test
+    public void testDataSet1() throws Exception {
+        INDArray labels = Nd4j.create(new double[] {1, 0, 0, 1, 1, 0, 0, 1}, new int[] {4, 2}, 'c');
+        DataSet ds = new DataSet(csr(), labels);
+
+        assertEquals(4, ds.numExamples());
+        assertEquals(4, ds.numInputs());
+
+        DataSet range = (DataSet) ds.getRange(2, 4);
+        assertTrue(range.getFeatures().isSparse());
+        assertEquals(dense().getRows(2, 3), ((ISparseNDArray) range.getFeatures()).toDense());
+        assertEquals(labels.getRows(2, 3), range.getLabels());
+
+        DataSet single = ds.get(3);
+        assertEquals(dense().getRow(3), ((ISparseNDArray) single.getFeatures()).toDense());
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        ds.save(bos);
+
+        DataSet restored = new DataSet();
+        restored.load(new ByteArrayInputStream(bos.toByteArray()));
+        assertTrue(restored.getFeatures().isSparse());
+        assertEquals(csr(), restored.getFeatures());
+        assertEquals(labels, restored.getLabels());
+
+        DataSet merged = DataSet.merge(Arrays.asList((DataSet) ds.getRange(0, 2), (DataSet) ds.getRange(2, 4)));
+        assertTrue(merged.getFeatures().isSparse());
+        assertEquals(dense(), ((ISparseNDArray) merged.getFeatures()).toDense());
+        assertEquals(labels, merged.getLabels());
+    }
+
+    @Test
+    public void testDataSetDenseOnlyOperations() {
+        INDArray labels = Nd4j.create(new double[] {1, 0, 0, 1, 1, 0, 0, 1}, new int[] {4, 2}, 'c');
+        DataSet ds = new DataSet(csr(), labels.dup());
+
+        try {
+            ds.shuffle(119);
+            fail("Shuffle of sparse features is expected to fail");
+        } catch (UnsupportedOperationException e) {
+            assertTrue(e.getMessage().contains("shuffle"));
+        }
+
+        try {
+            ds.splitTestAndTrain(2, new Random(119));
+            fail("Split with shuffle of sparse features is expected to fail");
+        } catch (UnsupportedOperationException e) {
+            assertTrue(e.getMessage().contains("shuffle"));
+        }
+
+        // nothing was touched by rejected calls
+        assertEquals(labels, ds.getLabels());
+        assertEquals(csr(), ds.getFeatures());
+
+        ds.multiplyBy(2.0);
+        assertEquals(dense().mul(2.0), ((ISparseNDArray) ds.getFeatures()).toDense());
+    }
+
+    @Override
+    public char ordering() {
+        return 'c';
+    }
+}
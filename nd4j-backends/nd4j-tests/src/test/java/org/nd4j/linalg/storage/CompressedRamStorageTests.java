@@ -5,11 +5,15 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 import org.nd4j.compression.impl.Float16;
+import org.nd4j.compression.impl.Gzip;
+import org.nd4j.compression.impl.Lz4;
 import org.nd4j.compression.impl.NoOp;
 import org.nd4j.linalg.BaseNd4jTest;
 import org.nd4j.linalg.api.ndarray.INDArray;
 import org.nd4j.linalg.factory.Nd4j;
+import org.nd4j.linalg.compression.ChunkedCompressor;
 import org.nd4j.linalg.factory.Nd4jBackend;
+import org.nd4j.linalg.indexing.NDArrayIndex;
 import org.nd4j.storage.CompressedRamStorage;
 
 import static org.junit.Assert.*;
@@ -25,6 +29,9 @@ public class CompressedRamStorageTests extends BaseNd4jTest {
     private CompressedRamStorage<Integer> noopStorageInplace;
     private CompressedRamStorage<Integer> noopStorageNIP;
 
+    private CompressedRamStorage<Integer> lz4Storage;
+    private CompressedRamStorage<Integer> gzipStorage;
+
     public CompressedRamStorageTests(Nd4jBackend backend) {
         super(backend);
     }
@@ -47,6 +54,14 @@ public class CompressedRamStorageTests extends BaseNd4jTest {
             noopStorageNIP = new CompressedRamStorage.Builder<Integer>().setCompressor(new NoOp())
                             .useInplaceCompression(false).build();
         }
+
+        if (lz4Storage == null) {
+            lz4Storage = new CompressedRamStorage.Builder<Integer>().setCompressor(new Lz4())
+                            .useInplaceCompression(false).build();
+
+            gzipStorage = new CompressedRamStorage.Builder<Integer>().setCompressor(new Gzip())
+                            .useInplaceCompression(false).build();
+        }
     }
 
     @Test
@@ -109,6 +124,44 @@ public class CompressedRamStorageTests extends BaseNd4jTest {
     }
 
 
+    @Test
+    public void testLz4Storage1() throws Exception {
+        INDArray array = Nd4j.linspace(1, 100000, 100000);
+        INDArray exp = array.dup();
+
+        lz4Storage.store(1, array);
+        lz4Storage.store(2, new float[] {1f, 2f, 3f, 4f, 5f});
+
+        assertEquals(exp, lz4Storage.get(1));
+        assertEquals(Nd4j.create(new float[] {1f, 2f, 3f, 4f, 5f}), lz4Storage.get(2));
+    }
+
+    @Test
+    public void testGzipStorage1() throws Exception {
+        gzipStorage.store(1, new float[] {1f, 0f, 0f, 4f, 5f});
+        gzipStorage.store(2, new double[] {1.0, 2.0, 0.0, 4.0, 5.0});
+
+        assertEquals(Nd4j.create(new float[] {1f, 0f, 0f, 4f, 5f}), gzipStorage.get(1));
+        assertEquals(Nd4j.create(new double[] {1.0, 2.0, 0.0, 4.0, 5.0}), gzipStorage.get(2));
+    }
+
+    @Test
+    public void testChunkedStorageRows1() throws Exception {
+        CompressedRamStorage<Integer> storage = new CompressedRamStorage.Builder<Integer>()
+                        .setCompressor(new ChunkedCompressor(new Lz4(), 1000)).build();
+
+        INDArray array = Nd4j.linspace(1, 20000, 20000).reshape(200, 100);
+        storage.store(1, array);
+
+        assertEquals(array, storage.get(1));
+        assertEquals(array.get(NDArrayIndex.interval(35, 45), NDArrayIndex.all()), storage.get(1, 35, 45));
+        assertEquals(array.getRow(0), storage.get(1, 0, 1));
+        assertNull(storage.get(2, 0, 1));
+
+        noopStorageNIP.store(7, array);
+        assertEquals(array.getRow(199), noopStorageNIP.get(7, 199, 200));
+    }
+
     @Override
     public char ordering() {
         return 'c';
@@ -31,6 +31,7 @@ import org.slf4j.LoggerFactory;
 
 import java.io.*;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.DoubleBuffer;
 import java.nio.FloatBuffer;
 import java.nio.IntBuffer;
@@ -69,6 +70,14 @@ public abstract class BaseDataBuffer implements DataBuffer {
     protected transient Long trackingPoint;
 
     protected transient boolean constant = false;
+    // set for read-only file mappings, and inherited by views of them
+    protected transient boolean readOnly = false;
+
+    /**
+     * Size of the intermediate chunk used when streaming buffer contents in bulk, in bytes.
+     * Must stay a multiple of every element size.
+     */
+    protected static final int STREAM_CHUNK_SIZE = 1024 * 1024;
 
     private static Logger log = LoggerFactory.getLogger(BaseDataBuffer.class);
 
@@ -140,6 +149,9 @@ public abstract class BaseDataBuffer implements DataBuffer {
 
         pointer = underlyingBuffer.pointer();
         indexer = underlyingBuffer.indexer();
+
+        if (underlyingBuffer instanceof BaseDataBuffer)
+            this.readOnly = ((BaseDataBuffer) underlyingBuffer).isReadOnly();
     }
 
     /**
@@ -944,6 +956,8 @@ public abstract class BaseDataBuffer implements DataBuffer {
 
     @Override
     public void put(long i, float element) {
+        ensureWritable();
+
         if (dataType() == Type.DOUBLE) {
             if (indexer instanceof DoubleIndexer) {
                 ((DoubleIndexer) indexer).put(offset() + i, element);
@@ -978,6 +992,8 @@ public abstract class BaseDataBuffer implements DataBuffer {
 
     @Override
     public void put(long i, double element) {
+        ensureWritable();
+
         if (dataType() == Type.DOUBLE) {
             if (indexer instanceof DoubleIndexer) {
                 ((DoubleIndexer) indexer).put(offset() + i, element);
@@ -1015,6 +1031,8 @@ public abstract class BaseDataBuffer implements DataBuffer {
 
     @Override
     public void put(long i, int element) {
+        ensureWritable();
+
         if (dataType() == Type.DOUBLE) {
             if (indexer instanceof DoubleIndexer) {
                 ((DoubleIndexer) indexer).put(offset() + i, element);
@@ -1272,15 +1290,7 @@ public abstract class BaseDataBuffer implements DataBuffer {
 
     protected void readContent(DataInputStream s, Type currentType) {
         try {
-            if (currentType == Type.DOUBLE) {
-                for (int i = 0; i < length(); i++) {
-                    putByGlobalType(i, s.readDouble());
-                }
-            } else if (currentType == Type.FLOAT) {
-                for (int i = 0; i < length(); i++) {
-                    putByGlobalType(i, s.readFloat());
-                }
-            } else if (currentType == Type.COMPRESSED) {
+            if (currentType == Type.COMPRESSED) {
                 String compressionAlgorithm = s.readUTF();
                 long compressedLength = s.readLong();
                 long originalLength = s.readLong();
@@ -1288,26 +1298,61 @@ public abstract class BaseDataBuffer implements DataBuffer {
 
                 // special case here. We should collect bytes, wrap them into pointer, and then decompress
                 byte[] temp = new byte[(int) compressedLength];
-                for (int i = 0; i < compressedLength; i++) {
-                    temp[i] = s.readByte();
-                }
+                s.readFully(temp);
                 pointer = new BytePointer(temp);
                 type = Type.COMPRESSED;
-
-            } else if (currentType == Type.HALF) {
-                for (int i = 0; i < length(); i++) {
-                    putByGlobalType(i, toFloat(s.readShort()));
-                }
             } else {
-                for (int i = 0; i < length(); i++) {
-                    putByGlobalType(i, s.readInt());
-                }
+                readContentInBulk(s, currentType);
             }
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
     }
 
+    /**
+     * Reads length() big-endian elements of the given type chunk by chunk.
+     * If stored type matches this buffer, chunks are copied straight into the underlying memory,
+     * otherwise every element is converted via putByGlobalType()
+     *
+     * @param s the stream to read from
+     * @param currentType data type of the stored elements
+     * @throws IOException
+     */
+    protected void readContentInBulk(DataInputStream s, Type currentType) throws IOException {
+        int storedSize = sizeOf(currentType);
+        long remaining = length() * storedSize;
+        byte[] chunk = new byte[(int) Math.min(STREAM_CHUNK_SIZE, remaining)];
+        ByteBuffer target = currentType == dataType() ? contentAsNio() : null;
+
+        long position = 0;
+        while (remaining > 0) {
+            int bytes = (int) Math.min(chunk.length, remaining);
+            s.readFully(chunk, 0, bytes);
+            ByteBuffer source = ByteBuffer.wrap(chunk, 0, bytes).order(ByteOrder.BIG_ENDIAN);
+
+            if (target != null) {
+                target.limit(target.position() + bytes);
+                copyElements(source, target, currentType);
+            } else {
+                int elements = bytes / storedSize;
+                for (int e = 0; e < elements; e++) {
+                    long i = position + e;
+                    if (currentType == Type.DOUBLE)
+                        putByGlobalType(i, source.getDouble());
+                    else if (currentType == Type.FLOAT)
+                        putByGlobalType(i, source.getFloat());
+                    else if (currentType == Type.HALF)
+                        putByGlobalType(i, toFloat(source.getShort()));
+                    else
+                        putByGlobalType(i, source.getInt());
+                }
+            }
+
+            position += bytes / storedSize;
+            remaining -= bytes;
+        }
+    }
+
     @Override
     public void write(DataOutputStream out) throws IOException {
         if (length() >= Integer.MAX_VALUE)
@@ -1316,7 +1361,11 @@ public abstract class BaseDataBuffer implements DataBuffer {
         out.writeUTF(allocationMode.name());
         out.writeInt((int) length());
         out.writeUTF(dataType().name());
-        if (dataType() == Type.DOUBLE) {
+
+        ByteBuffer source = contentAsNio();
+        if (source != null) {
+            writeContentInBulk(out, source);
+        } else if (dataType() == Type.DOUBLE) {
             for (int i = 0; i < length(); i++)
                 out.writeDouble(getDouble(i));
         } else if (dataType() == Type.INT) {
@@ -1333,6 +1382,90 @@ public abstract class BaseDataBuffer implements DataBuffer {
         }
     }
 
+    /**
+     * Writes buffer contents in big-endian order, which is the layout expected by read(DataInputStream).
+     * Elements are converted from native order a chunk at a time, instead of one stream call per element
+     *
+     * @param out the stream to write to
+     * @param source native ordered view over the contents of this buffer
+     * @throws IOException
+     */
+    protected void writeContentInBulk(DataOutputStream out, ByteBuffer source) throws IOException {
+        byte[] chunk = new byte[Math.min(STREAM_CHUNK_SIZE, source.remaining())];
+        int end = source.limit();
+        while (source.position() < end) {
+            int bytes = Math.min(chunk.length, end - source.position());
+            source.limit(source.position() + bytes);
+            ByteBuffer target = ByteBuffer.wrap(chunk, 0, bytes).order(ByteOrder.BIG_ENDIAN);
+            copyElements(source, target, dataType());
+            out.write(chunk, 0, bytes);
+        }
+    }
+
+    /**
+     * This method returns a native ordered view over the memory backing elements [0, length()) of this buffer,
+     * or null if contents can't be accessed in bulk (i.e. indexer doesn't match the data type)
+     *
+     * @return
+     */
+    protected ByteBuffer contentAsNio() {
+        Type t = dataType();
+        boolean typedIndexer = (t == Type.DOUBLE && indexer instanceof DoubleIndexer)
+                        || (t == Type.FLOAT && indexer instanceof FloatIndexer)
+                        || (t == Type.INT && indexer instanceof IntIndexer)
+                        || (t == Type.HALF && indexer instanceof HalfIndexer);
+        if (pointer == null || !typedIndexer || length() == 0)
+            return null;
+
+        long start = offset() * sizeOf(t);
+        long end = start + length() * sizeOf(t);
+        if (end > Integer.MAX_VALUE)
+            return null;
+
+        ByteBuffer buffer = pointer.asByteBuffer();
+        if (buffer == null || buffer.capacity() < end)
+            return null;
+
+        buffer.order(ByteOrder.nativeOrder());
+        buffer.limit((int) end);
+        buffer.position((int) start);
+        return buffer;
+    }
+
+    /**
+     * Copies all remaining elements of the given type from source to target,
+     * letting nio handle byte order conversion between them.
+     * Both buffers are advanced by the number of bytes copied
+     */
+    protected static void copyElements(ByteBuffer source, ByteBuffer target, Type type) {
+        int bytes = source.remaining();
+        if (type == Type.DOUBLE)
+            target.asDoubleBuffer().put(source.asDoubleBuffer());
+        else if (type == Type.FLOAT)
+            target.asFloatBuffer().put(source.asFloatBuffer());
+        else if (type == Type.HALF)
+            target.asShortBuffer().put(source.asShortBuffer());
+        else
+            target.asIntBuffer().put(source.asIntBuffer());
+
+        source.position(source.position() + bytes);
+        target.position(target.position() + bytes);
+    }
+
+    /**
+     * Size of a single element of the given type, in bytes
+     */
+    protected static int sizeOf(Type type) {
+        switch (type) {
+            case DOUBLE:
+                return 8;
+            case HALF:
+                return 2;
+            default:
+                return 4;
+        }
+    }
+
     public float toFloat(int hbits) {
         int mant = hbits & 0x03ff; // 10 bits mantissa
         int exp = hbits & 0x7c00; // 5 bits exponent
@@ -1421,6 +1554,21 @@ public abstract class BaseDataBuffer implements DataBuffer {
         this.trackingPoint = trackingPoint;
     }
 
+    /**
+     * This method returns whether this DataBuffer points to read-only memory, i.e. read-only file mapping.
+     * All java-side modifications of such buffer throw UnsupportedOperationException
+     *
+     * @return
+     */
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    protected void ensureWritable() {
+        if (readOnly)
+            throw new UnsupportedOperationException("This DataBuffer is mapped as read-only");
+    }
+
     /**
      * This method returns whether this DataBuffer is constant, or not.
      * Constant buffer means that it modified only during creation time, and then it stays the same for all lifecycle. I.e. used in shape info databuffers.
@@ -0,0 +1,153 @@
+package org.nd4j.linalg.api.buffer;
+
+import org.bytedeco.javacpp.DoublePointer;
+import org.bytedeco.javacpp.FloatPointer;
+import org.bytedeco.javacpp.IntPointer;
+import org.bytedeco.javacpp.indexer.DoubleIndexer;
+import org.bytedeco.javacpp.indexer.FloatIndexer;
+import org.bytedeco.javacpp.indexer.IntIndexer;
+import org.nd4j.linalg.api.complex.IComplexDouble;
+import org.nd4j.linalg.api.complex.IComplexFloat;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * DataBuffer backed by a direct ByteBuffer that isn't owned by nd4j, i.e. a memory-mapped file region.
+ *
+ * Memory isn't copied: pointer and indexer are built on top of the ByteBuffer address,
+ * so pages are faulted in lazily by the OS, and processes mapping the same file share the page cache.
+ * Reference to the ByteBuffer is kept for the lifetime of this buffer (and all views derived from it),
+ * so mapping isn't released while it's still in use.
+ *
+ * PLEASE NOTE: when created as read-only, java-side modifications of this buffer and its views
+ * throw UnsupportedOperationException, and ops, BLAS calls and other native routines writing into it are rejected
+ * before they reach native code. Use copy-on-write (MapMode.PRIVATE) mapping if arrays are going to be modified:
+ * changes stay private to the process and never reach the file.
+ *
+ * Half-precision buffers can't be mapped.
+ */
+public class MappedDataBuffer extends BaseDataBuffer {
+    protected transient ByteBuffer mapped;
+
+    /**
+     *
+     * @param buffer direct ByteBuffer holding elements in native byte order
+     * @param type data type of the elements
+     * @param length number of elements
+     * @param readOnly if true, java-side modifications will be rejected
+     */
+    public MappedDataBuffer(ByteBuffer buffer, Type type, long length, boolean readOnly) {
+        if (length < 1)
+            throw new IllegalArgumentException("Length must be >= 1");
+
+        if (!buffer.isDirect())
+            throw new IllegalArgumentException("Only direct buffers can be mapped");
+
+        this.mapped = buffer.order(ByteOrder.nativeOrder());
+        this.type = type;
+        this.length = length;
+        this.underlyingLength = length;
+        this.allocationMode = AllocationMode.JAVACPP;
+        this.wrappedDataBuffer = this;
+        this.readOnly = readOnly;
+
+        switch (type) {
+            case DOUBLE:
+                elementSize = 8;
+                pointer = new DoublePointer(mapped.asDoubleBuffer());
+                indexer = DoubleIndexer.create((DoublePointer) pointer);
+                break;
+            case FLOAT:
+                elementSize = 4;
+                pointer = new FloatPointer(mapped.asFloatBuffer());
+                indexer = FloatIndexer.create((FloatPointer) pointer);
+                break;
+            case INT:
+                elementSize = 4;
+                pointer = new IntPointer(mapped.asIntBuffer());
+                indexer = IntIndexer.create((IntPointer) pointer);
+                break;
+            case HALF:
+                throw new UnsupportedOperationException("Half-precision buffers can't be mapped");
+            default:
+                throw new IllegalArgumentException("Unsupported data type: [" + type + "]");
+        }
+
+        if (mapped.capacity() < length * elementSize)
+            throw new IllegalArgumentException("Buffer of " + mapped.capacity() + " bytes can't hold " + length
+                            + " elements of type " + type);
+
+        if (readOnly)
+            setConstant(true);
+    }
+
+    /**
+     * Type and size are defined by the mapped contents, see constructor
+     */
+    @Override
+    protected void initTypeAndSize() {
+        // no-op
+    }
+
+    @Override
+    public IComplexFloat getComplexFloat(long i) {
+        return null;
+    }
+
+    @Override
+    public IComplexDouble getComplexDouble(long i) {
+        return null;
+    }
+
+    /**
+     * Buffers created from this one (i.e. with dup()) aren't mapped, they live in regular memory
+     */
+    @Override
+    protected DataBuffer create(long length) {
+        switch (type) {
+            case DOUBLE:
+                return new DoubleBuffer(length);
+            case FLOAT:
+                return new FloatBuffer(length);
+            default:
+                return new IntBuffer(length);
+        }
+    }
+
+    @Override
+    public DataBuffer create(double[] data) {
+        switch (type) {
+            case DOUBLE:
+                return new DoubleBuffer(data);
+            case FLOAT:
+                return new FloatBuffer(data);
+            default:
+                return new IntBuffer(data);
+        }
+    }
+
+    @Override
+    public DataBuffer create(float[] data) {
+        switch (type) {
+            case DOUBLE:
+                return new DoubleBuffer(data);
+            case FLOAT:
+                return new FloatBuffer(data);
+            default:
+                return new IntBuffer(data);
+        }
+    }
+
+    @Override
+    public DataBuffer create(int[] data) {
+        switch (type) {
+            case DOUBLE:
+                return new DoubleBuffer(data);
+            case FLOAT:
+                return new FloatBuffer(data);
+            default:
+                return new IntBuffer(data);
+        }
+    }
+}
@@ -519,6 +519,19 @@ public interface DataBufferFactory {
      */
     DataBuffer create(Pointer pointer, DataBuffer.Type type, long length, Indexer indexer);
 
+    /**
+     * Create a data buffer on top of the given
+     * direct byte buffer (i.e. memory-mapped file region).
+     * Backends able to address host memory directly
+     * won't copy the contents.
+     * @param buffer the direct buffer holding elements in native byte order
+     * @param type the type of buffer
+     * @param length the length of the buffer
+     * @param readOnly whether modifications should be rejected
+     * @return the data buffer
+     */
+    DataBuffer createMapped(ByteBuffer buffer, DataBuffer.Type type, long length, boolean readOnly);
+
     /**
      * Creates half-precision data buffer
      *
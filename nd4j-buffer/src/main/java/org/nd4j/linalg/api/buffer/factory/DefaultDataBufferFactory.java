@@ -25,6 +25,7 @@ import org.nd4j.linalg.api.buffer.DataBuffer;
 import org.nd4j.linalg.api.buffer.DoubleBuffer;
 import org.nd4j.linalg.api.buffer.FloatBuffer;
 import org.nd4j.linalg.api.buffer.IntBuffer;
+import org.nd4j.linalg.api.buffer.MappedDataBuffer;
 import org.nd4j.linalg.util.ArrayUtil;
 
 import java.nio.ByteBuffer;
@@ -372,6 +373,11 @@ public class DefaultDataBufferFactory implements DataBufferFactory {
         throw new IllegalArgumentException("Invalid type " + type);
     }
 
+    @Override
+    public DataBuffer createMapped(ByteBuffer buffer, DataBuffer.Type type, long length, boolean readOnly) {
+        return new MappedDataBuffer(buffer, type, length, readOnly);
+    }
+
 
 
     @Override
@@ -0,0 +1,112 @@
+package org.nd4j.bytebuddy.loop;
+
+/**
+ * Everything a generated {@link StridedKernel} is specialised for:
+ * the function class and method, the number of inputs,
+ * the element type of the buffers, the rank of the loop nest and the order it's walked in.
+ *
+ * The function method must be public and take arity doubles (floats are widened) returning a double,
+ * i.e. double op(double) or double op(double, double).
+ */
+public class KernelSignature {
+
+    public enum DataType {
+        DOUBLE, FLOAT
+    }
+
+    private final Class<?> functionClass;
+    private final String methodName;
+    private final int arity;
+    private final DataType dataType;
+    private final int rank;
+    private final char ordering;
+
+    /**
+     *
+     * @param functionClass the class the function method is invoked on
+     * @param methodName the name of the function method
+     * @param arity 1 for z = f(x), 2 for z = f(x, y)
+     * @param dataType element type of all three buffers
+     * @param rank the number of dimensions to iterate over
+     * @param ordering c (last dimension changes fastest) or f (first dimension changes fastest)
+     */
+    public KernelSignature(Class<?> functionClass, String methodName, int arity, DataType dataType, int rank,
+                    char ordering) {
+        if (arity != 1 && arity != 2)
+            throw new IllegalArgumentException("Arity must be 1 or 2, got " + arity);
+        if (rank < 1)
+            throw new IllegalArgumentException("Rank must be >= 1, got " + rank);
+        if (ordering != 'c' && ordering != 'f')
+            throw new IllegalArgumentException("Illegal ordering " + ordering);
+
+        this.functionClass = functionClass;
+        this.methodName = methodName;
+        this.arity = arity;
+        this.dataType = dataType;
+        this.rank = rank;
+        this.ordering = ordering;
+    }
+
+    public Class<?> getFunctionClass() {
+        return functionClass;
+    }
+
+    public String getMethodName() {
+        return methodName;
+    }
+
+    public int getArity() {
+        return arity;
+    }
+
+    public DataType getDataType() {
+        return dataType;
+    }
+
+    public int getRank() {
+        return rank;
+    }
+
+    public char getOrdering() {
+        return ordering;
+    }
+
+    /**
+     * Dimension iterated by given loop level, 0 being the outermost loop
+     * @param level the loop level
+     * @return the dimension
+     */
+    public int dimension(int level) {
+        return ordering == 'c' ? level : rank - 1 - level;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof KernelSignature))
+            return false;
+
+        KernelSignature that = (KernelSignature) o;
+        return arity == that.arity && rank == that.rank && ordering == that.ordering
+                        && functionClass.equals(that.functionClass) && methodName.equals(that.methodName)
+                        && dataType == that.dataType;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = functionClass.hashCode();
+        result = 31 * result + methodName.hashCode();
+        result = 31 * result + arity;
+        result = 31 * result + dataType.hashCode();
+        result = 31 * result + rank;
+        result = 31 * result + ordering;
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return functionClass.getName() + "." + methodName + "/" + arity + " " + dataType + " rank " + rank + " "
+                        + ordering;
+    }
+}
@@ -0,0 +1,33 @@
+package org.nd4j.bytebuddy.loop;
+
+import java.nio.Buffer;
+
+/**
+ * Applies an element function to every element of strided buffers:
+ * z[zp] = function(x[xp]) or z[zp] = function(x[xp], y[yp]),
+ * where positions are walked over the given shape using each buffer's own offset and strides.
+ *
+ * Implementations are generated by {@link StridedKernelGenerator}, one class per {@link KernelSignature}:
+ * the loop nest is unrolled for the signature rank, and the function is invoked on its concrete class.
+ *
+ * @see StridedKernelGenerator#getInstance(KernelSignature)
+ */
+public interface StridedKernel {
+
+    /**
+     * Run the kernel
+     * @param function instance of the signature function class
+     * @param x the input buffer: DoubleBuffer or FloatBuffer, depending on signature data type
+     * @param xOffset offset of the first element of x
+     * @param xStride strides of x, one per dimension
+     * @param y the second input buffer, ignored (and may be null) for unary kernels
+     * @param yOffset offset of the first element of y
+     * @param yStride strides of y, ignored (and may be null) for unary kernels
+     * @param z the output buffer
+     * @param zOffset offset of the first element of z
+     * @param zStride strides of z
+     * @param shape the shape to iterate over, rank elements
+     */
+    void exec(Object function, Buffer x, int xOffset, int[] xStride, Buffer y, int yOffset, int[] yStride, Buffer z,
+                    int zOffset, int[] zStride, int[] shape);
+}
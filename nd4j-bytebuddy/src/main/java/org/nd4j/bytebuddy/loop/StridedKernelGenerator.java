@@ -0,0 +1,106 @@
+package org.nd4j.bytebuddy.loop;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.ClassFileVersion;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.dynamic.scaffold.InstrumentedType;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
+import net.bytebuddy.matcher.ElementMatchers;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Generates and caches {@link StridedKernel} classes, one per {@link KernelSignature}.
+ *
+ * Number of generated classes is bounded by the number of distinct (function class, arity, data type, rank, order)
+ * combinations actually used, so kernels are kept for the lifetime of the class loader.
+ */
+public class StridedKernelGenerator {
+    private static final ConcurrentMap<KernelSignature, StridedKernel> kernels = new ConcurrentHashMap<>();
+
+    private StridedKernelGenerator() {}
+
+    /**
+     * Get the kernel for given signature, generating it on first use
+     * @param signature the signature to get the kernel for
+     * @return the kernel instance, shared by all callers
+     */
+    public static StridedKernel getInstance(KernelSignature signature) {
+        StridedKernel kernel = kernels.get(signature);
+        if (kernel != null)
+            return kernel;
+
+        kernel = generate(signature);
+        StridedKernel existing = kernels.putIfAbsent(signature, kernel);
+        return existing != null ? existing : kernel;
+    }
+
+    /**
+     * Number of kernel classes generated so far
+     * @return
+     */
+    public static int size() {
+        return kernels.size();
+    }
+
+    /**
+     * Get the kernel bytecode for given signature
+     * @param signature the signature to generate the bytecode for
+     * @return the implementation of {@link StridedKernel#exec}
+     */
+    public static Implementation getImplementation(final KernelSignature signature) {
+        validate(signature);
+        return new Implementation() {
+            @Override
+            public InstrumentedType prepare(InstrumentedType instrumentedType) {
+                return instrumentedType;
+            }
+
+            @Override
+            public ByteCodeAppender appender(Target implementationTarget) {
+                return new StridedLoopByteCodeAppender(signature);
+            }
+        };
+    }
+
+    private static StridedKernel generate(KernelSignature signature) {
+        DynamicType.Unloaded<StridedKernel> unloaded = new ByteBuddy(ClassFileVersion.JAVA_V6)
+                        .subclass(StridedKernel.class).method(ElementMatchers.isDeclaredBy(StridedKernel.class))
+                        .intercept(getImplementation(signature)).make();
+
+        ClassLoader classLoader = signature.getFunctionClass().getClassLoader();
+        if (classLoader == null)
+            classLoader = StridedKernel.class.getClassLoader();
+
+        Class<? extends StridedKernel> type =
+                        unloaded.load(classLoader, ClassLoadingStrategy.Default.WRAPPER).getLoaded();
+        try {
+            return type.newInstance();
+        } catch (Exception e) {
+            throw new IllegalStateException("Unable to create kernel for " + signature, e);
+        }
+    }
+
+    private static void validate(KernelSignature signature) {
+        Class<?> functionClass = signature.getFunctionClass();
+        if (!Modifier.isPublic(functionClass.getModifiers()))
+            throw new IllegalArgumentException("Function class must be public: " + functionClass.getName());
+
+        Class<?>[] arguments = signature.getArity() == 1 ? new Class<?>[] {double.class}
+                        : new Class<?>[] {double.class, double.class};
+        Method method;
+        try {
+            method = functionClass.getMethod(signature.getMethodName(), arguments);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException("No public method matching " + signature, e);
+        }
+
+        if (method.getReturnType() != double.class || Modifier.isStatic(method.getModifiers()))
+            throw new IllegalArgumentException("Method must be an instance method returning double: " + method);
+    }
+}
@@ -0,0 +1,187 @@
+package org.nd4j.bytebuddy.loop;
+
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
+import net.bytebuddy.jar.asm.Label;
+import net.bytebuddy.jar.asm.MethodVisitor;
+import net.bytebuddy.jar.asm.Opcodes;
+import net.bytebuddy.jar.asm.Type;
+
+/**
+ * Emits the body of {@link StridedKernel#exec} for a given {@link KernelSignature}.
+ *
+ * For rank 2, c order and arity 1 the generated code is equivalent to:
+ * <pre>
+ * Fn fn = (Fn) function; DoubleBuffer xb = (DoubleBuffer) x, zb = (DoubleBuffer) z;
+ * int n0 = shape[0], xs0 = xStride[0], zs0 = zStride[0];
+ * int n1 = shape[1], xs1 = xStride[1], zs1 = zStride[1];
+ * for (int i0 = 0, xp0 = xOffset, zp0 = zOffset; i0 < n0; i0++, xp0 += xs0, zp0 += zs0)
+ *     for (int i1 = 0, xp1 = xp0, zp1 = zp0; i1 < n1; i1++, xp1 += xs1, zp1 += zs1)
+ *         zb.put(zp1, fn.op(xb.get(xp1)));
+ * </pre>
+ * i.e. no coordinate arrays, no per element offset computation and a single call site per kernel class.
+ *
+ * Classes are emitted with java 6 class file version, so no stack map frames are needed for the loops.
+ */
+public class StridedLoopByteCodeAppender implements ByteCodeAppender, Opcodes {
+    //arguments of exec()
+    private static final int FUNCTION = 1;
+    private static final int X = 2;
+    private static final int X_OFFSET = 3;
+    private static final int X_STRIDE = 4;
+    private static final int Y = 5;
+    private static final int Y_OFFSET = 6;
+    private static final int Y_STRIDE = 7;
+    private static final int Z = 8;
+    private static final int Z_OFFSET = 9;
+    private static final int Z_STRIDE = 10;
+    private static final int SHAPE = 11;
+
+    //casted arguments
+    private static final int FUNCTION_CAST = 12;
+    private static final int X_BUFFER = 13;
+    private static final int Y_BUFFER = 14;
+    private static final int Z_BUFFER = 15;
+
+    //each loop level keeps 8 ints starting at LEVELS + 8 * level
+    private static final int LEVELS = 16;
+    private static final int LEVEL_SIZE = 8;
+    private static final int LENGTH = 0;
+    private static final int X_STEP = 1;
+    private static final int Y_STEP = 2;
+    private static final int Z_STEP = 3;
+    private static final int COUNTER = 4;
+    private static final int X_POSITION = 5;
+    private static final int Y_POSITION = 6;
+    private static final int Z_POSITION = 7;
+
+    private final KernelSignature signature;
+    private final String functionType;
+    private final boolean functionInterface;
+    private final String bufferType;
+    private final boolean doubles;
+    private final boolean binary;
+
+    public StridedLoopByteCodeAppender(KernelSignature signature) {
+        this.signature = signature;
+        this.functionType = Type.getInternalName(signature.getFunctionClass());
+        this.functionInterface = signature.getFunctionClass().isInterface();
+        this.doubles = signature.getDataType() == KernelSignature.DataType.DOUBLE;
+        this.bufferType = doubles ? "java/nio/DoubleBuffer" : "java/nio/FloatBuffer";
+        this.binary = signature.getArity() == 2;
+    }
+
+    private static int local(int level, int variable) {
+        return LEVELS + LEVEL_SIZE * level + variable;
+    }
+
+    @Override
+    public Size apply(MethodVisitor methodVisitor, Implementation.Context implementationContext,
+                    MethodDescription instrumentedMethod) {
+        methodVisitor.visitVarInsn(ALOAD, FUNCTION);
+        methodVisitor.visitTypeInsn(CHECKCAST, functionType);
+        methodVisitor.visitVarInsn(ASTORE, FUNCTION_CAST);
+        castBuffer(methodVisitor, X, X_BUFFER);
+        castBuffer(methodVisitor, Z, Z_BUFFER);
+        if (binary)
+            castBuffer(methodVisitor, Y, Y_BUFFER);
+
+        //hoist shape and strides out of the loop nest
+        for (int level = 0; level < signature.getRank(); level++) {
+            int dimension = signature.dimension(level);
+            loadElement(methodVisitor, SHAPE, dimension, local(level, LENGTH));
+            loadElement(methodVisitor, X_STRIDE, dimension, local(level, X_STEP));
+            loadElement(methodVisitor, Z_STRIDE, dimension, local(level, Z_STEP));
+            if (binary)
+                loadElement(methodVisitor, Y_STRIDE, dimension, local(level, Y_STEP));
+        }
+
+        loop(methodVisitor, 0);
+        methodVisitor.visitInsn(RETURN);
+
+        return new Size(8, LEVELS + LEVEL_SIZE * signature.getRank());
+    }
+
+    private void castBuffer(MethodVisitor methodVisitor, int argument, int local) {
+        methodVisitor.visitVarInsn(ALOAD, argument);
+        methodVisitor.visitTypeInsn(CHECKCAST, bufferType);
+        methodVisitor.visitVarInsn(ASTORE, local);
+    }
+
+    private void loadElement(MethodVisitor methodVisitor, int array, int index, int local) {
+        methodVisitor.visitVarInsn(ALOAD, array);
+        methodVisitor.visitLdcInsn(index);
+        methodVisitor.visitInsn(IALOAD);
+        methodVisitor.visitVarInsn(ISTORE, local);
+    }
+
+    private void copyInt(MethodVisitor methodVisitor, int from, int to) {
+        methodVisitor.visitVarInsn(ILOAD, from);
+        methodVisitor.visitVarInsn(ISTORE, to);
+    }
+
+    private void step(MethodVisitor methodVisitor, int position, int step) {
+        methodVisitor.visitVarInsn(ILOAD, position);
+        methodVisitor.visitVarInsn(ILOAD, step);
+        methodVisitor.visitInsn(IADD);
+        methodVisitor.visitVarInsn(ISTORE, position);
+    }
+
+    private void loop(MethodVisitor methodVisitor, int level) {
+        //positions start where the enclosing loop currently is
+        copyInt(methodVisitor, level == 0 ? X_OFFSET : local(level - 1, X_POSITION), local(level, X_POSITION));
+        copyInt(methodVisitor, level == 0 ? Z_OFFSET : local(level - 1, Z_POSITION), local(level, Z_POSITION));
+        if (binary)
+            copyInt(methodVisitor, level == 0 ? Y_OFFSET : local(level - 1, Y_POSITION), local(level, Y_POSITION));
+
+        methodVisitor.visitInsn(ICONST_0);
+        methodVisitor.visitVarInsn(ISTORE, local(level, COUNTER));
+
+        Label condition = new Label();
+        Label end = new Label();
+        methodVisitor.visitLabel(condition);
+        methodVisitor.visitVarInsn(ILOAD, local(level, COUNTER));
+        methodVisitor.visitVarInsn(ILOAD, local(level, LENGTH));
+        methodVisitor.visitJumpInsn(IF_ICMPGE, end);
+
+        if (level == signature.getRank() - 1)
+            body(methodVisitor, level);
+        else
+            loop(methodVisitor, level + 1);
+
+        step(methodVisitor, local(level, X_POSITION), local(level, X_STEP));
+        step(methodVisitor, local(level, Z_POSITION), local(level, Z_STEP));
+        if (binary)
+            step(methodVisitor, local(level, Y_POSITION), local(level, Y_STEP));
+        methodVisitor.visitIincInsn(local(level, COUNTER), 1);
+        methodVisitor.visitJumpInsn(GOTO, condition);
+        methodVisitor.visitLabel(end);
+    }
+
+    private void body(MethodVisitor methodVisitor, int level) {
+        methodVisitor.visitVarInsn(ALOAD, Z_BUFFER);
+        methodVisitor.visitVarInsn(ILOAD, local(level, Z_POSITION));
+        methodVisitor.visitVarInsn(ALOAD, FUNCTION_CAST);
+        get(methodVisitor, X_BUFFER, local(level, X_POSITION));
+        if (binary)
+            get(methodVisitor, Y_BUFFER, local(level, Y_POSITION));
+
+        methodVisitor.visitMethodInsn(functionInterface ? INVOKEINTERFACE : INVOKEVIRTUAL, functionType,
+                        signature.getMethodName(), binary ? "(DD)D" : "(D)D", functionInterface);
+        if (!doubles)
+            methodVisitor.visitInsn(D2F);
+
+        methodVisitor.visitMethodInsn(INVOKEVIRTUAL, bufferType, "put",
+                        doubles ? "(ID)Ljava/nio/DoubleBuffer;" : "(IF)Ljava/nio/FloatBuffer;", false);
+        methodVisitor.visitInsn(POP);
+    }
+
+    private void get(MethodVisitor methodVisitor, int buffer, int position) {
+        methodVisitor.visitVarInsn(ALOAD, buffer);
+        methodVisitor.visitVarInsn(ILOAD, position);
+        methodVisitor.visitMethodInsn(INVOKEVIRTUAL, bufferType, "get", doubles ? "(I)D" : "(I)F", false);
+        if (!doubles)
+            methodVisitor.visitInsn(F2D);
+    }
+}
@@ -0,0 +1,106 @@
+package org.nd4j.bytebuddy.loop;
+
+import org.junit.Test;
+
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class StridedKernelGeneratorTest {
+
+    public static class Square {
+        public double op(double origin) {
+            return origin * origin;
+        }
+    }
+
+    public interface Binary {
+        double apply(double origin, double other);
+    }
+
+    public static class Subtract implements Binary {
+        @Override
+        public double apply(double origin, double other) {
+            return origin - other;
+        }
+    }
+
+    @Test
+    public void testUnaryStrided() {
+        //x is a transposed 3x4 c matrix starting at offset 2, z is a 4x3 c matrix
+        DoubleBuffer x = DoubleBuffer.allocate(14);
+        for (int i = 0; i < 14; i++)
+            x.put(i, i);
+        DoubleBuffer z = DoubleBuffer.allocate(12);
+
+        StridedKernel kernel = StridedKernelGenerator.getInstance(
+                        new KernelSignature(Square.class, "op", 1, KernelSignature.DataType.DOUBLE, 2, 'c'));
+        kernel.exec(new Square(), x, 2, new int[] {1, 4}, null, 0, null, z, 0, new int[] {3, 1}, new int[] {4, 3});
+
+        for (int i = 0; i < 4; i++)
+            for (int j = 0; j < 3; j++) {
+                double value = 2 + i + 4 * j;
+                assertEquals(value * value, z.get(i * 3 + j), 1e-10);
+            }
+    }
+
+    @Test
+    public void testBinaryFloatFOrder() {
+        int[] shape = {2, 3, 4};
+        int[] fStride = {1, 2, 6};
+        int[] cStride = {12, 4, 1};
+        FloatBuffer x = FloatBuffer.allocate(24);
+        FloatBuffer y = FloatBuffer.allocate(25);
+        FloatBuffer z = FloatBuffer.allocate(24);
+        for (int i = 0; i < 24; i++) {
+            x.put(i, 3 * i);
+            y.put(i + 1, i);
+        }
+
+        StridedKernel kernel = StridedKernelGenerator.getInstance(
+                        new KernelSignature(Subtract.class, "apply", 2, KernelSignature.DataType.FLOAT, 3, 'f'));
+        kernel.exec(new Subtract(), x, 0, cStride, y, 1, fStride, z, 0, fStride, shape);
+
+        for (int i = 0; i < 2; i++)
+            for (int j = 0; j < 3; j++)
+                for (int k = 0; k < 4; k++) {
+                    int c = i * 12 + j * 4 + k;
+                    int f = i + j * 2 + k * 6;
+                    assertEquals(3 * c - f, z.get(f), 1e-5);
+                }
+    }
+
+    @Test
+    public void testInterfaceFunction() {
+        DoubleBuffer x = DoubleBuffer.wrap(new double[] {5, 6, 7});
+        DoubleBuffer y = DoubleBuffer.wrap(new double[] {1, 2, 3});
+        DoubleBuffer z = DoubleBuffer.allocate(3);
+
+        StridedKernel kernel = StridedKernelGenerator.getInstance(
+                        new KernelSignature(Binary.class, "apply", 2, KernelSignature.DataType.DOUBLE, 1, 'c'));
+        kernel.exec(new Subtract(), x, 0, new int[] {1}, y, 0, new int[] {1}, z, 0, new int[] {1}, new int[] {3});
+
+        assertEquals(4.0, z.get(0), 1e-10);
+        assertEquals(4.0, z.get(1), 1e-10);
+        assertEquals(4.0, z.get(2), 1e-10);
+    }
+
+    @Test
+    public void testCaching() {
+        KernelSignature signature = new KernelSignature(Square.class, "op", 1, KernelSignature.DataType.FLOAT, 4, 'f');
+        StridedKernel kernel = StridedKernelGenerator.getInstance(signature);
+        int size = StridedKernelGenerator.size();
+
+        assertSame(kernel, StridedKernelGenerator.getInstance(
+                        new KernelSignature(Square.class, "op", 1, KernelSignature.DataType.FLOAT, 4, 'f')));
+        assertEquals(size, StridedKernelGenerator.size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMissingMethod() {
+        StridedKernelGenerator.getInstance(
+                        new KernelSignature(Square.class, "op", 2, KernelSignature.DataType.DOUBLE, 1, 'c'));
+    }
+}
@@ -11,6 +11,7 @@ import org.nd4j.parameterserver.distributed.enums.NodeRole;
 import org.nd4j.parameterserver.distributed.logic.*;
 import org.nd4j.parameterserver.distributed.logic.completion.Clipboard;
 import org.nd4j.parameterserver.distributed.logic.sequence.BasicSequenceProvider;
+import org.nd4j.parameterserver.distributed.logic.storage.PersistentWordVectorStorage;
 import org.nd4j.parameterserver.distributed.logic.storage.WordVectorStorage;
 import org.nd4j.parameterserver.distributed.messages.*;
 import org.nd4j.parameterserver.distributed.messages.requests.*;
@@ -20,9 +21,12 @@ import org.nd4j.parameterserver.distributed.transport.MulticastTransport;
 import org.nd4j.parameterserver.distributed.transport.RoutedTransport;
 import org.nd4j.parameterserver.distributed.transport.Transport;
 
+import java.io.File;
+import java.io.IOException;
 import java.net.InterfaceAddress;
 import java.net.NetworkInterface;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -236,6 +240,16 @@ public class VoidParameterServer {
                 }
 
 
+                // shards with persistent storage restore their state from last snapshot, if any
+                if (nodeRole == NodeRole.SHARD && voidConfiguration.getStoragePath() != null) {
+                    File directory = new File(voidConfiguration.getStoragePath(), "shard_" + shardIndex);
+                    try {
+                        storage = new PersistentWordVectorStorage(directory, voidConfiguration.getSnapshotInterval());
+                    } catch (IOException e) {
+                        throw new RuntimeException(e);
+                    }
+                }
+
                 // TODO: we need real ip only if this is a shard *FOR NOW*, but later we'll need it for client as well
 
                 // we launch message processing if we're not in debug mode
@@ -346,6 +360,10 @@ public class VoidParameterServer {
 
             executor.shutdown();
 
+            // persistent storage takes its final snapshot here
+            if (storage instanceof PersistentWordVectorStorage)
+                storage.shutdown();
+
         }
     }
 
@@ -472,4 +490,19 @@ public class VoidParameterServer {
 
         return response.getPayload();
     }
+
+    /**
+     * This method returns future of INDArray matching requested storageId value
+     *
+     * PLEASE NOTE: This method IS NOT blocking, so multiple vectors can be requested at once
+     *
+     * @param key
+     * @param rowIdx
+     * @return
+     */
+    public CompletableFuture<INDArray> getVectorAsync(@NonNull Integer key, int rowIdx) {
+        VectorRequestMessage message = new VectorRequestMessage(key, rowIdx);
+
+        return transport.sendMessageAsync(message).thenApply(MeaningfulMessage::getPayload);
+    }
 }
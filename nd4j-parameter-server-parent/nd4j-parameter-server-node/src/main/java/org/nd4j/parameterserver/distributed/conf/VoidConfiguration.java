@@ -48,6 +48,11 @@ public class VoidConfiguration implements Serializable {
     private long responseTimeframe;
     private long responseTimeout;
 
+    // if set, Shards keep snapshots of their storage within this directory, and restore storage from them on restart
+    private String storagePath;
+    // interval between snapshots, in milliseconds
+    private long snapshotInterval;
+
     public void setStreamId(int streamId) {
         if (streamId < 1)
             throw new ND4JIllegalStateException("You can't use streamId 0, please specify other one");
@@ -98,5 +103,6 @@ public class VoidConfiguration implements Serializable {
         private long retransmitTimeout = 1000;
         private long responseTimeframe = 500;
         private long responseTimeout = 30000;
+        private long snapshotInterval = 60000;
     }
 }
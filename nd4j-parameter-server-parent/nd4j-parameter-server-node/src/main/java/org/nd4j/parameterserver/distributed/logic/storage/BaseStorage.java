@@ -26,6 +26,10 @@ public abstract class BaseStorage implements Storage {
         storage.put(key, array);
     }
 
+    protected INDArray removeArray(@NonNull Integer key) {
+        return storage.remove(key);
+    }
+
     @Override
     public boolean arrayExists(@NonNull Integer key) {
         return storage.containsKey(key);
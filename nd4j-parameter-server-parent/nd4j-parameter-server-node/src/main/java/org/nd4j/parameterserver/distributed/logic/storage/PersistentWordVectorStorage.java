@@ -0,0 +1,507 @@
+package org.nd4j.parameterserver.distributed.logic.storage;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.bytedeco.javacpp.BytePointer;
+import org.nd4j.linalg.api.concurrency.AffinityManager;
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.api.ops.executioner.GridExecutioner;
+import org.nd4j.linalg.factory.Nd4j;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+
+/**
+ * WordVectorStorage, which periodically takes snapshots of its arrays to local disk, and restores them on startup.
+ *
+ * Each array is stored as a chain of files: full copy in binary format (see {@link org.nd4j.serde.binary.BinarySerde}),
+ * followed by delta files. Snapshots are incremental: checksums are kept for every chunk of array memory, and only
+ * chunks changed since previous snapshot are written, into a new delta file. Once deltas outweigh the array itself,
+ * or arrays are replaced via {@link #setArray(Integer, INDArray)}, arrays are written in full.
+ *
+ * Files are never modified once written: each snapshot writes new files only, syncs them to disk, and then
+ * atomically replaces manifest listing file chains of all arrays. So crash during snapshot leaves previous snapshot
+ * intact. Files no longer referenced by manifest are removed after that.
+ *
+ * Snapshots are taken in background thread, without stopping training. Just like training itself (which is Hogwild-style),
+ * snapshots aren't point-in-time consistent: updates applied during snapshot may or may not get into it.
+ */
+@Slf4j
+public class PersistentWordVectorStorage extends WordVectorStorage {
+    public static final String MANIFEST = "snapshot.manifest";
+    private static final int MAGIC = 0x4E44534E; // "NDSN"
+    private static final int VERSION = 1;
+    private static final String PREFIX = "array_";
+
+    // array memory is compared to previous snapshot in chunks of this size
+    private static final int CHUNK_BYTES = 1024 * 1024;
+    // longer chains are replaced with full copy
+    private static final int MAX_DELTAS = 16;
+
+    private final File directory;
+    private final Set<Integer> keys = ConcurrentHashMap.newKeySet();
+    private final Map<Integer, ArraySnapshot> snapshots = new ConcurrentHashMap<>();
+    private final Object snapshotLock = new Object();
+    private final AtomicLong generation = new AtomicLong(0);
+    private final AtomicLong bytesWritten = new AtomicLong(0);
+    // generation used for file names by the last snapshot attempt, guarded by snapshotLock
+    private long lastAttempt;
+    private volatile boolean restored;
+
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Creates storage without background snapshots, they should be triggered via {@link #snapshot()}
+     *
+     * @param directory directory holding snapshot files
+     */
+    public PersistentWordVectorStorage(@NonNull File directory) throws IOException {
+        this(directory, 0);
+    }
+
+    /**
+     * @param directory directory holding snapshot files. If it contains snapshot, arrays are restored from it
+     * @param snapshotInterval interval between background snapshots, in milliseconds. 0 disables background snapshots
+     */
+    public PersistentWordVectorStorage(@NonNull File directory, long snapshotInterval) throws IOException {
+        if (!directory.exists() && !directory.mkdirs())
+            throw new IOException("Can't create snapshot directory [" + directory + "]");
+
+        this.directory = directory;
+        this.restored = restore();
+
+        if (snapshotInterval > 0) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "PersistentWordVectorStorage snapshot thread");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+            scheduler.scheduleWithFixedDelay(() -> {
+                try {
+                    snapshot();
+                } catch (Exception e) {
+                    log.error("Snapshot to [{}] failed", directory, e);
+                }
+            }, snapshotInterval, snapshotInterval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * @return TRUE if arrays were restored from existing snapshot on creation, and weren't discarded since then
+     */
+    public boolean isRestored() {
+        return restored;
+    }
+
+    /**
+     * @return generation of the last snapshot, including the restored one
+     */
+    public long getGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * @return total number of array bytes written to disk by this storage
+     */
+    public long getBytesWritten() {
+        return bytesWritten.get();
+    }
+
+    @Override
+    public void setArray(@NonNull Integer key, @NonNull INDArray array) {
+        super.setArray(key, array);
+        keys.add(key);
+    }
+
+    /**
+     * This method drops all arrays along with the snapshot they were restored from,
+     * i.e. if snapshot doesn't match current job
+     *
+     * @throws IOException
+     */
+    public void discard() throws IOException {
+        synchronized (snapshotLock) {
+            for (Integer key : keys)
+                removeArray(key);
+            keys.clear();
+            snapshots.clear();
+            restored = false;
+
+            Files.deleteIfExists(new File(directory, MANIFEST).toPath());
+            removeStaleFiles();
+        }
+    }
+
+    /**
+     * This method writes arrays changed since previous snapshot to disk
+     *
+     * @return number of array bytes written
+     * @throws IOException
+     */
+    public long snapshot() throws IOException {
+        synchronized (snapshotLock) {
+            if (Nd4j.getExecutioner() instanceof GridExecutioner)
+                ((GridExecutioner) Nd4j.getExecutioner()).flushQueueBlocking();
+
+            // files of failed attempts are never reused, since chains might point to them already
+            long gen = ++lastAttempt;
+
+            long bytes = 0;
+            List<Integer> stored = new ArrayList<>();
+            for (Integer key : keys) {
+                INDArray array = getArray(key);
+                if (array == null)
+                    continue;
+
+                ArraySnapshot snapshot = snapshots.get(key);
+                if (snapshot == null || snapshot.array != array || !snapshot.isIncremental()
+                                || snapshot.needsCompaction())
+                    bytes += writeFull(key, array, gen);
+                else
+                    bytes += writeChanges(key, snapshot, gen);
+
+                stored.add(key);
+            }
+
+            writeManifest(stored, gen);
+            generation.set(gen);
+            bytesWritten.addAndGet(bytes);
+            removeStaleFiles();
+
+            log.debug("Snapshot {} written to [{}]: {} bytes", gen, directory, bytes);
+            return bytes;
+        }
+    }
+
+    /**
+     * This method stops background snapshots, takes final snapshot and releases memory
+     */
+    @Override
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            try {
+                scheduler.awaitTermination(1, TimeUnit.MINUTES);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        try {
+            snapshot();
+        } catch (IOException e) {
+            log.error("Final snapshot to [{}] failed", directory, e);
+        }
+
+        synchronized (snapshotLock) {
+            snapshots.clear();
+        }
+
+        keys.clear();
+        super.shutdown();
+    }
+
+    protected boolean restore() throws IOException {
+        File manifest = new File(directory, MANIFEST);
+        if (!manifest.exists()) {
+            removeStaleFiles();
+            return false;
+        }
+
+        long time = System.currentTimeMillis();
+        Map<Integer, ArraySnapshot> chains = new LinkedHashMap<>();
+        long gen;
+        try (DataInputStream dis = new DataInputStream(new BufferedInputStream(new FileInputStream(manifest)))) {
+            if (dis.readInt() != MAGIC)
+                throw new IOException("File [" + manifest + "] isn't a snapshot manifest");
+            int version = dis.readInt();
+            if (version > VERSION)
+                throw new IOException("Unsupported snapshot version: [" + version + "]");
+
+            gen = dis.readLong();
+            int count = dis.readInt();
+            for (int i = 0; i < count; i++) {
+                int key = dis.readInt();
+                ArraySnapshot chain = new ArraySnapshot(null, null, dis.readLong());
+                int numDeltas = dis.readInt();
+                for (int d = 0; d < numDeltas; d++)
+                    chain.deltas.add(dis.readLong());
+                chains.put(key, chain);
+            }
+        }
+
+        for (Map.Entry<Integer, ArraySnapshot> entry : chains.entrySet()) {
+            Integer key = entry.getKey();
+            ArraySnapshot chain = entry.getValue();
+
+            INDArray array = Nd4j.readBinary(fullFile(key, chain.base));
+            for (Long delta : chain.deltas)
+                chain.deltaBytes += applyDelta(array, deltaFile(key, delta));
+
+            setArray(key, array);
+            ArraySnapshot snapshot = new ArraySnapshot(array, checksums(array), chain.base);
+            snapshot.deltas.addAll(chain.deltas);
+            snapshot.deltaBytes = chain.deltaBytes;
+            snapshots.put(key, snapshot);
+        }
+
+        generation.set(gen);
+        lastAttempt = gen;
+        // leftovers of the snapshot, which was in progress on crash
+        removeStaleFiles();
+
+        log.info("Restored {} arrays from snapshot {} at [{}] in {} ms", chains.size(), gen, directory,
+                        System.currentTimeMillis() - time);
+        return true;
+    }
+
+    protected long writeFull(Integer key, INDArray array, long gen) throws IOException {
+        // checksums go first: if array is updated while being written, next snapshot will catch that
+        long[] checksums = isContiguous(array) ? checksums(array) : null;
+
+        File file = fullFile(key, gen);
+        Nd4j.saveBinary(array, file);
+        sync(file);
+
+        snapshots.put(key, new ArraySnapshot(array, checksums, gen));
+
+        return array.length() * (long) array.data().getElementSize();
+    }
+
+    /**
+     * Writes chunks changed since previous snapshot into new delta file, and appends it to the chain of the array
+     */
+    protected long writeChanges(Integer key, ArraySnapshot snapshot, long gen) throws IOException {
+        ByteBuffer memory = memory(snapshot.array);
+
+        // checksums are updated only once delta file is on disk
+        long[] checksums = snapshot.checksums.clone();
+        List<ByteBuffer> changed = new ArrayList<>();
+        List<Integer> indices = new ArrayList<>();
+        CRC32 crc = new CRC32();
+        for (int c = 0; c < checksums.length; c++) {
+            ByteBuffer chunk = chunk(memory, c);
+            crc.reset();
+            crc.update(chunk.duplicate());
+            if (crc.getValue() == checksums[c])
+                continue;
+
+            checksums[c] = crc.getValue();
+            changed.add(chunk);
+            indices.add(c);
+        }
+
+        if (changed.isEmpty())
+            return 0;
+
+        long bytes = 0;
+        File file = deltaFile(key, gen);
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.WRITE,
+                        StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer header = ByteBuffer.allocate(4);
+            header.putInt(changed.size()).flip();
+            writeFully(channel, header);
+
+            for (int i = 0; i < changed.size(); i++) {
+                ByteBuffer chunk = changed.get(i);
+                header = ByteBuffer.allocate(8);
+                header.putInt(indices.get(i)).putInt(chunk.remaining()).flip();
+                writeFully(channel, header);
+
+                bytes += chunk.remaining();
+                writeFully(channel, chunk);
+            }
+
+            channel.force(true);
+        }
+
+        System.arraycopy(checksums, 0, snapshot.checksums, 0, checksums.length);
+        snapshot.deltas.add(gen);
+        snapshot.deltaBytes += bytes;
+        return bytes;
+    }
+
+    /**
+     * Copies chunks stored in delta file into array memory
+     *
+     * @return number of payload bytes in the delta file
+     */
+    protected static long applyDelta(INDArray array, File file) throws IOException {
+        ByteBuffer memory = memory(array);
+
+        long bytes = 0;
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(8);
+            header.limit(4);
+            readFully(channel, header, file);
+            int count = header.getInt(0);
+
+            for (int i = 0; i < count; i++) {
+                header.clear();
+                readFully(channel, header, file);
+                int index = header.getInt(0);
+                int length = header.getInt(4);
+
+                long start = index * (long) CHUNK_BYTES;
+                if (index < 0 || length < 0 || length > CHUNK_BYTES || start + length > memory.capacity())
+                    throw new IOException("Delta file [" + file + "] doesn't match array it's applied to");
+
+                ByteBuffer chunk = memory.duplicate();
+                chunk.position((int) start).limit((int) start + length);
+                readFully(channel, chunk, file);
+                bytes += length;
+            }
+        }
+        return bytes;
+    }
+
+    protected void writeManifest(List<Integer> stored, long gen) throws IOException {
+        File manifest = new File(directory, MANIFEST);
+        File tmp = new File(directory, MANIFEST + ".tmp");
+        try (FileOutputStream fos = new FileOutputStream(tmp);
+                        DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(fos))) {
+            dos.writeInt(MAGIC);
+            dos.writeInt(VERSION);
+            dos.writeLong(gen);
+            dos.writeInt(stored.size());
+            for (Integer key : stored) {
+                ArraySnapshot snapshot = snapshots.get(key);
+                dos.writeInt(key);
+                dos.writeLong(snapshot.base);
+                dos.writeInt(snapshot.deltas.size());
+                for (Long delta : snapshot.deltas)
+                    dos.writeLong(delta);
+            }
+            dos.flush();
+            fos.getFD().sync();
+        }
+
+        Files.move(tmp.toPath(), manifest.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Removes array files, which aren't referenced by current chains
+     */
+    protected void removeStaleFiles() {
+        Set<String> referenced = new HashSet<>();
+        for (Map.Entry<Integer, ArraySnapshot> entry : snapshots.entrySet()) {
+            ArraySnapshot snapshot = entry.getValue();
+            referenced.add(fullFile(entry.getKey(), snapshot.base).getName());
+            for (Long delta : snapshot.deltas)
+                referenced.add(deltaFile(entry.getKey(), delta).getName());
+        }
+
+        File[] files = directory.listFiles();
+        if (files == null)
+            return;
+
+        for (File file : files) {
+            String name = file.getName();
+            if ((name.startsWith(PREFIX) && !referenced.contains(name)) || name.equals(MANIFEST + ".tmp")) {
+                if (!file.delete())
+                    log.warn("Failed to remove stale snapshot file [{}]", file);
+            }
+        }
+    }
+
+    protected File fullFile(Integer key, long gen) {
+        return new File(directory, PREFIX + key + "." + gen + ".bin");
+    }
+
+    protected File deltaFile(Integer key, long gen) {
+        return new File(directory, PREFIX + key + "." + gen + ".delta");
+    }
+
+    protected static void sync(File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+    }
+
+    protected static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining())
+            channel.write(buffer);
+    }
+
+    protected static void readFully(FileChannel channel, ByteBuffer buffer, File file) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0)
+                throw new EOFException("Delta file [" + file + "] is truncated");
+        }
+    }
+
+    protected static boolean isContiguous(INDArray array) {
+        return !array.isView() && !array.isCompressed() && array.data().addressPointer() != null;
+    }
+
+    /**
+     * Returns native ordered view over array memory
+     */
+    protected static ByteBuffer memory(INDArray array) {
+        Nd4j.getAffinityManager().ensureLocation(array.data(), AffinityManager.Location.HOST);
+
+        long bytes = array.length() * (long) array.data().getElementSize();
+        BytePointer pointer = new BytePointer(array.data().addressPointer());
+        pointer.position(0).limit(bytes).capacity(bytes);
+        return pointer.asByteBuffer().order(ByteOrder.nativeOrder());
+    }
+
+    protected static long[] checksums(INDArray array) {
+        ByteBuffer memory = memory(array);
+        int numChunks = (memory.capacity() + CHUNK_BYTES - 1) / CHUNK_BYTES;
+        long[] checksums = new long[numChunks];
+
+        CRC32 crc = new CRC32();
+        for (int c = 0; c < numChunks; c++) {
+            crc.reset();
+            crc.update(chunk(memory, c));
+            checksums[c] = crc.getValue();
+        }
+        return checksums;
+    }
+
+    protected static ByteBuffer chunk(ByteBuffer memory, int chunk) {
+        ByteBuffer slice = memory.duplicate();
+        int start = chunk * CHUNK_BYTES;
+        slice.position(start).limit(Math.min(memory.capacity(), start + CHUNK_BYTES));
+        return slice;
+    }
+
+    /**
+     * Chain of files holding an array: full copy written at base generation, followed by deltas,
+     * along with checksums of array contents as of the last delta
+     */
+    protected static class ArraySnapshot {
+        protected final INDArray array;
+        protected final long[] checksums;
+        protected final long base;
+        protected final List<Long> deltas = new ArrayList<>();
+        protected long deltaBytes;
+
+        protected ArraySnapshot(INDArray array, long[] checksums, long base) {
+            this.array = array;
+            this.checksums = checksums;
+            this.base = base;
+        }
+
+        protected boolean isIncremental() {
+            return checksums != null;
+        }
+
+        protected boolean needsCompaction() {
+            return deltas.size() >= MAX_DELTAS
+                            || deltaBytes >= array.length() * (long) array.data().getElementSize();
+        }
+    }
+}
@@ -2,11 +2,14 @@ package org.nd4j.parameterserver.distributed.messages;
 
 import lombok.*;
 import org.agrona.concurrent.UnsafeBuffer;
-import org.apache.commons.lang3.SerializationUtils;
 import org.nd4j.parameterserver.distributed.conf.VoidConfiguration;
 import org.nd4j.parameterserver.distributed.enums.NodeRole;
 import org.nd4j.parameterserver.distributed.logic.completion.Clipboard;
 import org.nd4j.parameterserver.distributed.logic.Storage;
+import org.nd4j.parameterserver.distributed.messages.codec.BinaryMessage;
+import org.nd4j.parameterserver.distributed.messages.codec.MessageCodec;
+import org.nd4j.parameterserver.distributed.messages.codec.MessageReader;
+import org.nd4j.parameterserver.distributed.messages.codec.MessageWriter;
 import org.nd4j.parameterserver.distributed.training.TrainingDriver;
 import org.nd4j.parameterserver.distributed.transport.Transport;
 
@@ -15,7 +18,7 @@ import org.nd4j.parameterserver.distributed.transport.Transport;
  */
 @NoArgsConstructor
 @Data
-public abstract class BaseVoidMessage implements VoidMessage {
+public abstract class BaseVoidMessage implements VoidMessage, BinaryMessage {
     protected int messageType = -1;
     protected long originatorId = 0L;
     protected long taskId;
@@ -39,7 +42,7 @@ public abstract class BaseVoidMessage implements VoidMessage {
 
     @Override
     public byte[] asBytes() {
-        return SerializationUtils.serialize(this);
+        return MessageCodec.asBytes(this);
     }
 
     @Override
@@ -49,7 +52,28 @@ public abstract class BaseVoidMessage implements VoidMessage {
 
 
     public UnsafeBuffer asUnsafeBuffer() {
-        return new UnsafeBuffer(asBytes());
+        return MessageCodec.asUnsafeBuffer(this);
+    }
+
+    @Override
+    public int encodedLength() {
+        return 4 + 8 + 8 + 2;
+    }
+
+    @Override
+    public void encode(MessageWriter writer) {
+        writer.putInt(messageType);
+        writer.putLong(originatorId);
+        writer.putLong(taskId);
+        writer.putShort(targetId);
+    }
+
+    @Override
+    public void decode(MessageReader reader) {
+        messageType = reader.getInt();
+        originatorId = reader.getLong();
+        taskId = reader.getLong();
+        targetId = reader.getShort();
     }
 
     @Override
@@ -6,11 +6,14 @@ import lombok.NonNull;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.agrona.concurrent.UnsafeBuffer;
-import org.apache.commons.lang3.SerializationUtils;
 import org.nd4j.parameterserver.distributed.conf.VoidConfiguration;
 import org.nd4j.parameterserver.distributed.enums.NodeRole;
 import org.nd4j.parameterserver.distributed.logic.completion.Clipboard;
 import org.nd4j.parameterserver.distributed.logic.Storage;
+import org.nd4j.parameterserver.distributed.messages.codec.BinaryMessage;
+import org.nd4j.parameterserver.distributed.messages.codec.MessageCodec;
+import org.nd4j.parameterserver.distributed.messages.codec.MessageReader;
+import org.nd4j.parameterserver.distributed.messages.codec.MessageWriter;
 import org.nd4j.parameterserver.distributed.training.TrainingDriver;
 import org.nd4j.parameterserver.distributed.transport.Transport;
 
@@ -26,7 +29,7 @@ import java.util.List;
  * @author raver119@gmail.com
  */
 @Slf4j
-public class Frame<T extends TrainingMessage> implements Serializable, Iterable<T>, VoidMessage {
+public class Frame<T extends TrainingMessage> implements Serializable, Iterable<T>, VoidMessage, BinaryMessage {
 
     @Getter(AccessLevel.PROTECTED)
     @Setter(AccessLevel.PROTECTED)
@@ -146,12 +149,55 @@ public class Frame<T extends TrainingMessage> implements Serializable, Iterable<
 
     @Override
     public byte[] asBytes() {
-        return SerializationUtils.serialize(this);
+        return MessageCodec.asBytes(this);
     }
 
     @Override
     public UnsafeBuffer asUnsafeBuffer() {
-        return new UnsafeBuffer(asBytes());
+        return MessageCodec.asUnsafeBuffer(this);
+    }
+
+    /**
+     * Frame can be binary encoded only if all stacked messages can be
+     */
+    @Override
+    public boolean isBinaryEncodable() {
+        for (T message : list)
+            if (!MessageCodec.isBinaryEncodable(message))
+                return false;
+
+        return true;
+    }
+
+    @Override
+    public int encodedLength() {
+        int length = 8 + 8 + 2 + 4;
+        for (T message : list)
+            length += MessageWriter.sizeOf(message);
+
+        return length;
+    }
+
+    @Override
+    public void encode(MessageWriter writer) {
+        writer.putLong(originatorId);
+        writer.putLong(taskId);
+        writer.putShort(targetId);
+        writer.putInt(list.size());
+        for (T message : list)
+            writer.putMessage(message);
+    }
+
+    @Override
+    public void decode(MessageReader reader) {
+        originatorId = reader.getLong();
+        taskId = reader.getLong();
+        targetId = reader.getShort();
+
+        int size = reader.getInt();
+        list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++)
+            list.add(reader.<T>getMessage());
     }
 
     @Override
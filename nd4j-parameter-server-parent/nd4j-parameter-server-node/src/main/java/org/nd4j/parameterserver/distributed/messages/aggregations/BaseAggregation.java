@@ -5,12 +5,14 @@ import lombok.NonNull;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.agrona.concurrent.UnsafeBuffer;
-import org.apache.commons.lang3.SerializationUtils;
 import org.nd4j.linalg.api.ndarray.INDArray;
 import org.nd4j.linalg.exception.ND4JIllegalStateException;
 import org.nd4j.linalg.factory.Nd4j;
 import org.nd4j.parameterserver.distributed.messages.BaseVoidMessage;
 import org.nd4j.parameterserver.distributed.messages.VoidAggregation;
+import org.nd4j.parameterserver.distributed.messages.codec.MessageCodec;
+import org.nd4j.parameterserver.distributed.messages.codec.MessageReader;
+import org.nd4j.parameterserver.distributed.messages.codec.MessageWriter;
 
 import java.io.Serializable;
 import java.util.*;
@@ -108,12 +110,40 @@ public abstract class BaseAggregation extends BaseVoidMessage implements VoidAgg
 
     @Override
     public byte[] asBytes() {
-        return SerializationUtils.serialize(this);
+        return MessageCodec.asBytes(this);
     }
 
     @Override
     public UnsafeBuffer asUnsafeBuffer() {
-        return new UnsafeBuffer(asBytes());
+        return MessageCodec.asUnsafeBuffer(this);
+    }
+
+    @Override
+    public int encodedLength() {
+        return super.encodedLength() + 2 + 2 + 4 + 2 + MessageWriter.sizeOf(payload);
+    }
+
+    @Override
+    public void encode(MessageWriter writer) {
+        super.encode(writer);
+        writer.putShort(aggregationType);
+        writer.putShort(aggregationWidth);
+        writer.putInt(numberOfElements);
+        writer.putShort(shardIndex);
+        writer.putArray(payload);
+    }
+
+    @Override
+    public void decode(MessageReader reader) {
+        super.decode(reader);
+        aggregationType = reader.getShort();
+        aggregationWidth = reader.getShort();
+        numberOfElements = reader.getInt();
+        shardIndex = reader.getShort();
+        payload = reader.getArray();
+
+        // same state as right after construction on the sender side
+        addToChunks(payload);
     }
 
     @Override
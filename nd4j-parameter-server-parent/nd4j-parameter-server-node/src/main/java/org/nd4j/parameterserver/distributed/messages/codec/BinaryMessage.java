@@ -0,0 +1,40 @@
+package org.nd4j.parameterserver.distributed.messages.codec;
+
+/**
+ * This interface describes messages that can be encoded by {@link MessageCodec} without Java serialization.
+ *
+ * Implementations write their fields one by one, and must read them back in exactly the same order.
+ * Subclasses adding fields are expected to call super first, and they have to be registered within MessageCodec
+ */
+public interface BinaryMessage {
+
+    /**
+     * This method returns number of bytes {@link #encode(MessageWriter)} will write
+     *
+     * @return
+     */
+    int encodedLength();
+
+    /**
+     * This method writes fields of this message
+     *
+     * @param writer
+     */
+    void encode(MessageWriter writer);
+
+    /**
+     * This method reads fields of this message, in the same order they were written
+     *
+     * @param reader
+     */
+    void decode(MessageReader reader);
+
+    /**
+     * This method returns TRUE if this specific instance can be encoded, i.e. all nested messages are registered
+     *
+     * @return
+     */
+    default boolean isBinaryEncodable() {
+        return true;
+    }
+}
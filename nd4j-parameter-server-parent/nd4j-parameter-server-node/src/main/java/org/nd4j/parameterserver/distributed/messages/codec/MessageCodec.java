@@ -0,0 +1,292 @@
+package org.nd4j.parameterserver.distributed.messages.codec;
+
+import io.aeron.Publication;
+import io.aeron.logbuffer.BufferClaim;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.apache.commons.io.input.ClassLoaderObjectInputStream;
+import org.apache.commons.lang3.SerializationUtils;
+import org.nd4j.linalg.exception.ND4JIllegalStateException;
+import org.nd4j.parameterserver.distributed.messages.Frame;
+import org.nd4j.parameterserver.distributed.messages.VoidMessage;
+import org.nd4j.parameterserver.distributed.messages.aggregations.DotAggregation;
+import org.nd4j.parameterserver.distributed.messages.aggregations.VectorAggregation;
+import org.nd4j.parameterserver.distributed.messages.complete.VectorCompleteMessage;
+import org.nd4j.parameterserver.distributed.messages.intercom.DistributedCbowDotMessage;
+import org.nd4j.parameterserver.distributed.messages.intercom.DistributedSgDotMessage;
+import org.nd4j.parameterserver.distributed.messages.intercom.DistributedSkipGramMessage;
+import org.nd4j.parameterserver.distributed.messages.intercom.DistributedVectorMessage;
+import org.nd4j.parameterserver.distributed.messages.requests.CbowRequestMessage;
+import org.nd4j.parameterserver.distributed.messages.requests.SkipGramRequestMessage;
+import org.nd4j.parameterserver.distributed.messages.requests.VectorRequestMessage;
+
+import java.io.ByteArrayInputStream;
+import java.io.ObjectInputStream;
+import java.lang.reflect.Constructor;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Binary codec for VoidParameterServer messages.
+ *
+ * Registered message classes are written field by field, straight into the Aeron publication buffer
+ * (see {@link #offer(Publication, VoidMessage)}), INDArray payloads included. All other messages are still handled with Java serialization,
+ * and decoder tells these two apart by the first two bytes.
+ *
+ * Layout of binary encoded message:
+ * 2 bytes marker
+ * 2 bytes codec id
+ * message fields, as written by {@link BinaryMessage#encode(MessageWriter)}
+ *
+ * PLEASE NOTE: registry is keyed on codec id, not on messageType, since messageType isn't unique across message classes.
+ */
+@Slf4j
+public class MessageCodec {
+    public static final short MARKER = 0x5650;
+    public static final int HEADER_LENGTH = 4;
+    public static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    // first two bytes of any java serialization stream
+    private static final short SERIALIZATION_MAGIC = (short) 0xACED;
+
+    private static final Map<Class<?>, Short> ids = new ConcurrentHashMap<>();
+    private static final Map<Short, Constructor<?>> constructors = new ConcurrentHashMap<>();
+
+    // per-thread encoding state for offer()
+    private static final ThreadLocal<BufferClaim> claims = ThreadLocal.withInitial(BufferClaim::new);
+    private static final ThreadLocal<UnsafeBuffer> scratch = new ThreadLocal<>();
+
+    static {
+        register((short) 1, Frame.class);
+        register((short) 2, SkipGramRequestMessage.class);
+        register((short) 3, CbowRequestMessage.class);
+        register((short) 4, DistributedSgDotMessage.class);
+        register((short) 5, DistributedCbowDotMessage.class);
+        register((short) 6, DistributedSkipGramMessage.class);
+        register((short) 7, DistributedVectorMessage.class);
+        register((short) 8, VectorRequestMessage.class);
+        register((short) 9, DotAggregation.class);
+        register((short) 10, VectorAggregation.class);
+        register((short) 11, VectorCompleteMessage.class);
+    }
+
+    private MessageCodec() {}
+
+    /**
+     * This method registers message class for binary encoding.
+     * Class should have no-args constructor, and codec id has to be the same on all nodes
+     *
+     * @param codecId unique positive id of the message class
+     * @param messageClass
+     */
+    public static synchronized void register(short codecId, @NonNull Class<? extends BinaryMessage> messageClass) {
+        if (codecId <= 0)
+            throw new ND4JIllegalStateException("Codec id should be positive");
+
+        if (!VoidMessage.class.isAssignableFrom(messageClass))
+            throw new ND4JIllegalStateException("Only VoidMessages can be registered");
+
+        Constructor<?> existing = constructors.get(codecId);
+        if (existing != null && existing.getDeclaringClass() != messageClass)
+            throw new ND4JIllegalStateException("Codec id [" + codecId + "] is already used by ["
+                            + existing.getDeclaringClass().getSimpleName() + "]");
+
+        try {
+            Constructor<?> constructor = messageClass.getDeclaredConstructor();
+            constructor.setAccessible(true);
+
+            constructors.put(codecId, constructor);
+            ids.put(messageClass, codecId);
+        } catch (NoSuchMethodException e) {
+            throw new ND4JIllegalStateException(
+                            "Class [" + messageClass.getSimpleName() + "] has no no-args constructor");
+        }
+    }
+
+    /**
+     * This method checks, if given message will be encoded without Java serialization
+     *
+     * @param message
+     * @return
+     */
+    public static boolean isBinaryEncodable(@NonNull VoidMessage message) {
+        return ids.containsKey(message.getClass()) && ((BinaryMessage) message).isBinaryEncodable();
+    }
+
+    /**
+     * This method returns number of bytes binary encoded message takes, including codec header
+     *
+     * @param message
+     * @return
+     */
+    public static int encodedLength(@NonNull VoidMessage message) {
+        if (!isBinaryEncodable(message))
+            throw new ND4JIllegalStateException(
+                            "Message [" + message.getClass().getSimpleName() + "] can't be binary encoded");
+
+        return HEADER_LENGTH + ((BinaryMessage) message).encodedLength();
+    }
+
+    /**
+     * This method encodes given message into the buffer, at the specified offset
+     *
+     * @param message
+     * @param buffer
+     * @param offset
+     * @return offset right after the encoded message
+     */
+    public static int encode(@NonNull VoidMessage message, @NonNull MutableDirectBuffer buffer, int offset) {
+        Short codecId = ids.get(message.getClass());
+        if (codecId == null || !((BinaryMessage) message).isBinaryEncodable())
+            throw new ND4JIllegalStateException(
+                            "Message [" + message.getClass().getSimpleName() + "] can't be binary encoded");
+
+        buffer.putShort(offset, MARKER, ORDER);
+        buffer.putShort(offset + 2, codecId, ORDER);
+
+        MessageWriter writer = new MessageWriter(buffer, offset + HEADER_LENGTH);
+        ((BinaryMessage) message).encode(writer);
+
+        return writer.getPosition();
+    }
+
+    /**
+     * This method sends given message to the publication, without intermediate heap copies for binary encoded
+     * messages: if message fits into single frame, it's encoded right into the publication term buffer
+     * (see {@link Publication#tryClaim(int, BufferClaim)}), otherwise it's encoded into direct buffer reused by
+     * the calling thread. Other messages are Java serialized, as before.
+     *
+     * @param publication
+     * @param message
+     * @return new stream position, or one of negative Publication codes,
+     *         same as {@link Publication#offer(DirectBuffer)}
+     */
+    public static long offer(@NonNull Publication publication, @NonNull VoidMessage message) {
+        if (!isBinaryEncodable(message))
+            return publication.offer(new UnsafeBuffer(SerializationUtils.serialize(message)));
+
+        int length = encodedLength(message);
+        if (length <= publication.maxPayloadLength()) {
+            BufferClaim claim = claims.get();
+            long result = publication.tryClaim(length, claim);
+            if (result > 0) {
+                try {
+                    encode(message, claim.buffer(), claim.offset());
+                } catch (RuntimeException e) {
+                    claim.abort();
+                    throw e;
+                }
+                claim.commit();
+            }
+            return result;
+        }
+
+        UnsafeBuffer buffer = scratch(length);
+        encode(message, buffer, 0);
+        return publication.offer(buffer, 0, length);
+    }
+
+    /**
+     * Returns direct buffer of at least given capacity, owned by the calling thread
+     */
+    protected static UnsafeBuffer scratch(int length) {
+        UnsafeBuffer buffer = scratch.get();
+        if (buffer == null || buffer.capacity() < length) {
+            int capacity = Math.max(length, buffer == null ? 0 : buffer.capacity() * 2);
+            buffer = new UnsafeBuffer(ByteBuffer.allocateDirect(capacity));
+            scratch.set(buffer);
+        }
+        return buffer;
+    }
+
+    /**
+     * This method returns UnsafeBuffer holding given message: binary encoded if possible, or Java serialized otherwise.
+     * Transports should use {@link #offer(Publication, VoidMessage)} instead, since it doesn't allocate per message
+     *
+     * @param message
+     * @return
+     */
+    public static UnsafeBuffer asUnsafeBuffer(@NonNull VoidMessage message) {
+        if (!isBinaryEncodable(message))
+            return new UnsafeBuffer(SerializationUtils.serialize(message));
+
+        UnsafeBuffer buffer = new UnsafeBuffer(new byte[encodedLength(message)]);
+        encode(message, buffer, 0);
+        return buffer;
+    }
+
+    /**
+     * This method returns byte array holding given message: binary encoded if possible, or Java serialized otherwise
+     *
+     * @param message
+     * @return
+     */
+    public static byte[] asBytes(@NonNull VoidMessage message) {
+        if (!isBinaryEncodable(message))
+            return SerializationUtils.serialize(message);
+
+        return asUnsafeBuffer(message).byteArray();
+    }
+
+    /**
+     * This method restores message from the buffer, regardless of encoding used
+     *
+     * @param buffer
+     * @param offset
+     * @param length
+     * @param <T>
+     * @return
+     */
+    public static <T extends VoidMessage> T decode(@NonNull DirectBuffer buffer, int offset, int length) {
+        if (length >= HEADER_LENGTH && buffer.getShort(offset, ORDER) == MARKER) {
+            T message = instantiate(buffer, offset);
+            ((BinaryMessage) message).decode(new MessageReader(buffer, offset + HEADER_LENGTH));
+            return message;
+        }
+
+        if (length >= 2 && buffer.getShort(offset, ByteOrder.BIG_ENDIAN) == SERIALIZATION_MAGIC) {
+            byte[] data = new byte[length];
+            buffer.getBytes(offset, data);
+            return deserialize(data);
+        }
+
+        throw new ND4JIllegalStateException("Unknown message encoding");
+    }
+
+    @SuppressWarnings("unchecked")
+    protected static <T extends VoidMessage> T deserialize(byte[] data) {
+        try {
+            ObjectInputStream in = new ClassLoaderObjectInputStream(Thread.currentThread().getContextClassLoader(),
+                            new ByteArrayInputStream(data));
+
+            return (T) in.readObject();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * This method creates empty message instance, for codec header at the given offset
+     */
+    @SuppressWarnings("unchecked")
+    protected static <T extends VoidMessage> T instantiate(DirectBuffer buffer, int offset) {
+        if (buffer.getShort(offset, ORDER) != MARKER)
+            throw new ND4JIllegalStateException("Binary message marker wasn't found");
+
+        short codecId = buffer.getShort(offset + 2, ORDER);
+        Constructor<?> constructor = constructors.get(codecId);
+        if (constructor == null)
+            throw new ND4JIllegalStateException("Unknown codec id: [" + codecId + "]");
+
+        try {
+            return (T) constructor.newInstance();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
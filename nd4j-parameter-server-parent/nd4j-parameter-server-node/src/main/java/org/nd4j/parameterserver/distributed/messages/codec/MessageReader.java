@@ -0,0 +1,173 @@
+package org.nd4j.parameterserver.distributed.messages.codec;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.agrona.DirectBuffer;
+import org.bytedeco.javacpp.indexer.HalfIndexer;
+import org.nd4j.linalg.api.buffer.DataBuffer;
+import org.nd4j.linalg.api.buffer.factory.DataBufferFactory;
+import org.nd4j.linalg.api.concurrency.AffinityManager;
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.api.shape.Shape;
+import org.nd4j.linalg.factory.Nd4j;
+import org.nd4j.parameterserver.distributed.messages.VoidMessage;
+
+import java.nio.ByteOrder;
+
+/**
+ * Sequential reader of message fields from DirectBuffer, counterpart of {@link MessageWriter}
+ */
+@Slf4j
+public class MessageReader {
+    @Getter
+    protected final DirectBuffer buffer;
+    @Getter
+    protected int position;
+
+    public MessageReader(@NonNull DirectBuffer buffer, int position) {
+        this.buffer = buffer;
+        this.position = position;
+    }
+
+    public byte getByte() {
+        byte value = buffer.getByte(position);
+        position += 1;
+        return value;
+    }
+
+    public boolean getBoolean() {
+        return getByte() != 0;
+    }
+
+    public short getShort() {
+        short value = buffer.getShort(position, MessageCodec.ORDER);
+        position += 2;
+        return value;
+    }
+
+    public int getInt() {
+        int value = buffer.getInt(position, MessageCodec.ORDER);
+        position += 4;
+        return value;
+    }
+
+    public long getLong() {
+        long value = buffer.getLong(position, MessageCodec.ORDER);
+        position += 8;
+        return value;
+    }
+
+    public float getFloat() {
+        float value = buffer.getFloat(position, MessageCodec.ORDER);
+        position += 4;
+        return value;
+    }
+
+    public double getDouble() {
+        double value = buffer.getDouble(position, MessageCodec.ORDER);
+        position += 8;
+        return value;
+    }
+
+    public int[] getInts() {
+        int length = getInt();
+        if (length < 0)
+            return null;
+
+        int[] array = new int[length];
+        for (int i = 0; i < length; i++)
+            array[i] = getInt();
+
+        return array;
+    }
+
+    public byte[] getBytes() {
+        int length = getInt();
+        if (length < 0)
+            return null;
+
+        byte[] array = new byte[length];
+        buffer.getBytes(position, array);
+        position += length;
+
+        return array;
+    }
+
+    /**
+     * Reads INDArray written with {@link MessageWriter#putArray(INDArray)}.
+     * Contents are copied straight into the new DataBuffer, unless byte order or data type conversion is required
+     */
+    public INDArray getArray() {
+        if (!getBoolean())
+            return null;
+
+        int rank = getInt();
+        int[] shapeInfo = new int[Shape.shapeInfoLength(rank)];
+        for (int i = 0; i < shapeInfo.length; i++)
+            shapeInfo[i] = getInt();
+
+        DataBuffer.Type type = DataBuffer.Type.values()[getByte()];
+        ByteOrder order = getBoolean() ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN;
+        int length = getInt();
+
+        DataBuffer data;
+        if (order == ByteOrder.nativeOrder() && (type == DataBuffer.Type.INT || type == Nd4j.dataType())) {
+            data = createBuffer(type, length);
+            int bytes = length * data.getElementSize();
+            buffer.getBytes(position, data.asNio(), 0, bytes);
+            position += bytes;
+        } else {
+            if (type != DataBuffer.Type.INT && type != Nd4j.dataType())
+                log.warn("Receiving an array with type different from what is set globally. Expect precision loss");
+
+            data = type == DataBuffer.Type.INT ? createBuffer(type, length) : Nd4j.createBuffer(length, false);
+            for (int i = 0; i < length; i++) {
+                switch (type) {
+                    case DOUBLE:
+                        data.put(i, buffer.getDouble(position, order));
+                        position += 8;
+                        break;
+                    case FLOAT:
+                        data.put(i, buffer.getFloat(position, order));
+                        position += 4;
+                        break;
+                    case HALF:
+                        data.put(i, HalfIndexer.toFloat(buffer.getShort(position, order)));
+                        position += 2;
+                        break;
+                    default:
+                        data.put(i, buffer.getInt(position, order));
+                        position += 4;
+                }
+            }
+        }
+        Nd4j.getAffinityManager().tagLocation(data, AffinityManager.Location.HOST);
+
+        return Nd4j.createArrayFromShapeBuffer(data, Nd4j.createBuffer(shapeInfo));
+    }
+
+    /**
+     * Reads nested message, including its codec header
+     */
+    public <T extends VoidMessage> T getMessage() {
+        T message = MessageCodec.instantiate(buffer, position);
+        position += MessageCodec.HEADER_LENGTH;
+        ((BinaryMessage) message).decode(this);
+        return message;
+    }
+
+    protected static DataBuffer createBuffer(DataBuffer.Type type, int length) {
+        DataBufferFactory factory = Nd4j.getDataBufferFactory();
+        switch (type) {
+            case DOUBLE:
+                return factory.createDouble(length, false);
+            case FLOAT:
+                return factory.createFloat(length, false);
+            case HALF:
+                return factory.createHalf(length, false);
+            default:
+                return factory.createInt(length, false);
+        }
+    }
+}
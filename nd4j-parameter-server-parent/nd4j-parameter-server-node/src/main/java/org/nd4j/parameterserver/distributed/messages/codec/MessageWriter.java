@@ -0,0 +1,158 @@
+package org.nd4j.parameterserver.distributed.messages.codec;
+
+import lombok.Getter;
+import lombok.NonNull;
+import org.agrona.MutableDirectBuffer;
+import org.nd4j.linalg.api.buffer.DataBuffer;
+import org.nd4j.linalg.api.concurrency.AffinityManager;
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.api.ops.executioner.GridExecutioner;
+import org.nd4j.linalg.api.shape.Shape;
+import org.nd4j.linalg.factory.Nd4j;
+import org.nd4j.parameterserver.distributed.messages.VoidMessage;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Sequential writer of message fields into MutableDirectBuffer.
+ *
+ * Scalar fields are always written in {@link MessageCodec#ORDER}, INDArray contents are copied as is,
+ * in native byte order, which is recorded alongside.
+ */
+public class MessageWriter {
+    @Getter
+    protected final MutableDirectBuffer buffer;
+    @Getter
+    protected int position;
+
+    public MessageWriter(@NonNull MutableDirectBuffer buffer, int position) {
+        this.buffer = buffer;
+        this.position = position;
+    }
+
+    public void putByte(byte value) {
+        buffer.putByte(position, value);
+        position += 1;
+    }
+
+    public void putBoolean(boolean value) {
+        putByte(value ? (byte) 1 : (byte) 0);
+    }
+
+    public void putShort(short value) {
+        buffer.putShort(position, value, MessageCodec.ORDER);
+        position += 2;
+    }
+
+    public void putInt(int value) {
+        buffer.putInt(position, value, MessageCodec.ORDER);
+        position += 4;
+    }
+
+    public void putLong(long value) {
+        buffer.putLong(position, value, MessageCodec.ORDER);
+        position += 8;
+    }
+
+    public void putFloat(float value) {
+        buffer.putFloat(position, value, MessageCodec.ORDER);
+        position += 4;
+    }
+
+    public void putDouble(double value) {
+        buffer.putDouble(position, value, MessageCodec.ORDER);
+        position += 8;
+    }
+
+    /**
+     * Writes nullable int array
+     */
+    public void putInts(int[] array) {
+        if (array == null) {
+            putInt(-1);
+            return;
+        }
+
+        putInt(array.length);
+        for (int value : array)
+            putInt(value);
+    }
+
+    /**
+     * Writes nullable byte array
+     */
+    public void putBytes(byte[] array) {
+        if (array == null) {
+            putInt(-1);
+            return;
+        }
+
+        putInt(array.length);
+        buffer.putBytes(position, array);
+        position += array.length;
+    }
+
+    /**
+     * Writes nullable INDArray: shape information first, and then raw contents of its DataBuffer
+     */
+    public void putArray(INDArray array) {
+        if (array == null) {
+            putBoolean(false);
+            return;
+        }
+        putBoolean(true);
+
+        // we want contiguous buffer, holding exactly this array
+        if (array.isView())
+            array = array.dup(array.ordering());
+
+        if (Nd4j.getExecutioner() instanceof GridExecutioner)
+            ((GridExecutioner) Nd4j.getExecutioner()).flushQueueBlocking();
+
+        DataBuffer data = array.data();
+        Nd4j.getAffinityManager().ensureLocation(data, AffinityManager.Location.HOST);
+
+        DataBuffer shapeInfo = array.shapeInfoDataBuffer();
+        int shapeInfoLength = Shape.shapeInfoLength(array.rank());
+        putInt(array.rank());
+        for (int i = 0; i < shapeInfoLength; i++)
+            putInt(shapeInfo.getInt(i));
+
+        putByte((byte) data.dataType().ordinal());
+        putBoolean(ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN);
+        putInt(array.length());
+
+        int bytes = array.length() * data.getElementSize();
+        ByteBuffer contents = data.asNio();
+        buffer.putBytes(position, contents, (int) data.offset() * data.getElementSize(), bytes);
+        position += bytes;
+    }
+
+    /**
+     * Writes nested message, including its codec header
+     */
+    public void putMessage(@NonNull VoidMessage message) {
+        position = MessageCodec.encode(message, buffer, position);
+    }
+
+    public static int sizeOf(int[] array) {
+        return 4 + (array == null ? 0 : array.length * 4);
+    }
+
+    public static int sizeOf(byte[] array) {
+        return 4 + (array == null ? 0 : array.length);
+    }
+
+    public static int sizeOf(INDArray array) {
+        if (array == null)
+            return 1;
+
+        return 1 + 4 + Shape.shapeInfoLength(array.rank()) * 4 + 1 + 1 + 4
+                        + array.length() * array.data().getElementSize();
+    }
+
+    public static int sizeOf(VoidMessage message) {
+        return MessageCodec.encodedLength(message);
+    }
+}
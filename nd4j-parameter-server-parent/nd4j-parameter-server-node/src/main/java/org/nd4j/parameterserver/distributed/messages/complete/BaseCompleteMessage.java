@@ -5,6 +5,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.nd4j.linalg.api.ndarray.INDArray;
 import org.nd4j.parameterserver.distributed.messages.BaseVoidMessage;
 import org.nd4j.parameterserver.distributed.messages.MeaningfulMessage;
+import org.nd4j.parameterserver.distributed.messages.codec.MessageReader;
+import org.nd4j.parameterserver.distributed.messages.codec.MessageWriter;
 
 /**
  * This message contains information about finished computations for specific batch, being sent earlier
@@ -30,4 +32,21 @@ public abstract class BaseCompleteMessage extends BaseVoidMessage implements Mea
     public void processMessage() {
         // no-op
     }
+
+    @Override
+    public int encodedLength() {
+        return super.encodedLength() + MessageWriter.sizeOf(payload);
+    }
+
+    @Override
+    public void encode(MessageWriter writer) {
+        super.encode(writer);
+        writer.putArray(payload);
+    }
+
+    @Override
+    public void decode(MessageReader reader) {
+        super.decode(reader);
+        payload = reader.getArray();
+    }
 }
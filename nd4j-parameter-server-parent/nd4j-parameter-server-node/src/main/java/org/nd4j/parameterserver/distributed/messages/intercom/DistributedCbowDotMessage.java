@@ -11,6 +11,8 @@ import org.nd4j.parameterserver.distributed.logic.storage.WordVectorStorage;
 import org.nd4j.parameterserver.distributed.messages.BaseVoidMessage;
 import org.nd4j.parameterserver.distributed.messages.DistributedMessage;
 import org.nd4j.parameterserver.distributed.messages.aggregations.DotAggregation;
+import org.nd4j.parameterserver.distributed.messages.codec.MessageReader;
+import org.nd4j.parameterserver.distributed.messages.codec.MessageWriter;
 import org.nd4j.parameterserver.distributed.messages.requests.CbowRequestMessage;
 import org.nd4j.parameterserver.distributed.messages.requests.SkipGramRequestMessage;
 import org.nd4j.parameterserver.distributed.training.impl.CbowTrainer;
@@ -119,4 +121,33 @@ public class DistributedCbowDotMessage extends BaseVoidMessage implements Distri
             transport.sendMessage(dot);
         }
     }
+
+    @Override
+    public int encodedLength() {
+        return super.encodedLength() + MessageWriter.sizeOf(rowsA) + MessageWriter.sizeOf(rowsB) + 4 + 1 + 2 + 4 + MessageWriter.sizeOf(codes);
+    }
+
+    @Override
+    public void encode(MessageWriter writer) {
+        super.encode(writer);
+        writer.putInts(rowsA);
+        writer.putInts(rowsB);
+        writer.putInt(w1);
+        writer.putBoolean(useHS);
+        writer.putShort(negSamples);
+        writer.putFloat(alpha);
+        writer.putBytes(codes);
+    }
+
+    @Override
+    public void decode(MessageReader reader) {
+        super.decode(reader);
+        rowsA = reader.getInts();
+        rowsB = reader.getInts();
+        w1 = reader.getInt();
+        useHS = reader.getBoolean();
+        negSamples = reader.getShort();
+        alpha = reader.getFloat();
+        codes = reader.getBytes();
+    }
 }
@@ -8,11 +8,15 @@ import org.apache.commons.math3.util.FastMath;
 import org.nd4j.linalg.api.ndarray.INDArray;
 import org.nd4j.linalg.factory.Nd4j;
 import org.nd4j.parameterserver.distributed.enums.ExecutionMode;
+import org.nd4j.parameterserver.distributed.logic.storage.PersistentWordVectorStorage;
 import org.nd4j.parameterserver.distributed.logic.storage.WordVectorStorage;
 import org.nd4j.parameterserver.distributed.messages.BaseVoidMessage;
 import org.nd4j.parameterserver.distributed.messages.DistributedMessage;
 import org.nd4j.parameterserver.distributed.messages.aggregations.InitializationAggregation;
 
+import java.io.IOException;
+import java.util.Arrays;
+
 /**
  * @author raver119@gmail.com
  */
@@ -22,6 +26,8 @@ import org.nd4j.parameterserver.distributed.messages.aggregations.Initialization
 @Slf4j
 public class DistributedInitializationMessage extends BaseVoidMessage implements DistributedMessage {
 
+    private static final int EXP_TABLE_WIDTH = 100000;
+
     protected int vectorLength;
     protected int numWords;
     protected long seed;
@@ -50,6 +56,49 @@ public class DistributedInitializationMessage extends BaseVoidMessage implements
         INDArray syn1 = storage.getArray(WordVectorStorage.SYN_1);
         INDArray syn1Neg = storage.getArray(WordVectorStorage.SYN_1_NEGATIVE);
         INDArray expTable = storage.getArray(WordVectorStorage.EXP_TABLE);
+
+        // shape is resolved before anything else, since restored arrays have to match it
+        int columns = columnsPerShard;
+        if (voidConfiguration.getExecutionMode() == ExecutionMode.AVERAGING) {
+            // each shard has full own copy
+            columns = vectorLength;
+        } else if (voidConfiguration.getExecutionMode() == ExecutionMode.DISTRIBUTED) {
+            // each shard will have only part of the data
+            if (voidConfiguration.getNumberOfShards() - 1 == shardIndex) {
+                int modulo = vectorLength % voidConfiguration.getNumberOfShards();
+                if (modulo != 0) {
+                    columns += modulo;
+                    if (syn0 == null)
+                        log.info("Got inequal split. using higher number of elements: {}", columns);
+                }
+            }
+        }
+
+        int[] shardShape = new int[] {numWords, columns};
+
+        if (syn0 != null && storage instanceof PersistentWordVectorStorage
+                        && ((PersistentWordVectorStorage) storage).isRestored()) {
+            if (matchesRestored(shardShape, syn0, syn1, syn1Neg, expTable)) {
+                // storage was restored from snapshot, so we just confirm initialization
+                log.info("sI_{} storage was restored from snapshot, skipping initialization",
+                                transport.getShardIndex());
+
+                InitializationAggregation ia = new InitializationAggregation(
+                                (short) voidConfiguration.getNumberOfShards(), transport.getShardIndex());
+                ia.setOriginatorId(this.originatorId);
+                transport.sendMessage(ia);
+                return;
+            }
+
+            log.warn("sI_{} snapshot doesn't match current job, it'll be discarded", transport.getShardIndex());
+            try {
+                ((PersistentWordVectorStorage) storage).discard();
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+            syn0 = null;
+        }
+
         if (syn0 == null) {
             log.info("sI_{} is starting initialization...", transport.getShardIndex());
 
@@ -57,22 +106,6 @@ public class DistributedInitializationMessage extends BaseVoidMessage implements
             // negTable will be initalized at driver level and will be shared via message
             Nd4j.getRandom().setSeed(seed * (shardIndex + 1));
 
-            if (voidConfiguration.getExecutionMode() == ExecutionMode.AVERAGING) {
-                // each shard has full own copy
-                columnsPerShard = vectorLength;
-            } else if (voidConfiguration.getExecutionMode() == ExecutionMode.DISTRIBUTED) {
-                // each shard will have only part of the data
-                if (voidConfiguration.getNumberOfShards() - 1 == shardIndex) {
-                    int modulo = vectorLength % voidConfiguration.getNumberOfShards();
-                    if (modulo != 0) {
-                        columnsPerShard += modulo;
-                        log.info("Got inequal split. using higher number of elements: {}", columnsPerShard);
-                    }
-                }
-            }
-
-            int[] shardShape = new int[] {numWords, columnsPerShard};
-
             syn0 = Nd4j.rand(shardShape, 'c').subi(0.5).divi(vectorLength);
 
             if (useHs)
@@ -82,7 +115,7 @@ public class DistributedInitializationMessage extends BaseVoidMessage implements
                 syn1Neg = Nd4j.create(shardShape, 'c');
 
             // we handle full exp table here
-            expTable = initExpTable(100000);
+            expTable = initExpTable(EXP_TABLE_WIDTH);
 
 
             storage.setArray(WordVectorStorage.SYN_0, syn0);
@@ -101,6 +134,23 @@ public class DistributedInitializationMessage extends BaseVoidMessage implements
         }
     }
 
+    /**
+     * This method checks, if arrays restored from snapshot were created for the same model as requested now
+     */
+    protected boolean matchesRestored(int[] shardShape, INDArray syn0, INDArray syn1, INDArray syn1Neg,
+                    INDArray expTable) {
+        if (!Arrays.equals(shardShape, syn0.shape()))
+            return false;
+
+        if (useHs != (syn1 != null) || (syn1 != null && !Arrays.equals(shardShape, syn1.shape())))
+            return false;
+
+        if (useNeg != (syn1Neg != null) || (syn1Neg != null && !Arrays.equals(shardShape, syn1Neg.shape())))
+            return false;
+
+        return expTable != null && expTable.length() == EXP_TABLE_WIDTH;
+    }
+
     protected INDArray initExpTable(int tableWidth) {
         double[] expTable = new double[tableWidth];
         for (int i = 0; i < expTable.length; i++) {
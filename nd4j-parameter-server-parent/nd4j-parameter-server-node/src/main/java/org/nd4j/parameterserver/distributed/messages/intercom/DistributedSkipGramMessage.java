@@ -3,6 +3,8 @@ package org.nd4j.parameterserver.distributed.messages.intercom;
 import lombok.NonNull;
 import org.nd4j.parameterserver.distributed.messages.BaseVoidMessage;
 import org.nd4j.parameterserver.distributed.messages.DistributedMessage;
+import org.nd4j.parameterserver.distributed.messages.codec.MessageReader;
+import org.nd4j.parameterserver.distributed.messages.codec.MessageWriter;
 import org.nd4j.parameterserver.distributed.messages.requests.SkipGramRequestMessage;
 
 /**
@@ -47,4 +49,33 @@ public class DistributedSkipGramMessage extends BaseVoidMessage implements Distr
     public void processMessage() {
 
     }
+
+    @Override
+    public int encodedLength() {
+        return super.encodedLength() + 8 + 4 + 4 + MessageWriter.sizeOf(points) + MessageWriter.sizeOf(codes) + 2 + 8;
+    }
+
+    @Override
+    public void encode(MessageWriter writer) {
+        super.encode(writer);
+        writer.putDouble(alpha);
+        writer.putInt(w1);
+        writer.putInt(w2);
+        writer.putInts(points);
+        writer.putBytes(codes);
+        writer.putShort(negSamples);
+        writer.putLong(nextRandom);
+    }
+
+    @Override
+    public void decode(MessageReader reader) {
+        super.decode(reader);
+        alpha = reader.getDouble();
+        w1 = reader.getInt();
+        w2 = reader.getInt();
+        points = reader.getInts();
+        codes = reader.getBytes();
+        negSamples = reader.getShort();
+        nextRandom = reader.getLong();
+    }
 }
@@ -6,6 +6,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.nd4j.parameterserver.distributed.messages.BaseVoidMessage;
 import org.nd4j.parameterserver.distributed.messages.DistributedMessage;
 import org.nd4j.parameterserver.distributed.messages.aggregations.VectorAggregation;
+import org.nd4j.parameterserver.distributed.messages.codec.MessageReader;
+import org.nd4j.parameterserver.distributed.messages.codec.MessageWriter;
 
 /**
  * @author raver119@gmail.com
@@ -31,9 +33,28 @@ public class DistributedVectorMessage extends BaseVoidMessage implements Distrib
      */
     @Override
     public void processMessage() {
-        VectorAggregation aggregation = new VectorAggregation(rowIndex, (short) voidConfiguration.getNumberOfShards(),
+        VectorAggregation aggregation = new VectorAggregation(taskId, (short) voidConfiguration.getNumberOfShards(),
                         shardIndex, storage.getArray(key).getRow(rowIndex).dup());
         aggregation.setOriginatorId(this.getOriginatorId());
         transport.sendMessage(aggregation);
     }
+
+    @Override
+    public int encodedLength() {
+        return super.encodedLength() + 4 + 4;
+    }
+
+    @Override
+    public void encode(MessageWriter writer) {
+        super.encode(writer);
+        writer.putInt(rowIndex);
+        writer.putInt(key);
+    }
+
+    @Override
+    public void decode(MessageReader reader) {
+        super.decode(reader);
+        rowIndex = reader.getInt();
+        key = reader.getInt();
+    }
 }
@@ -8,6 +8,8 @@ import org.nd4j.parameterserver.distributed.messages.BaseVoidMessage;
 import org.nd4j.parameterserver.distributed.messages.RequestMessage;
 import org.nd4j.parameterserver.distributed.messages.TrainingMessage;
 import org.nd4j.parameterserver.distributed.messages.VoidMessage;
+import org.nd4j.parameterserver.distributed.messages.codec.MessageReader;
+import org.nd4j.parameterserver.distributed.messages.codec.MessageWriter;
 import org.nd4j.parameterserver.distributed.training.TrainingDriver;
 
 /**
@@ -30,6 +32,10 @@ public class CbowRequestMessage extends BaseVoidMessage implements TrainingMessa
 
     protected int[] negatives;
 
+    protected CbowRequestMessage() {
+        super();
+    }
+
     public CbowRequestMessage(@NonNull int[] syn0rows, @NonNull int[] syn1rows, int w1, byte[] codes, int negSamples,
                     double alpha, long nextRandom) {
         this.syn0rows = syn0rows;
@@ -62,4 +68,39 @@ public class CbowRequestMessage extends BaseVoidMessage implements TrainingMessa
         // TODO: apply proper join handling here
         counter++;
     }
+
+    @Override
+    public int encodedLength() {
+        return super.encodedLength() + 1 + 8 + 4 + MessageWriter.sizeOf(syn0rows) + MessageWriter.sizeOf(syn1rows) + 8 + 8 + 4 + MessageWriter.sizeOf(codes) + MessageWriter.sizeOf(negatives);
+    }
+
+    @Override
+    public void encode(MessageWriter writer) {
+        super.encode(writer);
+        writer.putByte(counter);
+        writer.putLong(frameId);
+        writer.putInt(w1);
+        writer.putInts(syn0rows);
+        writer.putInts(syn1rows);
+        writer.putDouble(alpha);
+        writer.putLong(nextRandom);
+        writer.putInt(negSamples);
+        writer.putBytes(codes);
+        writer.putInts(negatives);
+    }
+
+    @Override
+    public void decode(MessageReader reader) {
+        super.decode(reader);
+        counter = reader.getByte();
+        frameId = reader.getLong();
+        w1 = reader.getInt();
+        syn0rows = reader.getInts();
+        syn1rows = reader.getInts();
+        alpha = reader.getDouble();
+        nextRandom = reader.getLong();
+        negSamples = reader.getInt();
+        codes = reader.getBytes();
+        negatives = reader.getInts();
+    }
 }
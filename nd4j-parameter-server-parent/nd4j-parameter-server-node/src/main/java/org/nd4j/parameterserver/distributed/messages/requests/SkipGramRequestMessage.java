@@ -7,6 +7,8 @@ import org.nd4j.parameterserver.distributed.messages.BaseVoidMessage;
 import org.nd4j.parameterserver.distributed.messages.RequestMessage;
 import org.nd4j.parameterserver.distributed.messages.TrainingMessage;
 import org.nd4j.parameterserver.distributed.messages.VoidMessage;
+import org.nd4j.parameterserver.distributed.messages.codec.MessageReader;
+import org.nd4j.parameterserver.distributed.messages.codec.MessageWriter;
 import org.nd4j.parameterserver.distributed.training.TrainingDriver;
 
 import java.util.Arrays;
@@ -124,4 +126,39 @@ public class SkipGramRequestMessage extends BaseVoidMessage implements TrainingM
         result = 31 * result + (int) negSamples;
         return result;
     }
+
+    @Override
+    public int encodedLength() {
+        return super.encodedLength() + 8 + 8 + 4 + 4 + MessageWriter.sizeOf(points) + MessageWriter.sizeOf(codes) + MessageWriter.sizeOf(negatives) + 2 + 8 + 1;
+    }
+
+    @Override
+    public void encode(MessageWriter writer) {
+        super.encode(writer);
+        writer.putDouble(alpha);
+        writer.putLong(frameId);
+        writer.putInt(w1);
+        writer.putInt(w2);
+        writer.putInts(points);
+        writer.putBytes(codes);
+        writer.putInts(negatives);
+        writer.putShort(negSamples);
+        writer.putLong(nextRandom);
+        writer.putByte(counter);
+    }
+
+    @Override
+    public void decode(MessageReader reader) {
+        super.decode(reader);
+        alpha = reader.getDouble();
+        frameId = reader.getLong();
+        w1 = reader.getInt();
+        w2 = reader.getInt();
+        points = reader.getInts();
+        codes = reader.getBytes();
+        negatives = reader.getInts();
+        negSamples = reader.getShort();
+        nextRandom = reader.getLong();
+        counter = reader.getByte();
+    }
 }
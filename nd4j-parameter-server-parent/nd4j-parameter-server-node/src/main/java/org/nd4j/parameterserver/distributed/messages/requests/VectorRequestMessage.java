@@ -3,11 +3,14 @@ package org.nd4j.parameterserver.distributed.messages.requests;
 import lombok.Data;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
+import org.nd4j.parameterserver.distributed.logic.sequence.BasicSequenceProvider;
 import org.nd4j.parameterserver.distributed.logic.storage.WordVectorStorage;
 import org.nd4j.parameterserver.distributed.messages.BaseVoidMessage;
 import org.nd4j.parameterserver.distributed.messages.RequestMessage;
 import org.nd4j.parameterserver.distributed.messages.aggregations.VectorAggregation;
 import org.nd4j.parameterserver.distributed.messages.intercom.DistributedVectorMessage;
+import org.nd4j.parameterserver.distributed.messages.codec.MessageReader;
+import org.nd4j.parameterserver.distributed.messages.codec.MessageWriter;
 
 /**
  * This message requests full weights vector for specified index
@@ -35,8 +38,8 @@ public class VectorRequestMessage extends BaseVoidMessage implements RequestMess
         this();
         this.rowIndex = rowIndex;
 
-        // FIXME: this is temporary, should be changed
-        this.taskId = rowIndex;
+        // unique taskId is required, so multiple vector requests can be in flight at the same time
+        this.taskId = BasicSequenceProvider.getInstance().getNextValue();
         this.key = key;
     }
 
@@ -45,7 +48,7 @@ public class VectorRequestMessage extends BaseVoidMessage implements RequestMess
      */
     @Override
     public void processMessage() {
-        VectorAggregation aggregation = new VectorAggregation(rowIndex, (short) voidConfiguration.getNumberOfShards(),
+        VectorAggregation aggregation = new VectorAggregation(taskId, (short) voidConfiguration.getNumberOfShards(),
                         getShardIndex(), storage.getArray(key).getRow(rowIndex).dup());
         aggregation.setOriginatorId(this.getOriginatorId());
 
@@ -53,6 +56,7 @@ public class VectorRequestMessage extends BaseVoidMessage implements RequestMess
 
         DistributedVectorMessage dvm = new DistributedVectorMessage(key, rowIndex);
         dvm.setOriginatorId(this.originatorId);
+        dvm.setTaskId(this.taskId);
 
         if (voidConfiguration.getNumberOfShards() > 1)
             transport.sendMessageToAllShards(dvm);
@@ -66,4 +70,26 @@ public class VectorRequestMessage extends BaseVoidMessage implements RequestMess
     public boolean isBlockingMessage() {
         return true;
     }
+
+    @Override
+    public int encodedLength() {
+        return super.encodedLength() + 1 + 4 + 4;
+    }
+
+    @Override
+    public void encode(MessageWriter writer) {
+        super.encode(writer);
+        writer.putBoolean(key != null);
+        writer.putInt(key == null ? 0 : key);
+        writer.putInt(rowIndex);
+    }
+
+    @Override
+    public void decode(MessageReader reader) {
+        super.decode(reader);
+        boolean hasKey = reader.getBoolean();
+        int value = reader.getInt();
+        key = hasKey ? value : null;
+        rowIndex = reader.getInt();
+    }
 }
@@ -20,10 +20,17 @@ import org.nd4j.parameterserver.distributed.logic.completion.Clipboard;
 import org.nd4j.parameterserver.distributed.messages.Frame;
 import org.nd4j.parameterserver.distributed.messages.MeaningfulMessage;
 import org.nd4j.parameterserver.distributed.messages.VoidMessage;
+import org.nd4j.parameterserver.distributed.messages.codec.MessageCodec;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -57,7 +64,27 @@ public abstract class BaseTransport implements Transport {
 
     protected LinkedBlockingQueue<VoidMessage> messages = new LinkedBlockingQueue<>();
 
-    protected Map<Long, MeaningfulMessage> completed = new ConcurrentHashMap<>();
+    // maximum number of retransmits for blocking messages, before we give up
+    // TODO: make retransmit threshold configurable
+    protected static final int MAX_RETRANSMITS = 20;
+
+    /**
+     * Blocking message waiting for its response, along with its retransmit timer
+     */
+    protected static class PendingResponse {
+        protected final VoidMessage message;
+        protected final CompletableFuture<MeaningfulMessage> future = new CompletableFuture<>();
+        protected volatile ScheduledFuture<?> timeout;
+
+        protected PendingResponse(VoidMessage message) {
+            this.message = message;
+        }
+    }
+
+    protected Map<Long, PendingResponse> pending = new ConcurrentHashMap<>();
+
+    // single timer thread handles response timeouts & retransmits for all messages in flight
+    protected ScheduledThreadPoolExecutor scheduler = createScheduler();
 
     protected AtomicBoolean runner = new AtomicBoolean(true);
 
@@ -71,7 +98,6 @@ public abstract class BaseTransport implements Transport {
 
     // TODO: make this configurable?
     protected IdleStrategy idler = new SleepingIdleStrategy(1000);
-    protected IdleStrategy feedbackIdler = new SleepingIdleStrategy(100000);
 
     protected ThreadingModel threadingModel = ThreadingModel.DEDICATED_THREADS;
 
@@ -81,50 +107,130 @@ public abstract class BaseTransport implements Transport {
     @Getter
     protected short shardIndex = 0;
 
+    /**
+     * This method sends blocking message, and waits for its response
+     *
+     * @param message
+     * @return
+     */
     @Override
     public MeaningfulMessage sendMessageAndGetResponse(@NonNull VoidMessage message) {
-        long startTime = System.currentTimeMillis();
+        try {
+            return sendMessageAsync(message).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException)
+                throw (RuntimeException) e.getCause();
+
+            throw new RuntimeException(e.getCause());
+        }
+    }
 
-        long taskId = message.getTaskId();
-        sendCommandToShard(message);
-        AtomicLong cnt = new AtomicLong(0);
+    /**
+     * This method sends blocking message, and returns future that will be completed once response arrives.
+     * If response doesn't arrive within VoidConfiguration.responseTimeout, message is sent again,
+     * up to MAX_RETRANSMITS times, after which future is completed exceptionally.
+     *
+     * PLEASE NOTE: responses are matched by taskId, so messages in flight should have distinct taskIds
+     *
+     * @param message
+     * @return
+     */
+    @Override
+    public CompletableFuture<MeaningfulMessage> sendMessageAsync(@NonNull VoidMessage message) {
+        final long startTime = System.currentTimeMillis();
+        final long taskId = message.getTaskId();
+
+        PendingResponse response = new PendingResponse(message);
+        PendingResponse existing = pending.putIfAbsent(taskId, response);
+        if (existing != null)
+            throw new ND4JIllegalStateException("Message with taskId [" + taskId + "] is already in flight");
+
+        // we report timing only for Frames, same as before
+        if (message instanceof Frame)
+            response.future.thenRun(() -> {
+                if (frameCount.incrementAndGet() % 1000 == 0)
+                    log.info("Frame of {} messages [{}] processed in {} ms", ((Frame) message).size(), taskId,
+                                    System.currentTimeMillis() - startTime);
+            });
+
+        // timeout is armed before sending, so response can't arrive before we're able to match it
+        scheduleRetransmit(response);
+        try {
+            sendCommandToShard(message);
+        } catch (Exception e) {
+            failResponse(taskId, e);
+        }
 
-        //        log.info("Sent message to shard: {}, taskId: {}, originalId: {}", message.getClass().getSimpleName(), message.getTaskId(), taskId);
+        return response.future;
+    }
 
-        long currentTime = System.currentTimeMillis();
+    protected void scheduleRetransmit(final PendingResponse response) {
+        final long taskId = response.message.getTaskId();
+        try {
+            response.timeout = scheduler.schedule(() -> retransmit(taskId), voidConfiguration.getResponseTimeout(),
+                            TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            failResponse(taskId, new ND4JIllegalStateException("Transport is shut down"));
+        }
+    }
 
-        MeaningfulMessage msg;
-        while ((msg = completed.get(taskId)) == null) {
-            try {
-                //Thread.sleep(voidConfiguration.getResponseTimeframe());
-                feedbackIdler.idle();
+    /**
+     * This method is called by scheduler, once response timeout for given taskId has expired
+     *
+     * @param taskId
+     */
+    protected void retransmit(long taskId) {
+        PendingResponse response = pending.get(taskId);
+        if (response == null || response.future.isDone())
+            return;
 
-                if (System.currentTimeMillis() - currentTime > voidConfiguration.getResponseTimeout()) {
-                    log.info("Resending request for taskId [{}]", taskId);
-                    message.incrementRetransmitCount();
+        VoidMessage message = response.message;
+        message.incrementRetransmitCount();
+        if (message.getRetransmitCount() > MAX_RETRANSMITS) {
+            failResponse(taskId, new RuntimeException("Giving up on message delivery..."));
+            return;
+        }
 
-                    // TODO: make retransmit threshold configurable
-                    if (message.getRetransmitCount() > 20)
-                        throw new RuntimeException("Giving up on message delivery...");
+        log.info("Resending request for taskId [{}]", taskId);
+        scheduleRetransmit(response);
+        try {
+            sendCommandToShard(message);
+        } catch (Exception e) {
+            failResponse(taskId, e);
+        }
+    }
 
-                    return sendMessageAndGetResponse(message);
-                }
-            } catch (Exception e) {
-                throw new RuntimeException(e);
-            }
+    /**
+     * This method completes pending request matching taskId of the given response.
+     * Responses nobody waits for (i.e. duplicates caused by retransmits) are discarded.
+     *
+     * @param message
+     */
+    protected void completeResponse(@NonNull MeaningfulMessage message) {
+        PendingResponse response = pending.remove(message.getTaskId());
+        if (response == null) {
+            log.debug("Discarding response for taskId [{}]: nobody waits for it", message.getTaskId());
+            return;
         }
 
-        completed.remove(taskId);
+        if (response.timeout != null)
+            response.timeout.cancel(false);
 
-        long endTime = System.currentTimeMillis();
-        long timeSpent = endTime - startTime;
+        response.future.complete(message);
+    }
 
-        if (message instanceof Frame && frameCount.incrementAndGet() % 1000 == 0)
-            log.info("Frame of {} messages [{}] processed in {} ms", ((Frame) message).size(), message.getTaskId(),
-                            timeSpent);
+    protected void failResponse(long taskId, @NonNull Throwable throwable) {
+        PendingResponse response = pending.remove(taskId);
+        if (response == null)
+            return;
 
+        if (response.timeout != null)
+            response.timeout.cancel(false);
 
-        return msg;
+        response.future.completeExceptionally(throwable);
     }
 
     @Override
@@ -198,10 +304,7 @@ public abstract class BaseTransport implements Transport {
          */
         // TODO: implement fragmentation handler here PROBABLY. Or forbid messages > MTU?
         //log.info("shardMessageHandler message request incoming...");
-        byte[] data = new byte[length];
-        buffer.getBytes(offset, data);
-
-        VoidMessage message = VoidMessage.fromBytes(data);
+        VoidMessage message = MessageCodec.decode(buffer, offset, length);
         if (message.getMessageType() == 7) {
             // if that's vector request message - it's special case, we don't send it to other shards yet
             //log.info("Shortcut for vector request");
@@ -224,10 +327,7 @@ public abstract class BaseTransport implements Transport {
         /**
          * All incoming internal messages are either op commands, or aggregation messages that are tied to commands
          */
-        byte[] data = new byte[length];
-        buffer.getBytes(offset, data);
-
-        VoidMessage message = VoidMessage.fromBytes(data);
+        VoidMessage message = MessageCodec.decode(buffer, offset, length);
 
         messages.add(message);
 
@@ -249,11 +349,8 @@ public abstract class BaseTransport implements Transport {
         // TODO: to be implemented
         //  log.info("clientMessageHandler message request incoming");
 
-        byte[] data = new byte[length];
-        buffer.getBytes(offset, data);
-
-        MeaningfulMessage message = (MeaningfulMessage) VoidMessage.fromBytes(data);
-        completed.put(message.getTaskId(), message);
+        MeaningfulMessage message = MessageCodec.decode(buffer, offset, length);
+        completeResponse(message);
     }
 
 
@@ -380,6 +477,28 @@ public abstract class BaseTransport implements Transport {
     }
 
 
+    protected static ScheduledThreadPoolExecutor createScheduler() {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread thread = new Thread(r);
+            thread.setDaemon(true);
+            thread.setName("VoidParamServer retransmit scheduler");
+            return thread;
+        });
+
+        // responses normally arrive well before timeout, so we don't want cancelled timers to pile up
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+
+    /**
+     * This method fails all requests still waiting for responses, and stops retransmit scheduler
+     */
+    protected void cancelPendingResponses() {
+        scheduler.shutdownNow();
+        for (Long taskId : pending.keySet())
+            failResponse(taskId, new ND4JIllegalStateException("Transport is shut down"));
+    }
+
     protected void shutdownSilent() {
         log.info("Shutting down Aeron infrastructure...");
         CloseHelper.quietClose(publicationForClients);
@@ -398,6 +517,7 @@ public abstract class BaseTransport implements Transport {
     public void shutdown() {
         // Since Aeron's poll isn't blocking, all we need is just special flag
         runner.set(false);
+        cancelPendingResponses();
         try {
             threadA.join();
 
@@ -499,9 +619,7 @@ public abstract class BaseTransport implements Transport {
         //log.info("Sending CS: {}", message.getClass().getCanonicalName());
 
         message.setTargetId(targetIndex);
-        DirectBuffer buffer = message.asUnsafeBuffer();
-
-        long result = publicationForShards.offer(buffer);
+        long result = MessageCodec.offer(publicationForShards, message);
 
         if (result < 0)
             for (int i = 0; i < 5 && result < 0; i++) {
@@ -510,7 +628,7 @@ public abstract class BaseTransport implements Transport {
                     Thread.sleep(1000);
                 } catch (Exception e) {
                 }
-                result = publicationForShards.offer(buffer);
+                result = MessageCodec.offer(publicationForShards, message);
             }
 
         // TODO: handle retransmit & backpressure separately
@@ -7,6 +7,8 @@ import org.nd4j.parameterserver.distributed.logic.completion.Clipboard;
 import org.nd4j.parameterserver.distributed.messages.MeaningfulMessage;
 import org.nd4j.parameterserver.distributed.messages.VoidMessage;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  *
  * @author raver119@gmail.com
@@ -110,6 +112,11 @@ public class LocalTransport implements Transport {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public CompletableFuture<MeaningfulMessage> sendMessageAsync(@NonNull VoidMessage message) {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     public short getShardIndex() {
         return 0;
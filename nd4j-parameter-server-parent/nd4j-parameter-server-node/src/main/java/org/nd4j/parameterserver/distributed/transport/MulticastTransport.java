@@ -12,6 +12,7 @@ import org.nd4j.parameterserver.distributed.enums.NodeRole;
 import org.nd4j.parameterserver.distributed.logic.completion.Clipboard;
 import org.nd4j.parameterserver.distributed.messages.MeaningfulMessage;
 import org.nd4j.parameterserver.distributed.messages.VoidMessage;
+import org.nd4j.parameterserver.distributed.messages.codec.MessageCodec;
 
 /**
  * Transport implementation based on Aeron UDP multicast
@@ -172,7 +173,7 @@ public class MulticastTransport extends BaseTransport {
         //log.info("Sending CC: {}", message.getClass().getCanonicalName());
 
         message.setTargetId((short) -1);
-        publicationForShards.offer(message.asUnsafeBuffer());
+        MessageCodec.offer(publicationForShards, message);
     }
 
     /**
@@ -185,13 +186,13 @@ public class MulticastTransport extends BaseTransport {
         if (nodeRole == NodeRole.SHARD && voidConfiguration.getNumberOfShards() == 1
                         && message instanceof MeaningfulMessage) {
             message.setTargetId((short) -1);
-            completed.put(message.getTaskId(), (MeaningfulMessage) message);
+            completeResponse((MeaningfulMessage) message);
             return;
         }
 
         //log.info("Sending FC: {}", message.getClass().getCanonicalName());
 
         message.setTargetId((short) -1);
-        publicationForClients.offer(message.asUnsafeBuffer());
+        MessageCodec.offer(publicationForClients, message);
     }
 }
@@ -19,6 +19,7 @@ import org.nd4j.parameterserver.distributed.logic.ClientRouter;
 import org.nd4j.parameterserver.distributed.logic.RetransmissionHandler;
 import org.nd4j.parameterserver.distributed.logic.completion.Clipboard;
 import org.nd4j.parameterserver.distributed.messages.*;
+import org.nd4j.parameterserver.distributed.messages.codec.MessageCodec;
 import org.nd4j.parameterserver.distributed.messages.requests.IntroductionRequestMessage;
 import org.nd4j.parameterserver.distributed.logic.routing.InterleavedRouter;
 
@@ -185,8 +186,6 @@ public class RoutedTransport extends BaseTransport {
             }
         }
 
-        final DirectBuffer buffer = message.asUnsafeBuffer();
-
         // TODO: check which approach is faster, lambda, direct roll through list, or queue approach
         shards.parallelStream().forEach((rc) -> {
             RetransmissionHandler.TransmissionStatus res;
@@ -207,7 +206,8 @@ public class RoutedTransport extends BaseTransport {
             //      log.info("Trying to send [{}] to {}", message.getClass().getSimpleName(), address);
             while (!delivered) {
                 synchronized (rc.locker) {
-                    res = RetransmissionHandler.getTransmissionStatus(rc.getPublication().offer(buffer));
+                    res = RetransmissionHandler
+                                    .getTransmissionStatus(MessageCodec.offer(rc.getPublication(), message));
                 }
 
                 switch (res) {
@@ -259,7 +259,7 @@ public class RoutedTransport extends BaseTransport {
         long targetAddress = message.getOriginatorId();
 
         if (targetAddress == originatorId) {
-            completed.put(message.getTaskId(), (MeaningfulMessage) message);
+            completeResponse((MeaningfulMessage) message);
             return;
         }
 
@@ -279,7 +279,7 @@ public class RoutedTransport extends BaseTransport {
         while (!delivered) {
             synchronized (connection.locker) {
                 result = RetransmissionHandler
-                                .getTransmissionStatus(connection.getPublication().offer(message.asUnsafeBuffer()));
+                                .getTransmissionStatus(MessageCodec.offer(connection.getPublication(), message));
             }
 
             switch (result) {
@@ -329,6 +329,7 @@ public class RoutedTransport extends BaseTransport {
     @Override
     public void shutdown() {
         runner.set(false);
+        cancelPendingResponses();
 
         if (threadB != null)
             threadB.interrupt();
@@ -366,7 +367,7 @@ public class RoutedTransport extends BaseTransport {
         while (!delivered) {
             synchronized (connection.locker) {
                 result = RetransmissionHandler
-                                .getTransmissionStatus(connection.getPublication().offer(message.asUnsafeBuffer()));
+                                .getTransmissionStatus(MessageCodec.offer(connection.getPublication(), message));
             }
 
             switch (result) {
@@ -417,10 +418,7 @@ public class RoutedTransport extends BaseTransport {
          *  All of them should implement MeaningfulMessage interface
          */
 
-        byte[] data = new byte[length];
-        buffer.getBytes(offset, data);
-
-        VoidMessage message = VoidMessage.fromBytes(data);
+        VoidMessage message = MessageCodec.decode(buffer, offset, length);
 
         //        log.info("sI_{} received message: {}", shardIndex, message.getClass().getSimpleName());
 
@@ -429,7 +427,7 @@ public class RoutedTransport extends BaseTransport {
 
         if (message instanceof MeaningfulMessage) {
             MeaningfulMessage msg = (MeaningfulMessage) message;
-            completed.put(message.getTaskId(), msg);
+            completeResponse(msg);
         } else if (message instanceof RequestMessage) {
             try {
                 messages.put((RequestMessage) message);
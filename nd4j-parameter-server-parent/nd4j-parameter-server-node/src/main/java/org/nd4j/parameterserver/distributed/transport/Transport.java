@@ -6,6 +6,8 @@ import org.nd4j.parameterserver.distributed.logic.completion.Clipboard;
 import org.nd4j.parameterserver.distributed.messages.MeaningfulMessage;
 import org.nd4j.parameterserver.distributed.messages.VoidMessage;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Transport interface describes Client -> Shard, Shard -> Shard, Shard -> Client communication
  *
@@ -56,6 +58,15 @@ public interface Transport {
      */
     MeaningfulMessage sendMessageAndGetResponse(VoidMessage message);
 
+    /**
+     * This method accepts message for delivery, and returns future that will be completed with response.
+     * Calling thread isn't blocked, so multiple messages can be in flight at the same time
+     *
+     * @param message
+     * @return
+     */
+    CompletableFuture<MeaningfulMessage> sendMessageAsync(VoidMessage message);
+
     /**
      *
      * @param message
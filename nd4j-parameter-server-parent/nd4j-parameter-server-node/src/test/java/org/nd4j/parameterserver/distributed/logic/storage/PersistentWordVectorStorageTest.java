@@ -0,0 +1,227 @@
+package org.nd4j.parameterserver.distributed.logic.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.factory.Nd4j;
+import org.nd4j.parameterserver.distributed.conf.VoidConfiguration;
+import org.nd4j.parameterserver.distributed.enums.NodeRole;
+import org.nd4j.parameterserver.distributed.logic.completion.Clipboard;
+import org.nd4j.parameterserver.distributed.messages.intercom.DistributedInitializationMessage;
+import org.nd4j.parameterserver.distributed.training.impl.SkipGramTrainer;
+import org.nd4j.parameterserver.distributed.transport.LocalTransport;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.*;
+
+@Slf4j
+public class PersistentWordVectorStorageTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testSnapshotAndRestore() throws Exception {
+        File directory = folder.newFolder();
+
+        INDArray syn0 = Nd4j.rand(1000, 100);
+        INDArray expTable = Nd4j.linspace(1, 100, 100);
+
+        PersistentWordVectorStorage storage = new PersistentWordVectorStorage(directory);
+        assertFalse(storage.isRestored());
+        storage.setArray(WordVectorStorage.SYN_0, syn0);
+        storage.setArray(WordVectorStorage.EXP_TABLE, expTable);
+        storage.snapshot();
+
+        // changes made after snapshot are lost without another one
+        syn0.getRow(10).addi(1.0);
+        INDArray exp = syn0.dup();
+        storage.snapshot();
+        syn0.getRow(20).addi(1.0);
+
+        PersistentWordVectorStorage restored = new PersistentWordVectorStorage(directory);
+        assertTrue(restored.isRestored());
+        assertEquals(2, restored.getGeneration());
+        assertEquals(exp, restored.getArray(WordVectorStorage.SYN_0));
+        assertEquals(expTable, restored.getArray(WordVectorStorage.EXP_TABLE));
+        assertFalse(restored.arrayExists(WordVectorStorage.SYN_1));
+        restored.shutdown();
+    }
+
+    @Test
+    public void testIncrementalSnapshots() throws Exception {
+        File directory = folder.newFolder();
+
+        // 4M floats/doubles, so there are multiple chunks
+        INDArray syn0 = Nd4j.rand(4000, 1000);
+        long bytes = syn0.length() * syn0.data().getElementSize();
+
+        PersistentWordVectorStorage storage = new PersistentWordVectorStorage(directory);
+        storage.setArray(WordVectorStorage.SYN_0, syn0);
+        assertEquals(bytes, storage.snapshot());
+
+        // nothing was changed
+        assertEquals(0, storage.snapshot());
+
+        // single row is updated, so only one chunk is written
+        syn0.getRow(3000).addi(1.0);
+        long written = storage.snapshot();
+        assertTrue(written > 0);
+        assertTrue(written <= 1024 * 1024);
+
+        // replaced array is written in full
+        INDArray other = Nd4j.rand(4000, 1000);
+        storage.setArray(WordVectorStorage.SYN_0, other);
+        assertEquals(bytes, storage.snapshot());
+
+        // restored storage continues incremental snapshots
+        storage.shutdown();
+        PersistentWordVectorStorage restored = new PersistentWordVectorStorage(directory);
+        assertEquals(other, restored.getArray(WordVectorStorage.SYN_0));
+        assertEquals(0, restored.snapshot());
+
+        restored.getArray(WordVectorStorage.SYN_0).getRow(0).assign(0.0);
+        assertTrue(restored.snapshot() > 0);
+        restored.shutdown();
+
+        INDArray exp = other.dup();
+        exp.getRow(0).assign(0.0);
+        assertEquals(exp, new PersistentWordVectorStorage(directory).getArray(WordVectorStorage.SYN_0));
+    }
+
+    @Test
+    public void testCrashDuringSnapshot() throws Exception {
+        File directory = folder.newFolder();
+        final AtomicBoolean crash = new AtomicBoolean(false);
+
+        INDArray syn0 = Nd4j.rand(4000, 1000);
+        PersistentWordVectorStorage storage = new PersistentWordVectorStorage(directory) {
+            @Override
+            protected void writeManifest(List<Integer> stored, long gen) throws IOException {
+                if (crash.get())
+                    throw new IOException("Crash before manifest is replaced");
+                super.writeManifest(stored, gen);
+            }
+        };
+        storage.setArray(WordVectorStorage.SYN_0, syn0);
+        storage.snapshot();
+
+        // changed chunks are written, but snapshot never completes
+        crash.set(true);
+        syn0.getRow(10).addi(1.0);
+        try {
+            storage.snapshot();
+            fail("Exception expected");
+        } catch (IOException e) {
+            // expected
+        }
+
+        // failed attempt doesn't break snapshots taken later
+        crash.set(false);
+        syn0.getRow(3000).addi(1.0);
+        storage.snapshot();
+        INDArray exp = syn0.dup();
+        int files = directory.list().length;
+
+        crash.set(true);
+        syn0.getRow(20).addi(1.0);
+        syn0.getRow(3010).addi(1.0);
+        try {
+            storage.snapshot();
+            fail("Exception expected");
+        } catch (IOException e) {
+            // expected
+        }
+
+        // previous snapshot is intact, and leftovers are removed
+        PersistentWordVectorStorage restored = new PersistentWordVectorStorage(directory);
+        assertEquals(exp, restored.getArray(WordVectorStorage.SYN_0));
+        assertEquals(files, directory.list().length);
+        restored.shutdown();
+    }
+
+    @Test
+    public void testCompaction() throws Exception {
+        File directory = folder.newFolder();
+
+        INDArray syn0 = Nd4j.rand(4000, 1000);
+        PersistentWordVectorStorage storage = new PersistentWordVectorStorage(directory);
+        storage.setArray(WordVectorStorage.SYN_0, syn0);
+        storage.snapshot();
+
+        for (int i = 0; i < 40; i++) {
+            syn0.getRow(i * 100).addi(1.0);
+            storage.snapshot();
+
+            // manifest, full copy and no more than 16 deltas
+            assertTrue(directory.list().length <= 18);
+        }
+
+        assertEquals(syn0, new PersistentWordVectorStorage(directory).getArray(WordVectorStorage.SYN_0));
+    }
+
+    @Test
+    public void testMismatchedSnapshot() throws Exception {
+        File directory = folder.newFolder();
+
+        PersistentWordVectorStorage storage = new PersistentWordVectorStorage(directory);
+        initialize(storage, 10, 5, false, true);
+        INDArray syn0 = storage.getArray(WordVectorStorage.SYN_0).dup();
+        storage.shutdown();
+
+        // same job: restored arrays are used as is
+        PersistentWordVectorStorage restored = new PersistentWordVectorStorage(directory);
+        initialize(restored, 10, 5, false, true);
+        assertTrue(restored.isRestored());
+        assertEquals(syn0, restored.getArray(WordVectorStorage.SYN_0));
+        restored.shutdown();
+
+        // different vocabulary: snapshot is dropped
+        restored = new PersistentWordVectorStorage(directory);
+        initialize(restored, 20, 5, false, true);
+        assertFalse(restored.isRestored());
+        assertArrayEquals(new int[] {20, 5}, restored.getArray(WordVectorStorage.SYN_0).shape());
+        assertArrayEquals(new int[] {20, 5}, restored.getArray(WordVectorStorage.SYN_1_NEGATIVE).shape());
+        restored.shutdown();
+
+        // different training algorithm: snapshot is dropped as well
+        restored = new PersistentWordVectorStorage(directory);
+        initialize(restored, 20, 5, true, false);
+        assertFalse(restored.isRestored());
+        assertTrue(restored.arrayExists(WordVectorStorage.SYN_1));
+        assertFalse(restored.arrayExists(WordVectorStorage.SYN_1_NEGATIVE));
+        restored.shutdown();
+
+        assertFalse(new PersistentWordVectorStorage(directory).arrayExists(WordVectorStorage.SYN_1_NEGATIVE));
+    }
+
+    private static void initialize(PersistentWordVectorStorage storage, int numWords, int columns, boolean useHs,
+                    boolean useNeg) {
+        DistributedInitializationMessage message =
+                        new DistributedInitializationMessage(columns, numWords, 119, useHs, useNeg, columns);
+        message.attachContext(VoidConfiguration.builder().build(), new SkipGramTrainer(), new Clipboard(),
+                        new LocalTransport(), storage, NodeRole.SHARD, (short) 0);
+        message.processMessage();
+    }
+
+    @Test
+    public void testBackgroundSnapshots() throws Exception {
+        File directory = folder.newFolder();
+
+        PersistentWordVectorStorage storage = new PersistentWordVectorStorage(directory, 50);
+        storage.setArray(WordVectorStorage.SYN_1, Nd4j.rand(100, 10));
+
+        long time = System.currentTimeMillis();
+        while (storage.getGeneration() < 2 && System.currentTimeMillis() - time < 10000)
+            Thread.sleep(10);
+
+        assertTrue(storage.getGeneration() >= 2);
+        assertTrue(new File(directory, PersistentWordVectorStorage.MANIFEST).exists());
+        storage.shutdown();
+    }
+}
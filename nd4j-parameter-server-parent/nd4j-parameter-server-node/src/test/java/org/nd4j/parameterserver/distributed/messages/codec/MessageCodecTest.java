@@ -0,0 +1,141 @@
+package org.nd4j.parameterserver.distributed.messages.codec;
+
+import io.aeron.Aeron;
+import io.aeron.FragmentAssembler;
+import io.aeron.Publication;
+import io.aeron.Subscription;
+import io.aeron.driver.MediaDriver;
+import org.agrona.CloseHelper;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.factory.Nd4j;
+import org.nd4j.parameterserver.distributed.messages.Frame;
+import org.nd4j.parameterserver.distributed.messages.VoidMessage;
+import org.nd4j.parameterserver.distributed.messages.aggregations.DotAggregation;
+import org.nd4j.parameterserver.distributed.messages.complete.FrameCompleteMessage;
+import org.nd4j.parameterserver.distributed.messages.complete.VectorCompleteMessage;
+import org.nd4j.parameterserver.distributed.messages.requests.SkipGramRequestMessage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class MessageCodecTest {
+
+    @Test
+    public void testSkipGramRoundTrip1() throws Exception {
+        SkipGramRequestMessage message = new SkipGramRequestMessage(10, 12, new int[] {10, 20, 30, 40},
+                        new byte[] {(byte) 0, (byte) 0, (byte) 1, (byte) 0}, (short) 0, 0.025, 117L);
+        message.setOriginatorId(119L);
+
+        UnsafeBuffer buffer = message.asUnsafeBuffer();
+        assertEquals(MessageCodec.MARKER, buffer.getShort(0, MessageCodec.ORDER));
+        assertEquals(MessageCodec.encodedLength(message), buffer.capacity());
+
+        SkipGramRequestMessage restored = MessageCodec.decode(buffer, 0, buffer.capacity());
+
+        assertEquals(message, restored);
+        assertEquals(119L, restored.getOriginatorId());
+        assertArrayEquals(message.getPoints(), restored.getPoints());
+        assertArrayEquals(message.getCodes(), restored.getCodes());
+    }
+
+    @Test
+    public void testFrameRoundTrip1() throws Exception {
+        Frame<SkipGramRequestMessage> frame = new Frame<>(17L);
+        for (int i = 0; i < 5; i++)
+            frame.stackMessage(new SkipGramRequestMessage(i, i + 1, new int[] {i, i + 2},
+                            new byte[] {(byte) 1, (byte) 0}, (short) 0, 0.01, 117L + i));
+
+        assertTrue(MessageCodec.isBinaryEncodable(frame));
+
+        Frame<SkipGramRequestMessage> restored = VoidMessage.fromBytes(frame.asBytes());
+
+        assertEquals(frame.size(), restored.size());
+        assertEquals(frame.getTaskId(), restored.getTaskId());
+        assertArrayEquals(frame.getMessages().toArray(), restored.getMessages().toArray());
+    }
+
+    @Test
+    public void testArrayPayload1() throws Exception {
+        INDArray array = Nd4j.linspace(1, 12, 12).reshape(3, 4);
+        VectorCompleteMessage message = new VectorCompleteMessage(19L, array);
+
+        VectorCompleteMessage restored = VoidMessage.fromBytes(message.asBytes());
+
+        assertEquals(19L, restored.getTaskId());
+        assertEquals(array, restored.getPayload());
+    }
+
+    @Test
+    public void testArrayPayloadView1() throws Exception {
+        INDArray array = Nd4j.linspace(1, 12, 12).reshape(3, 4);
+        INDArray row = array.getRow(1);
+        DotAggregation message = new DotAggregation(21L, (short) 2, (short) 1, row);
+
+        DotAggregation restored = VoidMessage.fromBytes(message.asBytes());
+
+        assertEquals(row, restored.getPayload());
+        assertEquals(1, restored.getShardIndex());
+        assertEquals(2, restored.getAggregationWidth());
+        assertEquals(1, restored.getMissingChunks());
+    }
+
+    @Test
+    public void testSerializationFallback1() throws Exception {
+        FrameCompleteMessage message = new FrameCompleteMessage(31L);
+        assertFalse(MessageCodec.isBinaryEncodable(message));
+
+        UnsafeBuffer buffer = message.asUnsafeBuffer();
+        FrameCompleteMessage restored = MessageCodec.decode(buffer, 0, buffer.capacity());
+
+        assertEquals(31L, restored.getTaskId());
+    }
+
+    @Test(timeout = 60000L)
+    public void testPublicationOffer1() throws Exception {
+        // udp, since ipc frames are as large as the term
+        String channel = "aeron:udp?endpoint=localhost:" + (40123 + new java.util.Random().nextInt(15000));
+        MediaDriver driver = MediaDriver.launchEmbedded();
+        try (Aeron aeron = Aeron.connect(new Aeron.Context().aeronDirectoryName(driver.aeronDirectoryName()));
+                        Subscription subscription = aeron.addSubscription(channel, 119);
+                        Publication publication = aeron.addPublication(channel, 119)) {
+            while (!publication.isConnected())
+                Thread.sleep(10);
+
+            // fits into single frame, so it's encoded right into the term buffer
+            SkipGramRequestMessage small = new SkipGramRequestMessage(10, 12, new int[] {10, 20},
+                            new byte[] {(byte) 0, (byte) 1}, (short) 0, 0.025, 117L);
+            // larger than frame, so it goes through reused direct buffer
+            INDArray array = Nd4j.linspace(1, 100000, 100000);
+            VectorCompleteMessage large = new VectorCompleteMessage(19L, array);
+            // java serialized
+            FrameCompleteMessage fallback = new FrameCompleteMessage(31L);
+
+            assertTrue(MessageCodec.encodedLength(small) <= publication.maxPayloadLength());
+            assertTrue(MessageCodec.encodedLength(large) > publication.maxPayloadLength());
+
+            final List<VoidMessage> received = new ArrayList<>();
+            FragmentAssembler assembler = new FragmentAssembler((buffer, offset, length, header) -> received
+                            .add(MessageCodec.decode(buffer, offset, length)));
+
+            for (VoidMessage message : new VoidMessage[] {small, large, fallback, large}) {
+                while (MessageCodec.offer(publication, message) < 0)
+                    Thread.sleep(1);
+            }
+
+            while (received.size() < 4)
+                subscription.poll(assembler, 10);
+
+            assertEquals(small, received.get(0));
+            assertEquals(19L, ((VectorCompleteMessage) received.get(1)).getTaskId());
+            assertEquals(array, ((VectorCompleteMessage) received.get(1)).getPayload());
+            assertEquals(31L, ((FrameCompleteMessage) received.get(2)).getTaskId());
+            assertEquals(array, ((VectorCompleteMessage) received.get(3)).getPayload());
+        } finally {
+            CloseHelper.quietClose(driver);
+        }
+    }
+}
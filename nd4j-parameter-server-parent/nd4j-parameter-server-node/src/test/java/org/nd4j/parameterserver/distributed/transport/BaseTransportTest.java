@@ -0,0 +1,128 @@
+package org.nd4j.parameterserver.distributed.transport;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.nd4j.linalg.factory.Nd4j;
+import org.nd4j.parameterserver.distributed.conf.VoidConfiguration;
+import org.nd4j.parameterserver.distributed.messages.MeaningfulMessage;
+import org.nd4j.parameterserver.distributed.messages.VoidMessage;
+import org.nd4j.parameterserver.distributed.messages.complete.VectorCompleteMessage;
+import org.nd4j.parameterserver.distributed.messages.requests.VectorRequestMessage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for request/response matching in BaseTransport, with wire replaced by in-memory list
+ */
+public class BaseTransportTest {
+    private RecordingTransport transport;
+
+    @Before
+    public void setUp() throws Exception {
+        transport = new RecordingTransport(VoidConfiguration.builder().responseTimeout(100).build());
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        transport.cancelPendingResponses();
+    }
+
+    @Test
+    public void testAsyncResponses1() throws Exception {
+        List<CompletableFuture<MeaningfulMessage>> futures = new ArrayList<>();
+        List<VectorRequestMessage> requests = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            VectorRequestMessage request = new VectorRequestMessage(i);
+            requests.add(request);
+            futures.add(transport.sendMessageAsync(request));
+        }
+
+        assertEquals(10, transport.sent.size());
+
+        // responses arrive in reverse order
+        for (int i = requests.size() - 1; i >= 0; i--)
+            transport.completeResponse(
+                            new VectorCompleteMessage(requests.get(i).getTaskId(), Nd4j.scalar((double) i)));
+
+        for (int i = 0; i < futures.size(); i++) {
+            MeaningfulMessage response = futures.get(i).get(5, TimeUnit.SECONDS);
+            assertEquals(requests.get(i).getTaskId(), response.getTaskId());
+            assertEquals((double) i, response.getPayload().getDouble(0), 1e-5);
+        }
+
+        assertTrue(transport.pending.isEmpty());
+    }
+
+    @Test
+    public void testRetransmit1() throws Exception {
+        VectorRequestMessage request = new VectorRequestMessage(1);
+        CompletableFuture<MeaningfulMessage> future = transport.sendMessageAsync(request);
+
+        long time = System.currentTimeMillis();
+        while (transport.sent.size() < 3 && System.currentTimeMillis() - time < 5000)
+            Thread.sleep(10);
+
+        assertTrue(transport.sent.size() >= 3);
+        assertFalse(future.isDone());
+
+        transport.completeResponse(new VectorCompleteMessage(request.getTaskId(), Nd4j.create(5)));
+
+        assertEquals(request.getTaskId(), future.get(5, TimeUnit.SECONDS).getTaskId());
+    }
+
+    @Test
+    public void testGivingUp1() throws Exception {
+        transport.cancelPendingResponses();
+        transport = new RecordingTransport(VoidConfiguration.builder().responseTimeout(1).build());
+
+        CompletableFuture<MeaningfulMessage> future = transport.sendMessageAsync(new VectorRequestMessage(1));
+
+        try {
+            future.get(10, TimeUnit.SECONDS);
+            fail("Exception expected");
+        } catch (ExecutionException e) {
+            assertEquals(BaseTransport.MAX_RETRANSMITS + 1, transport.sent.size());
+        }
+
+        assertTrue(transport.pending.isEmpty());
+    }
+
+    @Test
+    public void testUnexpectedResponse1() throws Exception {
+        // responses nobody waits for are silently discarded
+        transport.completeResponse(new VectorCompleteMessage(119L, Nd4j.create(5)));
+
+        assertTrue(transport.pending.isEmpty());
+    }
+
+    private static class RecordingTransport extends BaseTransport {
+        private final List<VoidMessage> sent = new CopyOnWriteArrayList<>();
+
+        private RecordingTransport(VoidConfiguration voidConfiguration) {
+            this.voidConfiguration = voidConfiguration;
+        }
+
+        @Override
+        protected void sendCommandToShard(VoidMessage message) {
+            sent.add(message);
+        }
+
+        @Override
+        protected void sendCoordinationCommand(VoidMessage message) {
+            //
+        }
+
+        @Override
+        protected void sendFeedbackToClient(VoidMessage message) {
+            //
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package org.nd4j.parameterserver.updater.storage;
 
+import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.nd4j.aeron.ipc.NDArrayMessage;
 import org.nd4j.linalg.api.ndarray.INDArray;
@@ -7,10 +8,23 @@ import org.rocksdb.Options;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksIterator;
+import org.rocksdb.WriteBatch;
+import org.rocksdb.WriteOptions;
 
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 
 /**
+ * Update storage backed by RocksDB.
+ *
+ * Updates are keyed by their index as 8 byte big endian integers,
+ * so keys are ordered the same way updates were added.
+ * Writes are accumulated in a {@link WriteBatch} and written
+ * once the batch is full, or before anything is read from the database.
+ *
  * Created by agibsonccc on 12/2/16.
  */
 public class RocksDbStorage extends BaseUpdateStorage implements AutoCloseable {
@@ -19,21 +33,69 @@ public class RocksDbStorage extends BaseUpdateStorage implements AutoCloseable {
         RocksDB.loadLibrary();
     }
 
+    public static final int DEFAULT_BATCH_SIZE = 1024;
+    // number of removals written at once by removeRange
+    private static final int REMOVE_BATCH_SIZE = 65536;
 
     private RocksDB db;
+    private Options options;
+    private WriteOptions writeOptions;
+    private boolean ownsOptions;
+    private WriteBatch batch;
+    private int batchSize;
     private int size = 0;
 
+    // values are read into these instead of allocating new buffers for every update
+    private final ThreadLocal<ReadBuffers> readBuffers = new ThreadLocal<ReadBuffers>() {
+        @Override
+        protected ReadBuffers initialValue() {
+            return new ReadBuffers();
+        }
+    };
+
     public RocksDbStorage(String dbPath) {
-        // that determines the behavior of a database.
-        Options options = new Options().setCreateIfMissing(true);
+        this(dbPath, DEFAULT_BATCH_SIZE, false);
+    }
+
+    /**
+     * @param dbPath the path to the database
+     * @param batchSize the number of updates written to the database at once
+     * @param disableWAL whether to skip the write ahead log.
+     *                   Faster writes, but updates not yet flushed
+     *                   to disk are lost if the process crashes
+     */
+    public RocksDbStorage(String dbPath, int batchSize, boolean disableWAL) {
+        this(dbPath, new Options().setCreateIfMissing(true), new WriteOptions().setDisableWAL(disableWAL),
+                        batchSize);
+        this.ownsOptions = true;
+    }
+
+    /**
+     * @param dbPath the path to the database
+     * @param options the options to open the database with
+     * @param writeOptions the options used for every write
+     * @param batchSize the number of updates written to the database at once
+     */
+    public RocksDbStorage(String dbPath, Options options, WriteOptions writeOptions, int batchSize) {
+        if (batchSize < 1)
+            throw new IllegalArgumentException("Batch size must be positive, got " + batchSize);
+
+        this.options = options;
+        this.writeOptions = writeOptions;
+        this.batchSize = batchSize;
+        this.batch = new WriteBatch();
         try {
-            // a factory method that returns a RocksDB instance
             db = RocksDB.open(options, dbPath);
-            // do something
         } catch (RocksDBException e) {
-            // do some error handling
-
+            throw new RuntimeException("Unable to open database at " + dbPath, e);
         }
+
+        // continue numbering after the updates already in the database
+        RocksIterator iterator = db.newIterator();
+        iterator.seekToLast();
+        if (iterator.isValid() && iterator.key().length == 8)
+            size = (int) ByteBuffer.wrap(iterator.key()).getLong() + 1;
+        iterator.close();
     }
 
     /**
@@ -42,22 +104,37 @@ public class RocksDbStorage extends BaseUpdateStorage implements AutoCloseable {
      * @param array the array to add
      */
     @Override
-    public void addUpdate(NDArrayMessage array) {
-        UnsafeBuffer directBuffer = (UnsafeBuffer) NDArrayMessage.toBuffer(array);
-        byte[] data = directBuffer.byteArray();
-        if (data == null) {
-            data = new byte[directBuffer.capacity()];
-            directBuffer.getBytes(0, data, 0, data.length);
-        }
-        byte[] key = ByteBuffer.allocate(4).putInt(size).array();
+    public synchronized void addUpdate(NDArrayMessage array) {
+        batch.put(key(size), toBytes(array));
+        size++;
+
+        if (batch.count() >= batchSize)
+            flush();
+    }
+
+    /**
+     * Add all of the given updates to the storage
+     *
+     * @param updates the updates to add
+     */
+    public synchronized void addUpdates(Collection<NDArrayMessage> updates) {
+        for (NDArrayMessage update : updates)
+            addUpdate(update);
+    }
+
+    /**
+     * Write the updates accumulated in the current batch to the database
+     */
+    public synchronized void flush() {
+        if (batch.count() == 0)
+            return;
+
         try {
-            db.put(key, data);
+            db.write(writeOptions, batch);
         } catch (RocksDBException e) {
             throw new RuntimeException(e);
         }
-
-        size++;
-
+        batch.clear();
     }
 
     /**
@@ -67,7 +144,7 @@ public class RocksDbStorage extends BaseUpdateStorage implements AutoCloseable {
      * @return
      */
     @Override
-    public int numUpdates() {
+    public synchronized int numUpdates() {
         return size;
     }
 
@@ -75,41 +152,179 @@ public class RocksDbStorage extends BaseUpdateStorage implements AutoCloseable {
      * Clear the array storage
      */
     @Override
-    public void clear() {
-        RocksIterator iterator = db.newIterator();
-        while (iterator.isValid())
-            try {
-                db.remove(iterator.key());
-            } catch (RocksDBException e) {
-                throw new RuntimeException(e);
-            }
-        iterator.close();
+    public synchronized void clear() {
+        removeRange(0, size);
+        try {
+            db.compactRange();
+        } catch (RocksDBException e) {
+            throw new RuntimeException(e);
+        }
         size = 0;
     }
 
+    /**
+     * Remove the updates with indices in the given range.
+     * Indices of the remaining updates are not changed.
+     *
+     * @param from the index of the first update to remove
+     * @param to the index after the last update to remove
+     */
+    public synchronized void removeRange(int from, int to) {
+        flush();
+
+        to = Math.min(to, size);
+        WriteBatch removals = new WriteBatch();
+        try {
+            for (int i = Math.max(from, 0); i < to; i++) {
+                removals.remove(key(i));
+                if (removals.count() >= REMOVE_BATCH_SIZE) {
+                    db.write(writeOptions, removals);
+                    removals.clear();
+                }
+            }
+
+            if (removals.count() > 0)
+                db.write(writeOptions, removals);
+        } catch (RocksDBException e) {
+            throw new RuntimeException(e);
+        } finally {
+            removals.close();
+        }
+    }
+
     /**
      * A method for actually performing the implementation
      * of retrieving the ndarray
      *
      * @param index the index of the {@link INDArray} to get
-     * @return the ndarray at the specified index
+     * @return the ndarray at the specified index,
+     * or null if it was removed
      */
     @Override
     public NDArrayMessage doGetUpdate(int index) {
-        byte[] key = ByteBuffer.allocate(4).putInt(index).array();
+        flush();
+
+        ReadBuffers buffers = readBuffers.get();
+        byte[] key = key(index);
         try {
-            UnsafeBuffer unsafeBuffer = new UnsafeBuffer(db.get(key));
-            return NDArrayMessage.fromBuffer(unsafeBuffer, 0);
+            int length = db.get(key, buffers.value);
+            if (length == RocksDB.NOT_FOUND)
+                return null;
+
+            if (length > buffers.value.length) {
+                buffers.value = new byte[length];
+                db.get(key, buffers.value);
+            }
+
+            return buffers.fromBytes(buffers.value, length);
         } catch (RocksDBException e) {
             throw new RuntimeException(e);
         }
     }
 
+    /**
+     * Iterate over the updates with indices in the given range, in order.
+     * Removed updates are skipped.
+     * The iterator should be closed once it isn't needed anymore.
+     *
+     * @param from the index of the first update
+     * @param to the index after the last update
+     * @return the iterator over the updates
+     */
+    public UpdateIterator iterator(int from, int to) {
+        flush();
+        return new UpdateIterator(db.newIterator(), from, to);
+    }
+
     /**
      * Close the database
      */
     @Override
-    public void close() {
+    public synchronized void close() {
+        flush();
+        batch.close();
         db.close();
+        if (ownsOptions) {
+            writeOptions.close();
+            options.close();
+        }
+    }
+
+    private static byte[] key(long index) {
+        return ByteBuffer.allocate(8).putLong(index).array();
+    }
+
+    private static byte[] toBytes(NDArrayMessage message) {
+        DirectBuffer buffer = NDArrayMessage.toBuffer(message);
+        byte[] data = buffer.byteArray();
+        if (data == null) {
+            data = new byte[buffer.capacity()];
+            buffer.getBytes(0, data, 0, data.length);
+        }
+        return data;
+    }
+
+    private static class ReadBuffers {
+        private byte[] value = new byte[4096];
+        private ByteBuffer direct = ByteBuffer.allocateDirect(4096).order(ByteOrder.nativeOrder());
+
+        /**
+         * Deserialize the message through the reusable direct buffer,
+         * otherwise a new direct buffer is allocated for every message
+         */
+        private NDArrayMessage fromBytes(byte[] bytes, int length) {
+            if (direct.capacity() < length)
+                direct = ByteBuffer.allocateDirect(length).order(ByteOrder.nativeOrder());
+
+            direct.clear();
+            direct.put(bytes, 0, length);
+            direct.clear();
+            return NDArrayMessage.fromBuffer(new UnsafeBuffer(direct), 0);
+        }
+    }
+
+    /**
+     * Iterator over a range of stored updates
+     */
+    public class UpdateIterator implements Iterator<NDArrayMessage>, AutoCloseable {
+        private RocksIterator iterator;
+        private byte[] end;
+        private ReadBuffers buffers = new ReadBuffers();
+
+        private UpdateIterator(RocksIterator iterator, int from, int to) {
+            this.iterator = iterator;
+            this.end = key(to);
+            iterator.seek(key(from));
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iterator.isValid() && compare(iterator.key(), end) < 0;
+        }
+
+        @Override
+        public NDArrayMessage next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+
+            byte[] value = iterator.value();
+            iterator.next();
+            return buffers.fromBytes(value, value.length);
+        }
+
+        @Override
+        public void close() {
+            iterator.close();
+        }
+
+        private int compare(byte[] a, byte[] b) {
+            int length = Math.min(a.length, b.length);
+            for (int i = 0; i < length; i++) {
+                int diff = (a[i] & 0xFF) - (b[i] & 0xFF);
+                if (diff != 0)
+                    return diff;
+            }
+            return a.length - b.length;
+        }
     }
 }
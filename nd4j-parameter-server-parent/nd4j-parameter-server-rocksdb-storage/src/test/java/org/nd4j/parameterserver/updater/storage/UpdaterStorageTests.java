@@ -1,19 +1,28 @@
 package org.nd4j.parameterserver.updater.storage;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.nd4j.aeron.ipc.NDArrayMessage;
 import org.nd4j.linalg.factory.Nd4j;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertFalse;
+import static junit.framework.TestCase.assertNull;
 
 /**
  * Created by agibsonccc on 12/2/16.
  */
 public class UpdaterStorageTests {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
 
     @Test
-    public void testInMemory() {
-        UpdateStorage updateStorage = new RocksDbStorage("/tmp/rocksdb");
+    public void testInMemory() throws Exception {
+        UpdateStorage updateStorage = new RocksDbStorage(folder.newFolder().getAbsolutePath());
         NDArrayMessage message = NDArrayMessage.wholeArrayUpdate(Nd4j.scalar(1.0));
         updateStorage.addUpdate(message);
         assertEquals(1, updateStorage.numUpdates());
@@ -22,4 +31,72 @@ public class UpdaterStorageTests {
         assertEquals(0, updateStorage.numUpdates());
         updateStorage.close();
     }
+
+    @Test
+    public void testBatchedWrites() throws Exception {
+        String path = folder.newFolder().getAbsolutePath();
+        List<NDArrayMessage> messages = new ArrayList<>();
+        for (int i = 0; i < 100; i++)
+            messages.add(NDArrayMessage.wholeArrayUpdate(Nd4j.linspace(1, 10, 10).muli(i)));
+
+        RocksDbStorage storage = new RocksDbStorage(path, 16, true);
+        storage.addUpdates(messages);
+        assertEquals(100, storage.numUpdates());
+        for (int i = 0; i < 100; i++)
+            assertEquals(messages.get(i), storage.getUpdate(i));
+        storage.close();
+
+        // updates are kept on disk, new ones are added after them
+        storage = new RocksDbStorage(path);
+        assertEquals(100, storage.numUpdates());
+        assertEquals(messages.get(99), storage.getUpdate(99));
+        storage.addUpdate(messages.get(0));
+        assertEquals(messages.get(0), storage.getUpdate(100));
+        storage.close();
+    }
+
+    @Test
+    public void testIterationAndRemoval() throws Exception {
+        String path = folder.newFolder().getAbsolutePath();
+        List<NDArrayMessage> messages = new ArrayList<>();
+        RocksDbStorage storage = new RocksDbStorage(path, 7, false);
+        for (int i = 0; i < 300; i++) {
+            NDArrayMessage message = NDArrayMessage.wholeArrayUpdate(Nd4j.create(new double[] {i, -i}));
+            messages.add(message);
+            storage.addUpdate(message);
+        }
+
+        // 256 checks that keys are ordered as numbers rather than as signed bytes
+        int count = 0;
+        try (RocksDbStorage.UpdateIterator iterator = storage.iterator(250, 260)) {
+            while (iterator.hasNext())
+                assertEquals(messages.get(250 + count++), iterator.next());
+        }
+        assertEquals(10, count);
+
+        storage.removeRange(10, 290);
+        assertEquals(300, storage.numUpdates());
+        assertNull(storage.getUpdate(10));
+        assertNull(storage.getUpdate(289));
+        assertEquals(messages.get(290), storage.getUpdate(290));
+
+        List<NDArrayMessage> remaining = new ArrayList<>();
+        try (RocksDbStorage.UpdateIterator iterator = storage.iterator(0, storage.numUpdates())) {
+            while (iterator.hasNext())
+                remaining.add(iterator.next());
+        }
+        assertEquals(20, remaining.size());
+        assertEquals(messages.get(9), remaining.get(9));
+        assertEquals(messages.get(290), remaining.get(10));
+
+        storage.clear();
+        storage.close();
+
+        storage = new RocksDbStorage(path);
+        assertEquals(0, storage.numUpdates());
+        try (RocksDbStorage.UpdateIterator iterator = storage.iterator(0, Integer.MAX_VALUE)) {
+            assertFalse(iterator.hasNext());
+        }
+        storage.close();
+    }
 }
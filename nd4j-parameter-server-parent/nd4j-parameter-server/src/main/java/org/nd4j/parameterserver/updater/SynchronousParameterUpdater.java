@@ -2,6 +2,7 @@ package org.nd4j.parameterserver.updater;
 
 import org.nd4j.aeron.ipc.NDArrayHolder;
 import org.nd4j.aeron.ipc.NDArrayMessage;
+import org.nd4j.aeron.ipc.sparse.SparseCompressor;
 import org.nd4j.linalg.api.ndarray.INDArray;
 import org.nd4j.parameterserver.updater.storage.UpdateStorage;
 import org.nd4j.shade.jackson.core.JsonProcessingException;
@@ -150,18 +151,23 @@ public class SynchronousParameterUpdater extends BaseParameterUpdater {
      */
     @Override
     public void partialUpdate(INDArray arr, INDArray result, long idx, int... dimensions) {
-        result.tensorAlongDimension((int) idx, dimensions).addi(arr);
+        update(arr, result.tensorAlongDimension((int) idx, dimensions));
     }
 
     /**
      * Updates result
-     * based on arr
+     * based on arr.
+     * Sparse updates (see {@link SparseCompressor})
+     * are added without decoding them.
      *
      * @param arr    the array to update
      * @param result the result ndarray to update
      */
     @Override
     public void update(INDArray arr, INDArray result) {
-        result.addi(arr);
+        if (SparseCompressor.isSparse(arr))
+            SparseCompressor.addTo(arr, result);
+        else
+            result.addi(arr);
     }
 }
@@ -2,10 +2,16 @@ package org.nd4j.parameterserver.updater;
 
 import org.junit.Test;
 import org.nd4j.aeron.ipc.NDArrayMessage;
+import org.nd4j.aeron.ipc.sparse.GradientEncoder;
+import org.nd4j.aeron.ipc.sparse.SparseCompressor;
 import org.nd4j.aeron.ndarrayholder.InMemoryNDArrayHolder;
+import org.nd4j.linalg.api.ndarray.INDArray;
 import org.nd4j.linalg.factory.Nd4j;
+import org.nd4j.linalg.ops.transforms.Transforms;
+import org.nd4j.parameterserver.updater.storage.InMemoryUpdateStorage;
 import org.nd4j.parameterserver.updater.storage.NoUpdateStorage;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assume.assumeNotNull;
@@ -32,4 +38,43 @@ public class ParameterServerUpdaterTests {
 
     }
 
+    @Test
+    public void sparseUpdateTest() {
+        int workers = 4;
+        INDArray params = Nd4j.zeros(20, 50);
+        ParameterServerUpdater updater = new SynchronousParameterUpdater(new InMemoryUpdateStorage(),
+                        new InMemoryNDArrayHolder(params), workers);
+
+        INDArray exp = Nd4j.zeros(20, 50);
+        GradientEncoder[] encoders = new GradientEncoder[workers];
+        for (int i = 0; i < workers; i++)
+            encoders[i] = i % 2 == 0 ? GradientEncoder.topK(50) : GradientEncoder.threshold(0.25);
+
+        for (int i = 0; i < workers; i++) {
+            INDArray gradient = Nd4j.rand(new int[] {20, 50}, 100 + i).subi(0.5);
+            exp.addi(gradient);
+
+            NDArrayMessage message = NDArrayMessage.wholeArrayUpdate(encoders[i].encode(gradient));
+            //go through the wire format, sparse updates stay encoded
+            NDArrayMessage received = NDArrayMessage.fromBuffer(NDArrayMessage.toBuffer(message), 0);
+            assertTrue(SparseCompressor.isSparse(received.getArr()));
+            updater.update(received);
+
+            //whatever wasn't sent is kept by the worker
+            exp.subi(encoders[i].getResidual());
+        }
+
+        assertTrue(updater.shouldReplicate());
+        assertEquals(workers, updater.numUpdates());
+        assertEquals(0.0, Transforms.abs(exp.sub(params)).maxNumber().doubleValue(), 1e-5);
+
+        //partial updates are applied to the tensor along dimension
+        GradientEncoder encoder = GradientEncoder.threshold(1e-3);
+        INDArray row = Nd4j.linspace(1, 50, 50);
+        updater.update(NDArrayMessage.builder().arr(encoder.encode(row)).index(3).dimensions(new int[] {1})
+                        .sent(NDArrayMessage.getCurrentTimeUtc()).build());
+        exp.getRow(3).addi(row);
+        assertEquals(0.0, Transforms.abs(exp.sub(params)).maxNumber().doubleValue(), 1e-5);
+    }
+
 }
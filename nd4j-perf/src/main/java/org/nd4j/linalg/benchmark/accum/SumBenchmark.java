@@ -0,0 +1,39 @@
+package org.nd4j.linalg.benchmark.accum;
+
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.benchmark.api.BaseBenchmark;
+import org.nd4j.linalg.factory.Nd4j;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Full array reductions
+ */
+public class SumBenchmark extends BaseBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    public int length;
+
+    private INDArray arr;
+
+    @Setup
+    public void setUp() {
+        arr = Nd4j.rand(1, length);
+    }
+
+    @Benchmark
+    public Number sum() {
+        return arr.sumNumber();
+    }
+
+    @Benchmark
+    public Number max() {
+        return arr.maxNumber();
+    }
+
+    @Benchmark
+    public Number norm2() {
+        return arr.norm2Number();
+    }
+}
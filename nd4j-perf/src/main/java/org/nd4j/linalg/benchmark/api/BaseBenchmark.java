@@ -0,0 +1,43 @@
+package org.nd4j.linalg.benchmark.api;
+
+import org.nd4j.linalg.api.buffer.DataBuffer;
+import org.nd4j.linalg.factory.Nd4j;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Base class for nd4j JMH benchmarks.
+ *
+ * Every benchmark is parameterised by data type, which is set globally before arrays are created,
+ * so subclasses should create their arrays in {@link Setup} methods, not in field initializers.
+ * Defaults below can be overridden either per class, or from command line, see BenchmarkRunnerApp.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public abstract class BaseBenchmark {
+
+    @Param({"float", "double"})
+    public String dataType;
+
+    @Setup(Level.Trial)
+    public void setUpDataType() {
+        Nd4j.setDataType(DataBuffer.Type.valueOf(dataType.toUpperCase()));
+        Nd4j.getRandom().setSeed(119);
+    }
+
+    /**
+     * Parses shape parameter like "128x256"
+     */
+    protected static int[] parseShape(String shape) {
+        String[] split = shape.split("x");
+        int[] result = new int[split.length];
+        for (int i = 0; i < split.length; i++)
+            result[i] = Integer.parseInt(split[i].trim());
+        return result;
+    }
+}
@@ -1,13 +0,0 @@
-package org.nd4j.linalg.benchmark.api;
-
-/**
- * @author Adam Gibson
- */
-public interface OpRunner {
-
-    /**
-     * Run an operation
-     */
-    void runOp();
-
-}
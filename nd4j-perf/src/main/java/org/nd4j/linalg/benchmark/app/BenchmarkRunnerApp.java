@@ -3,29 +3,35 @@ package org.nd4j.linalg.benchmark.app;
 import org.kohsuke.args4j.CmdLineException;
 import org.kohsuke.args4j.CmdLineParser;
 import org.kohsuke.args4j.Option;
-import org.nd4j.linalg.benchmark.api.BenchMarkPerformer;
-import org.nd4j.linalg.factory.Nd4j;
-import org.nd4j.linalg.factory.Nd4jBackend;
-import org.reflections.Reflections;
-
-import java.lang.reflect.Constructor;
-import java.lang.reflect.Modifier;
-import java.util.*;
-import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
 
 /**
- * Discovers all sub classes of benchmark performer on the class
- * path and runs each backend on the class path with each performer.
+ * Runs nd4j JMH benchmarks, and stores results as JSON, suitable for tracking performance over time.
+ *
+ * Usage: java -jar nd4j-perf/target/benchmarks.jar -r Gemm,Scalar -p dataType=float -o results.json
  *
- * You can specify the number of trials to run for each benchmark.
+ * Benchmarks are selected by regexps matched against fully qualified benchmark names,
+ * all of them are run by default. Backend is picked up from the class path, as usual.
  *
  * @author Adam Gibson
  */
 public class BenchmarkRunnerApp {
-    @Option(name = "--nTrials", usage = "Number of trials to run", aliases = "-n")
-    private int nTrials = 1000;
-    @Option(name = "--run", usage = "Trials to run", aliases = "-r")
+    @Option(name = "--run", usage = "Comma separated regexps of benchmarks to run", aliases = "-r")
     private String benchmarksToRun;
+    @Option(name = "--param", usage = "Comma separated benchmark parameter overrides, i.e. dataType=float",
+                    aliases = "-p")
+    private String params;
+    @Option(name = "--forks", usage = "Number of forked JVMs per benchmark", aliases = "-f")
+    private int forks = -1;
+    @Option(name = "--warmup", usage = "Number of warmup iterations", aliases = "-wi")
+    private int warmupIterations = -1;
+    @Option(name = "--iterations", usage = "Number of measurement iterations", aliases = "-i")
+    private int iterations = -1;
+    @Option(name = "--output", usage = "File to write JSON results to", aliases = "-o")
+    private String output = "nd4j-benchmarks.json";
 
     /**
      * Do the main method
@@ -33,51 +39,40 @@ public class BenchmarkRunnerApp {
      * @throws Exception if an exception is thrown
      */
     public void doMain(String[] args) throws Exception {
-        Reflections reflections = new Reflections();
         CmdLineParser parser = new CmdLineParser(this);
         try {
             parser.parseArgument(args);
         } catch (CmdLineException e) {
             System.err.println(e.getMessage());
+            parser.printUsage(System.err);
             return;
         }
 
-        ServiceLoader<Nd4jBackend> backends = ServiceLoader.load(Nd4jBackend.class);
-        Iterator<Nd4jBackend> backendIterator = backends.iterator();
-        List<Nd4jBackend> allBackends = new ArrayList<>();
-        Set<String> run = new HashSet<>();
-        if (benchmarksToRun != null) {
-            String[] split = benchmarksToRun.split(",");
-            for (String s : split)
-                run.add(s);
-        }
-        while (backendIterator.hasNext())
-            allBackends.add(backendIterator.next());
+        ChainedOptionsBuilder options = new OptionsBuilder().resultFormat(ResultFormatType.JSON).result(output);
 
+        if (benchmarksToRun != null) {
+            for (String include : benchmarksToRun.split(","))
+                options.include(include.trim());
+        } else
+            options.include("org\\.nd4j\\.linalg\\.benchmark\\..*");
 
-        Set<Class<? extends BenchMarkPerformer>> performers = reflections.getSubTypesOf(BenchMarkPerformer.class);
-        for (Class<? extends BenchMarkPerformer> perfClazz : performers) {
-            if (Modifier.isAbstract(perfClazz.getModifiers()) || !run.isEmpty() && !run.contains(perfClazz.getName()))
-                continue;
-            String begin = "=========================";
-            String end = "===========================";
-            System.out.println(begin + " Benchmark: " + perfClazz.getName() + " " + end);
-            for (Nd4jBackend backend : backends) {
-                Nd4j nd4j = new Nd4j();
-                nd4j.initWithBackend(backend);
-                Constructor<BenchMarkPerformer> performerConstructor =
-                                (Constructor<BenchMarkPerformer>) perfClazz.getConstructor(int.class);
-                BenchMarkPerformer performer = performerConstructor.newInstance(nTrials);
-                System.out.println("Running " + backend.getClass().getName());
-                performer.run(backend);
-                System.out.println("Backend " + backend.getClass().getName() + " took (in nanoseconds) "
-                                + performer.averageTime() + " (in milliseconds) "
-                                + TimeUnit.MILLISECONDS.convert(performer.averageTime(), TimeUnit.NANOSECONDS));
+        if (params != null) {
+            for (String param : params.split(",")) {
+                String[] split = param.split("=");
+                if (split.length != 2)
+                    throw new IllegalArgumentException("Parameter should be specified as name=value: [" + param + "]");
+                options.param(split[0].trim(), split[1].trim());
             }
-
-            System.out.println(begin + end);
         }
 
+        if (forks >= 0)
+            options.forks(forks);
+        if (warmupIterations >= 0)
+            options.warmupIterations(warmupIterations);
+        if (iterations > 0)
+            options.measurementIterations(iterations);
+
+        new Runner(options.build()).run();
     }
 
     public static void main(String[] args) throws Exception {
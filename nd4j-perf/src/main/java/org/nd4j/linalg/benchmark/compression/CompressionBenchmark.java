@@ -0,0 +1,39 @@
+package org.nd4j.linalg.benchmark.compression;
+
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.benchmark.api.BaseBenchmark;
+import org.nd4j.linalg.factory.Nd4j;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Compression and decompression with codecs available via {@link Nd4j#getCompressor()}
+ */
+public class CompressionBenchmark extends BaseBenchmark {
+
+    @Param({"FLOAT16", "FLOAT8", "INT8", "INT16", "UINT8", "GZIP"})
+    public String codec;
+
+    @Param({"100000", "10000000"})
+    public int length;
+
+    private INDArray arr;
+    private INDArray compressed;
+
+    @Setup
+    public void setUp() {
+        arr = Nd4j.rand(1, length);
+        compressed = Nd4j.getCompressor().compress(arr, codec);
+    }
+
+    @Benchmark
+    public INDArray compress() {
+        return Nd4j.getCompressor().compress(arr, codec);
+    }
+
+    @Benchmark
+    public INDArray decompress() {
+        return Nd4j.getCompressor().decompress(compressed);
+    }
+}
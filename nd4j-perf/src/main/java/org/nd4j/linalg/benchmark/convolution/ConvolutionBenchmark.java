@@ -0,0 +1,46 @@
+package org.nd4j.linalg.benchmark.convolution;
+
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.benchmark.api.BaseBenchmark;
+import org.nd4j.linalg.convolution.Convolution;
+import org.nd4j.linalg.factory.Nd4j;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * im2col/col2im, which are at the core of convolution layers.
+ * Shape is specified as minibatch x channels x height x width
+ */
+public class ConvolutionBenchmark extends BaseBenchmark {
+
+    @Param({"32x3x32x32", "16x64x56x56"})
+    public String shape;
+
+    @Param({"3", "5"})
+    public int kernel;
+
+    private INDArray input;
+    private INDArray columns;
+    private int height;
+    private int width;
+
+    @Setup
+    public void setUp() {
+        int[] shape = parseShape(this.shape);
+        height = shape[2];
+        width = shape[3];
+        input = Nd4j.rand(shape);
+        columns = Convolution.im2col(input, kernel, kernel, 1, 1, kernel / 2, kernel / 2, false);
+    }
+
+    @Benchmark
+    public INDArray im2col() {
+        return Convolution.im2col(input, kernel, kernel, 1, 1, kernel / 2, kernel / 2, false);
+    }
+
+    @Benchmark
+    public INDArray col2im() {
+        return Convolution.col2im(columns, 1, 1, kernel / 2, kernel / 2, height, width);
+    }
+}
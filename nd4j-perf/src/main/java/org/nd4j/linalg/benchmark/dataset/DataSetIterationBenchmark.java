@@ -0,0 +1,82 @@
+package org.nd4j.linalg.benchmark.dataset;
+
+import org.nd4j.linalg.benchmark.api.BaseBenchmark;
+import org.nd4j.linalg.dataset.DataSet;
+import org.nd4j.linalg.dataset.ViewIterator;
+import org.nd4j.linalg.dataset.api.iterator.AsyncDataSetIterator;
+import org.nd4j.linalg.dataset.api.iterator.DataSetIterator;
+import org.nd4j.linalg.dataset.shard.DataSetShardWriter;
+import org.nd4j.linalg.dataset.shard.ShardedDataSetIterator;
+import org.nd4j.linalg.factory.Nd4j;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+
+/**
+ * One epoch over the same data: in-memory views, async prefetching on top of them, and sharded files
+ */
+public class DataSetIterationBenchmark extends BaseBenchmark {
+
+    @Param({"10000"})
+    public int numExamples;
+
+    @Param({"784"})
+    public int numFeatures;
+
+    @Param({"32", "256"})
+    public int batchSize;
+
+    private DataSet data;
+    private File shardFile;
+    private ShardedDataSetIterator sharded;
+
+    @Setup
+    public void setUp() throws IOException {
+        data = new DataSet(Nd4j.rand(numExamples, numFeatures), Nd4j.rand(numExamples, 10));
+
+        shardFile = File.createTempFile("nd4j-benchmark", ".shard");
+        shardFile.deleteOnExit();
+        try (DataSetShardWriter writer = new DataSetShardWriter(shardFile)) {
+            ViewIterator iterator = new ViewIterator(data, batchSize);
+            while (iterator.hasNext())
+                writer.write(iterator.next());
+        }
+        sharded = new ShardedDataSetIterator(Collections.singletonList(shardFile));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        sharded.close();
+        shardFile.delete();
+    }
+
+    @Benchmark
+    public int view() {
+        return iterate(new ViewIterator(data, batchSize));
+    }
+
+    @Benchmark
+    public int async() {
+        AsyncDataSetIterator iterator = new AsyncDataSetIterator(new ViewIterator(data, batchSize));
+        try {
+            return iterate(iterator);
+        } finally {
+            iterator.shutdown();
+        }
+    }
+
+    @Benchmark
+    public int shards() {
+        sharded.reset();
+        return iterate(sharded);
+    }
+
+    private static int iterate(DataSetIterator iterator) {
+        int examples = 0;
+        while (iterator.hasNext())
+            examples += iterator.next().numExamples();
+        return examples;
+    }
+}
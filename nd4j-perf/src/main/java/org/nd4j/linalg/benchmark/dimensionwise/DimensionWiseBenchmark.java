@@ -0,0 +1,42 @@
+package org.nd4j.linalg.benchmark.dimensionwise;
+
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.benchmark.api.BaseBenchmark;
+import org.nd4j.linalg.factory.Nd4j;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Reductions along dimension, over both contiguous and strided tensors
+ */
+public class DimensionWiseBenchmark extends BaseBenchmark {
+
+    @Param({"1000x1000", "100x10000", "10000x100"})
+    public String shape;
+
+    @Param({"c", "f"})
+    public char order;
+
+    private INDArray arr;
+
+    @Setup
+    public void setUp() {
+        arr = Nd4j.rand(parseShape(shape)).dup(order);
+    }
+
+    @Benchmark
+    public INDArray mean0() {
+        return arr.mean(0);
+    }
+
+    @Benchmark
+    public INDArray mean1() {
+        return arr.mean(1);
+    }
+
+    @Benchmark
+    public INDArray argMax1() {
+        return Nd4j.argMax(arr, 1);
+    }
+}
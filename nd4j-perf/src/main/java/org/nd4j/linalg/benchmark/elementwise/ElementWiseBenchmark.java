@@ -0,0 +1,49 @@
+package org.nd4j.linalg.benchmark.elementwise;
+
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.benchmark.api.BaseBenchmark;
+import org.nd4j.linalg.factory.Nd4j;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Pairwise and broadcast ops: addi, addiRowVector and addiColumnVector
+ */
+public class ElementWiseBenchmark extends BaseBenchmark {
+
+    @Param({"100x100", "1000x1000", "10000x1000"})
+    public String shape;
+
+    @Param({"c", "f"})
+    public char order;
+
+    private INDArray arr;
+    private INDArray other;
+    private INDArray row;
+    private INDArray column;
+
+    @Setup
+    public void setUp() {
+        int[] shape = parseShape(this.shape);
+        arr = Nd4j.rand(shape).dup(order);
+        other = Nd4j.rand(shape).dup(order);
+        row = Nd4j.rand(1, shape[1]);
+        column = Nd4j.rand(shape[0], 1);
+    }
+
+    @Benchmark
+    public INDArray addi() {
+        return arr.addi(other);
+    }
+
+    @Benchmark
+    public INDArray addiRowVector() {
+        return arr.addiRowVector(row);
+    }
+
+    @Benchmark
+    public INDArray addiColumnVector() {
+        return arr.addiColumnVector(column);
+    }
+}
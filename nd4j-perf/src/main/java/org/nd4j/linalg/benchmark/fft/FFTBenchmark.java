@@ -0,0 +1,58 @@
+package org.nd4j.linalg.benchmark.fft;
+
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.benchmark.api.BaseBenchmark;
+import org.nd4j.linalg.factory.Nd4j;
+import org.nd4j.linalg.fft.FFT;
+import org.nd4j.linalg.fft.FFTPlan;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.util.Random;
+
+/**
+ * FFT of power of 2, mixed radix and prime lengths: plan on raw data, and batched transform over INDArray rows
+ */
+public class FFTBenchmark extends BaseBenchmark {
+
+    @Param({"1000", "1024", "4096", "4099"})
+    public int length;
+
+    @Param({"64"})
+    public int batch;
+
+    private double[] data;
+    private double[] work;
+    private INDArray real;
+    private INDArray imag;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(119);
+        data = new double[2 * length];
+        for (int i = 0; i < data.length; i++)
+            data[i] = random.nextDouble();
+        work = new double[data.length];
+
+        real = Nd4j.rand(batch, length);
+        imag = Nd4j.rand(batch, length);
+    }
+
+    @Benchmark
+    public double[] plan() {
+        System.arraycopy(data, 0, work, 0, data.length);
+        FFTPlan.forLength(length).transform(work, 0, 1, false);
+        return work;
+    }
+
+    @Benchmark
+    public INDArray[] complexRows() {
+        return FFT.fft(real, imag, 1);
+    }
+
+    @Benchmark
+    public INDArray[] realRows() {
+        return FFT.fft(real, null, 1);
+    }
+}
@@ -0,0 +1,48 @@
+package org.nd4j.linalg.benchmark.gemm;
+
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.benchmark.api.BaseBenchmark;
+import org.nd4j.linalg.factory.Nd4j;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Matrix-matrix and matrix-vector multiplication of square matrices
+ */
+public class GemmBenchmark extends BaseBenchmark {
+
+    @Param({"64", "256", "1024"})
+    public int size;
+
+    @Param({"c", "f"})
+    public char order;
+
+    private INDArray a;
+    private INDArray b;
+    private INDArray vector;
+    private INDArray result;
+
+    @Setup
+    public void setUp() {
+        a = Nd4j.rand(new int[] {size, size}).dup(order);
+        b = Nd4j.rand(new int[] {size, size}).dup(order);
+        vector = Nd4j.rand(size, 1);
+        result = Nd4j.create(new int[] {size, size}, 'f');
+    }
+
+    @Benchmark
+    public INDArray gemm() {
+        return a.mmul(b);
+    }
+
+    @Benchmark
+    public INDArray gemmWithResult() {
+        return a.mmul(b, result);
+    }
+
+    @Benchmark
+    public INDArray gemv() {
+        return a.mmul(vector);
+    }
+}
@@ -0,0 +1,56 @@
+package org.nd4j.linalg.benchmark.indexing;
+
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.benchmark.api.BaseBenchmark;
+import org.nd4j.linalg.factory.Nd4j;
+import org.nd4j.linalg.indexing.NDArrayIndex;
+import org.nd4j.linalg.indexing.SpecifiedIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.util.Random;
+
+/**
+ * Selecting rows by index list, as done for minibatch sampling and embedding lookups,
+ * through the gather op and through indexing with SpecifiedIndex, which dispatches to it
+ */
+public class GatherBenchmark extends BaseBenchmark {
+
+    @Param({"10000x100"})
+    public String shape;
+
+    @Param({"32", "1024"})
+    public int numIndexes;
+
+    private INDArray arr;
+    private INDArray updates;
+    private int[] indexes;
+
+    @Setup
+    public void setUp() {
+        int[] shapeArray = parseShape(shape);
+        arr = Nd4j.rand(shapeArray);
+        updates = Nd4j.rand(numIndexes, shapeArray[1]);
+
+        Random random = new Random(119);
+        indexes = new int[numIndexes];
+        for (int i = 0; i < numIndexes; i++)
+            indexes[i] = random.nextInt(shapeArray[0]);
+    }
+
+    @Benchmark
+    public INDArray gatherRows() {
+        return Nd4j.gather(arr, 0, indexes);
+    }
+
+    @Benchmark
+    public INDArray specifiedIndexRows() {
+        return arr.get(new SpecifiedIndex(indexes), NDArrayIndex.all());
+    }
+
+    @Benchmark
+    public INDArray scatterAddRows() {
+        return Nd4j.scatterAdd(arr, 0, indexes, updates);
+    }
+}
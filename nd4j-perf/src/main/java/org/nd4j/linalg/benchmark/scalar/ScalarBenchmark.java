@@ -0,0 +1,39 @@
+package org.nd4j.linalg.benchmark.scalar;
+
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.benchmark.api.BaseBenchmark;
+import org.nd4j.linalg.factory.Nd4j;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Scalar ops, in place and with allocation of result
+ */
+public class ScalarBenchmark extends BaseBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    public int length;
+
+    private INDArray arr;
+
+    @Setup
+    public void setUp() {
+        arr = Nd4j.rand(1, length);
+    }
+
+    @Benchmark
+    public INDArray addi() {
+        return arr.addi(1.0);
+    }
+
+    @Benchmark
+    public INDArray add() {
+        return arr.add(1.0);
+    }
+
+    @Benchmark
+    public INDArray muli() {
+        return arr.muli(1.0);
+    }
+}
@@ -0,0 +1,59 @@
+package org.nd4j.linalg.benchmark.serde;
+
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.benchmark.api.BaseBenchmark;
+import org.nd4j.linalg.factory.Nd4j;
+import org.nd4j.serde.binary.BinarySerde;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * In-memory serialization: legacy element-by-element stream format vs bulk binary format
+ */
+public class SerializationBenchmark extends BaseBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    public int length;
+
+    private INDArray arr;
+    private byte[] legacy;
+    private byte[] binary;
+
+    @Setup
+    public void setUp() throws IOException {
+        arr = Nd4j.rand(1, length);
+        legacy = writeLegacy();
+        binary = writeBinary();
+    }
+
+    @Benchmark
+    public byte[] writeLegacy() throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        DataOutputStream dos = new DataOutputStream(bos);
+        Nd4j.write(arr, dos);
+        dos.flush();
+        return bos.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] writeBinary() {
+        return BinarySerde.toByteArray(arr);
+    }
+
+    @Benchmark
+    public INDArray readLegacy() throws IOException {
+        return Nd4j.read(new DataInputStream(new ByteArrayInputStream(legacy)));
+    }
+
+    @Benchmark
+    public INDArray readBinary() throws IOException {
+        return BinarySerde.fromByteArray(binary);
+    }
+}
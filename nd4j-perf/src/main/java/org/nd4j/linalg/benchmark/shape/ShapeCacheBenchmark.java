@@ -0,0 +1,55 @@
+package org.nd4j.linalg.benchmark.shape;
+
+import org.apache.commons.math3.util.Pair;
+import org.nd4j.linalg.api.buffer.DataBuffer;
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.benchmark.api.BaseBenchmark;
+import org.nd4j.linalg.factory.Nd4j;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Shape information and TAD lookups, which happen for every op and view creation, and hit the caches
+ */
+public class ShapeCacheBenchmark extends BaseBenchmark {
+
+    @Param({"100x100", "32x64x28x28"})
+    public String shape;
+
+    private int[] shapeArray;
+    private INDArray arr;
+    private int lastDimension;
+
+    @Setup
+    public void setUp() {
+        shapeArray = parseShape(shape);
+        arr = Nd4j.create(shapeArray);
+        lastDimension = shapeArray.length - 1;
+    }
+
+    @Benchmark
+    public DataBuffer shapeInfo() {
+        return Nd4j.getShapeInfoProvider().createShapeInformation(shapeArray, 'c');
+    }
+
+    @Benchmark
+    public Pair<DataBuffer, DataBuffer> tadShapeInfo() {
+        return Nd4j.getExecutioner().getTADManager().getTADOnlyShapeInfo(arr, lastDimension);
+    }
+
+    @Benchmark
+    public INDArray tensorAlongDimension() {
+        return arr.tensorAlongDimension(1, lastDimension);
+    }
+
+    @Benchmark
+    public INDArray reshape() {
+        return arr.reshape(arr.length());
+    }
+
+    @Benchmark
+    public INDArray slice() {
+        return arr.slice(0);
+    }
+}
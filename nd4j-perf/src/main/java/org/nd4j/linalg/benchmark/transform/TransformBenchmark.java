@@ -0,0 +1,46 @@
+package org.nd4j.linalg.benchmark.transform;
+
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.benchmark.api.BaseBenchmark;
+import org.nd4j.linalg.factory.Nd4j;
+import org.nd4j.linalg.ops.transforms.Transforms;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Transform ops, with and without copy of the input
+ */
+public class TransformBenchmark extends BaseBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    public int length;
+
+    private INDArray arr;
+
+    @Setup
+    public void setUp() {
+        arr = Nd4j.rand(1, length);
+    }
+
+    @Benchmark
+    public INDArray sigmoid() {
+        return Transforms.sigmoid(arr);
+    }
+
+    @Benchmark
+    public INDArray sigmoidNoCopy() {
+        // sigmoid keeps values within (0, 1), so repeated application in place is fine
+        return Transforms.sigmoid(arr, false);
+    }
+
+    @Benchmark
+    public INDArray tanhNoCopy() {
+        return Transforms.tanh(arr, false);
+    }
+
+    @Benchmark
+    public INDArray exp() {
+        return Transforms.exp(arr, true);
+    }
+}
@@ -0,0 +1,121 @@
+package org.nd4j.linalg.benchmark.updater;
+
+import org.apache.commons.math3.util.FastMath;
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.api.ops.impl.transforms.arithmetic.AddOp;
+import org.nd4j.linalg.benchmark.api.BaseBenchmark;
+import org.nd4j.linalg.factory.Nd4j;
+import org.nd4j.linalg.learning.*;
+import org.nd4j.linalg.ops.transforms.Transforms;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Gradient updaters: {@link GradientUpdater#getGradient(INDArray, int)}, compared to the same update done
+ * with the op chains updaters used before fused kernels, which allocate temporary arrays on each call
+ */
+public class UpdaterBenchmark extends BaseBenchmark {
+
+    @Param({"adam", "rmsprop", "adagrad", "nesterovs", "adadelta"})
+    public String updater;
+
+    @Param({"100000", "10000000"})
+    public int length;
+
+    private double lr = 1e-3;
+    private double epsilon = 1e-8;
+    private double momentum = 0.9;
+    private double decay = 0.95;
+
+    private GradientUpdater gradientUpdater;
+    private INDArray source;
+    private INDArray gradient;
+    private INDArray state1;
+    private INDArray state2;
+    private int iteration;
+
+    @Setup
+    public void setUp() {
+        source = Nd4j.rand(1, length);
+        gradient = source.dup();
+
+        switch (updater) {
+            case "adam":
+                gradientUpdater = new Adam(lr);
+                break;
+            case "rmsprop":
+                gradientUpdater = new RmsProp(lr, decay);
+                break;
+            case "adagrad":
+                gradientUpdater = new AdaGrad(lr);
+                break;
+            case "nesterovs":
+                gradientUpdater = new Nesterovs(momentum, lr);
+                break;
+            case "adadelta":
+                gradientUpdater = new AdaDelta();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown updater: [" + updater + "]");
+        }
+        INDArray state = Nd4j.zeros(1, gradientUpdater.stateSizeForInputSize(length));
+        gradientUpdater.setStateViewArray(state, gradient.shape(), gradient.ordering(), true);
+
+        state1 = Nd4j.zeros(1, length);
+        state2 = Nd4j.zeros(1, length);
+        if (updater.equals("rmsprop"))
+            state1.addi(epsilon);
+    }
+
+    @Benchmark
+    public INDArray updater() {
+        gradient.assign(source);
+        return gradientUpdater.getGradient(gradient, iteration++);
+    }
+
+    @Benchmark
+    public INDArray opChain() {
+        gradient.assign(source);
+        switch (updater) {
+            case "adam": {
+                double beta1 = 0.9;
+                double beta2 = 0.999;
+                state1.muli(beta1).addi(gradient.mul(1.0 - beta1));
+                state2.muli(beta2).addi(gradient.mul(gradient).muli(1 - beta2));
+
+                double beta1t = FastMath.pow(beta1, iteration + 1);
+                double beta2t = FastMath.pow(beta2, iteration + 1);
+                double alphat = lr * FastMath.sqrt(1 - beta2t) / (1 - beta1t);
+
+                INDArray sqrtV = Transforms.sqrt(state2, true).addi(epsilon);
+                gradient.assign(state1.mul(alphat).divi(sqrtV));
+                break;
+            }
+            case "rmsprop":
+                state1.muli(decay).addi(gradient.mul(gradient).muli(1 - decay));
+                gradient.muli(lr).divi(Transforms.sqrt(state1, true).addi(epsilon));
+                break;
+            case "adagrad":
+                state1.addi(gradient.mul(gradient));
+                gradient.muli(Transforms.sqrt(state1, true).addi(epsilon).rdivi(lr));
+                break;
+            case "nesterovs": {
+                INDArray vPrev = state1.dup();
+                state1.muli(momentum).subi(gradient.mul(lr));
+                Nd4j.getExecutioner().exec(new AddOp(vPrev.muli(momentum), state1.mul(-momentum - 1), gradient));
+                break;
+            }
+            case "adadelta": {
+                state1.muli(decay).addi(gradient.mul(gradient).muli(1 - decay));
+                INDArray rmsdx = Transforms.sqrt(state2.add(epsilon), false);
+                INDArray rmsg = Transforms.sqrt(state1.add(epsilon), false);
+                INDArray update = gradient.muli(rmsdx.divi(rmsg));
+                state2.muli(decay).addi(update.mul(update).muli(1 - decay));
+                break;
+            }
+        }
+        iteration++;
+        return gradient;
+    }
+}
@@ -10,6 +10,7 @@ import org.agrona.DirectBuffer;
 import org.agrona.concurrent.BusySpinIdleStrategy;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.nd4j.aeron.ipc.chunk.NDArrayMessageChunk;
+import org.nd4j.aeron.ipc.sparse.GradientEncoder;
 import org.nd4j.linalg.api.ndarray.INDArray;
 import org.nd4j.linalg.factory.Nd4j;
 import org.slf4j.Logger;
@@ -41,6 +42,8 @@ public class AeronNDArrayPublisher implements AutoCloseable {
     private boolean compress = true;
     private static final BusySpinIdleStrategy busySpinIdleStrategy = new BusySpinIdleStrategy();
     private int publishRetryTimeOut = 3000;
+    //optional sparsification of gradients sent with publishGradient
+    private GradientEncoder gradientEncoder;
 
     private void init() {
         channel = channel == null ? "aeron:udp?endpoint=localhost:40123" : channel;
@@ -169,6 +172,21 @@ public class AeronNDArrayPublisher implements AutoCloseable {
         publish(NDArrayMessage.wholeArrayUpdate(arr));
     }
 
+    /**
+     * Publish a gradient to an aeron channel.
+     * If a {@link GradientEncoder} is set, only the sparse
+     * part of the gradient it selects is sent, the rest
+     * is accumulated for later gradients.
+     * @param gradient the gradient to publish
+     * @throws Exception
+     */
+    public void publishGradient(INDArray gradient) throws Exception {
+        if (gradientEncoder == null)
+            publish(gradient);
+        else
+            publish(NDArrayMessage.wholeArrayUpdate(gradientEncoder.encode(gradient)));
+    }
+
 
     /**
      * Closes this resource, relinquishing any underlying resources.
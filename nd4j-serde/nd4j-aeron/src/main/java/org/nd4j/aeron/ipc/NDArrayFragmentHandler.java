@@ -5,7 +5,7 @@ import io.aeron.logbuffer.Header;
 import lombok.extern.slf4j.Slf4j;
 import org.agrona.DirectBuffer;
 import org.nd4j.aeron.ipc.chunk.ChunkAccumulator;
-import org.nd4j.aeron.ipc.chunk.InMemoryChunkAccumulator;
+import org.nd4j.aeron.ipc.chunk.DirectChunkAccumulator;
 import org.nd4j.aeron.ipc.chunk.NDArrayMessageChunk;
 
 import java.nio.ByteBuffer;
@@ -21,7 +21,7 @@ import java.nio.ByteOrder;
 @Slf4j
 public class NDArrayFragmentHandler implements FragmentHandler {
     private NDArrayCallback ndArrayCallback;
-    private ChunkAccumulator chunkAccumulator = new InMemoryChunkAccumulator();
+    private ChunkAccumulator chunkAccumulator = new DirectChunkAccumulator();
 
     public NDArrayFragmentHandler(NDArrayCallback ndArrayCallback) {
         this.ndArrayCallback = ndArrayCallback;
@@ -68,7 +68,7 @@ public class NDArrayFragmentHandler implements FragmentHandler {
                 throw new IllegalStateException("Found invalid number of chunks " + chunk.getNumChunks()
                                 + " on chunk index " + chunk.getChunkIndex());
             chunkAccumulator.accumulateChunk(chunk);
-            log.info("Number of chunks " + chunk.getNumChunks() + " and number of chunks " + chunk.getNumChunks()
+            log.debug("Number of chunks " + chunk.getNumChunks() + " and number of chunks " + chunk.getNumChunks()
                             + " for id " + chunk.getId() + " is " + chunkAccumulator.numChunksSoFar(chunk.getId()));
 
             if (chunkAccumulator.allPresent(chunk.getId())) {
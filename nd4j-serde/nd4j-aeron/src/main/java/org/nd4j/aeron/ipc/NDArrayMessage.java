@@ -8,6 +8,7 @@ import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.apache.commons.lang3.tuple.Pair;
 import org.nd4j.aeron.ipc.chunk.NDArrayMessageChunk;
+import org.nd4j.aeron.ipc.sparse.SparseCompressor;
 import org.nd4j.linalg.api.ndarray.INDArray;
 import org.nd4j.linalg.factory.Nd4j;
 
@@ -33,6 +34,10 @@ import java.util.UUID;
  * dimensions: the dimensions to do for a tensoralongdimension update, if you intend on updating the whole array send: new int[]{ -1} which
  * will indicate to use the whole array for an update.
  *
+ * arr may also be a sparse update encoded by {@link SparseCompressor}
+ * (see {@link org.nd4j.aeron.ipc.sparse.GradientEncoder}). Unlike other compressed arrays,
+ * these aren't decompressed on receipt, use {@link SparseCompressor#addTo(INDArray, INDArray)} to apply them.
+ *
  *
  * @author Adam Gibson
  */
@@ -327,7 +332,9 @@ public class NDArrayMessage implements Serializable {
         //skip the message type
         Pair<INDArray, ByteBuffer> pair = AeronNDArraySerde.toArrayAndByteBuffer(buffer, offset + 4);
         INDArray arr = pair.getKey();
-        Nd4j.getCompressor().decompressi(arr);
+        //sparse updates are applied as they are, see SparseCompressor#addTo
+        if (!SparseCompressor.isSparse(arr))
+            Nd4j.getCompressor().decompressi(arr);
         //use the rest of the buffer, of note here the offset is already set, we should only need to use
         ByteBuffer rest = pair.getRight();
         long time = rest.getLong();
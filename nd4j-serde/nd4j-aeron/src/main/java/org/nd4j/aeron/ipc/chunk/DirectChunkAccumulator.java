@@ -0,0 +1,231 @@
+package org.nd4j.aeron.ipc.chunk;
+
+import lombok.extern.slf4j.Slf4j;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.nd4j.aeron.ipc.NDArrayMessage;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Accumulate chunks straight into their final location.
+ *
+ * A single direct destination buffer is allocated for a message id
+ * once its first chunk arrives, and every chunk is copied
+ * at its own offset (chunk index * chunk size) as soon as it lands.
+ * This means reassembly doesn't need any additional copies,
+ * and chunks don't have to be retained after they were accumulated.
+ *
+ * Received chunks are tracked with an atomic bitmap, so duplicate chunks
+ * are ignored and chunks for the same message can be accumulated from multiple threads.
+ *
+ * Partial messages which didn't receive any chunk within the timeout
+ * are considered stale and dropped, see {@link #expireStale()}
+ */
+@Slf4j
+public class DirectChunkAccumulator implements ChunkAccumulator {
+    public static final long DEFAULT_TIMEOUT_MS = TimeUnit.SECONDS.toMillis(30);
+
+    private final Map<String, PartialMessage> messages = new ConcurrentHashMap<>();
+    private final long timeoutMs;
+    private volatile long lastExpiration = System.currentTimeMillis();
+
+    public DirectChunkAccumulator() {
+        this(DEFAULT_TIMEOUT_MS);
+    }
+
+    /**
+     * @param timeoutMs the number of milliseconds
+     *                  after which partial message
+     *                  without any new chunks is dropped
+     */
+    public DirectChunkAccumulator(long timeoutMs) {
+        if (timeoutMs <= 0)
+            throw new IllegalArgumentException("Timeout must be positive");
+        this.timeoutMs = timeoutMs;
+    }
+
+    /**
+     * Destination buffer for a single message,
+     * along with the bitmap of chunks received so far
+     */
+    private static class PartialMessage {
+        private final int numChunks;
+        private final int chunkSize;
+        private final ByteBuffer destination;
+        private final AtomicLongArray received;
+        private final AtomicInteger numReceived = new AtomicInteger(0);
+        private volatile long lastUpdate = System.currentTimeMillis();
+
+        private PartialMessage(int numChunks, int chunkSize) {
+            this.numChunks = numChunks;
+            this.chunkSize = chunkSize;
+            this.destination = ByteBuffer.allocateDirect(numChunks * chunkSize).order(ByteOrder.nativeOrder());
+            this.received = new AtomicLongArray((numChunks + 63) / 64);
+        }
+
+        /**
+         * Marks chunk as received
+         * @return false if the chunk was received already
+         */
+        private boolean mark(int index) {
+            int word = index / 64;
+            long bit = 1L << (index % 64);
+            while (true) {
+                long current = received.get(word);
+                if ((current & bit) != 0)
+                    return false;
+                if (received.compareAndSet(word, current, current | bit))
+                    return true;
+            }
+        }
+
+        private boolean isComplete() {
+            return numReceived.get() == numChunks;
+        }
+    }
+
+    /**
+     * Returns the number of chunks
+     * accumulated for a given id so far
+     *
+     * @param id the id to get the
+     *           number of chunks for
+     * @return the number of chunks accumulated
+     * for a given id so far
+     */
+    @Override
+    public int numChunksSoFar(String id) {
+        PartialMessage message = messages.get(id);
+        return message == null ? 0 : message.numReceived.get();
+    }
+
+    /**
+     * Returns true if all chunks are present
+     *
+     * @param id the id to check for
+     * @return true if all the chunks are present,false otherwise
+     */
+    @Override
+    public boolean allPresent(String id) {
+        PartialMessage message = messages.get(id);
+        return message != null && message.isComplete();
+    }
+
+    /**
+     * Reassemble an ndarray message
+     * from the destination buffer chunks were written to.
+     *
+     * Note that once reassemble is called,
+     * the destination buffer is removed from storage.
+     *
+     * @param id the id to reassemble
+     * @return the reassembled message
+     */
+    @Override
+    public NDArrayMessage reassemble(String id) {
+        PartialMessage message = messages.get(id);
+        if (message == null)
+            throw new IllegalStateException("Unable to reassemble message chunk " + id + ": no chunks were received");
+        if (!message.isComplete())
+            throw new IllegalStateException("Unable to reassemble message chunk " + id + " missing "
+                            + (message.numChunks - message.numReceived.get()) + " chunks");
+
+        messages.remove(id, message);
+        return NDArrayMessage.fromBuffer(new UnsafeBuffer(message.destination), 0);
+    }
+
+    /**
+     * Copy the chunk in to the destination buffer
+     * for its message id, at the offset of the chunk.
+     * The chunk itself isn't retained.
+     *
+     * @param chunk the chunk
+     */
+    @Override
+    public void accumulateChunk(NDArrayMessageChunk chunk) {
+        if (chunk.getNumChunks() < 1 || chunk.getChunkSize() < 1)
+            throw new IllegalStateException("Found invalid chunk " + chunk.getChunkIndex() + " for id "
+                            + chunk.getId() + ": " + chunk.getNumChunks() + " chunks of size " + chunk.getChunkSize());
+        if (chunk.getChunkIndex() < 0 || chunk.getChunkIndex() >= chunk.getNumChunks())
+            throw new IllegalStateException("Found invalid chunk index " + chunk.getChunkIndex() + " for id "
+                            + chunk.getId() + " with " + chunk.getNumChunks() + " chunks");
+
+        // new message is a good point to get rid of messages that won't be ever completed
+        if (!messages.containsKey(chunk.getId()))
+            expireStale();
+
+        if ((long) chunk.getNumChunks() * chunk.getChunkSize() > Integer.MAX_VALUE)
+            throw new IllegalStateException("Message " + chunk.getId() + " is too large to be reassembled");
+
+        PartialMessage message = messages.computeIfAbsent(chunk.getId(),
+                        id -> new PartialMessage(chunk.getNumChunks(), chunk.getChunkSize()));
+
+        if (message.numChunks != chunk.getNumChunks() || message.chunkSize != chunk.getChunkSize())
+            throw new IllegalStateException("Chunk " + chunk.getChunkIndex() + " for id " + chunk.getId()
+                            + " doesn't match previous chunks layout");
+
+        if (!message.mark(chunk.getChunkIndex())) {
+            log.debug("Ignoring duplicate chunk " + chunk.getChunkIndex() + " for id " + chunk.getId());
+            return;
+        }
+
+        // chunk data might be longer than chunk size, i.e. when it's a slice of the whole fragment buffer
+        ByteBuffer source = chunk.getData().duplicate();
+        source.limit(source.position() + Math.min(source.remaining(), message.chunkSize));
+
+        // every chunk has its own region, so no synchronization is needed here
+        ByteBuffer target = message.destination.duplicate();
+        target.position(chunk.getChunkIndex() * message.chunkSize);
+        target.put(source);
+
+        message.lastUpdate = System.currentTimeMillis();
+        message.numReceived.incrementAndGet();
+
+        log.debug("Accumulating chunk for id " + chunk.getId());
+    }
+
+    /**
+     * Drop partial messages
+     * that didn't receive any chunks
+     * within the timeout
+     *
+     * @return the number of dropped messages
+     */
+    public int expireStale() {
+        long now = System.currentTimeMillis();
+        // there's no point in scanning more often than timeout allows
+        if (now - lastExpiration < timeoutMs / 2)
+            return 0;
+        lastExpiration = now;
+
+        int dropped = 0;
+        Iterator<Map.Entry<String, PartialMessage>> iterator = messages.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, PartialMessage> entry = iterator.next();
+            PartialMessage message = entry.getValue();
+            if (!message.isComplete() && now - message.lastUpdate > timeoutMs) {
+                iterator.remove();
+                dropped++;
+                log.warn("Dropping stale message " + entry.getKey() + " with " + message.numReceived.get() + " of "
+                                + message.numChunks + " chunks received");
+            }
+        }
+
+        return dropped;
+    }
+
+    /**
+     * Returns the number of messages
+     * currently being accumulated
+     */
+    public int numPartialMessages() {
+        return messages.size();
+    }
+}
@@ -0,0 +1,207 @@
+package org.nd4j.aeron.ipc.sparse;
+
+import lombok.NonNull;
+import org.nd4j.linalg.api.buffer.DataBuffer;
+import org.nd4j.linalg.api.concurrency.AffinityManager;
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.api.ops.executioner.GridExecutioner;
+import org.nd4j.linalg.factory.Nd4j;
+
+import java.util.Arrays;
+
+/**
+ * Sender side sparsification of gradients.
+ *
+ * Each gradient passed to {@link #encode(INDArray)} is added to a residual,
+ * and only the residual elements selected by the encoding mode are sent:
+ * either all elements with magnitude at or above a threshold,
+ * or the k elements with the largest magnitude.
+ * Sent values are subtracted from the residual, everything else
+ * is kept there until it grows large enough to be sent.
+ * This way no part of the gradient is lost, just delayed.
+ *
+ * The result is encoded by {@link SparseCompressor}, so it can be sent
+ * as the array of an {@link org.nd4j.aeron.ipc.NDArrayMessage}.
+ */
+public class GradientEncoder {
+    public enum Mode {
+        THRESHOLD, TOP_K
+    }
+
+    private final Mode mode;
+    private final double threshold;
+    private final int k;
+
+    private INDArray residual;
+    // scratch space reused between calls
+    private int[] indices = new int[0];
+    private float[] values = new float[0];
+    private float[] magnitudes;
+
+    private GradientEncoder(Mode mode, double threshold, int k) {
+        this.mode = mode;
+        this.threshold = threshold;
+        this.k = k;
+    }
+
+    /**
+     * Encoder sending all residual elements
+     * with magnitude at or above the given threshold
+     * @param threshold the threshold to use
+     * @return the encoder
+     */
+    public static GradientEncoder threshold(double threshold) {
+        if (threshold <= 0)
+            throw new IllegalArgumentException("Threshold must be positive, got " + threshold);
+        return new GradientEncoder(Mode.THRESHOLD, threshold, 0);
+    }
+
+    /**
+     * Encoder sending the k residual elements
+     * with the largest magnitude
+     * @param k the number of elements to send
+     * @return the encoder
+     */
+    public static GradientEncoder topK(int k) {
+        if (k <= 0)
+            throw new IllegalArgumentException("Number of elements must be positive, got " + k);
+        return new GradientEncoder(Mode.TOP_K, 0, k);
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Returns the part of the gradients
+     * accumulated so far which wasn't sent yet
+     * @return the residual, or null if nothing was encoded yet
+     */
+    public INDArray getResidual() {
+        return residual;
+    }
+
+    /**
+     * Drop the accumulated residual
+     */
+    public synchronized void reset() {
+        residual = null;
+    }
+
+    /**
+     * Add the gradient to the residual,
+     * and encode the part of the residual to send
+     * @param gradient the gradient to encode
+     * @return the sparse encoded update, see {@link SparseCompressor}
+     */
+    public synchronized INDArray encode(@NonNull INDArray gradient) {
+        if (residual == null)
+            residual = Nd4j.create(gradient.shape(), 'c');
+        else if (!Arrays.equals(residual.shape(), gradient.shape()))
+            throw new IllegalArgumentException("Gradient shape " + Arrays.toString(gradient.shape())
+                            + " doesn't match shape of previous gradients " + Arrays.toString(residual.shape()));
+
+        residual.addi(gradient);
+
+        if (Nd4j.getExecutioner() instanceof GridExecutioner)
+            ((GridExecutioner) Nd4j.getExecutioner()).flushQueueBlocking();
+
+        DataBuffer data = residual.data();
+        Nd4j.getAffinityManager().ensureLocation(data, AffinityManager.Location.HOST);
+
+        int length = (int) residual.length();
+        int count = mode == Mode.THRESHOLD ? selectAbove(data, length, (float) threshold, Integer.MAX_VALUE)
+                        : selectTopK(data, length);
+
+        // whatever wasn't sent stays in the residual
+        for (int i = 0; i < count; i++)
+            data.put(indices[i], data.getDouble(indices[i]) - values[i]);
+
+        Nd4j.getAffinityManager().tagLocation(data, AffinityManager.Location.HOST);
+
+        return SparseCompressor.encode(residual.shape(), data.getElementSize(), indices, values, count);
+    }
+
+    private int selectTopK(DataBuffer data, int length) {
+        if (k >= length)
+            return selectAbove(data, length, Float.MIN_VALUE, length);
+
+        if (magnitudes == null || magnitudes.length != length)
+            magnitudes = new float[length];
+
+        for (int i = 0; i < length; i++)
+            magnitudes[i] = (float) Math.abs(data.getDouble(i));
+
+        float kth = kthLargest(magnitudes, length, k);
+        // there's no point in sending zeros
+        return selectAbove(data, length, Math.max(kth, Float.MIN_VALUE), k);
+    }
+
+    /**
+     * Collect up to limit elements with magnitude at or above the threshold, in index order.
+     * If there are more than limit of them, the ones equal to the threshold are dropped first.
+     */
+    private int selectAbove(DataBuffer data, int length, float threshold, int limit) {
+        int above = 0;
+        int equal = 0;
+        for (int i = 0; i < length; i++) {
+            float magnitude = (float) Math.abs(data.getDouble(i));
+            if (magnitude > threshold)
+                above++;
+            else if (magnitude == threshold)
+                equal++;
+        }
+
+        int count = Math.min(above + equal, limit);
+        int equalBudget = count - above;
+        if (indices.length < count) {
+            indices = new int[count];
+            values = new float[count];
+        }
+
+        int position = 0;
+        for (int i = 0; i < length && position < count; i++) {
+            double value = data.getDouble(i);
+            float magnitude = (float) Math.abs(value);
+            if (magnitude > threshold || magnitude == threshold && equalBudget-- > 0) {
+                indices[position] = i;
+                values[position++] = (float) value;
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Find the k-th largest value by selection, reordering the array
+     */
+    private static float kthLargest(float[] array, int length, int k) {
+        int target = length - k;
+        int left = 0;
+        int right = length - 1;
+        while (left < right) {
+            float pivot = array[(left + right) >>> 1];
+            int i = left;
+            int j = right;
+            while (i <= j) {
+                while (array[i] < pivot)
+                    i++;
+                while (array[j] > pivot)
+                    j--;
+                if (i <= j) {
+                    float tmp = array[i];
+                    array[i++] = array[j];
+                    array[j--] = tmp;
+                }
+            }
+
+            if (target <= j)
+                right = j;
+            else if (target >= i)
+                left = i;
+            else
+                break;
+        }
+        return array[target];
+    }
+}
@@ -0,0 +1,257 @@
+package org.nd4j.aeron.ipc.sparse;
+
+import lombok.NonNull;
+import org.bytedeco.javacpp.BytePointer;
+import org.nd4j.linalg.api.buffer.DataBuffer;
+import org.nd4j.linalg.api.concurrency.AffinityManager;
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.api.ops.executioner.GridExecutioner;
+import org.nd4j.linalg.compression.CompressedDataBuffer;
+import org.nd4j.linalg.compression.CompressionDescriptor;
+import org.nd4j.linalg.compression.CompressionType;
+import org.nd4j.linalg.compression.NDArrayCompressor;
+import org.nd4j.linalg.factory.Nd4j;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Compressor keeping only non-zero elements of an array,
+ * as pairs of index and value.
+ * Meant for sparse updates, see {@link GradientEncoder}.
+ *
+ * Encoded data is laid out in native byte order as:
+ * number of stored elements (int)
+ * indices of stored elements in c order, ascending (int each)
+ * values of stored elements (float each)
+ *
+ * Values are stored as floats, so the compression is lossy for double arrays.
+ */
+public class SparseCompressor implements NDArrayCompressor {
+    public static final String DESCRIPTOR = "SPARSE";
+
+    @Override
+    public String getDescriptor() {
+        return DESCRIPTOR;
+    }
+
+    @Override
+    public CompressionType getCompressionType() {
+        return CompressionType.LOSSY;
+    }
+
+    /**
+     * Returns true if the given array
+     * is encoded by this compressor
+     * @param array the array to check
+     * @return true if the array is sparse encoded
+     */
+    public static boolean isSparse(INDArray array) {
+        if (!array.isCompressed() || !(array.data() instanceof CompressedDataBuffer))
+            return false;
+
+        CompressionDescriptor descriptor = ((CompressedDataBuffer) array.data()).getCompressionDescriptor();
+        return DESCRIPTOR.equals(descriptor.getCompressionAlgorithm());
+    }
+
+    /**
+     * Returns the number of elements stored
+     * in the given sparse encoded array
+     * @param array the sparse encoded array
+     * @return the number of stored elements
+     */
+    public static int numStored(INDArray array) {
+        return payload((CompressedDataBuffer) array.data()).getInt(0);
+    }
+
+    /**
+     * Create a sparse encoded array
+     * @param shape the shape of the array
+     * @param elementSize the element size of the array this one replaces
+     * @param indices the c order indices of the stored elements, ascending
+     * @param values the values of the stored elements
+     * @param count the number of stored elements
+     * @return the sparse encoded array
+     */
+    public static INDArray encode(int[] shape, int elementSize, int[] indices, float[] values, int count) {
+        DataBuffer shapeInfo = Nd4j.getShapeInfoProvider().createShapeInformation(shape, 'c');
+        return Nd4j.createArrayFromShapeBuffer(encode(length(shape), elementSize, indices, values, count), shapeInfo);
+    }
+
+    /**
+     * Add the sparse encoded array to the target array
+     * without decoding the encoded one
+     * @param encoded the sparse encoded array
+     * @param target the array to add to
+     */
+    public static void addTo(@NonNull INDArray encoded, @NonNull INDArray target) {
+        if (encoded.length() != target.length())
+            throw new IllegalArgumentException("Encoded array length " + encoded.length()
+                            + " doesn't match target length " + target.length());
+
+        boolean contiguous = target.elementWiseStride() == 1 && (target.ordering() == 'c' || target.isVector());
+        if (!contiguous) {
+            target.addi(decode(encoded));
+            return;
+        }
+
+        if (Nd4j.getExecutioner() instanceof GridExecutioner)
+            ((GridExecutioner) Nd4j.getExecutioner()).flushQueueBlocking();
+
+        DataBuffer data = target.data();
+        Nd4j.getAffinityManager().ensureLocation(data, AffinityManager.Location.HOST);
+
+        ByteBuffer payload = payload((CompressedDataBuffer) encoded.data());
+        int count = payload.getInt(0);
+        int valuesOffset = 4 + 4 * count;
+        // data of views already starts at their offset
+        for (int i = 0; i < count; i++) {
+            int index = payload.getInt(4 + 4 * i);
+            data.put(index, data.getDouble(index) + payload.getFloat(valuesOffset + 4 * i));
+        }
+
+        Nd4j.getAffinityManager().tagLocation(data, AffinityManager.Location.HOST);
+    }
+
+    /**
+     * Decode the sparse encoded array
+     * into a new dense array
+     * @param encoded the sparse encoded array
+     * @return the dense array
+     */
+    public static INDArray decode(INDArray encoded) {
+        DataBuffer shapeInfo = Nd4j.getShapeInfoProvider().createShapeInformation(encoded.shape(), 'c');
+        return Nd4j.createArrayFromShapeBuffer(decodeBuffer((CompressedDataBuffer) encoded.data()), shapeInfo);
+    }
+
+    @Override
+    public INDArray compress(INDArray array) {
+        INDArray dup = array.dup('c');
+        dup.setData(compress(dup.data()));
+        dup.markAsCompressed(true);
+        return dup;
+    }
+
+    @Override
+    public void compressi(INDArray array) {
+        if (array.isView() || array.ordering() != 'c')
+            throw new UnsupportedOperationException("Inplace sparse compression is only possible for c order arrays");
+
+        array.setData(compress(array.data()));
+        array.markAsCompressed(true);
+    }
+
+    @Override
+    public DataBuffer compress(DataBuffer buffer) {
+        if (Nd4j.getExecutioner() instanceof GridExecutioner)
+            ((GridExecutioner) Nd4j.getExecutioner()).flushQueueBlocking();
+
+        Nd4j.getAffinityManager().ensureLocation(buffer, AffinityManager.Location.HOST);
+
+        int length = (int) buffer.length();
+        int count = 0;
+        for (int i = 0; i < length; i++)
+            if (buffer.getDouble(i) != 0.0)
+                count++;
+
+        int[] indices = new int[count];
+        float[] values = new float[count];
+        int position = 0;
+        for (int i = 0; i < length && position < count; i++) {
+            double value = buffer.getDouble(i);
+            if (value != 0.0) {
+                indices[position] = i;
+                values[position++] = (float) value;
+            }
+        }
+
+        return encode(length, buffer.getElementSize(), indices, values, count);
+    }
+
+    @Override
+    public INDArray decompress(INDArray array) {
+        return Nd4j.createArrayFromShapeBuffer(decompress(array.data()), array.shapeInfoDataBuffer());
+    }
+
+    @Override
+    public void decompressi(INDArray array) {
+        if (!array.isCompressed())
+            return;
+
+        array.markAsCompressed(false);
+        array.setData(decompress(array.data()));
+    }
+
+    @Override
+    public DataBuffer decompress(DataBuffer buffer) {
+        return decodeBuffer((CompressedDataBuffer) buffer);
+    }
+
+    @Override
+    public INDArray compress(float[] data) {
+        return compress(data, new int[] {1, data.length}, 'c');
+    }
+
+    @Override
+    public INDArray compress(double[] data) {
+        return compress(data, new int[] {1, data.length}, 'c');
+    }
+
+    @Override
+    public INDArray compress(float[] data, int[] shape, char order) {
+        return compress(Nd4j.create(data, shape, order));
+    }
+
+    @Override
+    public INDArray compress(double[] data, int[] shape, char order) {
+        return compress(Nd4j.create(data, shape, order));
+    }
+
+    private static CompressedDataBuffer encode(long length, int elementSize, int[] indices, float[] values,
+                    int count) {
+        int bytes = 4 + 8 * count;
+        BytePointer pointer = new BytePointer(bytes);
+        ByteBuffer payload = pointer.asByteBuffer().order(ByteOrder.nativeOrder());
+        payload.putInt(count);
+        for (int i = 0; i < count; i++)
+            payload.putInt(indices[i]);
+        for (int i = 0; i < count; i++)
+            payload.putFloat(values[i]);
+
+        CompressionDescriptor descriptor = new CompressionDescriptor();
+        descriptor.setCompressionType(CompressionType.LOSSY);
+        descriptor.setCompressionAlgorithm(DESCRIPTOR);
+        descriptor.setOriginalLength(length * elementSize);
+        descriptor.setCompressedLength(bytes);
+        descriptor.setNumberOfElements(length);
+        descriptor.setOriginalElementSize(elementSize);
+
+        return new CompressedDataBuffer(pointer, descriptor);
+    }
+
+    private static DataBuffer decodeBuffer(CompressedDataBuffer buffer) {
+        ByteBuffer payload = payload(buffer);
+        DataBuffer result = Nd4j.createBuffer(buffer.getCompressionDescriptor().getNumberOfElements());
+
+        int count = payload.getInt(0);
+        int valuesOffset = 4 + 4 * count;
+        for (int i = 0; i < count; i++)
+            result.put(payload.getInt(4 + 4 * i), payload.getFloat(valuesOffset + 4 * i));
+
+        return result;
+    }
+
+    private static ByteBuffer payload(CompressedDataBuffer buffer) {
+        long bytes = buffer.getCompressionDescriptor().getCompressedLength();
+        BytePointer pointer = new BytePointer(buffer.addressPointer());
+        pointer.position(0).limit(bytes).capacity(bytes);
+        return pointer.asByteBuffer().order(ByteOrder.nativeOrder());
+    }
+
+    private static long length(int[] shape) {
+        long length = 1;
+        for (int dimension : shape)
+            length *= dimension;
+        return length;
+    }
+}
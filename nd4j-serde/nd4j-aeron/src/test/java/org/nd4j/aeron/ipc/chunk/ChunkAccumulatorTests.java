@@ -4,7 +4,12 @@ import org.junit.Test;
 import org.nd4j.aeron.ipc.NDArrayMessage;
 import org.nd4j.linalg.factory.Nd4j;
 
-import static org.junit.Assert.assertEquals;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
 
 /**
  * Created by agibsonccc on 11/20/16.
@@ -25,4 +30,42 @@ public class ChunkAccumulatorTests {
         assertEquals(message, message1);
     }
 
+    @Test
+    public void testDirectAccumulator() {
+        ChunkAccumulator chunkAccumulator = new DirectChunkAccumulator();
+        NDArrayMessage message = NDArrayMessage.wholeArrayUpdate(Nd4j.linspace(1, 1000, 1000));
+        int chunkSize = 128;
+        NDArrayMessageChunk[] chunks = NDArrayMessage.chunks(message, chunkSize);
+        List<NDArrayMessageChunk> shuffled = new ArrayList<>();
+        Collections.addAll(shuffled, chunks);
+        Collections.shuffle(shuffled, new Random(119));
+
+        for (int i = 0; i < shuffled.size(); i++) {
+            assertFalse(chunkAccumulator.allPresent(chunks[0].getId()));
+            chunkAccumulator.accumulateChunk(shuffled.get(i));
+            //duplicates should be ignored
+            chunkAccumulator.accumulateChunk(shuffled.get(i));
+            assertEquals(i + 1, chunkAccumulator.numChunksSoFar(chunks[0].getId()));
+        }
+
+        assertTrue(chunkAccumulator.allPresent(chunks[0].getId()));
+        NDArrayMessage message1 = chunkAccumulator.reassemble(chunks[0].getId());
+        assertEquals(message, message1);
+        assertEquals(0, chunkAccumulator.numChunksSoFar(chunks[0].getId()));
+    }
+
+    @Test
+    public void testDirectAccumulatorExpiration() throws Exception {
+        DirectChunkAccumulator chunkAccumulator = new DirectChunkAccumulator(50);
+        NDArrayMessageChunk[] chunks =
+                        NDArrayMessage.chunks(NDArrayMessage.wholeArrayUpdate(Nd4j.ones(1000)), 128);
+        chunkAccumulator.accumulateChunk(chunks[0]);
+        assertEquals(1, chunkAccumulator.numPartialMessages());
+
+        Thread.sleep(100);
+        assertEquals(1, chunkAccumulator.expireStale());
+        assertEquals(0, chunkAccumulator.numPartialMessages());
+        assertFalse(chunkAccumulator.allPresent(chunks[0].getId()));
+    }
+
 }
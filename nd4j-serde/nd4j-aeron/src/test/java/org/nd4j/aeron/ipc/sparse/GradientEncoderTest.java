@@ -0,0 +1,99 @@
+package org.nd4j.aeron.ipc.sparse;
+
+import org.agrona.DirectBuffer;
+import org.junit.Test;
+import org.nd4j.aeron.ipc.NDArrayMessage;
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.factory.Nd4j;
+import org.nd4j.linalg.indexing.NDArrayIndex;
+import org.nd4j.linalg.ops.transforms.Transforms;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class GradientEncoderTest {
+
+    @Test
+    public void testCompressor() {
+        INDArray arr = Nd4j.create(new double[] {0, 1.5, 0, 0, -2, 0}, new int[] {2, 3});
+        INDArray compressed = Nd4j.getCompressor().compress(arr, SparseCompressor.DESCRIPTOR);
+        assertTrue(SparseCompressor.isSparse(compressed));
+        assertEquals(2, SparseCompressor.numStored(compressed));
+        assertEquals(arr, Nd4j.getCompressor().decompress(compressed));
+        assertEquals(arr, SparseCompressor.decode(compressed));
+
+        assertFalse(SparseCompressor.isSparse(arr));
+        assertFalse(SparseCompressor.isSparse(Nd4j.getCompressor().compress(arr, "GZIP")));
+    }
+
+    @Test
+    public void testThreshold() {
+        GradientEncoder encoder = GradientEncoder.threshold(1.0);
+        INDArray gradient = Nd4j.create(new double[] {0.6, -1.5, 0.2, 3.0});
+
+        INDArray first = encoder.encode(gradient);
+        assertEquals(2, SparseCompressor.numStored(first));
+        assertEquals(Nd4j.create(new double[] {0, -1.5, 0, 3.0}), SparseCompressor.decode(first));
+        assertEquals(Nd4j.create(new double[] {0.6, 0, 0.2, 0}), encoder.getResidual());
+
+        // residual of the first element crosses the threshold now
+        INDArray second = encoder.encode(gradient);
+        assertEquals(Nd4j.create(new double[] {1.2, -1.5, 0, 3.0}), SparseCompressor.decode(second));
+        assertEquals(Nd4j.create(new double[] {0, 0, 0.4, 0}), encoder.getResidual());
+    }
+
+    @Test
+    public void testTopK() {
+        INDArray gradient = Nd4j.rand(new int[] {50, 40}, 123).subi(0.5);
+        GradientEncoder encoder = GradientEncoder.topK(100);
+
+        INDArray encoded = encoder.encode(gradient);
+        assertEquals(100, SparseCompressor.numStored(encoded));
+        assertArrayEquals(gradient.shape(), encoded.shape());
+
+        // sent elements are the largest ones, everything else stays in the residual
+        INDArray sent = SparseCompressor.decode(encoded);
+        double smallestSent = Double.MAX_VALUE;
+        for (int i = 0; i < sent.length(); i++)
+            if (sent.getDouble(i) != 0)
+                smallestSent = Math.min(smallestSent, Math.abs(sent.getDouble(i)));
+        assertTrue(smallestSent >= Transforms.abs(encoder.getResidual()).maxNumber().doubleValue());
+        assertClose(gradient, sent.add(encoder.getResidual()));
+
+        // nothing is lost over multiple steps
+        INDArray total = sent.dup();
+        for (int i = 0; i < 5; i++)
+            total.addi(SparseCompressor.decode(encoder.encode(gradient)));
+        assertClose(gradient.mul(6), total.add(encoder.getResidual()));
+    }
+
+    @Test
+    public void testMessageRoundTrip() {
+        GradientEncoder encoder = GradientEncoder.topK(10);
+        INDArray gradient = Nd4j.linspace(1, 1000, 1000).reshape(10, 100);
+        NDArrayMessage message = NDArrayMessage.wholeArrayUpdate(encoder.encode(gradient));
+
+        DirectBuffer buffer = NDArrayMessage.toBuffer(message);
+        assertTrue(buffer.capacity() < 256);
+        NDArrayMessage received = NDArrayMessage.fromBuffer(buffer, 0);
+        assertTrue(SparseCompressor.isSparse(received.getArr()));
+
+        INDArray target = Nd4j.ones(10, 100);
+        SparseCompressor.addTo(received.getArr(), target);
+        INDArray exp = Nd4j.ones(10, 100);
+        exp.get(NDArrayIndex.point(9), NDArrayIndex.interval(90, 100)).addi(Nd4j.linspace(991, 1000, 10));
+        assertClose(exp, target);
+
+        // non contiguous targets are updated as well
+        INDArray transposed = Nd4j.ones(100, 10).transpose();
+        SparseCompressor.addTo(received.getArr(), transposed);
+        assertClose(exp, transposed);
+    }
+
+    private static void assertClose(INDArray exp, INDArray array) {
+        assertArrayEquals(exp.shape(), array.shape());
+        assertEquals(0.0, Transforms.abs(exp.sub(array)).maxNumber().doubleValue(), 1e-4);
+    }
+}
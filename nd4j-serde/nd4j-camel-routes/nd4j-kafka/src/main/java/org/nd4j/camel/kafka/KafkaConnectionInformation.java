@@ -1,5 +1,6 @@
 package org.nd4j.camel.kafka;
 
+import kafka.serializer.DefaultEncoder;
 import kafka.serializer.StringEncoder;
 import lombok.Builder;
 import lombok.Data;
@@ -22,7 +23,8 @@ public class KafkaConnectionInformation implements Serializable {
     private String groupId;
 
     /**
-     * Returns a kafka connection uri
+     * Returns a kafka connection uri.
+     * Message bodies are passed as raw bytes, while keys are strings
      * @return a kafka connection uri
      * represented by this connection information
      */
@@ -30,6 +32,6 @@ public class KafkaConnectionInformation implements Serializable {
         return String.format(
                         "kafka://%s?topic=%s&groupId=%s&zookeeperHost=%s&zookeeperPort=%d&serializerClass=%s&keySerializerClass=%s",
                         kafkaBrokerList, topicName, groupId, zookeeperHost, zookeeperPort,
-                        StringEncoder.class.getName(), StringEncoder.class.getName());
+                        DefaultEncoder.class.getName(), StringEncoder.class.getName());
     }
 }
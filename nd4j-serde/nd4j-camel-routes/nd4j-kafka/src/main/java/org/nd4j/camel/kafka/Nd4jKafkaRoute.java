@@ -6,18 +6,24 @@ import org.apache.camel.Exchange;
 import org.apache.camel.Processor;
 import org.apache.camel.builder.RouteBuilder;
 import org.apache.camel.component.kafka.KafkaConstants;
-import org.apache.commons.net.util.Base64;
 import org.nd4j.linalg.api.ndarray.INDArray;
 import org.nd4j.linalg.factory.Nd4j;
-import org.nd4j.serde.base64.Nd4jBase64;
+import org.nd4j.serde.binary.BinarySerde;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
 import java.io.DataOutputStream;
+import java.io.IOException;
 import java.util.UUID;
 
 /**
- * Sends a test ndarray
- * to kafka
+ * Sends ndarrays to kafka, and receives them back.
+ *
+ * Messages carry raw bytes: uncompressed arrays are sent in {@link BinarySerde} format,
+ * and if compression algorithm is set, arrays are compressed with {@link Nd4j#getCompressor()} first,
+ * and sent in {@link Nd4j#write(INDArray, DataOutputStream)} format.
+ * Received arrays are always decompressed.
  *
  * @author Adam Gibson
  */
@@ -25,6 +31,12 @@ import java.util.UUID;
 @Builder
 public class Nd4jKafkaRoute extends RouteBuilder {
     private KafkaConnectionInformation kafkaConnectionInformation;
+    // null means arrays are sent uncompressed
+    private String compressionAlgorithm;
+
+    public Nd4jKafkaRoute(KafkaConnectionInformation kafkaConnectionInformation) {
+        this(kafkaConnectionInformation, null);
+    }
 
     @Override
     public void configure() throws Exception {
@@ -33,12 +45,7 @@ public class Nd4jKafkaRoute extends RouteBuilder {
             @Override
             public void process(Exchange exchange) throws Exception {
                 final INDArray arr = (INDArray) exchange.getIn().getBody();
-                ByteArrayOutputStream bos = new ByteArrayOutputStream();
-                DataOutputStream dos = new DataOutputStream(bos);
-                Nd4j.write(arr, dos);
-                byte[] bytes = bos.toByteArray();
-                String base64 = Base64.encodeBase64String(bytes);
-                exchange.getIn().setBody(base64, String.class);
+                exchange.getIn().setBody(toBytes(arr, compressionAlgorithm), byte[].class);
                 String id = UUID.randomUUID().toString();
                 exchange.getIn().setHeader(KafkaConstants.KEY, id);
                 exchange.getIn().setHeader(KafkaConstants.PARTITION_KEY, id);
@@ -48,11 +55,46 @@ public class Nd4jKafkaRoute extends RouteBuilder {
         from(kafkaUri).process(new Processor() {
             @Override
             public void process(Exchange exchange) throws Exception {
-                byte[] body2 = (byte[]) exchange.getIn().getBody();
-                String body = new String(body2);
-                INDArray arr = Nd4jBase64.fromBase64(body);
-                exchange.getIn().setBody(arr);
+                byte[] body = (byte[]) exchange.getIn().getBody();
+                exchange.getIn().setBody(fromBytes(body));
             }
         }).to("direct:receive");
     }
+
+    /**
+     * Serializes given array into kafka message body
+     *
+     * @param arr the array to serialize
+     * @param compressionAlgorithm compression algorithm, or null if array should be sent as is
+     * @return
+     * @throws IOException
+     */
+    public static byte[] toBytes(INDArray arr, String compressionAlgorithm) throws IOException {
+        if (compressionAlgorithm != null && !arr.isCompressed())
+            arr = Nd4j.getCompressor().compress(arr, compressionAlgorithm);
+
+        if (!arr.isCompressed())
+            return BinarySerde.toByteArray(arr);
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        DataOutputStream dos = new DataOutputStream(bos);
+        Nd4j.write(arr, dos);
+        dos.flush();
+        return bos.toByteArray();
+    }
+
+    /**
+     * Restores array from kafka message body, produced by {@link #toBytes(INDArray, String)}
+     *
+     * @param bytes message body
+     * @return decompressed array
+     * @throws IOException
+     */
+    public static INDArray fromBytes(byte[] bytes) throws IOException {
+        INDArray arr = Nd4j.read(new DataInputStream(new ByteArrayInputStream(bytes)));
+        if (arr.isCompressed())
+            arr = Nd4j.getCompressor().decompress(arr);
+
+        return arr;
+    }
 }
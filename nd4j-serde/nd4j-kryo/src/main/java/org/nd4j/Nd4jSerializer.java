@@ -6,12 +6,23 @@ import com.esotericsoftware.kryo.io.Input;
 import com.esotericsoftware.kryo.io.Output;
 import org.nd4j.linalg.api.ndarray.INDArray;
 import org.nd4j.linalg.factory.Nd4j;
+import org.nd4j.serde.binary.BinarySerde;
 
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 
 /**
+ * Kryo serializer for INDArrays.
+ *
+ * Uncompressed arrays are written in {@link BinarySerde} format: header, followed by array memory,
+ * which is copied straight into Kryo buffer in bulk. On read, memory is allocated off-heap and filled
+ * straight from Kryo buffer. Compressed arrays are written with {@link Nd4j#write(INDArray, DataOutputStream)}.
+ * Both formats are recognized on read, so data written by previous versions of this serializer can still be read.
+ *
  * Created by agibsonccc on 5/22/16.
  */
 public class Nd4jSerializer extends Serializer<INDArray> {
@@ -27,9 +38,11 @@ public class Nd4jSerializer extends Serializer<INDArray> {
      */
     @Override
     public void write(Kryo kryo, Output output, INDArray object) {
-        DataOutputStream dos = new DataOutputStream(output);
         try {
-            Nd4j.write(object, dos);
+            if (object.isCompressed())
+                Nd4j.write(object, new DataOutputStream(output));
+            else
+                BinarySerde.write(object, new OutputChannel(output));
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
@@ -53,15 +66,105 @@ public class Nd4jSerializer extends Serializer<INDArray> {
      */
     @Override
     public INDArray read(Kryo kryo, Input input, Class<INDArray> type) {
-        DataInputStream dis = new DataInputStream(input);
         try {
-            return Nd4j.read(dis);
+            if (input.readInt() == BinarySerde.MAGIC)
+                return BinarySerde.readAfterMagic(new InputChannel(input));
+
+            // legacy format: bytes we've just consumed are still within Kryo buffer, so we just step back
+            input.setPosition(input.position() - 4);
+            return Nd4j.read(new DataInputStream(input));
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
         //Note: input should NOT be closed manually here - may be needed elsewhere (and closing here will cause serialization to fail)
     }
 
+    /**
+     * Copies bytes directly into Kryo buffer, flushing or growing it when it's full
+     */
+    private static class OutputChannel implements WritableByteChannel {
+        private final Output output;
+
+        private OutputChannel(Output output) {
+            this.output = output;
+        }
+
+        @Override
+        public int write(ByteBuffer src) {
+            int count = src.remaining();
+            while (src.hasRemaining()) {
+                int space = output.getBuffer().length - output.position();
+                if (space == 0) {
+                    output.flush();
+                    space = output.getBuffer().length - output.position();
+                }
+
+                if (space == 0) {
+                    // there's no stream to flush to, so single byte write makes Kryo grow the buffer (or fail if it can't)
+                    output.writeByte(src.get());
+                    continue;
+                }
+
+                int length = Math.min(space, src.remaining());
+                src.get(output.getBuffer(), output.position(), length);
+                output.setPosition(output.position() + length);
+            }
+            return count;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+            // output belongs to Kryo
+        }
+    }
+
+    /**
+     * Copies bytes directly from Kryo buffer, refilling it from underlying stream when it's exhausted
+     */
+    private static class InputChannel implements ReadableByteChannel {
+        private final Input input;
+
+        private InputChannel(Input input) {
+            this.input = input;
+        }
+
+        @Override
+        public int read(ByteBuffer dst) {
+            int count = 0;
+            while (dst.hasRemaining()) {
+                int available = input.limit() - input.position();
+                if (available == 0) {
+                    // single byte read makes Kryo refill the buffer
+                    int b = input.read();
+                    if (b < 0)
+                        return count == 0 ? -1 : count;
 
+                    dst.put((byte) b);
+                    count++;
+                    continue;
+                }
 
+                int length = Math.min(available, dst.remaining());
+                dst.put(input.getBuffer(), input.position(), length);
+                input.setPosition(input.position() + length);
+                count += length;
+            }
+            return count;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+            // input belongs to Kryo
+        }
+    }
 }
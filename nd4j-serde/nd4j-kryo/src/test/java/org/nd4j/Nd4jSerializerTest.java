@@ -0,0 +1,75 @@
+package org.nd4j;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import org.junit.Test;
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.factory.Nd4j;
+import org.nd4j.linalg.indexing.NDArrayIndex;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class Nd4jSerializerTest {
+
+    private static INDArray roundTrip(INDArray arr, boolean streamed) {
+        Kryo kryo = new Kryo();
+        Nd4jSerializer serializer = new Nd4jSerializer();
+
+        // small buffers, so payload spans multiple flushes/refills
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        Output output = streamed ? new Output(bos, 64) : new Output(64, -1);
+        serializer.write(kryo, output, arr);
+        output.writeInt(42);
+        output.flush();
+
+        byte[] bytes = streamed ? bos.toByteArray() : output.toBytes();
+        Input input = streamed ? new Input(new ByteArrayInputStream(bytes), 64) : new Input(bytes);
+        INDArray result = serializer.read(kryo, input, INDArray.class);
+
+        // data following the array should be intact
+        assertEquals(42, input.readInt());
+        return result;
+    }
+
+    @Test
+    public void testRoundTrip() {
+        INDArray arr = Nd4j.linspace(1, 1000, 1000).reshape(10, 100);
+        INDArray view = arr.get(NDArrayIndex.interval(2, 5), NDArrayIndex.interval(10, 90));
+
+        for (boolean streamed : new boolean[] {true, false}) {
+            assertEquals(arr, roundTrip(arr, streamed));
+            assertEquals(view, roundTrip(view, streamed));
+            assertEquals(Nd4j.scalar(3.0), roundTrip(Nd4j.scalar(3.0), streamed));
+        }
+    }
+
+    @Test
+    public void testCompressed() {
+        INDArray arr = Nd4j.linspace(1, 100, 100);
+        INDArray compressed = Nd4j.getCompressor().compress(arr, "FLOAT16");
+
+        INDArray result = roundTrip(compressed, true);
+        Nd4j.getCompressor().decompressi(result);
+        assertFalse(result.isCompressed());
+        assertEquals(arr, result);
+    }
+
+    @Test
+    public void testLegacyFormat() throws Exception {
+        INDArray arr = Nd4j.linspace(1, 10, 10);
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        DataOutputStream dos = new DataOutputStream(bos);
+        Nd4j.write(arr, dos);
+        dos.flush();
+
+        Input input = new Input(new ByteArrayInputStream(bos.toByteArray()), 16);
+        assertEquals(arr, new Nd4jSerializer().read(new Kryo(), input, INDArray.class));
+    }
+}